@@ -24,6 +24,7 @@ import io.apicurio.registry.rest.client.RegistryClient;
 import io.apicurio.registry.serde.Legacy4ByteIdHandler;
 import io.apicurio.registry.serde.SerdeConfig;
 import io.apicurio.registry.serde.avro.AvroKafkaDeserializer;
+import io.apicurio.registry.serde.avro.AvroKafkaSerdeConfig;
 import io.apicurio.registry.serde.avro.AvroKafkaSerializer;
 import io.apicurio.registry.serde.strategy.TopicIdStrategy;
 import io.axual.ksml.data.notation.avro.AvroSerdeSupplier;
@@ -47,6 +48,11 @@ public class ApicurioAvroSerdeSupplier implements AvroSerdeSupplier {
         return new ApicurioAvroSerde(registryClient);
     }
 
+    @Override
+    public boolean handlesDataObjects() {
+        return true;
+    }
+
     static class ApicurioAvroSerde extends ConfigInjectionSerde {
         public ApicurioAvroSerde(RegistryClient registryClient) {
             this(Serdes.serdeFrom(
@@ -76,6 +82,9 @@ public class ApicurioAvroSerdeSupplier implements AvroSerdeSupplier {
             // registered in inline form, causing serialization to fail with ArtifactNotFoundException.
             // See https://github.com/Axual/ksml/issues/290 . Users can still override this explicitly.
             configs.putIfAbsent(SerdeConfig.FIND_LATEST_ARTIFACT, true);
+            // Read and write DataObjects directly instead of GenericRecords. This is not optional, since the
+            // notation passes DataObjects to this serde and expects them back.
+            configs.put(AvroKafkaSerdeConfig.AVRO_DATUM_PROVIDER, DataObjectAvroDatumProvider.class.getName());
             return configs;
         }
     }
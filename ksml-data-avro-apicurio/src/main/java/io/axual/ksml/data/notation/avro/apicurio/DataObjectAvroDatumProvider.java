@@ -0,0 +1,68 @@
+package io.axual.ksml.data.notation.avro.apicurio;
+
+/*-
+ * ========================LICENSE_START=================================
+ * KSML Data Library - AVRO Apicurio
+ * %%
+ * Copyright (C) 2021 - 2026 Axual B.V.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import io.apicurio.registry.serde.avro.AvroDatumProvider;
+import io.apicurio.registry.serde.avro.AvroKafkaSerdeConfig;
+import io.apicurio.registry.serde.avro.DefaultAvroDatumProvider;
+import io.axual.ksml.data.notation.avro.AvroDataObjectMapper;
+import io.axual.ksml.data.object.DataObject;
+import io.axual.ksml.data.object.DataStruct;
+import org.apache.avro.Schema;
+import org.apache.avro.io.DatumReader;
+import org.apache.avro.io.DatumWriter;
+
+/**
+ * Apicurio datum provider that lets the AVRO serializer and deserializer work on KSML DataObjects directly.
+ * <p>
+ * Messages are decoded straight into DataObjects and encoded straight from them, without building GenericRecords in
+ * between. Apicurio instantiates this class by name, based on the {@link AvroKafkaSerdeConfig#AVRO_DATUM_PROVIDER}
+ * setting.
+ */
+public class DataObjectAvroDatumProvider implements AvroDatumProvider<Object> {
+    private static final AvroDataObjectMapper MAPPER = new AvroDataObjectMapper();
+    // Derives schemas for values that are not structs, like AVRO does for its own primitive types
+    private final DefaultAvroDatumProvider<Object> defaultProvider = new DefaultAvroDatumProvider<>();
+
+    @Override
+    public void configure(AvroKafkaSerdeConfig config) {
+        defaultProvider.configure(config);
+    }
+
+    @Override
+    public DatumWriter<Object> createDatumWriter(Object data, Schema schema) {
+        return MAPPER.datumWriter(schema);
+    }
+
+    @Override
+    public DatumReader<Object> createDatumReader(Schema schema) {
+        return MAPPER.datumReader(schema);
+    }
+
+    @Override
+    public Schema toSchema(Object data) {
+        if (data instanceof DataStruct struct && struct.type().schema() != null)
+            return MAPPER.avroSchemaOf(struct.type().schema());
+        if (data instanceof DataObject dataObject)
+            return defaultProvider.toSchema(MAPPER.fromDataObject(dataObject));
+        return defaultProvider.toSchema(data);
+    }
+}
@@ -32,6 +32,7 @@ import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -85,5 +86,11 @@ class ApicurioAvroSerdeSupplierTest {
         assertEquals(false, modifiedConfigs.get("apicurio.registry.headers.enabled"), "Expected default config enabling payload encoding");
         assertEquals(true, modifiedConfigs.get("apicurio.registry.as-confluent"), "Expected default config enabling Confluent compatibility");
         assertEquals("contentId", modifiedConfigs.get("apicurio.registry.use-id"), "Expected default config using contentId as schema id");
+        assertEquals(DataObjectAvroDatumProvider.class.getName(), modifiedConfigs.get("apicurio.registry.avro-datum-provider"), "Expected the DataObject datum provider to be configured");
+    }
+
+    @Test
+    void testSupplierHandlesDataObjects() {
+        assertTrue(new ApicurioAvroSerdeSupplier(null).handlesDataObjects(), "Expected the supplier to read and write DataObjects directly");
     }
 }
@@ -0,0 +1,78 @@
+package io.axual.ksml.data.notation.avro.apicurio;
+
+/*-
+ * ========================LICENSE_START=================================
+ * KSML Data Library - AVRO Apicurio
+ * %%
+ * Copyright (C) 2021 - 2026 Axual B.V.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import io.axual.ksml.data.notation.avro.AvroDataObjectMapper;
+import io.axual.ksml.data.object.DataString;
+import io.axual.ksml.data.object.DataStruct;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DataObjectAvroDatumProviderTest {
+    private static final Schema SCHEMA = SchemaBuilder.record("Sensor").namespace("io.axual.test")
+            .fields()
+            .requiredString("name")
+            .requiredInt("value")
+            .optionalString("color")
+            .endRecord();
+
+    private final DataObjectAvroDatumProvider provider = new DataObjectAvroDatumProvider();
+
+    private static DataStruct sensor() {
+        final var rec = new GenericData.Record(SCHEMA);
+        rec.put("name", "sensor1");
+        rec.put("value", 42);
+        rec.put("color", "blue");
+        return (DataStruct) new AvroDataObjectMapper().toDataObject(null, rec);
+    }
+
+    @Test
+    void toSchemaReturnsStructSchemaAsAvroSchema() {
+        assertThat(provider.toSchema(sensor())).isEqualTo(SCHEMA);
+    }
+
+    @Test
+    void toSchemaDerivesSchemaForPrimitiveDataObjects() {
+        assertThat(provider.toSchema(new DataString("abc")).getType()).isEqualTo(Schema.Type.STRING);
+    }
+
+    @Test
+    void writtenDataObjectsAreReadBackAsDataObjects() throws IOException {
+        final var sensor = sensor();
+        final var out = new ByteArrayOutputStream();
+        final var encoder = EncoderFactory.get().binaryEncoder(out, null);
+        provider.createDatumWriter(sensor, SCHEMA).write(sensor, encoder);
+        encoder.flush();
+
+        final var decoder = DecoderFactory.get().binaryDecoder(out.toByteArray(), null);
+        final var result = provider.createDatumReader(SCHEMA).read(null, decoder);
+        assertThat(result).isInstanceOf(DataStruct.class).isEqualTo(sensor);
+    }
+}
@@ -51,15 +51,25 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.avro.JsonProperties;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericDatumWriter;
 import org.apache.avro.generic.GenericFixed;
 import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.DatumReader;
+import org.apache.avro.io.DatumWriter;
+import org.apache.avro.io.Decoder;
+import org.apache.avro.io.Encoder;
+import org.apache.avro.io.ResolvingDecoder;
 import org.apache.avro.util.Utf8;
 
 import javax.annotation.Nullable;
+import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 /**
  * DataObjectMapper implementation for AVRO native values.
@@ -75,6 +85,16 @@ public class AvroDataObjectMapper implements DataObjectMapper<Object> {
     private static final NativeDataObjectMapper NATIVE_MAPPER = new NativeDataObjectMapper();
     private static final DataTypeDataSchemaMapper TYPE_SCHEMA_MAPPER = new DataTypeDataSchemaMapper();
     private static final ConvertUtil CONVERTER = new ConvertUtil(NATIVE_MAPPER, TYPE_SCHEMA_MAPPER);
+    // Conversion plans per AVRO record schema, so a schema is translated once instead of for every record. Schemas
+    // are compared by their structure, with the same schema instance found on the identity check in equals().
+    private static final Map<Schema, RecordPlan> RECORD_PLANS = new ConcurrentHashMap<>();
+
+    private record FieldPlan(String name, int position, Schema schema, DataType expectedType,
+                             @Nullable Supplier<DataObject> nullValue) {
+    }
+
+    private record RecordPlan(StructSchema structSchema, FieldPlan[] fields) {
+    }
 
     /**
      * Convert an AVRO-native value into a KSML DataObject.
@@ -114,16 +134,16 @@ public class AvroDataObjectMapper implements DataObjectMapper<Object> {
         // Convert value based on its type
         return switch (value) {
             case DataObject val -> val;
-            case Boolean val -> new DataBoolean(val);
-            case Byte val -> expected == DataInteger.DATATYPE ? new DataInteger(val.intValue()) : new DataByte(val);
-            case Short val -> expected == DataInteger.DATATYPE ? new DataInteger(val.intValue()) : new DataShort(val);
-            case Integer val -> new DataInteger(val);
-            case Long val -> new DataLong(val);
+            case Boolean val -> DataBoolean.of(val);
+            case Byte val -> expected == DataInteger.DATATYPE ? DataInteger.of(val.intValue()) : DataByte.of(val);
+            case Short val -> expected == DataInteger.DATATYPE ? DataInteger.of(val.intValue()) : DataShort.of(val);
+            case Integer val -> DataInteger.of(val);
+            case Long val -> DataLong.of(val);
             case Double val -> new DataDouble(val);
             case Float val -> new DataFloat(val);
             case byte[] val -> new DataBytes(val);
-            case CharSequence val -> new DataString(val.toString());
-            case GenericData.EnumSymbol val -> new DataString(val.toString());
+            case CharSequence val -> DataString.of(val.toString());
+            case GenericData.EnumSymbol val -> DataString.of(val.toString());
             case GenericFixed val -> new DataBytes(val.bytes());
             case GenericRecord val -> convertRecordToDataStruct(expected, val);
             case List<?> val -> convertArrayToDataList(expected, val, schema != null ? elementSchemaOf(schema) : null);
@@ -166,45 +186,101 @@ public class AvroDataObjectMapper implements DataObjectMapper<Object> {
         };
     }
 
+    /**
+     * Returns the AVRO schema for a StructSchema. The result is kept on the StructSchema instance, so a schema is
+     * translated only once and found again without comparing its structure.
+     *
+     * @param schema the KSML struct schema
+     * @return the corresponding AVRO schema
+     */
+    public Schema avroSchemaOf(StructSchema schema) {
+        return schema.mappedBy(SCHEMA_MAPPER);
+    }
+
+    /**
+     * Creates a reader that decodes AVRO binary data of the given schema straight into DataObjects. Records are
+     * read into DataStructs directly, without creating GenericRecords first. The results are the same as reading
+     * with a {@link GenericDatumReader} and converting with {@link #toDataObject(DataType, Object)}.
+     *
+     * @param schema the AVRO schema the data was written with
+     * @return a reader producing DataObjects
+     */
+    public DatumReader<Object> datumReader(Schema schema) {
+        return new DataObjectDatumReader(schema);
+    }
+
+    /**
+     * Creates a writer that encodes DataObjects straight into AVRO binary data of the given schema. Structs, lists
+     * and maps are written directly, without creating GenericRecords first. The output is the same as writing the
+     * result of {@link #fromDataObject(DataObject)} with a {@link GenericDatumWriter}.
+     *
+     * @param schema the AVRO schema to write the data with
+     * @return a writer accepting DataObjects
+     */
+    public DatumWriter<Object> datumWriter(Schema schema) {
+        return new DataObjectDatumWriter(schema);
+    }
+
     // ========================= TO DATAOBJECT HELPERS =========================
 
     private DataObject convertRecordToDataStruct(DataType expected, GenericRecord genericRecord) {
-        final var avroSchema = genericRecord.getSchema();
-        final var structSchema = (StructSchema) SCHEMA_MAPPER.toDataSchema(avroSchema.getNamespace(), avroSchema.getName(), avroSchema);
-        final var result = new DataStruct(structSchema);
-
-        for (var field : avroSchema.getFields()) {
-            final var name = field.name();
-            final var raw = genericRecord.get(name);
-
-            if (raw != null) {
-                // Non-null value: convert based on runtime type and schema
-                final var fieldDataSchema = structSchema.field(name) != null ? structSchema.field(name).schema() : null;
-                final var fieldExpectedType = TYPE_SCHEMA_MAPPER.fromDataSchema(fieldDataSchema);
-                final var conv = toDataObject(fieldExpectedType, raw, field.schema());
-                result.put(name, conv);
-            } else {
-                // Handle optional unions with null defaults based on a concrete branch
-                final var nullValue = nullForOptionalField(field.schema());
-                // Only add non-null values to the result, i.e., omit for arrays/records/enums -> getter returns null
-                if (nullValue != null) result.put(name, nullValue);
-            }
+        final var plan = recordPlan(genericRecord.getSchema());
+        final var result = new DataStruct(plan.structSchema());
+
+        for (final var field : plan.fields()) {
+            putField(result, field, genericRecord.get(field.position()));
         }
 
         // Make sure the returned DataObject conforms to the expected data type
         return CONVERTER.convert(expected, result);
     }
 
+    private void putField(DataStruct struct, FieldPlan field, Object raw) {
+        if (raw != null) {
+            // Non-null value: convert based on runtime type and schema
+            struct.put(field.name(), toDataObject(field.expectedType(), raw, field.schema()));
+        } else if (field.nullValue() != null) {
+            // Only add non-null values to the result, i.e., omit for arrays/records/enums -> getter returns null
+            struct.put(field.name(), field.nullValue().get());
+        }
+    }
+
+    private RecordPlan recordPlan(Schema avroSchema) {
+        return RECORD_PLANS.computeIfAbsent(avroSchema, this::createRecordPlan);
+    }
+
+    private RecordPlan createRecordPlan(Schema avroSchema) {
+        final var structSchema = (StructSchema) SCHEMA_MAPPER.toDataSchema(avroSchema.getNamespace(), avroSchema.getName(), avroSchema);
+        final var fields = new FieldPlan[avroSchema.getFields().size()];
+        for (int index = 0; index < fields.length; index++) {
+            final var field = avroSchema.getFields().get(index);
+            final var structField = structSchema.field(field.name());
+            final var expectedType = TYPE_SCHEMA_MAPPER.fromDataSchema(structField != null ? structField.schema() : null);
+            fields[index] = new FieldPlan(field.name(), field.pos(), field.schema(), expectedType, nullValueFor(field.schema()));
+        }
+        return new RecordPlan(structSchema, fields);
+    }
+
+    @Nullable
+    private Supplier<DataObject> nullValueFor(Schema fieldSchema) {
+        // Handle optional unions with null defaults based on a concrete branch
+        final var nullValue = nullForOptionalField(fieldSchema);
+        if (nullValue == null) return null;
+        // Maps are containers, so every record gets its own null map
+        if (nullValue instanceof DataMap nullMap) return () -> new DataMap(nullMap.type().valueType(), true);
+        return () -> nullValue;
+    }
+
     private DataObject nullForOptionalField(Schema fieldSchema) {
         final var effective = unwrapUnionToPrimary(fieldSchema);
         if (effective == null) return null; // not an optional union or ambiguous union
         return switch (effective.getType()) {
-            case STRING -> new DataString(null);
-            case INT -> new DataInteger(null);
-            case LONG -> new DataLong(null);
+            case STRING -> DataString.of(null);
+            case INT -> DataInteger.of(null);
+            case LONG -> DataLong.of(null);
             case FLOAT -> new DataFloat(null);
             case DOUBLE -> new DataDouble(null);
-            case BOOLEAN -> new DataBoolean(null);
+            case BOOLEAN -> DataBoolean.of(null);
             case BYTES -> new DataBytes(null);
             case MAP -> {
                 var valueSchema = effective.getValueType();
@@ -290,8 +366,7 @@ public class AvroDataObjectMapper implements DataObjectMapper<Object> {
             case STRING, ENUM -> DataString.DATATYPE;
             case ARRAY -> new ListType(dataTypeFromAvroSchema(schema.getElementType()));
             case MAP -> new MapType(dataTypeFromAvroSchema(schema.getValueType()));
-            case RECORD ->
-                    new StructType((StructSchema) SCHEMA_MAPPER.toDataSchema(schema.getNamespace(), schema.getName(), schema));
+            case RECORD -> StructType.of(recordPlan(schema).structSchema());
             case UNION -> {
                 // Heuristic: if union is [null, T] return T; otherwise unknown
                 var types = schema.getTypes();
@@ -470,7 +545,7 @@ public class AvroDataObjectMapper implements DataObjectMapper<Object> {
 
         // Build AVRO schema from the given struct type if available
         var ksmlSchema = struct.type() != null ? struct.type().schema() : null;
-        var avroSchema = ksmlSchema != null ? SCHEMA_MAPPER.fromDataSchema(ksmlSchema) : null;
+        var avroSchema = ksmlSchema != null ? avroSchemaOf(ksmlSchema) : null;
         if (avroSchema == null || avroSchema.getType() != Schema.Type.RECORD) {
             // Fallback to native map conversion if no schema
             return convertDataStructToPlainMap(struct);
@@ -483,4 +558,130 @@ public class AvroDataObjectMapper implements DataObjectMapper<Object> {
         }
         return rec;
     }
+
+    // ========================= DIRECT READING AND WRITING =========================
+
+    private final class DataObjectDatumReader extends GenericDatumReader<Object> {
+        private final Schema schema;
+
+        private DataObjectDatumReader(Schema schema) {
+            super(schema);
+            this.schema = schema;
+        }
+
+        @Override
+        public Object read(Object reuse, Decoder in) throws IOException {
+            final var result = super.read(null, in);
+            return result instanceof DataObject ? result : toDataObject(DataType.UNKNOWN, result, schema);
+        }
+
+        @Override
+        protected Object readRecord(Object old, Schema expected, ResolvingDecoder in) throws IOException {
+            final var plan = recordPlan(expected);
+            final var result = new DataStruct(plan.structSchema());
+            for (final var field : in.readFieldOrder()) {
+                putField(result, plan.fields()[field.pos()], read(null, field.schema(), in));
+            }
+            return result;
+        }
+    }
+
+    private final class DataObjectDatumWriter extends GenericDatumWriter<Object> {
+        private DataObjectDatumWriter(Schema schema) {
+            super(schema);
+        }
+
+        @Override
+        protected void write(Schema schema, Object datum, Encoder out) throws IOException {
+            if (!(datum instanceof DataObject value)) {
+                // The converters produce byte arrays, while AVRO expects ByteBuffers for BYTES
+                super.write(schema, datum instanceof byte[] bytes ? ByteBuffer.wrap(bytes) : datum, out);
+                return;
+            }
+            switch (schema.getType()) {
+                case RECORD -> {
+                    if (value instanceof DataStruct struct && !struct.isNull()) {
+                        writeStruct(schema, struct, out);
+                        return;
+                    }
+                }
+                case ARRAY -> {
+                    if (value instanceof DataList list && !list.isNull()) {
+                        writeList(schema, list, out);
+                        return;
+                    }
+                }
+                case MAP -> {
+                    if (value instanceof DataMap map && !map.isNull()) {
+                        writeMap(schema, map, out);
+                        return;
+                    }
+                }
+                case UNION -> {
+                    final var branch = containerBranch(schema, value);
+                    if (branch >= 0) {
+                        out.writeIndex(branch);
+                        write(schema.getTypes().get(branch), value, out);
+                        return;
+                    }
+                }
+                default -> {
+                    // Scalars are converted below
+                }
+            }
+            // Convert everything else like fromDataObject does, and let AVRO write the result
+            write(schema, convertDataObjectToAvroBySchema(value, schema), out);
+        }
+
+        private void writeStruct(Schema schema, DataStruct struct, Encoder out) throws IOException {
+            for (final var field : schema.getFields()) {
+                try {
+                    write(field.schema(), struct.get(field.name()), out);
+                } catch (NullPointerException e) {
+                    throw npe(e, " in field " + field.name());
+                }
+            }
+        }
+
+        private void writeList(Schema schema, DataList list, Encoder out) throws IOException {
+            out.writeArrayStart();
+            out.setItemCount(list.size());
+            for (final var element : list) {
+                out.startItem();
+                write(schema.getElementType(), element, out);
+            }
+            out.writeArrayEnd();
+        }
+
+        private void writeMap(Schema schema, DataMap map, Encoder out) throws IOException {
+            out.writeMapStart();
+            out.setItemCount(map.size());
+            for (final var entry : map.entrySet()) {
+                out.startItem();
+                out.writeString(entry.getKey());
+                write(schema.getValueType(), entry.getValue(), out);
+            }
+            out.writeMapEnd();
+        }
+
+        // Returns the union branch for a non-null struct, list or map, or -1 to convert the value instead
+        private int containerBranch(Schema union, DataObject value) {
+            return switch (value) {
+                case DataStruct struct when !struct.isNull() && struct.type().schema() != null -> {
+                    final var index = union.getIndexNamed(avroSchemaOf(struct.type().schema()).getFullName());
+                    yield index != null ? index : -1;
+                }
+                case DataList list when !list.isNull() -> indexOfType(union, Schema.Type.ARRAY);
+                case DataMap map when !map.isNull() -> indexOfType(union, Schema.Type.MAP);
+                default -> -1;
+            };
+        }
+
+        private static int indexOfType(Schema union, Schema.Type type) {
+            for (int index = 0; index < union.getTypes().size(); index++) {
+                if (union.getTypes().get(index).getType() == type) return index;
+            }
+            return -1;
+        }
+    }
 }
@@ -47,7 +47,11 @@ import io.axual.ksml.data.type.DataType;
 import org.apache.avro.JsonProperties;
 import org.apache.avro.SchemaBuilder;
 import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumWriter;
 import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.DatumWriter;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
 import org.apache.avro.util.Utf8;
 import org.assertj.core.api.ObjectAssert;
 import org.assertj.core.api.SoftAssertions;
@@ -59,6 +63,8 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Comparator;
@@ -185,7 +191,7 @@ class AvroDataObjectMapperTest {
         );
     }
 
-    private GenericRecord loadRecord(String schemaPath, String dataPath) {
+    private static GenericRecord loadRecord(String schemaPath, String dataPath) {
         var schema = AvroTestUtil.loadSchema(schemaPath);
         return AvroTestUtil.parseRecord(schema, dataPath);
     }
@@ -223,6 +229,22 @@ class AvroDataObjectMapperTest {
         // does not explicitly normalize ByteBuffer here, so we intentionally do not assert the 'bytes' field.
     }
 
+    @Test
+    void toDataObject_shouldReuseTranslatedSchema_forEqualAvroSchemas() {
+        // Arrange: every load parses the Avro schema again, so the records have equal but distinct schemas
+        var first = loadRecord(SCHEMA_PRIMITIVES, DATA_PRIMITIVES);
+        var second = loadRecord(SCHEMA_PRIMITIVES, DATA_PRIMITIVES);
+
+        // Act
+        var firstMapped = (DataStruct) mapper.toDataObject(null, first);
+        var secondMapped = (DataStruct) mapper.toDataObject(null, second);
+
+        // Assert
+        assertThat(secondMapped.type().schema()).isSameAs(firstMapped.type().schema());
+        assertThat(secondMapped.get("str")).isEqualTo(firstMapped.get("str"));
+        assertThat(secondMapped.get("l")).isEqualTo(firstMapped.get("l"));
+    }
+
     @Test
     void toDataObject_shouldMapCollectionsAndUnions_withAllBranches() {
         // Arrange
@@ -387,6 +409,48 @@ class AvroDataObjectMapperTest {
         assertThat(again).usingRecursiveComparison().isEqualTo(ds);
     }
 
+    @ParameterizedTest
+    @MethodSource
+    @DisplayName("Direct datum reader and writer produce the same results as the GenericRecord path")
+    void datumReaderAndWriter_matchGenericRecordPath(GenericRecord record) throws IOException {
+        final var schema = record.getSchema();
+        final var expectedBytes = encode(new GenericDatumWriter<>(schema), record);
+        final var expectedStruct = mapper.toDataObject(null, record);
+
+        final var decoder = DecoderFactory.get().binaryDecoder(expectedBytes, null);
+        final var readStruct = mapper.datumReader(schema).read(null, decoder);
+        addDataObjectComparators(assertThat(readStruct))
+                .as("Verify the datum reader creates the same DataStruct")
+                .usingRecursiveComparison()
+                .isEqualTo(expectedStruct);
+
+        final var writtenBytes = encode(mapper.datumWriter(schema), expectedStruct);
+        final var reread = mapper.datumReader(schema).read(null, DecoderFactory.get().binaryDecoder(writtenBytes, null));
+        addDataObjectComparators(assertThat(reread))
+                .as("Verify the datum writer output reads back into the same DataStruct")
+                .usingRecursiveComparison()
+                .isEqualTo(expectedStruct);
+    }
+
+    static Stream<GenericRecord> datumReaderAndWriter_matchGenericRecordPath() {
+        return Stream.of(
+                loadRecord(SCHEMA_PRIMITIVES, DATA_PRIMITIVES),
+                loadRecord(SCHEMA_COLLECTIONS, DATA_COLLECTIONS_1),
+                loadRecord(SCHEMA_COLLECTIONS, DATA_COLLECTIONS_SINGLE_UNION_NULL),
+                loadRecord(SCHEMA_COLLECTIONS, DATA_COLLECTIONS_SINGLE_UNION_INT),
+                loadRecord(SCHEMA_COLLECTIONS, DATA_COLLECTIONS_SINGLE_UNION_RECORD),
+                loadRecord(SCHEMA_OPTIONAL, DATA_OPTIONAL_WITH_VALUES),
+                loadRecord(SCHEMA_ARRAYS, DATA_ARRAYS_1));
+    }
+
+    private static <T> byte[] encode(DatumWriter<T> writer, T value) throws IOException {
+        final var out = new ByteArrayOutputStream();
+        final var encoder = EncoderFactory.get().binaryEncoder(out, null);
+        writer.write(value, encoder);
+        encoder.flush();
+        return out.toByteArray();
+    }
+
     @ParameterizedTest
     @MethodSource
     @DisplayName("Test one way object mapping from Avro to KSML")
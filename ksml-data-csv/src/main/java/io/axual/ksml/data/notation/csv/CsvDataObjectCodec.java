@@ -0,0 +1,281 @@
+package io.axual.ksml.data.notation.csv;
+
+/*-
+ * ========================LICENSE_START=================================
+ * KSML
+ * %%
+ * Copyright (C) 2021 - 2026 Axual B.V.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.csv.CsvGenerator;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import io.axual.ksml.data.exception.DataException;
+import io.axual.ksml.data.mapper.DataTypeDataSchemaMapper;
+import io.axual.ksml.data.mapper.NativeDataObjectMapper;
+import io.axual.ksml.data.object.DataList;
+import io.axual.ksml.data.object.DataObject;
+import io.axual.ksml.data.object.DataString;
+import io.axual.ksml.data.object.DataStruct;
+import io.axual.ksml.data.schema.StructSchema;
+import io.axual.ksml.data.type.DataType;
+import io.axual.ksml.data.type.ListType;
+import io.axual.ksml.data.type.StructType;
+import io.axual.ksml.data.util.ConvertUtil;
+import io.axual.ksml.data.util.WriterUtil;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+
+/**
+ * Streaming conversion between CSV and KSML {@link DataObject}s for a single expected {@link DataType}.
+ *
+ * <p>CSV is read row by row with a Jackson {@link CsvParser} directly over the message bytes, and column values are
+ * converted as they are read. The conversion for every column of the expected {@link StructSchema} is resolved once,
+ * when the codec is created, instead of for every record.</p>
+ *
+ * <p>A message normally holds a single row, which is returned as a {@link DataStruct} when the expected type is a
+ * struct with a schema, or as a {@link DataList} of strings otherwise. Only the first row of a message is read, unless
+ * the expected type is a list of structs or lists, like {@code csv:list(SalesRecord)}. Then every row of the message is
+ * returned as an element of a {@link DataList}. Writing goes the other way: structs and lists of strings become one row, lists of
+ * structs or lists become one row per element.</p>
+ */
+public class CsvDataObjectCodec {
+    private static final ObjectReader CSV_READER = new CsvMapper()
+            .readerForArrayOf(String.class)
+            .with(CsvParser.Feature.SKIP_EMPTY_LINES)
+            .with(CsvParser.Feature.ALLOW_COMMENTS);
+    private static final ObjectWriter CSV_WRITER = new CsvMapper()
+            .writerFor(String[].class)
+            .with(CsvGenerator.Feature.ESCAPE_CONTROL_CHARS_WITH_ESCAPE_CHAR)
+            .with(CsvGenerator.Feature.ESCAPE_QUOTE_CHAR_WITH_ESCAPE_CHAR)
+            .with(CsvGenerator.Feature.ALWAYS_QUOTE_STRINGS)
+            .without(CsvGenerator.Feature.WRITE_LINEFEED_AFTER_LAST_ROW);
+    private static final NativeDataObjectMapper NATIVE_MAPPER = new NativeDataObjectMapper();
+    private static final DataTypeDataSchemaMapper SCHEMA_TO_TYPE_MAPPER = new DataTypeDataSchemaMapper();
+    private static final ConvertUtil CONVERT_UTIL = new ConvertUtil(NATIVE_MAPPER, SCHEMA_TO_TYPE_MAPPER);
+    // Output buffer reused by every serialization on the same thread
+    private static final ThreadLocal<ByteArrayBuilder> BUFFERS = ThreadLocal.withInitial(ByteArrayBuilder::new);
+
+    private record Column(String name, boolean required, Function<String, DataObject> converter) {
+    }
+
+    private final DataType expected;
+    // The schema and precompiled columns of struct rows, or null when rows are read as lists of strings
+    private final StructSchema rowSchema;
+    private final Column[] columns;
+    // The type of the list returned for all rows, or null when only the first row is read
+    private final ListType rowsType;
+
+    /**
+     * Creates a codec that reads CSV into DataObjects of the expected type.
+     *
+     * @param expected the expected DataType (may be null)
+     */
+    public CsvDataObjectCodec(DataType expected) {
+        this.expected = expected;
+        final var rowType = expected instanceof ListType listType && isRowType(listType.valueType())
+                ? listType.valueType()
+                : expected;
+        rowSchema = rowType instanceof StructType structType ? structType.schema() : null;
+        columns = rowSchema != null ? compileColumns(rowSchema) : null;
+        rowsType = rowType != expected ? (ListType) expected : null;
+    }
+
+    private static boolean isRowType(DataType type) {
+        return type instanceof ListType || type instanceof StructType structType && structType.schema() != null;
+    }
+
+    private static Column[] compileColumns(StructSchema schema) {
+        final var result = new Column[schema.fields().size()];
+        for (int index = 0; index < result.length; index++) {
+            final var field = schema.field(index);
+            final var type = SCHEMA_TO_TYPE_MAPPER.fromDataSchema(field.schema());
+            final Function<String, DataObject> converter = type == DataString.DATATYPE
+                    ? DataString::of
+                    : value -> CONVERT_UTIL.convertStringToDataObject(type, value, false);
+            result[index] = new Column(field.name(), field.required(), converter);
+        }
+        return result;
+    }
+
+    /**
+     * Parses UTF-8 encoded CSV into a {@link DataObject}.
+     *
+     * @param value the CSV bytes (may be null)
+     * @return a DataObject representation, possibly DataNull when input is null
+     */
+    public DataObject toDataObject(byte[] value) {
+        if (value == null) return NATIVE_MAPPER.toDataObject(expected, null);
+        return toDataObject(value, 0, value.length);
+    }
+
+    /**
+     * Parses a range of UTF-8 encoded CSV bytes into a {@link DataObject}.
+     *
+     * @param value  the buffer holding the CSV bytes
+     * @param offset the offset of the CSV data in the buffer
+     * @param length the length of the CSV data
+     * @return a DataObject representation
+     */
+    public DataObject toDataObject(byte[] value, int offset, int length) {
+        try (final var parser = CSV_READER.createParser(value, offset, length)) {
+            return readRows(parser);
+        } catch (IOException e) {
+            throw new DataException("Could not parse CSV: " + new String(value, offset, length, StandardCharsets.UTF_8), e);
+        }
+    }
+
+    /**
+     * Parses CSV text into a {@link DataObject}.
+     *
+     * @param value CSV text (may be null)
+     * @return a DataObject representation, possibly DataNull when input is null
+     */
+    public DataObject toDataObject(String value) {
+        if (value == null) return NATIVE_MAPPER.toDataObject(expected, null);
+        try (final var parser = CSV_READER.createParser(value)) {
+            return readRows(parser);
+        } catch (IOException e) {
+            throw new DataException("Could not parse CSV", e);
+        }
+    }
+
+    private DataObject readRows(JsonParser parser) throws IOException {
+        if (rowsType == null) {
+            // Only the first row is returned
+            return parser.nextToken() == JsonToken.START_ARRAY ? readRow(parser) : new DataList(DataString.DATATYPE);
+        }
+
+        final var rows = new DataList(rowsType.valueType());
+        while (parser.nextToken() == JsonToken.START_ARRAY) rows.add(readRow(parser));
+        return rows;
+    }
+
+    private DataObject readRow(JsonParser parser) throws IOException {
+        if (columns == null) {
+            final var result = new DataList(DataString.DATATYPE);
+            while (parser.nextToken() == JsonToken.VALUE_STRING) result.add(DataString.of(parser.getText()));
+            return result;
+        }
+
+        // Design choice — lenient CSV parsing:
+        // 1. If the row is SHORTER than the schema (e.g. schema has 3 fields, row has 2),
+        //    trailing missing columns are silently treated as "" for required fields and
+        //    null for optional fields. The row is NOT rejected.
+        // 2. If a required column is EMPTY in the row, it is stored as the empty string ""
+        //    rather than rejected.
+        //
+        // This is intentional: CSV is a notoriously fuzzy format and many real-world feeds
+        // ship truncated or partially-empty rows. Throwing here would break pipelines that
+        // currently tolerate these inputs. Callers that need strict-schema enforcement should
+        // validate the DataStruct downstream (e.g. with a custom filter step) rather than
+        // relying on the CSV codec to do it.
+        final var result = new DataStruct(rowSchema);
+        var index = 0;
+        while (parser.nextToken() == JsonToken.VALUE_STRING) {
+            if (index < columns.length) putColumn(result, columns[index], parser.getText());
+            index++;
+        }
+        for (; index < columns.length; index++) putColumn(result, columns[index], null);
+        return result;
+    }
+
+    private static void putColumn(DataStruct struct, Column column, String value) {
+        if (value == null || value.isEmpty()) {
+            if (!column.required()) return;
+            value = "";
+        }
+        struct.putIfNotNull(column.name(), column.converter().apply(value));
+    }
+
+    /**
+     * Serializes a {@link DataObject} to UTF-8 encoded CSV.
+     *
+     * @param value DataObject to serialize
+     * @return the CSV bytes, or null when the value is not a struct or list
+     */
+    public byte[] toBytes(DataObject value) {
+        if (!isWritable(value)) return null;
+        final var buffer = BUFFERS.get();
+        buffer.reset();
+        try (final var generator = CSV_WRITER.createGenerator(buffer)) {
+            writeRows(value, generator);
+        } catch (IOException e) {
+            throw new DataException("Could not write CSV", e);
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * Serializes a {@link DataObject} to CSV text.
+     *
+     * @param value DataObject to serialize
+     * @return CSV text, or null when the value is not a struct or list
+     */
+    public String toString(DataObject value) {
+        if (!isWritable(value)) return null;
+        try {
+            return WriterUtil.writeToString(writer -> {
+                try (final var generator = CSV_WRITER.createGenerator(writer)) {
+                    writeRows(value, generator);
+                }
+            });
+        } catch (IOException e) {
+            throw new DataException("Could not write CSV", e);
+        }
+    }
+
+    private static boolean isWritable(DataObject value) {
+        return value instanceof DataStruct || value instanceof DataList;
+    }
+
+    private static void writeRows(DataObject value, JsonGenerator generator) throws IOException {
+        if (value instanceof DataList list && !list.isEmpty() && isRow(list.get(0))) {
+            for (final var row : list) writeRow(row, generator);
+        } else {
+            writeRow(value, generator);
+        }
+    }
+
+    private static boolean isRow(DataObject value) {
+        return value instanceof DataStruct || value instanceof DataList;
+    }
+
+    private static void writeRow(DataObject value, JsonGenerator generator) throws IOException {
+        generator.writeStartArray();
+        if (value instanceof DataStruct struct && struct.type().schema() != null) {
+            // Compose fields by order in the schema
+            for (final var field : struct.type().schema().fields()) {
+                final var fieldValue = struct.get(field.name());
+                generator.writeString(fieldValue != null ? fieldValue.toString() : "");
+            }
+        } else if (value instanceof DataStruct struct) {
+            // Without a schema, compose fields in the order of the struct
+            for (final var entry : struct.entrySet()) generator.writeString(entry.getValue().toString());
+        } else if (value instanceof DataList list) {
+            for (final var element : list) generator.writeString(element.toString());
+        }
+        generator.writeEndArray();
+    }
+}
@@ -85,7 +85,7 @@ public class CsvNotation extends StringNotation {
     public Serde<Object> serde(DataType type, boolean isKey) {
         // CSV types should always be Lists, Structs or the union of them both
         if (type instanceof ListType || type instanceof StructType || DEFAULT_TYPE.equals(type))
-            return super.serde(type, isKey);
+            return new CsvSerde(context().nativeDataObjectMapper(), type);
         // Other types cannot be serialized as CSV
         throw noSerdeFor(type);
     }
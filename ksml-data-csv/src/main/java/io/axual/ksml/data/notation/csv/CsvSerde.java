@@ -0,0 +1,98 @@
+package io.axual.ksml.data.notation.csv;
+
+/*-
+ * ========================LICENSE_START=================================
+ * KSML
+ * %%
+ * Copyright (C) 2021 - 2026 Axual B.V.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import io.axual.ksml.data.exception.DataException;
+import io.axual.ksml.data.mapper.NativeDataObjectMapper;
+import io.axual.ksml.data.object.DataObject;
+import io.axual.ksml.data.type.DataType;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Kafka Serde for CSV using KSML DataObject mapping.
+ *
+ * <p>CsvSerde uses a {@link CsvDataObjectCodec} created for its expected {@link DataType} to convert between UTF-8
+ * encoded CSV and KSML {@code DataObject}s at the serde boundary, without going through an intermediate String.
+ * It validates inputs/outputs against the expected type.</p>
+ */
+public class CsvSerde implements Serde<Object> {
+    private final NativeDataObjectMapper nativeMapper;
+    private final DataType expectedType;
+    private final CsvDataObjectCodec codec;
+
+    /**
+     * Creates a CsvSerde for the given expected data type.
+     *
+     * @param nativeMapper the native-to-DataObject mapper used to convert values before serialization
+     * @param expectedType the expected data type to validate serialized/deserialized values against
+     */
+    public CsvSerde(NativeDataObjectMapper nativeMapper, DataType expectedType) {
+        this.nativeMapper = nativeMapper;
+        this.expectedType = expectedType;
+        this.codec = new CsvDataObjectCodec(expectedType);
+    }
+
+    /**
+     * Provides a serializer that validates the input and writes it as CSV.
+     */
+    @Override
+    public Serializer<Object> serializer() {
+        return (topic, data) -> {
+            final var dataObject = nativeMapper.toDataObject(expectedType, data);
+            if (!expectedType.isAssignableFrom(dataObject).isAssignable()) {
+                throw new DataException("Incorrect type passed in: expected=" + expectedType + ", got " + dataObject.type());
+            }
+            return codec.toBytes(dataObject);
+        };
+    }
+
+    /**
+     * Provides a deserializer that parses CSV into a DataObject and validates it matches the
+     * expected DataType. Heap buffers handed over by the consumer are parsed in place.
+     */
+    @Override
+    public Deserializer<Object> deserializer() {
+        return new Deserializer<>() {
+            @Override
+            public Object deserialize(String topic, byte[] data) {
+                return check(codec.toDataObject(data));
+            }
+
+            @Override
+            public Object deserialize(String topic, Headers headers, ByteBuffer data) {
+                if (data == null || !data.hasArray()) return Deserializer.super.deserialize(topic, headers, data);
+                return check(codec.toDataObject(data.array(), data.arrayOffset() + data.position(), data.remaining()));
+            }
+        };
+    }
+
+    private DataObject check(DataObject dataObject) {
+        if (dataObject != null && !expectedType.isAssignableFrom(dataObject).isAssignable()) {
+            throw new DataException("Wrong type retrieved from state store: expected " + expectedType + ", got " + dataObject.type());
+        }
+        return dataObject;
+    }
+}
@@ -0,0 +1,182 @@
+package io.axual.ksml.data.notation.csv;
+
+/*-
+ * ========================LICENSE_START=================================
+ * KSML
+ * %%
+ * Copyright (C) 2021 - 2026 Axual B.V.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import io.axual.ksml.data.object.DataInteger;
+import io.axual.ksml.data.object.DataList;
+import io.axual.ksml.data.object.DataNull;
+import io.axual.ksml.data.object.DataString;
+import io.axual.ksml.data.object.DataStruct;
+import io.axual.ksml.data.schema.DataSchema;
+import io.axual.ksml.data.schema.StructSchema;
+import io.axual.ksml.data.type.ListType;
+import io.axual.ksml.data.type.StructType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static io.axual.ksml.data.schema.DataSchemaConstants.NO_TAG;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link CsvDataObjectCodec} verifying byte-level CSV parsing, precompiled column
+ * conversion and multi-row messages.
+ */
+@DisplayName("CsvDataObjectCodec - streaming CSV <-> DataObject conversions")
+class CsvDataObjectCodecTest {
+    private static final StructSchema SCHEMA = new StructSchema("io.axual.test", "Reading", "Sensor reading", List.of(
+            new StructSchema.Field("name", DataSchema.STRING_SCHEMA, "Sensor name", NO_TAG, true, false, null),
+            new StructSchema.Field("value", DataSchema.INTEGER_SCHEMA, "Sensor value", NO_TAG, true, false, null),
+            new StructSchema.Field("unit", DataSchema.STRING_SCHEMA, "Unit", NO_TAG, false, false, null)));
+    private static final StructType STRUCT_TYPE = new StructType(SCHEMA);
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static DataList strings(String... values) {
+        final var result = new DataList(DataString.DATATYPE);
+        for (final var value : values) result.add(new DataString(value));
+        return result;
+    }
+
+    @Test
+    @DisplayName("Converts columns to the types in the schema")
+    void convertsColumnsBySchema() {
+        final var result = new CsvDataObjectCodec(STRUCT_TYPE).toDataObject(bytes("sensor1,42,celsius"));
+
+        assertThat(result).isInstanceOf(DataStruct.class);
+        final var struct = (DataStruct) result;
+        assertThat(struct.get("name")).isEqualTo(new DataString("sensor1"));
+        assertThat(struct.get("value")).isEqualTo(new DataInteger(42));
+        assertThat(struct.get("unit")).isEqualTo(new DataString("celsius"));
+    }
+
+    @Test
+    @DisplayName("Leaves out empty optional columns")
+    void leavesOutEmptyOptionalColumns() {
+        final var result = (DataStruct) new CsvDataObjectCodec(STRUCT_TYPE).toDataObject(bytes("sensor1,42"));
+
+        assertThat(result.containsKey("unit")).isFalse();
+        assertThat(result.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Reads only the first row when a single struct is expected")
+    void readsFirstRowForStructType() {
+        final var result = (DataStruct) new CsvDataObjectCodec(STRUCT_TYPE).toDataObject(bytes("sensor1,1\nsensor2,2"));
+
+        assertThat(result.get("name")).isEqualTo(new DataString("sensor1"));
+    }
+
+    @Test
+    @DisplayName("Reads all rows as structs when a list of structs is expected")
+    void readsAllRowsForListOfStructs() {
+        final var codec = new CsvDataObjectCodec(new ListType(STRUCT_TYPE));
+        final var result = codec.toDataObject(bytes("sensor1,1,celsius\nsensor2,2,kelvin\n\nsensor3,3,fahrenheit\n"));
+
+        assertThat(result).isInstanceOf(DataList.class);
+        final var rows = (DataList) result;
+        assertThat(rows.size()).isEqualTo(3);
+        assertThat(rows.get(0)).isInstanceOf(DataStruct.class);
+        assertThat(((DataStruct) rows.get(1)).get("name")).isEqualTo(new DataString("sensor2"));
+        assertThat(((DataStruct) rows.get(2)).get("value")).isEqualTo(new DataInteger(3));
+
+        final var single = codec.toDataObject(bytes("sensor1,1,celsius"));
+        assertThat(single).isInstanceOf(DataList.class);
+        assertThat(((DataList) single).size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Reads only the first row when no specific type is expected")
+    void readsFirstRowWithoutType() {
+        final var codec = new CsvDataObjectCodec(CsvNotation.DEFAULT_TYPE);
+
+        assertThat(codec.toDataObject(bytes("a,b"))).isEqualTo(strings("a", "b"));
+        assertThat(codec.toDataObject(bytes("a,b\nc,d"))).isEqualTo(strings("a", "b"));
+        assertThat(new CsvDataObjectCodec(null).toDataObject(bytes("a,b\nc,d"))).isEqualTo(strings("a", "b"));
+    }
+
+    @Test
+    @DisplayName("Reads all rows as lists when a list of lists is expected")
+    void readsAllRowsForListOfLists() {
+        final var codec = new CsvDataObjectCodec(new ListType(new ListType(DataString.DATATYPE)));
+
+        final var rows = (DataList) codec.toDataObject(bytes("a,b\nc,d"));
+        assertThat(rows.size()).isEqualTo(2);
+        assertThat(rows.get(1)).isEqualTo(strings("c", "d"));
+    }
+
+    @Test
+    @DisplayName("Parses a range of a larger buffer")
+    void parsesBufferRange() {
+        final var buffer = bytes("xxsensor1,42yy");
+        final var result = (DataStruct) new CsvDataObjectCodec(STRUCT_TYPE).toDataObject(buffer, 2, buffer.length - 4);
+
+        assertThat(result.get("name")).isEqualTo(new DataString("sensor1"));
+        assertThat(result.get("value")).isEqualTo(new DataInteger(42));
+    }
+
+    @Test
+    @DisplayName("Maps null input to a null value of the expected type")
+    void mapsNullInput() {
+        final var result = new CsvDataObjectCodec(STRUCT_TYPE).toDataObject((byte[]) null);
+
+        assertThat(result).isInstanceOf(DataStruct.class);
+        assertThat(((DataStruct) result).isNull()).isTrue();
+        assertThat(new CsvDataObjectCodec(null).toDataObject((byte[]) null)).isEqualTo(DataNull.INSTANCE);
+    }
+
+    @Test
+    @DisplayName("Writes a list of structs as one row per struct")
+    void writesRowPerStruct() {
+        final var first = new DataStruct(SCHEMA);
+        first.put("name", new DataString("sensor1"));
+        first.put("value", new DataInteger(1));
+        first.put("unit", new DataString("celsius"));
+        final var second = new DataStruct(SCHEMA);
+        second.put("name", new DataString("sensor, two"));
+        second.put("value", new DataInteger(2));
+        final var rows = new DataList(STRUCT_TYPE);
+        rows.add(first, second);
+
+        final var codec = new CsvDataObjectCodec(new ListType(STRUCT_TYPE));
+        final var bytes = codec.toBytes(rows);
+
+        assertThat(new String(bytes, StandardCharsets.UTF_8)).isEqualTo("\"sensor1\",\"1\",\"celsius\"\n\"sensor, two\",\"2\",\"\"");
+        final var result = (DataList) codec.toDataObject(bytes);
+        assertThat(result.size()).isEqualTo(2);
+        assertThat(((DataStruct) result.get(1)).get("name")).isEqualTo(new DataString("sensor, two"));
+    }
+
+    @Test
+    @DisplayName("Writes the same text as bytes and as a String")
+    void writesSameTextAsBytesAndString() {
+        final var list = strings("a", "b \"c\"");
+        final var codec = new CsvDataObjectCodec(null);
+
+        final var text = codec.toString(list);
+        assertThat(text).isEqualTo(new String(codec.toBytes(list), StandardCharsets.UTF_8));
+        assertThat(codec.toDataObject(text)).isEqualTo(list);
+    }
+}
@@ -181,6 +181,38 @@ class CsvSerdeTest {
         }
     }
 
+    @Test
+    @DisplayName("ListType of StructType: multiple rows in one message round-trip as a list of structs")
+    void multiRowRoundTrip() {
+        // Given: CSV notation with a list of structs
+        final var schema = createSimpleSchema("name", "value");
+        final var structType = new StructType(schema);
+        final var listType = new ListType(structType);
+        final var notation = new CsvNotation();
+
+        // And: a list with two rows
+        final var list = new DataList(structType);
+        for (var index = 1; index <= 2; index++) {
+            final var struct = new DataStruct(schema);
+            struct.put("name", DataString.from("sensor00" + index));
+            struct.put("value", DataString.from(String.valueOf(index)));
+            list.add(struct);
+        }
+
+        // When: serializing to bytes and deserializing back
+        try (var serde = notation.serde(listType, false)) {
+            final var bytes = serde.serializer().serialize("test-topic", list);
+            final var result = serde.deserializer().deserialize("test-topic", bytes);
+
+            // Then: should get both rows back as structs
+            assertThat(result).isInstanceOf(DataList.class);
+            final var resultList = (DataList) result;
+            assertThat(resultList.size()).isEqualTo(2);
+            assertThat(((DataStruct) resultList.get(0)).get("name")).hasToString("sensor001");
+            assertThat(((DataStruct) resultList.get(1)).get("value")).hasToString("2");
+        }
+    }
+
     @Test
     @DisplayName("Key serde can be created separately from value serde")
     void keySerde() {
@@ -0,0 +1,341 @@
+package io.axual.ksml.data.notation.json;
+
+/*-
+ * ========================LICENSE_START=================================
+ * KSML
+ * %%
+ * Copyright (C) 2021 - 2026 Axual B.V.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.axual.ksml.data.exception.DataException;
+import io.axual.ksml.data.mapper.DataTypeDataSchemaMapper;
+import io.axual.ksml.data.mapper.NativeDataObjectMapper;
+import io.axual.ksml.data.object.DataBytes;
+import io.axual.ksml.data.object.DataList;
+import io.axual.ksml.data.object.DataMap;
+import io.axual.ksml.data.object.DataObject;
+import io.axual.ksml.data.object.DataPrimitive;
+import io.axual.ksml.data.object.DataStruct;
+import io.axual.ksml.data.object.DataTuple;
+import io.axual.ksml.data.type.DataType;
+import io.axual.ksml.data.type.ListType;
+import io.axual.ksml.data.type.MapType;
+import io.axual.ksml.data.type.StructType;
+import io.axual.ksml.data.type.TupleType;
+import io.axual.ksml.data.util.WriterUtil;
+import io.axual.ksml.data.value.Struct;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streaming conversion between JSON and KSML {@link DataObject}s.
+ *
+ * <p>JSON is read token by token with a Jackson {@link JsonParser} and turned into {@link DataStruct},
+ * {@link DataMap} and {@link DataList} instances directly, using the expected {@link DataType} (and the
+ * {@link io.axual.ksml.data.schema.StructSchema} of expected structs) to type nested values. Writing goes the
+ * other way: DataObjects are written straight to a {@link JsonGenerator}. No intermediate JSON text,
+ * {@link com.fasterxml.jackson.databind.JsonNode} tree or native Map/List graph is built.</p>
+ *
+ * <p>The results are the same as parsing the text into a native Map/List graph with Jackson and mapping that with
+ * {@link NativeDataObjectMapper}: scalars are coerced by the native mapper, and the rare cases that need the
+ * full native value (tuples and bytes represented as JSON arrays) are handed to it as such.</p>
+ */
+public class JsonDataObjectCodec {
+    private static final JsonFactory FACTORY = new ObjectMapper().getFactory();
+    private static final DataTypeDataSchemaMapper DATA_TYPE_DATA_SCHEMA_MAPPER = new DataTypeDataSchemaMapper();
+    // Output buffer reused by every serialization on the same thread
+    private static final ThreadLocal<ByteArrayBuilder> BUFFERS = ThreadLocal.withInitial(ByteArrayBuilder::new);
+    private final NativeDataObjectMapper nativeMapper = new NativeDataObjectMapper();
+
+    /**
+     * Parses UTF-8 encoded JSON into a {@link DataObject}.
+     *
+     * @param expected the expected DataType (may be null)
+     * @param value    the JSON bytes (may be null)
+     * @return a DataObject representation, possibly DataNull when input is null
+     */
+    public DataObject toDataObject(DataType expected, byte[] value) {
+        if (value == null) return nativeMapper.toDataObject(expected, null);
+        return toDataObject(expected, value, 0, value.length);
+    }
+
+    /**
+     * Parses a range of UTF-8 encoded JSON bytes into a {@link DataObject}.
+     *
+     * @param expected the expected DataType (may be null)
+     * @param value    the buffer holding the JSON bytes
+     * @param offset   the offset of the JSON document in the buffer
+     * @param length   the length of the JSON document
+     * @return a DataObject representation
+     */
+    public DataObject toDataObject(DataType expected, byte[] value, int offset, int length) {
+        try (final var parser = FACTORY.createParser(value, offset, length)) {
+            return readDocument(expected, parser);
+        } catch (IOException e) {
+            throw new DataException("Could not parse string to object: " + new String(value, offset, length, StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Parses JSON text into a {@link DataObject}.
+     *
+     * @param expected the expected DataType (may be null)
+     * @param value    JSON text (may be null)
+     * @return a DataObject representation, possibly DataNull when input is null
+     */
+    public DataObject toDataObject(DataType expected, String value) {
+        if (value == null) return nativeMapper.toDataObject(expected, null);
+        try (final var parser = FACTORY.createParser(value)) {
+            return readDocument(expected, parser);
+        } catch (IOException e) {
+            throw new DataException("Could not parse string to object: " + value);
+        }
+    }
+
+    /**
+     * Serializes a {@link DataObject} to UTF-8 encoded JSON.
+     *
+     * @param value DataObject to serialize
+     * @return the JSON bytes, or null when the value represents null
+     */
+    public byte[] toBytes(DataObject value) {
+        if (isNull(value)) return null;
+        final var buffer = BUFFERS.get();
+        buffer.reset();
+        try (final var generator = FACTORY.createGenerator(buffer, JsonEncoding.UTF8)) {
+            writeDocument(value, generator);
+        } catch (IOException e) {
+            throw new DataException("Can not convert object to JSON: " + value, e);
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * Serializes a {@link DataObject} to JSON text.
+     *
+     * @param value       DataObject to serialize
+     * @param prettyPrint when true, the generated JSON is formatted
+     * @return JSON text, or null when the value represents null
+     */
+    public String toString(DataObject value, boolean prettyPrint) {
+        if (isNull(value)) return null;
+        try {
+            return WriterUtil.writeToString(writer -> {
+                try (final var generator = FACTORY.createGenerator(writer)) {
+                    if (prettyPrint) generator.useDefaultPrettyPrinter();
+                    writeDocument(value, generator);
+                }
+            });
+        } catch (IOException e) {
+            throw new DataException("Can not convert object to JSON string: " + value, e);
+        }
+    }
+
+    private DataObject readDocument(DataType expected, JsonParser parser) throws IOException {
+        final var token = parser.nextToken();
+        // Only JSON objects and arrays are accepted as documents
+        if (token != JsonToken.START_OBJECT && token != JsonToken.START_ARRAY)
+            throw new IOException("JSON document is not an object or array");
+        return readValue(expected, parser, token);
+    }
+
+    private DataObject readValue(DataType expected, JsonParser parser, JsonToken token) throws IOException {
+        return switch (token) {
+            case START_OBJECT -> nativeMapper.toDataObject(expected, readObject(expected, parser));
+            case START_ARRAY -> readArray(expected, parser);
+            default -> nativeMapper.toDataObject(expected, readScalar(parser, token));
+        };
+    }
+
+    private DataObject readObject(DataType expected, JsonParser parser) throws IOException {
+        if (expected instanceof MapType mapType) {
+            final var result = new DataMap(mapType.valueType());
+            for (var token = parser.nextToken(); token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+                final var key = parser.currentName();
+                result.put(key, readValue(mapType.valueType(), parser, parser.nextToken()));
+            }
+            return result;
+        }
+
+        final var schema = expected instanceof StructType structType ? structType.schema() : null;
+        final var result = new DataStruct(schema);
+        for (var token = parser.nextToken(); token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+            final var key = parser.currentName();
+            final var field = schema != null ? schema.field(key) : null;
+            final var fieldType = DATA_TYPE_DATA_SCHEMA_MAPPER.fromDataSchema(field != null ? field.schema() : null);
+            result.put(key, readValue(fieldType, parser, parser.nextToken()));
+        }
+        return result;
+    }
+
+    private DataObject readArray(DataType expected, JsonParser parser) throws IOException {
+        // Bytes and tuples are built by the native mapper from the complete list
+        if (expected == DataBytes.DATATYPE || expected instanceof TupleType)
+            return nativeMapper.toDataObject(expected, readNativeArray(parser));
+
+        final var valueType = expected instanceof ListType listType ? listType.valueType() : DataType.UNKNOWN;
+        final var result = new DataList(valueType);
+        for (var token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+            result.add(readValue(valueType, parser, token));
+        }
+        return nativeMapper.toDataObject(expected, result);
+    }
+
+    private Object readNative(JsonParser parser, JsonToken token) throws IOException {
+        return switch (token) {
+            case START_OBJECT -> readNativeObject(parser);
+            case START_ARRAY -> readNativeArray(parser);
+            default -> readScalar(parser, token);
+        };
+    }
+
+    private Map<String, Object> readNativeObject(JsonParser parser) throws IOException {
+        final var result = new HashMap<String, Object>();
+        for (var token = parser.nextToken(); token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+            final var key = parser.currentName();
+            result.put(key, readNative(parser, parser.nextToken()));
+        }
+        return result;
+    }
+
+    private List<Object> readNativeArray(JsonParser parser) throws IOException {
+        final var result = new ArrayList<>();
+        for (var token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+            result.add(readNative(parser, token));
+        }
+        return result;
+    }
+
+    private static Object readScalar(JsonParser parser, JsonToken token) throws IOException {
+        return switch (token) {
+            case VALUE_NULL -> null;
+            case VALUE_TRUE -> Boolean.TRUE;
+            case VALUE_FALSE -> Boolean.FALSE;
+            case VALUE_STRING -> parser.getText();
+            case VALUE_NUMBER_INT -> switch (parser.getNumberType()) {
+                case INT -> parser.getIntValue();
+                case LONG -> parser.getLongValue();
+                default -> throw new DataException("Can not convert from JSON value: " + parser.getText());
+            };
+            case VALUE_NUMBER_FLOAT -> parser.getDoubleValue();
+            default -> throw new IOException("Unexpected JSON token: " + token);
+        };
+    }
+
+    private static boolean isNull(DataObject value) {
+        return value instanceof DataPrimitive<?> primitive && primitive.value() == null
+                || value instanceof DataStruct struct && struct.isNull()
+                || value instanceof DataMap map && map.isNull()
+                || value instanceof DataList list && list.isNull();
+    }
+
+    private static void writeDocument(DataObject value, JsonGenerator generator) throws IOException {
+        // Only structures and lists can be written as JSON documents
+        if (!(value instanceof DataStruct || value instanceof DataMap || value instanceof DataList))
+            throw new DataException("Can not convert to JSON: " + (value != null ? value.getClass().getSimpleName() : "null"));
+        writeValue(value, generator);
+    }
+
+    private static void writeValue(DataObject value, JsonGenerator generator) throws IOException {
+        switch (value) {
+            case null -> generator.writeNull();
+            case DataStruct struct -> writeStruct(struct, generator);
+            case DataMap map -> writeMap(map, generator);
+            case DataList list -> writeList(list, generator);
+            case DataTuple tuple -> {
+                generator.writeStartArray();
+                for (final var element : tuple.elements()) writeValue(element, generator);
+                generator.writeEndArray();
+            }
+            case DataPrimitive<?> primitive -> writePrimitive(primitive, generator);
+            default ->
+                    throw new DataException("Can not convert to JSON: " + value.getClass().getSimpleName());
+        }
+    }
+
+    private static void writeStruct(DataStruct struct, JsonGenerator generator) throws IOException {
+        if (struct.isNull()) {
+            generator.writeNull();
+            return;
+        }
+        var fields = struct.contents();
+        if (struct.type().schema() != null) {
+            // Typed structs write all required fields and the optional fields that are present
+            fields = new Struct<>();
+            for (final var field : struct.type().schema().fields()) {
+                if (field.required() || struct.containsKey(field.name()))
+                    fields.put(field.name(), struct.get(field.name()));
+            }
+        }
+        writeFields(fields, generator);
+    }
+
+    private static void writeMap(DataMap map, JsonGenerator generator) throws IOException {
+        if (map.isNull()) {
+            generator.writeNull();
+            return;
+        }
+        writeFields(map.contents(), generator);
+    }
+
+    private static void writeFields(Map<String, DataObject> fields, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        for (final var entry : fields.entrySet()) {
+            generator.writeFieldName(entry.getKey());
+            writeValue(entry.getValue(), generator);
+        }
+        generator.writeEndObject();
+    }
+
+    private static void writeList(DataList list, JsonGenerator generator) throws IOException {
+        if (list.isNull()) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartArray();
+        for (final var element : list) writeValue(element, generator);
+        generator.writeEndArray();
+    }
+
+    private static void writePrimitive(DataPrimitive<?> primitive, JsonGenerator generator) throws IOException {
+        switch (primitive.value()) {
+            case null -> generator.writeNull();
+            case Boolean val -> generator.writeBoolean(val);
+            case Byte val -> generator.writeNumber(val);
+            case Short val -> generator.writeNumber(val);
+            case Integer val -> generator.writeNumber(val);
+            case Long val -> generator.writeNumber(val);
+            case Float val -> generator.writeNumber(val);
+            case Double val -> generator.writeNumber(val);
+            case byte[] val -> generator.writeBinary(val);
+            case String val -> generator.writeString(val);
+            default ->
+                    throw new DataException("Can not convert to JSON: " + primitive.getClass().getSimpleName());
+        }
+    }
+}
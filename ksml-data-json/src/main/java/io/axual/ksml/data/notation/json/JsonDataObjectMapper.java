@@ -21,24 +21,21 @@ package io.axual.ksml.data.notation.json;
  */
 
 import io.axual.ksml.data.mapper.DataObjectMapper;
-import io.axual.ksml.data.mapper.NativeDataObjectMapper;
-import io.axual.ksml.data.notation.string.StringMapper;
 import io.axual.ksml.data.object.DataObject;
 import io.axual.ksml.data.type.DataType;
 
 /**
- * Maps between JSON text and KSML DataObject using a two-step process:
- * <ul>
- *   <li>JsonStringMapper to convert String <-> native Java object graph (Map/List/primitives)</li>
- *   <li>NativeDataObjectMapper to convert native graph <-> DataObject according to an expected DataType</li>
- * </ul>
+ * Maps between JSON text and KSML DataObject.
  *
- * <p>This mapper intentionally contains no business logic beyond delegating to these two mappers.
- * It is used by JSON notation components (eg. JsonSerde, JsonDataObjectConverter) as the String boundary.</p>
+ * <p>The conversion is done by a {@link JsonDataObjectCodec}, which streams JSON tokens straight into
+ * DataObjects and back, without building an intermediate JsonNode tree or native object graph.</p>
+ *
+ * <p>This mapper intentionally contains no business logic beyond delegating to the codec.
+ * It is used by JSON notation components (eg. JsonDataObjectConverter, JsonSchemaMapper) as the String boundary.</p>
  */
 public class JsonDataObjectMapper implements DataObjectMapper<String> {
-    private final StringMapper<Object> stringMapper;
-    private final NativeDataObjectMapper nativeMapper;
+    private static final JsonDataObjectCodec CODEC = new JsonDataObjectCodec();
+    private final boolean prettyPrint;
 
     /**
      * Creates a JSON DataObject mapper.
@@ -46,36 +43,29 @@ public class JsonDataObjectMapper implements DataObjectMapper<String> {
      * @param prettyPrint when true, JSON generated by {@link #fromDataObject(DataObject)} is formatted
      */
     public JsonDataObjectMapper(boolean prettyPrint) {
-        stringMapper = new JsonStringMapper(prettyPrint);
-        nativeMapper = new NativeDataObjectMapper();
+        this.prettyPrint = prettyPrint;
     }
 
     /**
      * Parses JSON text into a {@link DataObject} using the expected DataType for guidance.
      *
-     * <p>Flow: String -> native (JsonStringMapper) -> DataObject (NativeDataObjectMapper).</p>
-     *
      * @param expected the expected DataType (may be null)
      * @param value JSON text (may be null)
      * @return a DataObject representation, possibly DataNull when input is null
      */
     @Override
     public DataObject toDataObject(DataType expected, String value) {
-        var object = stringMapper.fromString(value);
-        return nativeMapper.toDataObject(expected, object);
+        return CODEC.toDataObject(expected, value);
     }
 
     /**
      * Serializes a {@link DataObject} to JSON text.
      *
-     * <p>Flow: DataObject -> native (NativeDataObjectMapper) -> String (JsonStringMapper).</p>
-     *
      * @param value DataObject to serialize (may be null)
      * @return JSON text or null
      */
     @Override
     public String fromDataObject(DataObject value) {
-        var object = nativeMapper.fromDataObject(value);
-        return stringMapper.toString(object);
+        return CODEC.toString(value, prettyPrint);
     }
 }
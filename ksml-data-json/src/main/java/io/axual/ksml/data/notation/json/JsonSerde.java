@@ -20,32 +20,82 @@ package io.axual.ksml.data.notation.json;
  * =========================LICENSE_END==================================
  */
 
-import io.axual.ksml.data.mapper.DataObjectMapper;
+import io.axual.ksml.data.exception.DataException;
 import io.axual.ksml.data.mapper.NativeDataObjectMapper;
-import io.axual.ksml.data.serde.StringSerde;
+import io.axual.ksml.data.object.DataObject;
 import io.axual.ksml.data.type.DataType;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.nio.ByteBuffer;
 
 /**
  * Kafka Serde for JSON using KSML DataObject mapping.
  *
- * <p>JsonSerde extends {@link StringSerde} and plugs in a {@link JsonDataObjectMapper} to
- * handle conversion between JSON text and KSML {@code DataObject}s at the serde boundary.
+ * <p>JsonSerde uses a {@link JsonDataObjectCodec} to convert between UTF-8 encoded JSON and KSML
+ * {@code DataObject}s at the serde boundary, without going through an intermediate String.
  * It validates inputs/outputs against an expected {@link DataType}.</p>
  *
  * <p>Usage: constructed by {@link JsonNotation#serde(DataType, boolean)} for supported
  * JSON data types (Struct/Map/List/Union of both).</p>
  */
-public class JsonSerde extends StringSerde {
-    /** The String-side mapper that handles JSON <-> DataObject mapping. */
-    private static final DataObjectMapper<String> STRING_MAPPER = new JsonDataObjectMapper(false);
+public class JsonSerde implements Serde<Object> {
+    /** The codec that handles JSON bytes <-> DataObject mapping. */
+    private static final JsonDataObjectCodec CODEC = new JsonDataObjectCodec();
+    private final NativeDataObjectMapper nativeMapper;
+    private final DataType expectedType;
 
     /**
      * Creates a JsonSerde for the given expected data type.
      *
-     * @param nativeMapper the native-to-DataObject mapper used before reaching the String boundary
+     * @param nativeMapper the native-to-DataObject mapper used to convert values before serialization
      * @param expectedType the expected data type to validate serialized/deserialized values against
      */
     public JsonSerde(NativeDataObjectMapper nativeMapper, DataType expectedType) {
-        super(nativeMapper, STRING_MAPPER, expectedType);
+        this.nativeMapper = nativeMapper;
+        this.expectedType = expectedType;
+    }
+
+    /**
+     * Provides a serializer that validates the input and writes it as JSON.
+     */
+    @Override
+    public Serializer<Object> serializer() {
+        return (topic, data) -> {
+            final var dataObject = nativeMapper.toDataObject(expectedType, data);
+            if (!expectedType.isAssignableFrom(dataObject).isAssignable()) {
+                throw new DataException("Incorrect type passed in: expected=" + expectedType + ", got " + dataObject.type());
+            }
+            return CODEC.toBytes(dataObject);
+        };
+    }
+
+    /**
+     * Provides a deserializer that parses JSON into a DataObject and validates it matches the
+     * expected DataType. Heap buffers handed over by the consumer are parsed in place.
+     */
+    @Override
+    public Deserializer<Object> deserializer() {
+        return new Deserializer<>() {
+            @Override
+            public Object deserialize(String topic, byte[] data) {
+                return check(CODEC.toDataObject(expectedType, data));
+            }
+
+            @Override
+            public Object deserialize(String topic, Headers headers, ByteBuffer data) {
+                if (data == null || !data.hasArray()) return Deserializer.super.deserialize(topic, headers, data);
+                return check(CODEC.toDataObject(expectedType, data.array(), data.arrayOffset() + data.position(), data.remaining()));
+            }
+        };
+    }
+
+    private DataObject check(DataObject dataObject) {
+        if (dataObject != null && !expectedType.isAssignableFrom(dataObject).isAssignable()) {
+            throw new DataException("Wrong type retrieved from state store: expected " + expectedType + ", got " + dataObject.type());
+        }
+        return dataObject;
     }
 }
@@ -0,0 +1,130 @@
+package io.axual.ksml.data.notation.json;
+
+/*-
+ * ========================LICENSE_START=================================
+ * KSML
+ * %%
+ * Copyright (C) 2021 - 2026 Axual B.V.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.axual.ksml.data.exception.DataException;
+import io.axual.ksml.data.mapper.NativeDataObjectMapper;
+import io.axual.ksml.data.object.DataLong;
+import io.axual.ksml.data.object.DataStruct;
+import io.axual.ksml.data.schema.ListSchema;
+import io.axual.ksml.data.schema.StructSchema;
+import io.axual.ksml.data.type.StructType;
+import io.axual.ksml.data.util.JsonNodeUtil;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static io.axual.ksml.data.schema.DataSchema.DOUBLE_SCHEMA;
+import static io.axual.ksml.data.schema.DataSchema.LONG_SCHEMA;
+import static io.axual.ksml.data.schema.DataSchema.STRING_SCHEMA;
+import static io.axual.ksml.data.schema.DataSchemaConstants.NO_TAG;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link JsonDataObjectCodec} verifying that streaming conversion gives the same results as the
+ * String -> native -> DataObject path it replaces.
+ */
+@DisplayName("JsonDataObjectCodec - streaming JSON <-> DataObject conversions")
+class JsonDataObjectCodecTest {
+    private static final String JSON = """
+            {"@meta":"m","id":42,"name":"x","tags":["a","b"],"score":1.5,"nested":{"n":null,"l":[1,2]},"extra":true}""";
+    private static final StructType TYPE = new StructType(StructSchema.builder()
+            .namespace("ns").name("Typed")
+            .field(new StructSchema.Field("id", LONG_SCHEMA, null, NO_TAG, true))
+            .field(new StructSchema.Field("name", STRING_SCHEMA, null, NO_TAG, true))
+            .field(new StructSchema.Field("tags", new ListSchema(STRING_SCHEMA), null, NO_TAG, false))
+            .field(new StructSchema.Field("score", DOUBLE_SCHEMA, null, NO_TAG, false))
+            .field(new StructSchema.Field("missing", STRING_SCHEMA, null, NO_TAG, true))
+            .build());
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final JsonDataObjectCodec codec = new JsonDataObjectCodec();
+    private final NativeDataObjectMapper nativeMapper = new NativeDataObjectMapper();
+
+    // The native path the codec replaces: JSON text <-> Jackson tree <-> native Map/List graph
+    private static Object parseNative(String json) throws JsonProcessingException {
+        return JsonNodeUtil.convertJsonNodeToNative(MAPPER.readTree(json));
+    }
+
+    private static String writeNative(Object value, boolean prettyPrint) throws JsonProcessingException {
+        final var tree = JsonNodeUtil.convertNativeToJsonNode(value);
+        return prettyPrint ? MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(tree) : MAPPER.writeValueAsString(tree);
+    }
+
+    @Test
+    @DisplayName("Parsing gives the same DataObject as the native mapper, with and without schema")
+    void parsesLikeNativeMapper() throws JsonProcessingException {
+        assertThat(codec.toDataObject(null, JSON))
+                .isEqualTo(nativeMapper.toDataObject(null, parseNative(JSON)));
+        assertThat(codec.toDataObject(JsonNotation.DEFAULT_TYPE, JSON))
+                .isEqualTo(nativeMapper.toDataObject(JsonNotation.DEFAULT_TYPE, parseNative(JSON)));
+
+        final var typed = codec.toDataObject(TYPE, JSON.getBytes(StandardCharsets.UTF_8));
+        assertThat(typed).isEqualTo(nativeMapper.toDataObject(TYPE, parseNative(JSON)));
+        assertThat(((DataStruct) typed).get("id")).isEqualTo(new DataLong(42L));
+    }
+
+    @Test
+    @DisplayName("Writing gives the same JSON as the native mapper, byte for byte")
+    void writesLikeNativeMapper() throws JsonProcessingException {
+        for (final var dataObject : List.of(codec.toDataObject(null, JSON), codec.toDataObject(TYPE, JSON))) {
+            final var expected = writeNative(nativeMapper.fromDataObject(dataObject), false);
+            assertThat(codec.toString(dataObject, false)).isEqualTo(expected);
+            assertThat(new String(codec.toBytes(dataObject), StandardCharsets.UTF_8)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("Pretty printing formats the output")
+    void prettyPrints() throws JsonProcessingException {
+        final var value = codec.toDataObject(null, JSON);
+        assertThat(codec.toString(value, true))
+                .isEqualTo(writeNative(nativeMapper.fromDataObject(value), true));
+    }
+
+    @Test
+    @DisplayName("Heap buffers are deserialized in place, honouring their position")
+    void deserializesByteBuffers() {
+        final var serde = new JsonSerde(nativeMapper, new StructType());
+        final var bytes = ("xx" + JSON).getBytes(StandardCharsets.UTF_8);
+        final var buffer = ByteBuffer.wrap(bytes).position(2);
+        assertThat(serde.deserializer().deserialize("topic", null, buffer))
+                .isEqualTo(codec.toDataObject(null, JSON));
+    }
+
+    @Test
+    @DisplayName("Only JSON objects and arrays are accepted as documents")
+    void rejectsScalarDocuments() {
+        assertThatThrownBy(() -> codec.toDataObject(null, "42"))
+                .isInstanceOf(DataException.class)
+                .hasMessageContaining("Could not parse");
+        assertThatThrownBy(() -> codec.toDataObject(null, "{\"a\":"))
+                .isInstanceOf(DataException.class)
+                .hasMessageContaining("Could not parse");
+    }
+}
@@ -122,7 +122,7 @@ class JsonDataObjectMapperTest {
         assertThat(data).isInstanceOf(DataNull.class);
         assertThat(((DataNull) data).value()).isNull();
 
-        // Back to JSON string: JsonStringMapper returns null for null native value
+        // Back to JSON string: null values are written as a null string
         var jsonOut = mapper.fromDataObject(data);
         assertThat(jsonOut).isNull();
     }
@@ -116,7 +116,7 @@ class JsonSchemaDataObjectMapperTest {
         assertThat(data).isInstanceOf(DataNull.class);
         assertThat(((DataNull) data).value()).isNull();
 
-        // Back to JSON node: JsonStringMapper returns null for null native value
+        // Back to JSON node: null values are written as a null node
         assertThat(mapper.fromDataObject(data))
                 .isNotNull()
                 .asInstanceOf(InstanceOfAssertFactories.type(JsonNode.class))
@@ -145,7 +145,7 @@ class JsonSchemaDataObjectMapperTest {
                 .extracting(DataPrimitive::value)
                 .isEqualTo(expectedValue);
 
-        // Back to JSON node: JsonStringMapper returns null for null native value
+        // Back to JSON node: null values are written as a null node
         assertThat(mapper.fromDataObject(data)).isEqualTo(root);
 
     }
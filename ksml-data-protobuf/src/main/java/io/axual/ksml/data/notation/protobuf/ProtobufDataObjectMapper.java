@@ -36,12 +36,40 @@ import io.axual.ksml.data.type.StructType;
 import io.axual.ksml.data.util.ConvertUtil;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 @Slf4j
 public class ProtobufDataObjectMapper extends NativeDataObjectMapper {
     private static final DataTypeDataSchemaMapper DATA_TYPE_MAPPER = new DataTypeDataSchemaMapper();
+    // Upper bound for the plan cache, which is cleared when full to protect against descriptors created per message
+    private static final int MAX_MESSAGE_PLANS = 1000;
     private final ProtobufFileElementSchemaMapper elementSchemaMapper;
     private final ProtobufFileElementDescriptorMapper descriptorElementMapper;
     private final ConvertUtil convertUtil;
+    // Conversion plans per message descriptor and expected schema, so the KSML schema is derived once per descriptor
+    private final Map<PlanKey, MessagePlan> messagePlans = new ConcurrentHashMap<>();
+
+    // Descriptors and schemas are compared by identity, which avoids hashing the full schema for every message
+    private record PlanKey(Descriptors.Descriptor descriptor, StructSchema expected) {
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof PlanKey key && descriptor == key.descriptor && expected == key.expected;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(descriptor) + System.identityHashCode(expected);
+        }
+    }
+
+    // The name of the struct field a message field is stored in, which is the oneOf name for oneOf members, and its
+    // expected type, which is null when the field is not part of the schema
+    private record FieldPlan(String name, DataType expectedType) {
+    }
+
+    private record MessagePlan(StructSchema schema, FieldPlan[] fields) {
+    }
 
     public ProtobufDataObjectMapper(ProtobufFileElementDescriptorMapper descriptorElementMapper) {
         this(descriptorElementMapper, new NativeDataObjectMapper(), new DataTypeDataSchemaMapper());
@@ -64,6 +92,33 @@ public class ProtobufDataObjectMapper extends NativeDataObjectMapper {
 
     private DataObject convertMessageToDataObject(StructSchema expected, Message message) {
         final var descriptor = message.getDescriptorForType();
+        final var plan = messagePlan(descriptor, expected);
+        final var result = new DataStruct(plan.schema());
+
+        for (final var field : message.getAllFields().entrySet()) {
+            var val = field.getValue();
+            if (val instanceof Descriptors.EnumValueDescriptor enumValue) val = enumValue.getName();
+            final var fieldPlan = field.getKey().isExtension()
+                    ? fieldPlan(field.getKey(), plan.schema())
+                    : plan.fields()[field.getKey().getIndex()];
+            if (fieldPlan.expectedType() == null) {
+                throw new SchemaException("PROTOBUF field '" + fieldPlan.name() + "' is not part of schema " + plan.schema().name());
+            }
+            final var dataObject = convertUtil.convert(null, null, fieldPlan.expectedType(), toDataObject(val), false);
+            result.put(fieldPlan.name(), dataObject);
+        }
+        return result;
+    }
+
+    private MessagePlan messagePlan(Descriptors.Descriptor descriptor, StructSchema expected) {
+        final var key = new PlanKey(descriptor, expected);
+        final var result = messagePlans.get(key);
+        if (result != null) return result;
+        if (messagePlans.size() >= MAX_MESSAGE_PLANS) messagePlans.clear();
+        return messagePlans.computeIfAbsent(key, k -> createMessagePlan(descriptor, expected));
+    }
+
+    private MessagePlan createMessagePlan(Descriptors.Descriptor descriptor, StructSchema expected) {
         final var namespace = descriptor.getFile().getPackage();
         final var name = descriptor.getName();
         final var fileElement = descriptorElementMapper.toFileElement(descriptor);
@@ -82,18 +137,18 @@ public class ProtobufDataObjectMapper extends NativeDataObjectMapper {
             resultSchema = schema;
         }
 
-        final var result = new DataStruct(resultSchema);
-
-        for (final var field : message.getAllFields().entrySet()) {
-            var val = field.getValue();
-            if (val instanceof Descriptors.EnumValueDescriptor enumValue) val = enumValue.getName();
-            final var parentOneOf = field.getKey().getContainingOneof();
-            final var fieldName = parentOneOf != null ? parentOneOf.getName() : field.getKey().getName();
-            final var expectedType = DATA_TYPE_MAPPER.fromDataSchema(resultSchema.field(fieldName).schema());
-            final var dataObject = convertUtil.convert(null, null, expectedType, toDataObject(val), false);
-            result.put(fieldName, dataObject);
+        final var fields = new FieldPlan[descriptor.getFields().size()];
+        for (final var field : descriptor.getFields()) {
+            fields[field.getIndex()] = fieldPlan(field, resultSchema);
         }
-        return result;
+        return new MessagePlan(resultSchema, fields);
+    }
+
+    private static FieldPlan fieldPlan(Descriptors.FieldDescriptor field, StructSchema schema) {
+        final var parentOneOf = field.getContainingOneof();
+        final var fieldName = parentOneOf != null ? parentOneOf.getName() : field.getName();
+        final var dataField = schema.field(fieldName);
+        return new FieldPlan(fieldName, dataField != null ? DATA_TYPE_MAPPER.fromDataSchema(dataField.schema()) : null);
     }
 
     @Override
@@ -23,8 +23,11 @@ package io.axual.ksml.data.notation.protobuf;
 import com.google.protobuf.DescriptorProtos;
 import com.google.protobuf.Descriptors;
 import com.google.protobuf.DynamicMessage;
+import com.squareup.wire.schema.Location;
 import com.squareup.wire.schema.internal.parser.ProtoFileElement;
+import com.squareup.wire.schema.internal.parser.ProtoParser;
 import io.axual.ksml.data.exception.DataException;
+import io.axual.ksml.data.object.DataInteger;
 import io.axual.ksml.data.object.DataList;
 import io.axual.ksml.data.object.DataStruct;
 import io.axual.ksml.data.schema.DataSchema;
@@ -36,6 +39,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
@@ -174,4 +178,38 @@ class ProtobufDataObjectMapperTest {
                 .hasMessageContaining("does not match any branch")
                 .hasMessageContaining("'u'");
     }
+
+    @Test
+    @DisplayName("toDataObject: the schema of a message type is derived once and reused for later messages")
+    void toDataObject_reusesSchemaPerDescriptor() {
+        final var fileElement = ProtoParser.Companion.parse(Location.get(""), """
+                syntax = "proto3";
+                message TinyMessage {
+                  int32 n = 1;
+                }
+                """);
+        final var toFileElementCalls = new AtomicInteger();
+        final var countingDescriptorMapper = new ProtobufFileElementDescriptorMapper() {
+            @Override
+            public Descriptors.FileDescriptor toDescriptor(String namespace, String name, ProtoFileElement fileElement) {
+                return messageDescriptor.getFile();
+            }
+
+            @Override
+            public ProtoFileElement toFileElement(Descriptors.Descriptor descriptor) {
+                toFileElementCalls.incrementAndGet();
+                return fileElement;
+            }
+        };
+        final var countingMapper = new ProtobufDataObjectMapper(countingDescriptorMapper);
+        final var intField = messageDescriptor.findFieldByName("n");
+
+        final var first = (DataStruct) countingMapper.toDataObject(DynamicMessage.newBuilder(messageDescriptor).setField(intField, 1).build());
+        final var second = (DataStruct) countingMapper.toDataObject(DynamicMessage.newBuilder(messageDescriptor).setField(intField, 2).build());
+
+        assertThat(first.get("n")).isEqualTo(new DataInteger(1));
+        assertThat(second.get("n")).isEqualTo(new DataInteger(2));
+        assertThat(second.type().schema()).isSameAs(first.type().schema());
+        assertThat(toFileElementCalls).hasValue(1);
+    }
 }
@@ -22,6 +22,7 @@ package io.axual.ksml.data.notation.xml;
 
 import com.ctc.wstx.stax.WstxInputFactory;
 import com.ctc.wstx.stax.WstxOutputFactory;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.dataformat.xml.XmlFactory;
 import com.fasterxml.jackson.dataformat.xml.XmlMapper;
@@ -29,16 +30,16 @@ import com.fasterxml.jackson.dataformat.xml.ser.ToXmlGenerator;
 import io.axual.ksml.data.exception.DataException;
 import io.axual.ksml.data.notation.string.StringMapper;
 import io.axual.ksml.data.util.JsonNodeUtil;
+import io.axual.ksml.data.util.WriterUtil;
 
 import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLOutputFactory;
 import java.io.IOException;
-import java.io.StringWriter;
 
 public class XmlStringMapper implements StringMapper<Object> {
     private final XmlMapper mapper;
-    private final String rootName;
-    private final boolean prettyPrint;
+    // ObjectWriters are immutable, so the configured writer is created once instead of on every call
+    private final ObjectWriter writer;
 
     public XmlStringMapper(String rootName, boolean prettyPrint) {
         final var inputFactory = new WstxInputFactory();
@@ -46,10 +47,12 @@ public class XmlStringMapper implements StringMapper<Object> {
         final var outputFactory = new WstxOutputFactory();
         outputFactory.setProperty(XMLOutputFactory.IS_REPAIRING_NAMESPACES, Boolean.TRUE);
         mapper = new XmlMapper(new XmlFactory(new WstxInputFactory(), outputFactory));
-        this.rootName = rootName;
         if (prettyPrint) mapper.configure(SerializationFeature.INDENT_OUTPUT, true);
         mapper.configure(ToXmlGenerator.Feature.WRITE_XML_1_1, true);
-        this.prettyPrint = prettyPrint;
+        final var objectWriter = prettyPrint ? mapper.writerWithDefaultPrettyPrinter() : mapper.writer();
+        writer = objectWriter
+                .withRootName(rootName)
+                .without(SerializationFeature.INDENT_OUTPUT);
     }
 
     @Override
@@ -66,13 +69,8 @@ public class XmlStringMapper implements StringMapper<Object> {
     @Override
     public String toString(Object value) {
         if (value == null) return null; // Allow null as native input, return null string as output
-        try (final var stringWriter = new StringWriter()) {
-            final var objectWriter = prettyPrint ? mapper.writerWithDefaultPrettyPrinter() : mapper.writer();
-            objectWriter
-                    .withRootName(rootName)
-                    .without(SerializationFeature.INDENT_OUTPUT)
-                    .writeValue(stringWriter, value);
-            return stringWriter.toString();
+        try {
+            return WriterUtil.writeToString(target -> writer.writeValue(target, value));
         } catch (IOException e) {
             throw new DataException("Can not convert object to JSON string: " + value, e);
         }
@@ -122,7 +122,7 @@ public class DataTypeDataSchemaMapper implements DataSchemaMapper<DataType> {
             case MapSchema mapSchema -> new MapType(fromDataSchema(mapSchema.valueSchema()));
             // Process TupleSchema first, since it inherits from StructSchema
             case TupleSchema tupleSchema -> new TupleType(convertFieldsToSubTypes(tupleSchema.fields()));
-            case StructSchema structSchema -> new StructType(structSchema);
+            case StructSchema structSchema -> StructType.of(structSchema);
             case UnionSchema unionSchema -> {
                 var members = new UnionType.Member[unionSchema.members().length];
                 for (int index = 0; index < unionSchema.members().length; index++) {
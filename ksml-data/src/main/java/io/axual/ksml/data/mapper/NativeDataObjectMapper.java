@@ -116,7 +116,7 @@ public class NativeDataObjectMapper implements DataObjectMapper<Object> {
         if (value == null) return ConvertUtil.convertNullToDataObject(expected);
         if (value instanceof DataObject val) return val;
         if (value instanceof Boolean val && (expected == null || expected == DataType.UNKNOWN || expected == DataBoolean.DATATYPE)) {
-            return new DataBoolean(val);
+            return DataBoolean.of(val);
         }
         if (value instanceof Byte val) return convertByteToDataObject(val, expected);
         if (value instanceof Short val) return convertShortToDataObject(val, expected);
@@ -125,7 +125,7 @@ public class NativeDataObjectMapper implements DataObjectMapper<Object> {
         if (value instanceof Double val) return convertDoubleToDataObject(val, expected);
         if (value instanceof Float val) return convertFloatToDataObject(val, expected);
         if (value instanceof byte[] val) return convertByteArrayToDataObject(val, expected);
-        if (value instanceof CharSequence val) return new DataString(val.toString());
+        if (value instanceof CharSequence val) return DataString.of(val.toString());
         if (value instanceof Tuple<?> val) return convertTupleToDataTuple(val);
         if (value instanceof List<?> val) return convertListToDataObject(val, expected);
         if (value instanceof Map<?, ?> val) return convertMapToDataObject(val, expected);
@@ -135,53 +135,53 @@ public class NativeDataObjectMapper implements DataObjectMapper<Object> {
 
     private DataObject convertByteToDataObject(Byte val, DataType expected) {
         if (expected == null || expected == DataType.UNKNOWN || expected == DataByte.DATATYPE)
-            return new DataByte(val);
-        if (expected == DataShort.DATATYPE) return new DataShort(val.shortValue());
-        if (expected == DataInteger.DATATYPE) return new DataInteger(val.intValue());
-        if (expected == DataLong.DATATYPE) return new DataLong(val.longValue());
+            return DataByte.of(val);
+        if (expected == DataShort.DATATYPE) return DataShort.of(val.shortValue());
+        if (expected == DataInteger.DATATYPE) return DataInteger.of(val.intValue());
+        if (expected == DataLong.DATATYPE) return DataLong.of(val.longValue());
         if (expected == DataFloat.DATATYPE) return new DataFloat(val.floatValue());
         if (expected == DataDouble.DATATYPE) return new DataDouble(val.doubleValue());
-        return new DataByte(val);
+        return DataByte.of(val);
     }
 
     private DataObject convertShortToDataObject(Short val, DataType expected) {
-        if (expected == DataByte.DATATYPE) return new DataByte(NumericRangeChecker.convertLongToByte(val.longValue()));
+        if (expected == DataByte.DATATYPE) return DataByte.of(NumericRangeChecker.convertLongToByte(val.longValue()));
         if (expected == null || expected == DataType.UNKNOWN || expected == DataShort.DATATYPE)
-            return new DataShort(val);
-        if (expected == DataInteger.DATATYPE) return new DataInteger(val.intValue());
-        if (expected == DataLong.DATATYPE) return new DataLong(val.longValue());
+            return DataShort.of(val);
+        if (expected == DataInteger.DATATYPE) return DataInteger.of(val.intValue());
+        if (expected == DataLong.DATATYPE) return DataLong.of(val.longValue());
         if (expected == DataFloat.DATATYPE) return new DataFloat(val.floatValue());
         if (expected == DataDouble.DATATYPE) return new DataDouble(val.doubleValue());
-        return new DataShort(val);
+        return DataShort.of(val);
     }
 
     private DataObject convertIntegerToDataObject(Integer val, DataType expected) {
-        if (expected == DataByte.DATATYPE) return new DataByte(NumericRangeChecker.convertLongToByte(val.longValue()));
-        if (expected == DataShort.DATATYPE) return new DataShort(NumericRangeChecker.convertLongToShort(val.longValue()));
+        if (expected == DataByte.DATATYPE) return DataByte.of(NumericRangeChecker.convertLongToByte(val.longValue()));
+        if (expected == DataShort.DATATYPE) return DataShort.of(NumericRangeChecker.convertLongToShort(val.longValue()));
         if (expected == null || expected == DataType.UNKNOWN || expected == DataInteger.DATATYPE)
-            return new DataInteger(val);
-        if (expected == DataLong.DATATYPE) return new DataLong(val.longValue());
+            return DataInteger.of(val);
+        if (expected == DataLong.DATATYPE) return DataLong.of(val.longValue());
         if (expected == DataFloat.DATATYPE) return new DataFloat(val.floatValue());
         if (expected == DataDouble.DATATYPE) return new DataDouble(val.doubleValue());
-        return new DataInteger(val);
+        return DataInteger.of(val);
     }
 
     private DataObject convertLongToDataObject(Long val, DataType expected) {
-        if (expected == DataByte.DATATYPE) return new DataByte(NumericRangeChecker.convertLongToByte(val));
-        if (expected == DataShort.DATATYPE) return new DataShort(NumericRangeChecker.convertLongToShort(val));
-        if (expected == DataInteger.DATATYPE) return new DataInteger(NumericRangeChecker.convertLongToInt(val));
+        if (expected == DataByte.DATATYPE) return DataByte.of(NumericRangeChecker.convertLongToByte(val));
+        if (expected == DataShort.DATATYPE) return DataShort.of(NumericRangeChecker.convertLongToShort(val));
+        if (expected == DataInteger.DATATYPE) return DataInteger.of(NumericRangeChecker.convertLongToInt(val));
         if (expected == null || expected == DataType.UNKNOWN || expected == DataLong.DATATYPE)
-            return new DataLong(val);
+            return DataLong.of(val);
         if (expected == DataFloat.DATATYPE) return new DataFloat(val.floatValue());
         if (expected == DataDouble.DATATYPE) return new DataDouble(val.doubleValue());
-        return new DataLong(val);
+        return DataLong.of(val);
     }
 
     private DataObject convertDoubleToDataObject(Double val, DataType expected) {
-        if (expected == DataByte.DATATYPE) return new DataByte(NumericRangeChecker.convertDoubleToByte(val));
-        if (expected == DataShort.DATATYPE) return new DataShort(NumericRangeChecker.convertDoubleToShort(val));
-        if (expected == DataInteger.DATATYPE) return new DataInteger(NumericRangeChecker.convertDoubleToInt(val));
-        if (expected == DataLong.DATATYPE) return new DataLong(NumericRangeChecker.convertDoubleToLong(val));
+        if (expected == DataByte.DATATYPE) return DataByte.of(NumericRangeChecker.convertDoubleToByte(val));
+        if (expected == DataShort.DATATYPE) return DataShort.of(NumericRangeChecker.convertDoubleToShort(val));
+        if (expected == DataInteger.DATATYPE) return DataInteger.of(NumericRangeChecker.convertDoubleToInt(val));
+        if (expected == DataLong.DATATYPE) return DataLong.of(NumericRangeChecker.convertDoubleToLong(val));
         if (expected == null || expected == DataType.UNKNOWN || expected == DataDouble.DATATYPE)
             return new DataDouble(val);
         if (expected == DataFloat.DATATYPE) return new DataFloat(NumericRangeChecker.convertDoubleToFloat(val));
@@ -189,10 +189,10 @@ public class NativeDataObjectMapper implements DataObjectMapper<Object> {
     }
 
     private DataObject convertFloatToDataObject(Float val, DataType expected) {
-        if (expected == DataByte.DATATYPE) return new DataByte(NumericRangeChecker.convertDoubleToByte(val.doubleValue()));
-        if (expected == DataShort.DATATYPE) return new DataShort(NumericRangeChecker.convertDoubleToShort(val.doubleValue()));
-        if (expected == DataInteger.DATATYPE) return new DataInteger(NumericRangeChecker.convertDoubleToInt(val.doubleValue()));
-        if (expected == DataLong.DATATYPE) return new DataLong(NumericRangeChecker.convertDoubleToLong(val.doubleValue()));
+        if (expected == DataByte.DATATYPE) return DataByte.of(NumericRangeChecker.convertDoubleToByte(val.doubleValue()));
+        if (expected == DataShort.DATATYPE) return DataShort.of(NumericRangeChecker.convertDoubleToShort(val.doubleValue()));
+        if (expected == DataInteger.DATATYPE) return DataInteger.of(NumericRangeChecker.convertDoubleToInt(val.doubleValue()));
+        if (expected == DataLong.DATATYPE) return DataLong.of(NumericRangeChecker.convertDoubleToLong(val.doubleValue()));
         if (expected == DataDouble.DATATYPE) return new DataDouble(val.doubleValue());
         if (expected == null || expected == DataType.UNKNOWN || expected == DataFloat.DATATYPE)
             return new DataFloat(val);
@@ -279,8 +279,8 @@ public class NativeDataObjectMapper implements DataObjectMapper<Object> {
     protected DataType inferDataTypeFromNativeMap(Map<?, ?> map, DataSchema expected) {
         if (expected instanceof MapSchema mapSchema)
             return new MapType(DATA_TYPE_DATA_SCHEMA_MAPPER.fromDataSchema(mapSchema.valueSchema()));
-        if (expected instanceof StructSchema structSchema) return new StructType(structSchema);
-        return new StructType();
+        if (expected instanceof StructSchema structSchema) return StructType.of(structSchema);
+        return StructType.of(null);
     }
 
     /**
@@ -314,7 +314,7 @@ public class NativeDataObjectMapper implements DataObjectMapper<Object> {
     protected DataList convertByteArrayToList(byte[] bytes, DataType valueType) {
         final var result = new DataList(valueType);
         for (var index = 0; index < bytes.length; index++) {
-            result.add(new DataByte(bytes[index]));
+            result.add(DataByte.of(bytes[index]));
         }
         return result;
     }
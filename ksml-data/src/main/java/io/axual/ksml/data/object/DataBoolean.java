@@ -42,6 +42,16 @@ public class DataBoolean extends DataPrimitive<Boolean> {
      */
     public static final SimpleType DATATYPE = new SimpleType(Boolean.class, DataSchemaConstants.BOOLEAN_TYPE);
 
+    /**
+     * Shared instance holding {@code true}.
+     */
+    public static final DataBoolean TRUE = new DataBoolean(true);
+    /**
+     * Shared instance holding {@code false}.
+     */
+    public static final DataBoolean FALSE = new DataBoolean(false);
+    private static final DataBoolean NULL = new DataBoolean();
+
     /**
      * Constructs a {@code DataBoolean} instance with a null value.
      * <p>This constructor creates a {@code DataBoolean} that does not hold any actual
@@ -62,4 +72,15 @@ public class DataBoolean extends DataPrimitive<Boolean> {
     public DataBoolean(Boolean value) {
         super(DATATYPE, value);
     }
+
+    /**
+     * Returns the shared {@code DataBoolean} instance for the specified value.
+     *
+     * @param value The {@code Boolean} value to encapsulate, or {@code null} to represent a null value.
+     * @return a shared {@code DataBoolean} holding the value.
+     */
+    public static DataBoolean of(Boolean value) {
+        if (value == null) return NULL;
+        return value ? TRUE : FALSE;
+    }
 }
@@ -42,6 +42,15 @@ public class DataByte extends DataPrimitive<Byte> {
      */
     public static final SimpleType DATATYPE = new SimpleType(Byte.class, DataSchemaConstants.BYTE_TYPE);
 
+    // Shared instances for the null value and all byte values
+    private static final DataByte NULL = new DataByte();
+    private static final DataByte[] CACHE = new DataByte[256];
+
+    static {
+        for (int index = 0; index < CACHE.length; index++)
+            CACHE[index] = new DataByte((byte) (index + Byte.MIN_VALUE));
+    }
+
     /**
      * Constructs a {@code DataByte} instance with a null value.
      * <p>This constructor creates a {@code DataByte} that does not hold any actual
@@ -62,4 +71,15 @@ public class DataByte extends DataPrimitive<Byte> {
     public DataByte(Byte value) {
         super(DATATYPE, value);
     }
+
+    /**
+     * Returns a {@code DataByte} for the specified value. All byte values are served from a set of shared instances.
+     *
+     * @param value The {@code Byte} value to encapsulate, or {@code null} to represent a null value.
+     * @return a {@code DataByte} holding the value.
+     */
+    public static DataByte of(Byte value) {
+        if (value == null) return NULL;
+        return CACHE[value - Byte.MIN_VALUE];
+    }
 }
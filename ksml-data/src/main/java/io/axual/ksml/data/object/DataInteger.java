@@ -42,6 +42,17 @@ public class DataInteger extends DataPrimitive<Integer> {
      */
     public static final SimpleType DATATYPE = new SimpleType(Integer.class, DataSchemaConstants.INTEGER_TYPE);
 
+    // Shared instances for the null value and the most common small values
+    private static final DataInteger NULL = new DataInteger();
+    private static final int CACHE_LOW = -128;
+    private static final int CACHE_HIGH = 1023;
+    private static final DataInteger[] CACHE = new DataInteger[CACHE_HIGH - CACHE_LOW + 1];
+
+    static {
+        for (int index = 0; index < CACHE.length; index++)
+            CACHE[index] = new DataInteger(index + CACHE_LOW);
+    }
+
     /**
      * Constructs a {@code DataInteger} instance with a null value.
      * <p>This constructor creates a {@code DataInteger} that does not hold any actual
@@ -62,4 +73,17 @@ public class DataInteger extends DataPrimitive<Integer> {
     public DataInteger(Integer value) {
         super(DATATYPE, value);
     }
+
+    /**
+     * Returns a {@code DataInteger} for the specified value. Null and small values are served from a set of shared
+     * instances, other values are wrapped in a new instance.
+     *
+     * @param value The {@code Integer} value to encapsulate, or {@code null} to represent a null value.
+     * @return a {@code DataInteger} holding the value.
+     */
+    public static DataInteger of(Integer value) {
+        if (value == null) return NULL;
+        if (value >= CACHE_LOW && value <= CACHE_HIGH) return CACHE[value - CACHE_LOW];
+        return new DataInteger(value);
+    }
 }
@@ -42,6 +42,17 @@ public class DataLong extends DataPrimitive<Long> {
      */
     public static final SimpleType DATATYPE = new SimpleType(Long.class, DataSchemaConstants.LONG_TYPE);
 
+    // Shared instances for the null value and the most common small values
+    private static final DataLong NULL = new DataLong();
+    private static final int CACHE_LOW = -128;
+    private static final int CACHE_HIGH = 1023;
+    private static final DataLong[] CACHE = new DataLong[CACHE_HIGH - CACHE_LOW + 1];
+
+    static {
+        for (int index = 0; index < CACHE.length; index++)
+            CACHE[index] = new DataLong((long) (index + CACHE_LOW));
+    }
+
     /**
      * Constructs a {@code DataLong} instance with a null value.
      * <p>This constructor creates a {@code DataLong} that does not hold any actual
@@ -62,4 +73,17 @@ public class DataLong extends DataPrimitive<Long> {
     public DataLong(Long value) {
         super(DATATYPE, value);
     }
+
+    /**
+     * Returns a {@code DataLong} for the specified value. Null and small values are served from a set of shared
+     * instances, other values are wrapped in a new instance.
+     *
+     * @param value The {@code Long} value to encapsulate, or {@code null} to represent a null value.
+     * @return a {@code DataLong} holding the value.
+     */
+    public static DataLong of(Long value) {
+        if (value == null) return NULL;
+        if (value >= CACHE_LOW && value <= CACHE_HIGH) return CACHE[(int) (value - CACHE_LOW)];
+        return new DataLong(value);
+    }
 }
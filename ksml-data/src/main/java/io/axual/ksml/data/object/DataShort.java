@@ -42,6 +42,17 @@ public class DataShort extends DataPrimitive<Short> {
      */
     public static final SimpleType DATATYPE = new SimpleType(Short.class, DataSchemaConstants.SHORT_TYPE);
 
+    // Shared instances for the null value and the most common small values
+    private static final DataShort NULL = new DataShort();
+    private static final int CACHE_LOW = -128;
+    private static final int CACHE_HIGH = 1023;
+    private static final DataShort[] CACHE = new DataShort[CACHE_HIGH - CACHE_LOW + 1];
+
+    static {
+        for (int index = 0; index < CACHE.length; index++)
+            CACHE[index] = new DataShort((short) (index + CACHE_LOW));
+    }
+
     /**
      * Constructs a {@code DataShort} instance with a null value.
      * <p>This constructor creates a {@code DataShort} that does not hold any actual
@@ -62,4 +73,17 @@ public class DataShort extends DataPrimitive<Short> {
     public DataShort(Short value) {
         super(DATATYPE, value);
     }
+
+    /**
+     * Returns a {@code DataShort} for the specified value. Null and small values are served from a set of shared
+     * instances, other values are wrapped in a new instance.
+     *
+     * @param value The {@code Short} value to encapsulate, or {@code null} to represent a null value.
+     * @return a {@code DataShort} holding the value.
+     */
+    public static DataShort of(Short value) {
+        if (value == null) return NULL;
+        if (value >= CACHE_LOW && value <= CACHE_HIGH) return CACHE[value - CACHE_LOW];
+        return new DataShort(value);
+    }
 }
@@ -44,6 +44,12 @@ public class DataString extends DataPrimitive<String> {
      */
     public static final SimpleType DATATYPE = new SimpleType(String.class, DataSchemaConstants.STRING_TYPE);
 
+    /**
+     * Shared instance holding the empty string.
+     */
+    public static final DataString EMPTY = new DataString("");
+    private static final DataString NULL = new DataString();
+
     /**
      * Constructs a {@code DataString} instance with a null value.
      * <p>This constructor creates a {@code DataString} that does not hold any actual
@@ -85,6 +91,20 @@ public class DataString extends DataPrimitive<String> {
         return value != null ? new DataString(value) : null;
     }
 
+    /**
+     * Returns a {@code DataString} for the specified value. Null and empty strings are served from shared instances.
+     *
+     * <p>Unlike {@link #from(String)}, a {@code null} input results in a {@code DataString} representing a null
+     * value.</p>
+     *
+     * @param value The {@code String} value to encapsulate, or {@code null} to represent a null value.
+     * @return a {@code DataString} holding the value.
+     */
+    public static DataString of(String value) {
+        if (value == null) return NULL;
+        return value.isEmpty() ? EMPTY : new DataString(value);
+    }
+
     @Override
     public Equality equals(Object other, EqualityFlags flags) {
         if (other instanceof String str && str.equals(value())) return Equality.equal();
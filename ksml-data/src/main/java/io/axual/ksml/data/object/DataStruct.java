@@ -29,7 +29,9 @@ import io.axual.ksml.data.type.StructType;
 import io.axual.ksml.data.util.EqualUtil;
 import io.axual.ksml.data.util.JavaValuePrinter;
 import io.axual.ksml.data.util.ValuePrinter;
+import io.axual.ksml.data.value.IndexedStruct;
 import io.axual.ksml.data.value.Struct;
+import io.axual.ksml.data.value.StructLayout;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
@@ -56,6 +58,8 @@ import static io.axual.ksml.data.util.EqualUtil.typeNotEqual;
  *   <li>Schema-driven validation and type safety through {@link StructType} and {@link StructSchema}.</li>
  *   <li>Helper methods for safely retrieving and manipulating key-value entries.</li>
  *   <li>Allows nullability for struct representation, catering to scenarios where absence of content needs clear handling.</li>
+ *   <li>Compact storage for structs with a schema: values of schema fields are kept in an array, indexed through
+ *       the {@link StructLayout} shared by all structs of that schema.</li>
  * </ul>
  *
  * <p>This implementation ensures consistent ordering of keys and maintains safety through its encapsulated operations.</p>
@@ -66,9 +70,10 @@ public class DataStruct implements DataObject {
     private static final ValuePrinter VALUE_PRINTER = new JavaValuePrinter();
 
     /**
-     * Represents the actual key-value pair data of the struct.
+     * Represents the actual key-value pair data of the struct. This is an {@link IndexedStruct} for structs with a
+     * schema and a {@link Struct} otherwise. Both iterate their keys in the same order.
      */
-    private final Struct<DataObject> contents;
+    private final Map<String, DataObject> contents;
 
     /**
      * The type of the struct, represented as a {@link StructType}.
@@ -118,8 +123,14 @@ public class DataStruct implements DataObject {
      * @param isNull If {@code true}, the content is considered null.
      */
     public DataStruct(StructSchema schema, boolean isNull) {
-        contents = !isNull ? new Struct<>() : null;
-        type = new StructType(schema);
+        type = StructType.of(schema);
+        contents = !isNull ? createContents(type.schema()) : null;
+    }
+
+    private static Map<String, DataObject> createContents(StructSchema schema) {
+        if (schema == null) return new Struct<>();
+        final var layout = schema.layout();
+        return layout.size() > 0 ? new IndexedStruct<>(layout) : new Struct<>();
     }
 
     /**
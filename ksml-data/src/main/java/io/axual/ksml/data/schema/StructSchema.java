@@ -25,8 +25,11 @@ import io.axual.ksml.data.compare.Assignable;
 import io.axual.ksml.data.compare.DataEquals;
 import io.axual.ksml.data.compare.Equality;
 import io.axual.ksml.data.compare.EqualityFlags;
+import io.axual.ksml.data.mapper.DataSchemaMapper;
 import io.axual.ksml.data.object.DataObject;
+import io.axual.ksml.data.type.StructType;
 import io.axual.ksml.data.util.EqualUtil;
+import io.axual.ksml.data.value.StructLayout;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -38,6 +41,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static io.axual.ksml.data.schema.DataSchemaConstants.NO_TAG;
 import static io.axual.ksml.data.schema.DataSchemaFlag.IGNORE_NAMED_SCHEMA_DOC;
@@ -326,6 +330,24 @@ public class StructSchema extends NamedSchema {
     @Getter
     private final DataSchema additionalFieldsSchema;
 
+    /**
+     * The shared key table for structs that follow this schema, created on first use.
+     */
+    @EqualsAndHashCode.Exclude
+    private StructLayout layout;
+
+    /**
+     * The shared data type for structs that follow this schema, created on first use.
+     */
+    @EqualsAndHashCode.Exclude
+    private StructType structType;
+
+    /**
+     * Schemas that mappers created from this schema, such as the AVRO schema of a notation, per mapper instance.
+     */
+    @EqualsAndHashCode.Exclude
+    private final Map<DataSchemaMapper<?>, Object> mappedSchemas = new ConcurrentHashMap<>();
+
     /**
      * Copy constructor for creating a new {@code StructSchema} based on an existing one.
      * <p>
@@ -429,6 +451,49 @@ public class StructSchema extends NamedSchema {
         return fieldsByName.get(name);
     }
 
+    /**
+     * Returns the key table that {@link io.axual.ksml.data.object.DataStruct} instances of this schema use to store
+     * their fields by index. The layout is immutable, so it is safe to create it more than once concurrently.
+     *
+     * @return the layout for the fields of this schema.
+     */
+    public StructLayout layout() {
+        var result = layout;
+        if (result == null) {
+            result = new StructLayout(fieldsByName.keySet());
+            layout = result;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the {@link StructType} for this schema. All structs of this schema share the same type instance, which
+     * allows type checks to recognize types they have seen before by reference.
+     *
+     * @return the data type for structs of this schema.
+     */
+    public StructType structType() {
+        var result = structType;
+        if (result == null) {
+            result = new StructType(this);
+            structType = result;
+        }
+        return result;
+    }
+
+    /**
+     * Returns this schema converted by the given mapper. The result is remembered per mapper instance, so writing many
+     * records of the same schema converts it only once, without looking the schema up by its structure.
+     *
+     * @param mapper the mapper that converts this schema.
+     * @param <T>    the type of the converted schema.
+     * @return the converted schema.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T mappedBy(DataSchemaMapper<T> mapper) {
+        return (T) mappedSchemas.computeIfAbsent(mapper, m -> mapper.fromDataSchema(this));
+    }
+
     /**
      * Retrieves the list of fields in the schema.
      * <p>
@@ -23,12 +23,14 @@ package io.axual.ksml.data.serde;
 import io.axual.ksml.data.exception.DataException;
 import io.axual.ksml.data.mapper.DataObjectMapper;
 import io.axual.ksml.data.object.DataNull;
+import io.axual.ksml.data.object.DataObject;
 import io.axual.ksml.data.type.DataType;
 import org.apache.kafka.common.header.Headers;
 import org.apache.kafka.common.serialization.Deserializer;
 import org.apache.kafka.common.serialization.Serde;
 import org.apache.kafka.common.serialization.Serializer;
 
+import javax.annotation.Nullable;
 import java.nio.ByteBuffer;
 import java.util.Map;
 
@@ -41,6 +43,9 @@ import java.util.Map;
  * - one for mapping - potentially native - objects coming from Kafka Streams topologies to DataObject representations
  *   (nativeMapper), used only during serialization.
  * <p>
+ * When the underlying serializer and deserializer work on DataObjects themselves, no serdeMapper is needed. DataObjects
+ * are then passed to the serializer as is, and deserialized DataObjects are only checked against the expected type.
+ * <p>
  * Exceptions during (de)serialization are wrapped in DataException with a readable context.
  */
 public class DataObjectSerde implements Serde<Object>, Serializer<Object>, Deserializer<Object> {
@@ -50,6 +55,7 @@ public class DataObjectSerde implements Serde<Object>, Serializer<Object>, Deser
     private final Serializer<Object> serializer;
     private final Deserializer<Object> deserializer;
     private final DataType expectedDataType;
+    @Nullable
     private final DataObjectMapper<Object> serdeMapper;
     private final DataObjectMapper<Object> nativeMapper;
 
@@ -63,7 +69,7 @@ public class DataObjectSerde implements Serde<Object>, Serializer<Object>, Deser
      * @param serdeMapper       mapper between serde/native types and DataObjects used for serde boundary
      * @param nativeMapper      mapper between user-provided native types and DataObjects
      */
-    public DataObjectSerde(String name, Serializer<Object> serializer, Deserializer<Object> deserializer, DataType expectedDataType, DataObjectMapper<Object> serdeMapper, DataObjectMapper<Object> nativeMapper) {
+    public DataObjectSerde(String name, Serializer<Object> serializer, Deserializer<Object> deserializer, DataType expectedDataType, @Nullable DataObjectMapper<Object> serdeMapper, DataObjectMapper<Object> nativeMapper) {
         this.name = name.toUpperCase();
         this.serializer = serializer;
         this.deserializer = deserializer;
@@ -72,6 +78,19 @@ public class DataObjectSerde implements Serde<Object>, Serializer<Object>, Deser
         this.nativeMapper = nativeMapper;
     }
 
+    /**
+     * Creates a DataObjectSerde around a serializer and deserializer that read and write DataObjects themselves.
+     *
+     * @param name             a short name used in exception messages
+     * @param serializer       the underlying serializer, accepting DataObjects
+     * @param deserializer     the underlying deserializer, returning DataObjects
+     * @param expectedDataType the expected DataType of values
+     * @param nativeMapper     mapper between user-provided native types and DataObjects
+     */
+    public DataObjectSerde(String name, Serializer<Object> serializer, Deserializer<Object> deserializer, DataType expectedDataType, DataObjectMapper<Object> nativeMapper) {
+        this(name, serializer, deserializer, expectedDataType, null, nativeMapper);
+    }
+
     /**
      * Returns this instance as a Serializer to participate in Kafka's Serde contract.
      *
@@ -113,7 +132,7 @@ public class DataObjectSerde implements Serde<Object>, Serializer<Object>, Deser
     @Override
     public Object deserialize(final String topic, final byte[] data) {
         try {
-            return serdeMapper.toDataObject(expectedDataType, deserializer.deserialize(topic, data));
+            return toDataObject(deserializer.deserialize(topic, data));
         } catch (Exception e) {
             throw new DataException(name + DESERIALIZATION_ERROR_MSG + topic, e);
         }
@@ -131,7 +150,7 @@ public class DataObjectSerde implements Serde<Object>, Serializer<Object>, Deser
     @Override
     public Object deserialize(final String topic, final Headers headers, final byte[] data) {
         try {
-            return serdeMapper.toDataObject(expectedDataType, deserializer.deserialize(topic, headers, data));
+            return toDataObject(deserializer.deserialize(topic, headers, data));
         } catch (Exception e) {
             throw new DataException(name + DESERIALIZATION_ERROR_MSG + topic, e);
         }
@@ -149,12 +168,23 @@ public class DataObjectSerde implements Serde<Object>, Serializer<Object>, Deser
     @Override
     public Object deserialize(final String topic, final Headers headers, final ByteBuffer data) {
         try {
-            return serdeMapper.toDataObject(expectedDataType, deserializer.deserialize(topic, headers, data));
+            return toDataObject(deserializer.deserialize(topic, headers, data));
         } catch (Exception e) {
             throw new DataException(name + DESERIALIZATION_ERROR_MSG + topic, e);
         }
     }
 
+    private Object toDataObject(Object deserialized) {
+        // Without a serdeMapper the deserializer returns DataObjects, which only need to match the expected type
+        return serdeMapper != null
+                ? serdeMapper.toDataObject(expectedDataType, deserialized)
+                : nativeMapper.toDataObject(expectedDataType, deserialized);
+    }
+
+    private Object fromDataObject(DataObject dataObject) {
+        return serdeMapper != null ? serdeMapper.fromDataObject(dataObject) : dataObject;
+    }
+
     /**
      * Maps the provided value from native form to a DataObject and delegates to the underlying serializer.
      *
@@ -168,8 +198,7 @@ public class DataObjectSerde implements Serde<Object>, Serializer<Object>, Deser
         try {
             final var dataObject = nativeMapper.toDataObject(expectedDataType, data);
             if (dataObject == DataNull.INSTANCE) return serializer.serialize(topic, null);
-            final var serdeObject = serdeMapper.fromDataObject(dataObject);
-            return serializer.serialize(topic, serdeObject);
+            return serializer.serialize(topic, fromDataObject(dataObject));
         } catch (Exception e) {
             throw new DataException(name + SERIALIZATION_ERROR_MSG + topic, e);
         }
@@ -190,8 +219,7 @@ public class DataObjectSerde implements Serde<Object>, Serializer<Object>, Deser
         try {
             final var dataObject = nativeMapper.toDataObject(expectedDataType, data);
             if (dataObject == DataNull.INSTANCE) return serializer.serialize(topic, null);
-            final var serdeObject = serdeMapper.fromDataObject(dataObject);
-            return serializer.serialize(topic, headers, serdeObject);
+            return serializer.serialize(topic, headers, fromDataObject(dataObject));
         } catch (Exception e) {
             throw new DataException(name + SERIALIZATION_ERROR_MSG + topic, e);
         }
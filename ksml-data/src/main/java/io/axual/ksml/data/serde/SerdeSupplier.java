@@ -36,4 +36,14 @@ public interface SerdeSupplier {
      * @return a Serde<Object> suitable for the given type and role
      */
     Serde<Object> get(DataType type, boolean isKey);
+
+    /**
+     * Indicates whether the supplied Serdes work on DataObjects directly. Their serializers then accept DataObjects
+     * and their deserializers return them, so no intermediate vendor object needs to be mapped in between.
+     *
+     * @return true if the Serdes read and write DataObjects, false if they work with vendor objects
+     */
+    default boolean handlesDataObjects() {
+        return false;
+    }
 }
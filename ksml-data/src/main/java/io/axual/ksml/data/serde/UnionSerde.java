@@ -25,12 +25,15 @@ import io.axual.ksml.data.object.DataNull;
 import io.axual.ksml.data.object.DataObject;
 import io.axual.ksml.data.type.DataType;
 import io.axual.ksml.data.type.UnionType;
+import org.apache.kafka.common.header.Headers;
 import org.apache.kafka.common.serialization.Deserializer;
 import org.apache.kafka.common.serialization.Serde;
 import org.apache.kafka.common.serialization.Serializer;
 
 import javax.annotation.Nullable;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -38,12 +41,36 @@ import java.util.Map;
  * Serde for KSML union types. It maintains a list of member Serdes and tries them
  * in order for serialization and deserialization, accepting the first compatible
  * type. Null values are always supported and mapped to DataNull for deserialization.
+ * <p>
+ * When a type tag header is configured, the serializer records the type spec of the member it used in that header,
+ * and the deserializer reads a message with the member whose type spec matches the tag. Since Kafka Streams copies
+ * headers from input to output records, a tag may come from another union, so tags that match none of the members are
+ * ignored. Members that share their type spec with another member are not tagged. Messages without a usable tag are read by trying the members in
+ * declared order. When learning the read order is enabled, the deserializer starts with the member that read the
+ * previous message instead, so topics that mostly carry one member type do not pay for failed attempts. Since that
+ * member may differ from the first one in declared order that can read a message, this is only enabled on request.
  */
 public class UnionSerde implements Serde<Object> {
-    private record MemberSerde(DataType type, Serializer<Object> serializer, Deserializer<Object> deserializer) {
+    /**
+     * Configuration key for the name of the header that holds the member type tag. Key serdes use the name with a
+     * {@code .key} suffix, so keys and values of the same record do not overwrite each other's tag.
+     */
+    public static final String TYPE_TAG_HEADER_CONFIG = "ksml.union.type.tag.header";
+    /**
+     * Configuration key that enables starting the deserialization of untagged messages with the member that read the
+     * previous message.
+     */
+    public static final String LEARN_READ_ORDER_CONFIG = "ksml.union.learn.read.order";
+    private static final String KEY_TAG_SUFFIX = ".key";
+    // Marks a failed attempt to deserialize, since members may legitimately return null
+    private static final Object NOT_DESERIALIZED = new Object();
+
+    private record MemberSerde(DataType type, byte[] tag, Serializer<Object> serializer, Deserializer<Object> deserializer) {
     }
 
     private final List<MemberSerde> memberSerdes = new ArrayList<>();
+    private String tagHeader;
+    private boolean learnReadOrder;
 
     /**
      * Constructs a UnionSerde from a KSML UnionType. For each member type, a delegate Serde is
@@ -54,12 +81,39 @@ public class UnionSerde implements Serde<Object> {
      * @param serdeSupplier supplier used to obtain member Serdes
      */
     public UnionSerde(UnionType unionType, boolean isKey, SerdeSupplier serdeSupplier) {
-        for (int index = 0; index < unionType.members().length; index++) {
-            final var member = unionType.members()[index];
+        this(unionType, isKey, serdeSupplier, null, false);
+    }
+
+    /**
+     * Constructs a UnionSerde from a KSML UnionType, tagging serialized messages with the member type used.
+     *
+     * @param unionType     the union type definition
+     * @param isKey         whether the resulting Serde will be used for keys
+     * @param serdeSupplier supplier used to obtain member Serdes
+     * @param tagHeader      name of the header holding the member type tag, or {@code null} to disable tagging
+     * @param learnReadOrder whether untagged messages are first read with the member that read the previous message
+     */
+    public UnionSerde(UnionType unionType, boolean isKey, SerdeSupplier serdeSupplier, @Nullable String tagHeader, boolean learnReadOrder) {
+        for (final var member : unionType.members()) {
             try (final var serde = serdeSupplier.get(member.type(), isKey)) {
-                memberSerdes.add(new MemberSerde(member.type(), serde.serializer(), serde.deserializer()));
+                memberSerdes.add(new MemberSerde(member.type(), tagOf(member.type(), unionType), serde.serializer(), serde.deserializer()));
             }
         }
+        setTagHeader(tagHeader, isKey);
+        this.learnReadOrder = learnReadOrder;
+    }
+
+    // The tag of a member is its type spec, unless another member has the same spec and the tag would be ambiguous
+    @Nullable
+    private static byte[] tagOf(DataType type, UnionType unionType) {
+        final var spec = type.spec();
+        if (spec == null || spec.isEmpty()) return null;
+        final var count = Arrays.stream(unionType.members()).filter(member -> spec.equals(member.type().spec())).count();
+        return count == 1 ? spec.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    private void setTagHeader(@Nullable String tagHeader, boolean isKey) {
+        this.tagHeader = tagHeader != null && !tagHeader.isEmpty() ? tagHeader + (isKey ? KEY_TAG_SUFFIX : "") : null;
     }
 
     /**
@@ -67,6 +121,9 @@ public class UnionSerde implements Serde<Object> {
      */
     @Override
     public void configure(Map<String, ?> configs, boolean isKey) {
+        if (configs.get(TYPE_TAG_HEADER_CONFIG) instanceof String header) setTagHeader(header, isKey);
+        if (configs.get(LEARN_READ_ORDER_CONFIG) != null)
+            learnReadOrder = Boolean.parseBoolean(configs.get(LEARN_READ_ORDER_CONFIG).toString());
         for (final var memberSerde : memberSerdes) {
             memberSerde.serializer.configure(configs, isKey);
             memberSerde.deserializer.configure(configs, isKey);
@@ -97,30 +154,56 @@ public class UnionSerde implements Serde<Object> {
         @Nullable
         @Override
         public byte[] serialize(String topic, Object data) {
-            // Always allow null values for unions, so check these first outside of the union's memberTypes
-            if (data == null || data == DataNull.INSTANCE) return null;
+            return serialize(topic, null, data);
+        }
+
+        @Nullable
+        @Override
+        public byte[] serialize(String topic, @Nullable Headers headers, Object data) {
+            // Always allow null values for unions, so check these first outside of the union's memberTypes. A tag
+            // copied from an incoming record would not describe the tombstone, so it is removed.
+            if (data == null || data == DataNull.INSTANCE) {
+                tag(headers, null);
+                return null;
+            }
 
             // Iterate over all value types and call a type-compatible serializer
             for (final var memberSerde : memberSerdes) {
                 // Check if we are serializing a DataObject. If so, then check compatibility using its own data
                 // dataType, else check compatibility with Java native dataType.
-                if (data instanceof DataObject dataObject) {
-                    if (memberSerde.type.isAssignableFrom(dataObject).isAssignable()) {
-                        return memberSerde.serializer.serialize(topic, dataObject);
-                    }
-                } else {
-                    if (memberSerde.type.isAssignableFrom(data).isAssignable()) {
-                        return memberSerde.serializer.serialize(topic, data);
-                    }
+                final var assignable = data instanceof DataObject dataObject
+                        ? memberSerde.type.isAssignableFrom(dataObject)
+                        : memberSerde.type.isAssignableFrom(data);
+                if (assignable.isAssignable()) {
+                    final var result = headers != null
+                            ? memberSerde.serializer.serialize(topic, headers, data)
+                            : memberSerde.serializer.serialize(topic, data);
+                    tag(headers, memberSerde.tag);
+                    return result;
                 }
             }
 
             // No type compatibility found, so raise an exception
             throw new DataException("Can not serialize value as union alternative: data=" + data + ", valueTypes=" + memberTypesToString());
         }
+
+        // Replace the tag with the given member tag, or only remove it when there is no tag
+        private void tag(@Nullable Headers headers, @Nullable byte[] memberTag) {
+            if (tagHeader == null || headers == null) return;
+            try {
+                headers.remove(tagHeader);
+                if (memberTag != null) headers.add(tagHeader, memberTag);
+            } catch (IllegalStateException e) {
+                // Headers are read-only, so leave the message untagged
+            }
+        }
     }
 
     private class UnionDeserializer implements Deserializer<Object> {
+        // Index of the member that read the previous untagged message, which is tried first for the next one when
+        // learning the read order is enabled
+        private int lastMember = 0;
+
         @Override
         public void configure(Map<String, ?> configs, boolean isKey) {
             for (final var memberSerde : memberSerdes) {
@@ -130,22 +213,63 @@ public class UnionSerde implements Serde<Object> {
 
         @Override
         public Object deserialize(String topic, byte[] data) {
+            return deserialize(topic, null, data);
+        }
+
+        @Override
+        public Object deserialize(String topic, @Nullable Headers headers, byte[] data) {
             if (data == null || data.length == 0) {
                 return DataNull.INSTANCE;
             }
 
-            for (final var memberSerde : memberSerdes) {
-                try {
-                    Object result = memberSerde.deserializer.deserialize(topic, data);
-                    if (result instanceof DataObject dataObject && memberSerde.type.isAssignableFrom(dataObject).isAssignable())
-                        return result;
-                    if (memberSerde.type.isAssignableFrom(result).isAssignable()) return result;
-                } catch (Exception _) {
-                    // Not properly deserialized, so ignore and try the next alternative
+            // Read the tagged member directly if the message carries a valid tag
+            final var taggedMember = taggedMember(headers);
+            if (taggedMember >= 0) {
+                final var result = tryDeserialize(taggedMember, topic, headers, data);
+                if (result != NOT_DESERIALIZED) return result;
+            }
+
+            // Try the members in declared order, or start with the member that read the previous message when
+            // learning the read order is enabled
+            final var first = learnReadOrder ? lastMember : 0;
+            var result = first != taggedMember ? tryDeserialize(first, topic, headers, data) : NOT_DESERIALIZED;
+            if (result != NOT_DESERIALIZED) return result;
+            for (int index = 0; index < memberSerdes.size(); index++) {
+                if (index == first || index == taggedMember) continue;
+                result = tryDeserialize(index, topic, headers, data);
+                if (result != NOT_DESERIALIZED) {
+                    lastMember = index;
+                    return result;
                 }
             }
             throw new DataException("Can not deserialize data as union: memberTypes=" + memberTypesToString());
         }
+
+        private int taggedMember(@Nullable Headers headers) {
+            if (tagHeader == null || headers == null) return -1;
+            final var header = headers.lastHeader(tagHeader);
+            if (header == null || header.value() == null) return -1;
+            for (int index = 0; index < memberSerdes.size(); index++) {
+                final var tag = memberSerdes.get(index).tag;
+                if (tag != null && Arrays.equals(tag, header.value())) return index;
+            }
+            return -1;
+        }
+
+        private Object tryDeserialize(int index, String topic, @Nullable Headers headers, byte[] data) {
+            final var memberSerde = memberSerdes.get(index);
+            try {
+                final var result = headers != null
+                        ? memberSerde.deserializer.deserialize(topic, headers, data)
+                        : memberSerde.deserializer.deserialize(topic, data);
+                if (result instanceof DataObject dataObject && memberSerde.type.isAssignableFrom(dataObject).isAssignable())
+                    return result;
+                if (memberSerde.type.isAssignableFrom(result).isAssignable()) return result;
+            } catch (Exception _) {
+                // Not properly deserialized, so ignore and try the next alternative
+            }
+            return NOT_DESERIALIZED;
+        }
     }
 
     private List<DataType> memberTypesToString() {
@@ -23,11 +23,16 @@ package io.axual.ksml.data.type;
 import io.axual.ksml.data.compare.Assignable;
 import io.axual.ksml.data.compare.Equality;
 import io.axual.ksml.data.compare.EqualityFlags;
+import io.axual.ksml.data.object.DataNull;
+import io.axual.ksml.data.object.DataObject;
 import io.axual.ksml.data.util.AssignableUtil;
 import io.axual.ksml.data.util.EqualUtil;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
+import java.util.Arrays;
+
 import static io.axual.ksml.data.type.DataTypeFlag.IGNORE_DATA_TYPE_CONTAINER_CLASS;
 import static io.axual.ksml.data.util.AssignableUtil.fieldNotAssignable;
 import static io.axual.ksml.data.util.AssignableUtil.typeMismatch;
@@ -40,13 +45,21 @@ import static io.axual.ksml.data.util.EqualUtil.otherIsNull;
  * build readable names/specs and implements assignability rules that compare the container
  * class and all subtypes.
  */
-@EqualsAndHashCode(exclude = {"name", "spec"})
+@EqualsAndHashCode(exclude = {"name", "spec", "assignableCache"})
 @Getter
 public abstract class ComplexType implements DataType {
+    // Maximum number of source types for which assignability results are remembered
+    private static final int MAX_CACHED_TYPES = 16;
+    private static final CachedAssignable[] NO_CACHED_TYPES = new CachedAssignable[0];
     private final Class<?> containerClass;
     private final DataType[] subTypes;
     private final String name;
     private final String spec;
+    @Getter(AccessLevel.NONE)
+    private volatile CachedAssignable[] assignableCache = NO_CACHED_TYPES;
+
+    private record CachedAssignable(DataType type, Assignable result) {
+    }
 
     protected ComplexType(Class<?> containerClass, String name, String spec, DataType... subTypes) {
         this.containerClass = containerClass;
@@ -118,6 +131,35 @@ public abstract class ComplexType implements DataType {
         return Assignable.assignable();
     }
 
+    /**
+     * Checks whether a value can be assigned to this type. Since the check only depends on the value's type, results
+     * are remembered per type instance. Values flowing through a stream mostly share the same type instance, so
+     * repeated checks come down to a reference comparison instead of a structural walk through the types.
+     *
+     * @param value the value to check
+     * @return the (possibly cached) result of the assignability check
+     */
+    @Override
+    public Assignable isAssignableFrom(DataObject value) {
+        // Always allow a null value to be assigned
+        if (value == DataNull.INSTANCE) return Assignable.assignable();
+
+        final var type = value.type();
+        final var cache = assignableCache;
+        for (final var entry : cache) {
+            if (entry.type == type) return entry.result;
+        }
+
+        final var result = isAssignableFrom(type);
+        if (cache.length < MAX_CACHED_TYPES) {
+            // Concurrent updates may drop an entry, which only means it gets recalculated later
+            final var newCache = Arrays.copyOf(cache, cache.length + 1);
+            newCache[cache.length] = new CachedAssignable(type, result);
+            assignableCache = newCache;
+        }
+        return result;
+    }
+
     @Override
     public Equality equals(Object obj, EqualityFlags flags) {
         if (this == obj) return Equality.equal();
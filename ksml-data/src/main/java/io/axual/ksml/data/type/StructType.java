@@ -53,6 +53,7 @@ public class StructType extends ComplexType {
     private static final String DEFAULT_NAME = "Struct";
     private static final String SCHEMA_FIELD = "schema";
     private static final DataTypeDataSchemaMapper MAPPER = new DataTypeDataSchemaMapper();
+    private static final StructType SCHEMALESS = new StructType();
     private final StructSchema schema;
 
     public interface CompareFilter {
@@ -75,6 +76,17 @@ public class StructType extends ComplexType {
         this.schema = schema;
     }
 
+    /**
+     * Returns the shared {@code StructType} instance for the given schema.
+     *
+     * @param schema the schema of the struct, or {@code null} for schemaless structs
+     * @return the type for structs of the given schema
+     */
+    public static StructType of(StructSchema schema) {
+        if (schema == null || schema == StructSchema.SCHEMALESS) return SCHEMALESS;
+        return schema.structType();
+    }
+
     public DataType keyType() {
         return subType(0);
     }
@@ -199,7 +199,7 @@ public class ConvertUtil {
         if (targetType.isAssignableFrom(value).isAssignable()) return value;
 
         // Convert from anything to string
-        if (targetType == DataString.DATATYPE) return new DataString(value.toString());
+        if (targetType == DataString.DATATYPE) return DataString.of(value.toString());
 
         final var result = switch (value) {
             // Come up with default values if we convert from Null
@@ -242,38 +242,38 @@ public class ConvertUtil {
 
     private DataObject convertByteToTargetType(DataByte val, DataType targetType) {
         if (targetType == DataType.UNKNOWN || targetType == DataByte.DATATYPE) return val;
-        if (targetType == DataShort.DATATYPE) return new DataShort(val.value().shortValue());
-        if (targetType == DataInteger.DATATYPE) return new DataInteger(val.value().intValue());
-        if (targetType == DataLong.DATATYPE) return new DataLong(val.value().longValue());
+        if (targetType == DataShort.DATATYPE) return DataShort.of(val.value().shortValue());
+        if (targetType == DataInteger.DATATYPE) return DataInteger.of(val.value().intValue());
+        if (targetType == DataLong.DATATYPE) return DataLong.of(val.value().longValue());
         if (targetType == DataDouble.DATATYPE) return new DataDouble(val.value().doubleValue());
         if (targetType == DataFloat.DATATYPE) return new DataFloat(val.value().floatValue());
         throw new DataException("Can not convert DataByte value to " + targetType);
     }
 
     private DataObject convertShortToTargetType(DataShort val, DataType targetType) {
-        if (targetType == DataByte.DATATYPE) return new DataByte(NumericRangeChecker.convertLongToByte(val.value().longValue()));
+        if (targetType == DataByte.DATATYPE) return DataByte.of(NumericRangeChecker.convertLongToByte(val.value().longValue()));
         if (targetType == DataType.UNKNOWN || targetType == DataShort.DATATYPE) return val;
-        if (targetType == DataInteger.DATATYPE) return new DataInteger(val.value().intValue());
-        if (targetType == DataLong.DATATYPE) return new DataLong(val.value().longValue());
+        if (targetType == DataInteger.DATATYPE) return DataInteger.of(val.value().intValue());
+        if (targetType == DataLong.DATATYPE) return DataLong.of(val.value().longValue());
         if (targetType == DataDouble.DATATYPE) return new DataDouble(val.value().doubleValue());
         if (targetType == DataFloat.DATATYPE) return new DataFloat(val.value().floatValue());
         throw new DataException("Can not convert DataShort value to " + targetType);
     }
 
     private DataObject convertIntegerToTargetType(DataInteger val, DataType targetType) {
-        if (targetType == DataByte.DATATYPE) return new DataByte(NumericRangeChecker.convertLongToByte(val.value().longValue()));
-        if (targetType == DataShort.DATATYPE) return new DataShort(NumericRangeChecker.convertLongToShort(val.value().longValue()));
+        if (targetType == DataByte.DATATYPE) return DataByte.of(NumericRangeChecker.convertLongToByte(val.value().longValue()));
+        if (targetType == DataShort.DATATYPE) return DataShort.of(NumericRangeChecker.convertLongToShort(val.value().longValue()));
         if (targetType == DataType.UNKNOWN || targetType == DataInteger.DATATYPE) return val;
-        if (targetType == DataLong.DATATYPE) return new DataLong(val.value().longValue());
+        if (targetType == DataLong.DATATYPE) return DataLong.of(val.value().longValue());
         if (targetType == DataDouble.DATATYPE) return new DataDouble(val.value().doubleValue());
         if (targetType == DataFloat.DATATYPE) return new DataFloat(val.value().floatValue());
         throw new DataException("Can not convert DataInteger value to " + targetType);
     }
 
     private DataObject convertLongToTargetType(DataLong val, DataType targetType) {
-        if (targetType == DataByte.DATATYPE) return new DataByte(NumericRangeChecker.convertLongToByte(val.value()));
-        if (targetType == DataShort.DATATYPE) return new DataShort(NumericRangeChecker.convertLongToShort(val.value()));
-        if (targetType == DataInteger.DATATYPE) return new DataInteger(NumericRangeChecker.convertLongToInt(val.value()));
+        if (targetType == DataByte.DATATYPE) return DataByte.of(NumericRangeChecker.convertLongToByte(val.value()));
+        if (targetType == DataShort.DATATYPE) return DataShort.of(NumericRangeChecker.convertLongToShort(val.value()));
+        if (targetType == DataInteger.DATATYPE) return DataInteger.of(NumericRangeChecker.convertLongToInt(val.value()));
         if (targetType == DataType.UNKNOWN || targetType == DataLong.DATATYPE) return val;
         if (targetType == DataDouble.DATATYPE) return new DataDouble(val.value().doubleValue());
         if (targetType == DataFloat.DATATYPE) return new DataFloat(val.value().floatValue());
@@ -281,20 +281,20 @@ public class ConvertUtil {
     }
 
     private DataObject convertDoubleToTargetType(DataDouble val, DataType targetType) {
-        if (targetType == DataByte.DATATYPE) return new DataByte(NumericRangeChecker.convertDoubleToByte(val.value()));
-        if (targetType == DataShort.DATATYPE) return new DataShort(NumericRangeChecker.convertDoubleToShort(val.value()));
-        if (targetType == DataInteger.DATATYPE) return new DataInteger(NumericRangeChecker.convertDoubleToInt(val.value()));
-        if (targetType == DataLong.DATATYPE) return new DataLong(NumericRangeChecker.convertDoubleToLong(val.value()));
+        if (targetType == DataByte.DATATYPE) return DataByte.of(NumericRangeChecker.convertDoubleToByte(val.value()));
+        if (targetType == DataShort.DATATYPE) return DataShort.of(NumericRangeChecker.convertDoubleToShort(val.value()));
+        if (targetType == DataInteger.DATATYPE) return DataInteger.of(NumericRangeChecker.convertDoubleToInt(val.value()));
+        if (targetType == DataLong.DATATYPE) return DataLong.of(NumericRangeChecker.convertDoubleToLong(val.value()));
         if (targetType == DataType.UNKNOWN || targetType == DataDouble.DATATYPE) return val;
         if (targetType == DataFloat.DATATYPE) return new DataFloat(NumericRangeChecker.convertDoubleToFloat(val.value()));
         throw new DataException("Can not convert DataDouble value to " + targetType);
     }
 
     private DataObject convertFloatToTargetType(DataFloat val, DataType targetType) {
-        if (targetType == DataByte.DATATYPE) return new DataByte(NumericRangeChecker.convertDoubleToByte(val.value().doubleValue()));
-        if (targetType == DataShort.DATATYPE) return new DataShort(NumericRangeChecker.convertDoubleToShort(val.value().doubleValue()));
-        if (targetType == DataInteger.DATATYPE) return new DataInteger(NumericRangeChecker.convertDoubleToInt(val.value().doubleValue()));
-        if (targetType == DataLong.DATATYPE) return new DataLong(NumericRangeChecker.convertDoubleToLong(val.value().doubleValue()));
+        if (targetType == DataByte.DATATYPE) return DataByte.of(NumericRangeChecker.convertDoubleToByte(val.value().doubleValue()));
+        if (targetType == DataShort.DATATYPE) return DataShort.of(NumericRangeChecker.convertDoubleToShort(val.value().doubleValue()));
+        if (targetType == DataInteger.DATATYPE) return DataInteger.of(NumericRangeChecker.convertDoubleToInt(val.value().doubleValue()));
+        if (targetType == DataLong.DATATYPE) return DataLong.of(NumericRangeChecker.convertDoubleToLong(val.value().doubleValue()));
         if (targetType == DataDouble.DATATYPE) return new DataDouble(val.value().doubleValue());
         if (targetType == DataType.UNKNOWN || targetType == DataFloat.DATATYPE) return val;
         throw new DataException("Can not convert DataDouble value to " + targetType);
@@ -302,16 +302,16 @@ public class ConvertUtil {
 
     @Nullable
     public DataObject convertStringToDataObject(DataType expected, String value, boolean allowFail) {
-        if (expected == null) return new DataString(value);
+        if (expected == null) return DataString.of(value);
         if (expected == DataNull.DATATYPE || value == null) return DataNull.INSTANCE;
-        if (expected == DataByte.DATATYPE) return parseOrFail(() -> new DataByte(Byte.parseByte(value)), value, expected, allowFail);
-        if (expected == DataShort.DATATYPE) return parseOrFail(() -> new DataShort(Short.parseShort(value)), value, expected, allowFail);
-        if (expected == DataInteger.DATATYPE) return parseOrFail(() -> new DataInteger(Integer.parseInt(value)), value, expected, allowFail);
-        if (expected == DataLong.DATATYPE) return parseOrFail(() -> new DataLong(Long.parseLong(value)), value, expected, allowFail);
+        if (expected == DataByte.DATATYPE) return parseOrFail(() -> DataByte.of(Byte.parseByte(value)), value, expected, allowFail);
+        if (expected == DataShort.DATATYPE) return parseOrFail(() -> DataShort.of(Short.parseShort(value)), value, expected, allowFail);
+        if (expected == DataInteger.DATATYPE) return parseOrFail(() -> DataInteger.of(Integer.parseInt(value)), value, expected, allowFail);
+        if (expected == DataLong.DATATYPE) return parseOrFail(() -> DataLong.of(Long.parseLong(value)), value, expected, allowFail);
         if (expected == DataDouble.DATATYPE) return parseOrFail(() -> new DataDouble(Double.parseDouble(value)), value, expected, allowFail);
         if (expected == DataFloat.DATATYPE) return parseOrFail(() -> new DataFloat(Float.parseFloat(value)), value, expected, allowFail);
         if (expected == DataBoolean.DATATYPE) return parseDataBoolean(value, allowFail);
-        if (expected == DataString.DATATYPE) return new DataString(value);
+        if (expected == DataString.DATATYPE) return DataString.of(value);
         return switch (expected) {
             case EnumType enumType -> new DataEnum(enumType, value);
             case ListType listType -> convertStringToDataList(listType, value, allowFail);
@@ -333,8 +333,8 @@ public class ConvertUtil {
     }
 
     private DataObject parseDataBoolean(String value, boolean allowFail) {
-        if ("true".equalsIgnoreCase(value)) return new DataBoolean(true);
-        if ("false".equalsIgnoreCase(value)) return new DataBoolean(false);
+        if ("true".equalsIgnoreCase(value)) return DataBoolean.TRUE;
+        if ("false".equalsIgnoreCase(value)) return DataBoolean.FALSE;
         if (allowFail) return null;
         throw new DataException("Can not parse \"" + value + "\" as BOOLEAN");
     }
@@ -408,7 +408,7 @@ public class ConvertUtil {
     }
 
     public DataObject convertStringToUnionMemberType(UnionType unionType, String value, boolean allowFail) {
-        final var valueString = new DataString(value);
+        final var valueString = DataString.of(value);
         for (final var member : unionType.members()) {
             final var dataObject = convert(member.type(), valueString, true);
             if (dataObject != null && member.type().isAssignableFrom(dataObject).isAssignable())
@@ -421,15 +421,15 @@ public class ConvertUtil {
 
     public static DataObject convertNullToDataObject(DataType expected) {
         if (expected == null || expected == DataNull.DATATYPE || expected == DataType.UNKNOWN) return DataNull.INSTANCE;
-        if (expected == DataBoolean.DATATYPE) return new DataBoolean();
-        if (expected == DataByte.DATATYPE) return new DataByte();
-        if (expected == DataShort.DATATYPE) return new DataShort();
-        if (expected == DataInteger.DATATYPE) return new DataInteger();
-        if (expected == DataLong.DATATYPE) return new DataLong();
+        if (expected == DataBoolean.DATATYPE) return DataBoolean.of(null);
+        if (expected == DataByte.DATATYPE) return DataByte.of(null);
+        if (expected == DataShort.DATATYPE) return DataShort.of(null);
+        if (expected == DataInteger.DATATYPE) return DataInteger.of(null);
+        if (expected == DataLong.DATATYPE) return DataLong.of(null);
         if (expected == DataDouble.DATATYPE) return new DataDouble();
         if (expected == DataFloat.DATATYPE) return new DataFloat();
         if (expected == DataBytes.DATATYPE) return new DataBytes();
-        if (expected == DataString.DATATYPE) return new DataString();
+        if (expected == DataString.DATATYPE) return DataString.of(null);
         return switch (expected) {
             case EnumType _-> DataNull.INSTANCE;
             case ListType listType -> new DataList(listType.valueType(), true);
@@ -0,0 +1,126 @@
+package io.axual.ksml.data.util;
+
+/*-
+ * ========================LICENSE_START=================================
+ * KSML Data Library
+ * %%
+ * Copyright (C) 2021 - 2026 Axual B.V.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Utility functions for writing text through a per-thread reusable buffer.
+ * <p>
+ * String serializers write every record to a fresh Writer, which is then thrown away. The functions here hand out a
+ * Writer that is kept per thread and reset between uses, so the produce path only allocates the resulting String.
+ */
+public class WriterUtil {
+    // Buffers that grew beyond this size are not kept, so a single large record does not pin memory per thread
+    private static final int MAX_RETAINED_CAPACITY = 1024 * 1024;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final ThreadLocal<ReusableWriter> WRITERS = ThreadLocal.withInitial(ReusableWriter::new);
+
+    /**
+     * Action that writes text to a Writer.
+     */
+    @FunctionalInterface
+    public interface WriterAction {
+        void writeTo(Writer writer) throws IOException;
+    }
+
+    /**
+     * Runs the action against this thread's reusable Writer and returns the written text. Nested calls on the same
+     * thread get a Writer of their own.
+     *
+     * @param action the action that writes the text
+     * @return the text written by the action
+     * @throws IOException when the action fails
+     */
+    public static String writeToString(WriterAction action) throws IOException {
+        final var shared = WRITERS.get();
+        final var writer = shared.inUse ? new ReusableWriter() : shared;
+        writer.inUse = true;
+        try {
+            action.writeTo(writer);
+            return writer.buffer.toString();
+        } finally {
+            writer.release();
+        }
+    }
+
+    private static class ReusableWriter extends Writer {
+        private StringBuilder buffer = new StringBuilder(INITIAL_CAPACITY);
+        private boolean inUse = false;
+
+        private void release() {
+            if (buffer.capacity() > MAX_RETAINED_CAPACITY) {
+                buffer = new StringBuilder(INITIAL_CAPACITY);
+            } else {
+                buffer.setLength(0);
+            }
+            inUse = false;
+        }
+
+        @Override
+        public void write(int c) {
+            buffer.append((char) c);
+        }
+
+        @Override
+        public void write(char[] chars, int offset, int length) {
+            buffer.append(chars, offset, length);
+        }
+
+        @Override
+        public void write(String str, int offset, int length) {
+            buffer.append(str, offset, offset + length);
+        }
+
+        @Override
+        public Writer append(CharSequence csq) {
+            buffer.append(csq);
+            return this;
+        }
+
+        @Override
+        public Writer append(CharSequence csq, int start, int end) {
+            buffer.append(csq, start, end);
+            return this;
+        }
+
+        @Override
+        public Writer append(char c) {
+            buffer.append(c);
+            return this;
+        }
+
+        @Override
+        public void flush() {
+            // Nothing to flush
+        }
+
+        @Override
+        public void close() {
+            // Generators close their target when done, the buffer is only reset when the action completes
+        }
+    }
+
+    private WriterUtil() {
+        // Prevent instantiation.
+    }
+}
@@ -0,0 +1,233 @@
+package io.axual.ksml.data.value;
+
+/*-
+ * ========================LICENSE_START=================================
+ * KSML Data Library
+ * %%
+ * Copyright (C) 2021 - 2026 Axual B.V.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Map with String keys that stores the values of a fixed set of keys in an array, using the indices of a shared
+ * {@link StructLayout}. Keys outside the layout are kept in a {@link Struct} that is only created when needed.
+ * <p>
+ * Iteration order, equality and hash codes are the same as for a {@link Struct} with the same entries, so both
+ * forms can be used interchangeably.
+ *
+ * @param <T> the type of the values.
+ */
+public class IndexedStruct<T> extends AbstractMap<String, T> {
+    // Marker for keys that are present with a null value, absent keys are stored as null
+    private static final Object NULL_VALUE = new Object();
+    private final StructLayout layout;
+    private final Object[] values;
+    private int indexedSize = 0;
+    private Struct<T> additional;
+
+    /**
+     * Creates an empty struct for the given layout.
+     *
+     * @param layout the shared key table.
+     */
+    public IndexedStruct(StructLayout layout) {
+        this.layout = layout;
+        this.values = new Object[layout.size()];
+    }
+
+    @Override
+    public int size() {
+        return indexedSize + (additional != null ? additional.size() : 0);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        final var index = layout.indexOf(key);
+        if (index >= 0) return values[index] != null;
+        return additional != null && (key == null || key instanceof String) && additional.containsKey(key);
+    }
+
+    @Override
+    public T get(Object key) {
+        final var index = layout.indexOf(key);
+        if (index >= 0) return valueAt(index);
+        return additional != null && (key == null || key instanceof String) ? additional.get(key) : null;
+    }
+
+    @Override
+    public T put(String key, T value) {
+        final var index = layout.indexOf(key);
+        if (index < 0) {
+            if (additional == null) additional = new Struct<>();
+            return additional.put(key, value);
+        }
+        final var result = valueAt(index);
+        if (values[index] == null) indexedSize++;
+        values[index] = value != null ? value : NULL_VALUE;
+        return result;
+    }
+
+    @Override
+    public T remove(Object key) {
+        final var index = layout.indexOf(key);
+        if (index < 0) return additional != null && (key == null || key instanceof String) ? additional.remove(key) : null;
+        return removeAt(index);
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(values, null);
+        indexedSize = 0;
+        additional = null;
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super T> action) {
+        for (final var entry : entrySet()) {
+            action.accept(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public Set<Entry<String, T>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, T>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return IndexedStruct.this.size();
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private T valueAt(int index) {
+        final var value = values[index];
+        return value != NULL_VALUE ? (T) value : null;
+    }
+
+    private T removeAt(int index) {
+        final var result = valueAt(index);
+        if (values[index] != null) {
+            values[index] = null;
+            indexedSize--;
+        }
+        return result;
+    }
+
+    private int nextIndex(int from) {
+        while (from < values.length && values[from] == null) from++;
+        return from;
+    }
+
+    // Merges the indexed entries with the additional entries, both of which are sorted in Struct order
+    private class EntryIterator implements Iterator<Entry<String, T>> {
+        private final Iterator<Entry<String, T>> additionalEntries = additional != null ? additional.entrySet().iterator() : Collections.emptyIterator();
+        private int index = nextIndex(0);
+        private Entry<String, T> nextAdditional = additionalEntries.hasNext() ? additionalEntries.next() : null;
+        private int lastIndex = -1;
+        private boolean lastWasAdditional = false;
+
+        @Override
+        public boolean hasNext() {
+            return index < values.length || nextAdditional != null;
+        }
+
+        @Override
+        public Entry<String, T> next() {
+            if (index < values.length && (nextAdditional == null || Struct.DEFAULT_COMPARATOR.compare(layout.key(index), nextAdditional.getKey()) < 0)) {
+                lastIndex = index;
+                lastWasAdditional = false;
+                index = nextIndex(index + 1);
+                return new IndexedEntry(lastIndex);
+            }
+            if (nextAdditional == null) throw new NoSuchElementException();
+            final var result = nextAdditional;
+            lastIndex = -1;
+            lastWasAdditional = true;
+            nextAdditional = additionalEntries.hasNext() ? additionalEntries.next() : null;
+            return result;
+        }
+
+        @Override
+        public void remove() {
+            if (lastIndex >= 0) {
+                removeAt(lastIndex);
+                lastIndex = -1;
+            } else if (lastWasAdditional) {
+                additionalEntries.remove();
+                lastWasAdditional = false;
+            } else {
+                throw new IllegalStateException();
+            }
+        }
+    }
+
+    private class IndexedEntry implements Entry<String, T> {
+        private final int index;
+
+        private IndexedEntry(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public String getKey() {
+            return layout.key(index);
+        }
+
+        @Override
+        public T getValue() {
+            return valueAt(index);
+        }
+
+        @Override
+        public T setValue(T value) {
+            final var result = valueAt(index);
+            values[index] = value != null ? value : NULL_VALUE;
+            return result;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Map.Entry<?, ?> that
+                    && Objects.equals(getKey(), that.getKey())
+                    && Objects.equals(getValue(), that.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+}
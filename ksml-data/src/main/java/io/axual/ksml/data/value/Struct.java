@@ -38,7 +38,7 @@ public class Struct<T> extends TreeMap<String, T> {
      * The sorting logic prioritizes standard keys over "meta" keys, and within each group,
      * sorts lexicographically.
      */
-    private static final Comparator<String> DEFAULT_COMPARATOR = (o1, o2) -> {
+    static final Comparator<String> DEFAULT_COMPARATOR = (o1, o2) -> {
         if ((o1 == null || o1.isEmpty()) && (o2 == null || o2.isEmpty())) return 0;
         if (o1 == null || o1.isEmpty()) return -1;
         if (o2 == null || o2.isEmpty()) return 1;
@@ -0,0 +1,85 @@
+package io.axual.ksml.data.value;
+
+/*-
+ * ========================LICENSE_START=================================
+ * KSML Data Library
+ * %%
+ * Copyright (C) 2021 - 2026 Axual B.V.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Shared key table for structs with a fixed set of fields, such as records that follow a schema. The keys are
+ * kept in the same order as a {@link Struct} would iterate them, and every key is assigned a fixed index.
+ * {@link IndexedStruct} instances use the index to store their values in a plain array.
+ * <p>
+ * Null or empty keys are not part of the layout, since {@link Struct} treats them as equal to each other.
+ */
+public final class StructLayout {
+    private final String[] keys;
+    private final Map<String, Integer> indices;
+
+    /**
+     * Creates a layout for the given keys.
+     *
+     * @param keys the keys of the struct, in any order. Duplicates are ignored.
+     */
+    public StructLayout(Collection<String> keys) {
+        final var sorted = new TreeSet<>(Struct.DEFAULT_COMPARATOR);
+        for (final var key : keys) {
+            if (key != null && !key.isEmpty()) sorted.add(key);
+        }
+        this.keys = sorted.toArray(new String[0]);
+        this.indices = HashMap.newHashMap(this.keys.length);
+        for (int index = 0; index < this.keys.length; index++) {
+            indices.put(this.keys[index], index);
+        }
+    }
+
+    /**
+     * Returns the number of keys in this layout.
+     *
+     * @return the number of keys.
+     */
+    public int size() {
+        return keys.length;
+    }
+
+    /**
+     * Returns the key at the given index.
+     *
+     * @param index the index of the key.
+     * @return the key.
+     */
+    public String key(int index) {
+        return keys[index];
+    }
+
+    /**
+     * Returns the index of the given key.
+     *
+     * @param key the key to look up.
+     * @return the index of the key, or -1 if the key is not part of this layout.
+     */
+    public int indexOf(Object key) {
+        final var index = indices.get(key);
+        return index != null ? index : -1;
+    }
+}
@@ -76,4 +76,12 @@ class DataBooleanTest {
         assertThat(nullDefaultConstruction.toString(EXTERNAL_TOP_SCHEMA)).isEqualTo("boolean: null");
         assertThat(nullDefaultConstruction.toString(EXTERNAL_ALL_SCHEMA)).isEqualTo("boolean: null");
     }
+
+    @Test
+    @DisplayName("of() returns the shared TRUE, FALSE and null instances")
+    void ofReusesSharedInstances() {
+        assertThat(DataBoolean.of(true)).isSameAs(DataBoolean.TRUE).isEqualTo(new DataBoolean(true));
+        assertThat(DataBoolean.of(false)).isSameAs(DataBoolean.FALSE).isEqualTo(new DataBoolean(false));
+        assertThat(DataBoolean.of(null)).isSameAs(DataBoolean.of(null)).isEqualTo(new DataBoolean());
+    }
 }
@@ -66,4 +66,14 @@ class DataIntegerTest {
         assertThat(nullDefaultConstruction.toString(EXTERNAL_TOP_SCHEMA)).isEqualTo("integer: null");
         assertThat(nullDefaultConstruction.toString(EXTERNAL_ALL_SCHEMA)).isEqualTo("integer: null");
     }
+
+    @Test
+    @DisplayName("of() shares instances for null and small values, and wraps other values")
+    void ofReusesCommonInstances() {
+        assertThat(DataInteger.of(15)).isSameAs(DataInteger.of(15)).isEqualTo(new DataInteger(15));
+        assertThat(DataInteger.of(-128)).isSameAs(DataInteger.of(-128));
+        assertThat(DataInteger.of(1023)).isSameAs(DataInteger.of(1023));
+        assertThat(DataInteger.of(null)).isSameAs(DataInteger.of(null)).isEqualTo(new DataInteger());
+        assertThat(DataInteger.of(100_000)).isNotSameAs(DataInteger.of(100_000)).isEqualTo(new DataInteger(100_000));
+    }
 }
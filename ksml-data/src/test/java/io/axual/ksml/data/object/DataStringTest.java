@@ -83,4 +83,13 @@ class DataStringTest {
         assertThat(nullDefaultConstruction.toString(EXTERNAL_TOP_SCHEMA)).isEqualTo("string: null");
         assertThat(nullDefaultConstruction.toString(EXTERNAL_ALL_SCHEMA)).isEqualTo("string: null");
     }
+
+    @Test
+    @DisplayName("of() shares the empty and null instances, unlike from() which returns null for null input")
+    void ofReusesSharedInstances() {
+        assertThat(DataString.of("")).isSameAs(DataString.EMPTY).isEqualTo(new DataString(""));
+        assertThat(DataString.of(null)).isSameAs(DataString.of(null)).isEqualTo(new DataString());
+        assertThat(DataString.of("abc")).isEqualTo(new DataString("abc"));
+        assertThat(DataString.from(null)).isNull();
+    }
 }
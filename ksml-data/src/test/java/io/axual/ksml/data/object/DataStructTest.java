@@ -22,7 +22,9 @@ package io.axual.ksml.data.object;
 
 import io.axual.ksml.data.compare.Equality;
 import io.axual.ksml.data.compare.EqualityFlags;
+import io.axual.ksml.data.schema.DataSchema;
 import io.axual.ksml.data.schema.StructSchema;
+import io.axual.ksml.data.value.IndexedStruct;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -79,6 +81,33 @@ class DataStructTest {
         assertThat(st.toString(INTERNAL)).isEqualTo("{\"a\": \"x\", \"b\": 2, \"@meta\": \"m\"}");
     }
 
+    @Test
+    @DisplayName("Structs with a schema store fields by index, keeping key order and extra fields")
+    void schemaStructUsesIndexedContents() {
+        var schema = new StructSchema("io.axual.ksml", "User", null, List.of(
+                new StructSchema.Field("name", DataSchema.STRING_SCHEMA),
+                new StructSchema.Field("age", DataSchema.INTEGER_SCHEMA)));
+        var st = new DataStruct(schema);
+        st.put("name", new DataString("x"));
+        st.put("@meta", new DataString("m"));
+        st.put("age", new DataInteger(2));
+        st.put("extra", null);
+
+        assertThat(st.contents()).isInstanceOf(IndexedStruct.class);
+        assertThat(st.size()).isEqualTo(4);
+        assertThat(st.containsKey("extra")).isTrue();
+        assertThat(st.get("age")).isEqualTo(new DataInteger(2));
+        assertThat(st.toString(INTERNAL)).isEqualTo("{\"age\": 2, \"extra\": null, \"name\": \"x\", \"@meta\": \"m\"}");
+
+        var same = new DataStruct(schema);
+        same.put("age", new DataInteger(2));
+        same.put("name", new DataString("x"));
+        same.put("extra", null);
+        same.put("@meta", new DataString("m"));
+        assertThat(st).isEqualTo(same).hasSameHashCodeAs(same);
+        assertThat(st.equals(same, EqualityFlags.EMPTY).isEqual()).isTrue();
+    }
+
     @Test
     @DisplayName("getIfPresent applies for matching class; getAs and getAsString behaviors")
     void gettersAndAppliers() {
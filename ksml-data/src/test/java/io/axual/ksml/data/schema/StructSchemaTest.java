@@ -21,11 +21,13 @@ package io.axual.ksml.data.schema;
  */
 
 import io.axual.ksml.data.compare.EqualityFlags;
+import io.axual.ksml.data.mapper.DataSchemaMapper;
 import io.axual.ksml.data.object.DataString;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
@@ -362,4 +364,30 @@ class StructSchemaTest {
         assertThat(base.equals(null, EqualityFlags.EMPTY).isNotEqual()).isTrue();
         assertThat(base.equals(DataSchema.STRING_SCHEMA, EqualityFlags.EMPTY).isNotEqual()).isTrue();
     }
+
+    @Test
+    @DisplayName("mappedBy converts a schema once per mapper and keeps the result on the schema instance")
+    void mappedByConvertsOncePerMapper() {
+        final var conversions = new AtomicInteger();
+        final DataSchemaMapper<String> mapper = new DataSchemaMapper<>() {
+            @Override
+            public DataSchema toDataSchema(String namespace, String name, String value) {
+                return null;
+            }
+
+            @Override
+            public String fromDataSchema(DataSchema schema) {
+                return "converted-" + conversions.incrementAndGet();
+            }
+        };
+        final var schema = new StructSchema("ns", "Person", null, List.of(requiredInt("id")));
+        final var equalSchema = new StructSchema("ns", "Person", null, List.of(requiredInt("id")));
+
+        assertThat(schema.mappedBy(mapper)).isEqualTo("converted-1");
+        assertThat(schema.mappedBy(mapper)).isEqualTo("converted-1");
+        // Equal schemas are not compared by structure, every instance converts itself
+        assertThat(equalSchema.mappedBy(mapper)).isEqualTo("converted-2");
+        // The remembered conversion does not take part in equality
+        assertThat(schema).isEqualTo(equalSchema).hasSameHashCodeAs(equalSchema);
+    }
 }
@@ -96,6 +96,30 @@ class DataObjectSerdeTest {
         assertThat(out3).isInstanceOf(DataString.class).extracting(o -> ((DataString) o).value()).isEqualTo("hello");
     }
 
+    @Test
+    @DisplayName("without serde mapper DataObjects are passed to and from the delegates as is")
+    void dataObjectsPassThroughWithoutSerdeMapper() {
+        var written = new Object[1];
+        var dataObjectSerializer = new Serializer<>() {
+            @Override
+            public byte[] serialize(String topic, Object data) {
+                written[0] = data;
+                return ((DataString) data).value().getBytes();
+            }
+        };
+        var dataObjectDeserializer = (Deserializer<Object>) (topic, data) -> new DataString(new String(data));
+        var nativeMapper = (DataObjectMapper<Object>) (DataObjectMapper<?>) new NativeDataObjectMapper();
+
+        var serde = new DataObjectSerde("direct", dataObjectSerializer, dataObjectDeserializer, DataString.DATATYPE, nativeMapper);
+
+        var bytes = serde.serialize(TOPIC, "text");
+        assertThat(bytes).isEqualTo("text".getBytes());
+        assertThat(written[0]).isInstanceOf(DataString.class);
+
+        var out = serde.deserialize(TOPIC, "hello".getBytes());
+        assertThat(out).isInstanceOf(DataString.class).extracting(o -> ((DataString) o).value()).isEqualTo("hello");
+    }
+
     @Test
     @DisplayName("exceptions are wrapped with readable messages on de/serialization")
     void exceptionsAreWrapped() {
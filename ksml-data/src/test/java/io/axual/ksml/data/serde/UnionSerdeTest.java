@@ -25,6 +25,7 @@ import io.axual.ksml.data.object.DataNull;
 import io.axual.ksml.data.type.DataType;
 import io.axual.ksml.data.type.SimpleType;
 import io.axual.ksml.data.type.UnionType;
+import org.apache.kafka.common.header.internals.RecordHeaders;
 import org.apache.kafka.common.serialization.Deserializer;
 import org.apache.kafka.common.serialization.Serde;
 import org.apache.kafka.common.serialization.Serdes;
@@ -32,6 +33,9 @@ import org.apache.kafka.common.serialization.Serializer;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -223,4 +227,135 @@ class UnionSerdeTest {
                 .isInstanceOf(DataException.class)
                 .hasMessageContaining("Can not deserialize data as union");
     }
+
+    @Test
+    @DisplayName("tagged messages are read by the tagged member directly")
+    void taggedMessagesUseTaggedMember() {
+        final var attempts = new ArrayList<String>();
+        final var union = new UnionType(new UnionType.Member(STR_TYPE), new UnionType.Member(BYTE_TYPE));
+        final SerdeSupplier supplier = (type, isKey) -> type.equals(STR_TYPE)
+                ? recordingSerde("string", attempts, Serdes.String())
+                : recordingSerde("byte", attempts, new ByteSerde());
+        final var serde = new UnionSerde(union, false, supplier, "union-tag", false);
+
+        // Serializing tags the message with the type of the member used
+        final var headers = new RecordHeaders();
+        final var bytes = serde.serializer().serialize(TOPIC, headers, (byte) 0x41);
+        assertThat(headers.lastHeader("union-tag").value()).isEqualTo(BYTE_TYPE.spec().getBytes(StandardCharsets.UTF_8));
+
+        // A tagged message goes to the tagged member, even though the first member could read it as well
+        final var deserializer = serde.deserializer();
+        attempts.clear();
+        assertThat(deserializer.deserialize(TOPIC, headers, bytes)).isEqualTo((byte) 0x41);
+        assertThat(attempts).containsExactly("byte");
+
+        // Key serdes use their own header, so keys and values of one record keep separate tags
+        final var keySerde = new UnionSerde(union, true, supplier, "union-tag", false);
+        final var keyHeaders = new RecordHeaders();
+        keySerde.serializer().serialize(TOPIC, keyHeaders, "k");
+        assertThat(keyHeaders.lastHeader("union-tag.key").value()).isEqualTo(STR_TYPE.spec().getBytes(StandardCharsets.UTF_8));
+        assertThat(keyHeaders.lastHeader("union-tag")).isNull();
+
+        // Tombstones do not keep a tag copied from an incoming record
+        assertThat(serde.serializer().serialize(TOPIC, headers, null)).isNull();
+        assertThat(headers.lastHeader("union-tag")).isNull();
+    }
+
+    @Test
+    @DisplayName("tags that match none of the members are ignored")
+    void foreignTagsAreIgnored() {
+        final var attempts = new ArrayList<String>();
+        final var union = new UnionType(new UnionType.Member(STR_TYPE), new UnionType.Member(BYTE_TYPE));
+        final SerdeSupplier supplier = (type, isKey) -> type.equals(STR_TYPE)
+                ? recordingSerde("string", attempts, Serdes.String())
+                : recordingSerde("byte", attempts, new ByteSerde());
+        final var deserializer = new UnionSerde(union, false, supplier, "union-tag", false).deserializer();
+
+        // A tag copied from a record of another union falls back to the declared order
+        final var headers = new RecordHeaders();
+        headers.add("union-tag", "Int".getBytes(StandardCharsets.UTF_8));
+        assertThat(deserializer.deserialize(TOPIC, headers, "A".getBytes())).isEqualTo("A");
+        assertThat(attempts).containsExactly("string");
+
+        // An old index-style tag does not select a member either
+        attempts.clear();
+        headers.remove("union-tag");
+        headers.add("union-tag", new byte[]{1});
+        assertThat(deserializer.deserialize(TOPIC, headers, "B".getBytes())).isEqualTo("B");
+        assertThat(attempts).containsExactly("string");
+    }
+
+    @Test
+    @DisplayName("members sharing a type spec are not tagged")
+    void ambiguousMembersAreNotTagged() {
+        final var otherStrType = new SimpleType(CharSequence.class, "String");
+        final var union = new UnionType(new UnionType.Member(STR_TYPE), new UnionType.Member(otherStrType));
+        final var kafka = Serdes.String();
+        final SerdeSupplier supplier = (type, isKey) -> new Serde<>() {
+            @Override
+            public Serializer<Object> serializer() {
+                return (Serializer<Object>) (Serializer<?>) kafka.serializer();
+            }
+
+            @Override
+            public Deserializer<Object> deserializer() {
+                return (Deserializer<Object>) (Deserializer<?>) kafka.deserializer();
+            }
+        };
+        final var serde = new UnionSerde(union, false, supplier, "union-tag", false);
+
+        final var headers = new RecordHeaders();
+        serde.serializer().serialize(TOPIC, headers, "x");
+        assertThat(headers.lastHeader("union-tag")).isNull();
+    }
+
+    @Test
+    @DisplayName("untagged messages are read in declared order unless learning the read order is enabled")
+    void untaggedMessagesFollowDeclaredOrder() {
+        final var attempts = new ArrayList<String>();
+        final var intType = new SimpleType(Integer.class, "Int");
+        final var union = new UnionType(new UnionType.Member(intType), new UnionType.Member(STR_TYPE));
+        final SerdeSupplier supplier = (type, isKey) -> type.equals(STR_TYPE)
+                ? recordingSerde("string", attempts, Serdes.String())
+                : recordingSerde("int", attempts, Serdes.Integer());
+
+        // Three bytes can not be read as an integer, so the string member reads it
+        final var deserializer = new UnionSerde(union, false, supplier).deserializer();
+        assertThat(deserializer.deserialize(TOPIC, "abc".getBytes())).isEqualTo("abc");
+        assertThat(attempts).containsExactly("int", "string");
+
+        // Four bytes are still read as an integer first, like the declared order says
+        attempts.clear();
+        assertThat(deserializer.deserialize(TOPIC, "defg".getBytes())).isEqualTo(0x64656667);
+        assertThat(attempts).containsExactly("int");
+
+        // With learning enabled, the member that read the previous message goes first
+        final var learning = new UnionSerde(union, false, supplier);
+        learning.configure(Map.of(UnionSerde.LEARN_READ_ORDER_CONFIG, "true"), false);
+        final var learningDeserializer = learning.deserializer();
+        assertThat(learningDeserializer.deserialize(TOPIC, "abc".getBytes())).isEqualTo("abc");
+        attempts.clear();
+        assertThat(learningDeserializer.deserialize(TOPIC, "def".getBytes())).isEqualTo("def");
+        assertThat(attempts).containsExactly("string");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Serde<Object> recordingSerde(String name, List<String> attempts, Serde<?> delegate) {
+        final var serializer = (Serializer<Object>) delegate.serializer();
+        final var deserializer = (Deserializer<Object>) delegate.deserializer();
+        return new Serde<>() {
+            @Override
+            public Serializer<Object> serializer() {
+                return serializer;
+            }
+
+            @Override
+            public Deserializer<Object> deserializer() {
+                return (topic, data) -> {
+                    attempts.add(name);
+                    return deserializer.deserialize(topic, data);
+                };
+            }
+        };
+    }
 }
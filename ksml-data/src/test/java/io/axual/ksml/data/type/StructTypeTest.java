@@ -22,6 +22,7 @@ package io.axual.ksml.data.type;
 
 import io.axual.ksml.data.object.DataInteger;
 import io.axual.ksml.data.object.DataNull;
+import io.axual.ksml.data.object.DataStruct;
 import io.axual.ksml.data.object.DataString;
 import io.axual.ksml.data.schema.DataSchema;
 import io.axual.ksml.data.schema.DataSchemaConstants;
@@ -128,6 +129,23 @@ class StructTypeTest {
         assertThat(new StructType().fieldType("x", DataString.DATATYPE, DataType.UNKNOWN)).isEqualTo(DataString.DATATYPE);
     }
 
+    @Test
+    @DisplayName("Structs of one schema share a StructType; value checks give the same results on repeated calls")
+    void sharedTypesAndCachedValueChecks() {
+        var req = new StructSchema.Field("r", DataSchema.STRING_SCHEMA, null, 0);
+        var schemaA = new StructSchema("ns", "A", null, List.of(req));
+        var schemaB = new StructSchema("ns", "B", null, List.of());
+        assertThat(StructType.of(schemaA)).isSameAs(new DataStruct(schemaA).type()).isEqualTo(new StructType(schemaA));
+        assertThat(StructType.of(null)).isSameAs(new DataStruct().type()).isSameAs(StructType.of(StructSchema.SCHEMALESS));
+
+        var target = StructType.of(schemaA);
+        for (int i = 0; i < 3; i++) {
+            assertThat(target.isAssignableFrom(new DataStruct(schemaA)).isAssignable()).isTrue();
+            assertThat(target.isAssignableFrom(new DataStruct(schemaB)).isAssignable()).isFalse();
+            assertThat(target.isAssignableFrom(DataNull.INSTANCE).isAssignable()).isTrue();
+        }
+    }
+
     @Test
     @DisplayName("A StructType is assignable from DataNull")
     void isAssignableFromDataNull() {
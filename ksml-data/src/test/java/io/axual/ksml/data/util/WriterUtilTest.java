@@ -0,0 +1,78 @@
+package io.axual.ksml.data.util;
+
+/*-
+ * ========================LICENSE_START=================================
+ * KSML Data Library
+ * %%
+ * Copyright (C) 2021 - 2026 Axual B.V.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WriterUtilTest {
+    @Test
+    void writeToString_returnsWrittenText() throws IOException {
+        final var result = WriterUtil.writeToString(writer -> {
+            writer.write("abc");
+            writer.write('d');
+            writer.append("ef", 0, 1);
+            writer.close();
+        });
+        assertThat(result).isEqualTo("abcde");
+    }
+
+    @Test
+    void writeToString_reusesWriterWithoutLeakingPreviousContent() throws IOException {
+        final var first = new AtomicReference<Writer>();
+        final var second = new AtomicReference<Writer>();
+        WriterUtil.writeToString(writer -> {
+            first.set(writer);
+            writer.write("first");
+        });
+        final var result = WriterUtil.writeToString(writer -> {
+            second.set(writer);
+            writer.write("second");
+        });
+        assertThat(second.get()).isSameAs(first.get());
+        assertThat(result).isEqualTo("second");
+    }
+
+    @Test
+    void writeToString_nestedCallsUseSeparateWriters() throws IOException {
+        final var result = WriterUtil.writeToString(outer -> {
+            outer.write("outer[");
+            outer.write(WriterUtil.writeToString(inner -> inner.write("inner")));
+            outer.write("]");
+        });
+        assertThat(result).isEqualTo("outer[inner]");
+    }
+
+    @Test
+    void writeToString_releasesWriterWhenActionFails() throws IOException {
+        assertThatThrownBy(() -> WriterUtil.writeToString(writer -> {
+            writer.write("partial");
+            throw new IOException("boom");
+        })).isInstanceOf(IOException.class).hasMessage("boom");
+        assertThat(WriterUtil.writeToString(writer -> writer.write("next"))).isEqualTo("next");
+    }
+}
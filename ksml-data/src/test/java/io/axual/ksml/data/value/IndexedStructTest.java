@@ -0,0 +1,83 @@
+package io.axual.ksml.data.value;
+
+/*-
+ * ========================LICENSE_START=================================
+ * KSML Data Library
+ * %%
+ * Copyright (C) 2021 - 2026 Axual B.V.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IndexedStructTest {
+    private static final StructLayout LAYOUT = new StructLayout(List.of("b", "@meta", "a", "b", ""));
+
+    @Test
+    @DisplayName("The layout sorts keys like a Struct and skips duplicate and empty keys")
+    void layoutSortsKeys() {
+        assertThat(LAYOUT.size()).isEqualTo(3);
+        assertThat(List.of(LAYOUT.key(0), LAYOUT.key(1), LAYOUT.key(2))).containsExactly("a", "b", "@meta");
+        assertThat(LAYOUT.indexOf("b")).isEqualTo(1);
+        assertThat(LAYOUT.indexOf("c")).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("Entries iterate in Struct order, merging layout keys with additional keys")
+    void iteratesLikeStruct() {
+        final var indexed = new IndexedStruct<String>(LAYOUT);
+        final var struct = new Struct<String>();
+        for (final var map : List.<Map<String, String>>of(indexed, struct)) {
+            map.put("@meta", "m");
+            map.put("c", "3");
+            map.put("a", null);
+            map.put("@extra", "e");
+            map.put("", "empty");
+        }
+
+        assertThat(indexed.entrySet()).containsExactlyElementsOf(struct.entrySet());
+        assertThat(indexed)
+                .isEqualTo(struct)
+                .hasSameHashCodeAs(struct)
+                .hasSize(5)
+                .containsKey("a")
+                .doesNotContainKey("b");
+        assertThat(indexed.get("a")).isNull();
+        assertThat(indexed.get("c")).isEqualTo("3");
+    }
+
+    @Test
+    @DisplayName("Removing entries keeps size and contents consistent")
+    void removesEntries() {
+        final var indexed = new IndexedStruct<String>(LAYOUT);
+        indexed.put("a", "1");
+        indexed.put("b", "2");
+        indexed.put("c", "3");
+
+        assertThat(indexed.remove("a")).isEqualTo("1");
+        assertThat(indexed.remove("a")).isNull();
+        indexed.entrySet().removeIf(entry -> entry.getKey().equals("c"));
+
+        assertThat(indexed).isEqualTo(Map.of("b", "2"));
+        indexed.clear();
+        assertThat(indexed).isEmpty();
+    }
+}
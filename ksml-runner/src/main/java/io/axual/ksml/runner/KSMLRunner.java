@@ -193,6 +193,8 @@ public class KSMLRunner {
 
             setupErrorHandling(ksmlConfig.errorHandlingConfig());
             ExecutionContext.INSTANCE.serdeWrapper(serde -> wrapSerde(serde, config.getKafkaConfigMap()));
+            ExecutionContext.INSTANCE.unionTypeTagHeader(ksmlConfig.unionTypeTagHeader());
+            ExecutionContext.INSTANCE.unionLearnReadOrder(ksmlConfig.unionLearnReadOrder());
 
             final var parsedDefinitions = parseDefinitions(definitions);
             final var definitionSplit = splitDefinitions(parsedDefinitions, ksmlConfig.enableProducers(), ksmlConfig.enablePipelines());
@@ -24,10 +24,10 @@ import io.axual.ksml.client.producer.ResolvingProducer;
 import io.axual.ksml.generator.TopologyDefinition;
 import io.axual.ksml.python.PythonContext;
 import io.axual.ksml.python.PythonContextConfig;
-import io.axual.ksml.python.PythonFunction;
 import io.axual.ksml.runner.exception.RunnerException;
 import io.axual.ksml.runner.producer.ExecutableProducer;
 import io.axual.ksml.runner.producer.IntervalSchedule;
+import io.axual.ksml.user.UserFunctionFactory;
 import lombok.Builder;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.producer.Producer;
@@ -114,8 +114,8 @@ public class KafkaProducerRunner implements Runner {
                         ofNullable(definition.namespace()).orElse(UNDEFINED));
                 // Set up the Python context for this definition
                 final var context = new PythonContext(config.pythonContextConfig());
-                // Pre-register all functions in the Python context
-                definition.functions().forEach((name, function) -> PythonFunction.forFunction(context, definition.namespace(), name, function));
+                // Pre-register all functions in the Python context, or load them from their class when written in Java
+                definition.functions().forEach((name, function) -> UserFunctionFactory.forFunction(context, definition.namespace(), name, function));
                 // Schedule all defined producers
                 definition.producers().forEach((name, producer) -> {
                     var ep = ExecutableProducer.forProducer(context, definition.namespace(), name, producer, config.kafkaConfig);
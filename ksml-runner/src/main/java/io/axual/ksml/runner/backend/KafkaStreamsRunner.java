@@ -28,10 +28,15 @@ import io.axual.ksml.execution.ExecutionErrorHandler;
 import io.axual.ksml.generator.TopologyDefinition;
 import io.axual.ksml.metric.KsmlMetricsReporter;
 import io.axual.ksml.metric.KsmlTagEnricher;
+import io.axual.ksml.metric.MetricName;
+import io.axual.ksml.metric.MetricTags;
+import io.axual.ksml.metric.Metrics;
 import io.axual.ksml.python.PythonContextConfig;
+import io.axual.ksml.python.PythonWarmup;
 import io.axual.ksml.runner.config.ApplicationServerConfig;
 import io.axual.ksml.runner.exception.RunnerException;
 import io.axual.ksml.runner.streams.KSMLClientSupplier;
+import io.axual.ksml.store.KsmlRocksDBConfigSetter;
 import io.axual.utils.headers.cleaning.AxualHeaderCleaningInterceptor;
 import lombok.Builder;
 import lombok.Getter;
@@ -45,6 +50,7 @@ import org.apache.kafka.streams.StreamsConfig;
 import org.apache.kafka.streams.Topology;
 import org.apache.kafka.streams.TopologyConfig;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -74,6 +80,10 @@ public class KafkaStreamsRunner implements Runner {
     @Getter
     private final KafkaStreams kafkaStreams;
     private final AtomicBoolean stopRunning = new AtomicBoolean(false);
+    private final PythonContextConfig pythonContextConfig;
+    private final PythonWarmup pythonWarmup;
+    // Owns the Python contexts of the topology, which are closed once Kafka Streams has stopped
+    private final TopologyGenerator topologyGenerator;
     // Default sleep durations that can be overridden in tests
     private long startupSleepMs = 1000;
     private long pollingSleepMs = 200;
@@ -141,8 +151,12 @@ public class KafkaStreamsRunner implements Runner {
         final var topologyConfig = new TopologyConfig(streamsConfig);
         final var streamsBuilder = new StreamsBuilder(topologyConfig);
         var optimize = streamsProps.getOrDefault(StreamsConfig.TOPOLOGY_OPTIMIZATION_CONFIG, StreamsConfig.OPTIMIZE);
-        final var topologyGenerator = new TopologyGenerator(applicationId, (String) optimize, config.pythonContextConfig());
+        topologyGenerator = new TopologyGenerator(applicationId, (String) optimize, config.pythonContextConfig());
         final var topology = topologyGenerator.create(streamsBuilder, config.definitions);
+        pythonContextConfig = config.pythonContextConfig();
+        pythonWarmup = pythonContextConfig != null && pythonContextConfig.warmupIterations() > 0
+                ? new PythonWarmup(topologyGenerator.userFunctions())
+                : null;
         final var topologyDesc = topology.describe();
         final var ksmlTagEnricher = KsmlTagEnricher.from(topologyDesc);
 
@@ -151,6 +165,14 @@ public class KafkaStreamsRunner implements Runner {
                         "org.apache.kafka.common.metrics.JmxReporter");
         streamsProps.put(KsmlMetricsReporter.ENRICHER_INSTANCE_CONFIG, ksmlTagEnricher);
 
+        // Pass the RocksDB options of all stores to the config setter, which looks them up by store name
+        final var rocksDBOptions = topologyGenerator.rocksDBOptions();
+        streamsProps.put(KsmlRocksDBConfigSetter.STORE_OPTIONS_CONFIG, rocksDBOptions);
+        final var configSetter = streamsProps.get(StreamsConfig.ROCKSDB_CONFIG_SETTER_CLASS_CONFIG);
+        if (!rocksDBOptions.isEmpty() && configSetter != KsmlRocksDBConfigSetter.class && !KsmlRocksDBConfigSetter.class.getName().equals(configSetter)) {
+            log.warn("RocksDB options of stores {} are ignored, since {} is set to {}", rocksDBOptions.keySet(), StreamsConfig.ROCKSDB_CONFIG_SETTER_CLASS_CONFIG, configSetter);
+        }
+
         kafkaStreams = kafkaStreamsFactory.apply(topology, mapToProperties(streamsProps));
         kafkaStreams.setStateListener(this::logStreamsStateChange);
         kafkaStreams.setUncaughtExceptionHandler(ExecutionContext.INSTANCE.errorHandling()::uncaughtException);
@@ -227,6 +249,9 @@ public class KafkaStreamsRunner implements Runner {
      */
     KafkaStreamsRunner(Config config, BiFunction<Topology, Properties, KafkaStreams> kafkaStreamsFactory, KsmlTagEnricher tagEnricher) {
         log.info("Constructing Kafka Backend (test mode)");
+        pythonContextConfig = config.pythonContextConfig();
+        pythonWarmup = null;
+        topologyGenerator = null;
 
         final var streamsProps = getStreamsConfig(config.kafkaConfig, config.storageDirectory, config.appServer);
 
@@ -252,6 +277,7 @@ public class KafkaStreamsRunner implements Runner {
      *     <li>Copies the initial configuration if provided</li>
      *     <li>Sets default values for optimization if not explicitly configured</li>
      *     <li>Sets exception handlers for production and deserialization errors</li>
+     *     <li>Sets the KSML RocksDB config setter if no other setter is configured</li>
      *     <li>Adds cleanup interceptors to all consumer configurations</li>
      *     <li>Sets the state directory for Kafka Streams</li>
      *     <li>Configures the application server if enabled</li>
@@ -271,6 +297,9 @@ public class KafkaStreamsRunner implements Runner {
         result.put(StreamsConfig.PRODUCTION_EXCEPTION_HANDLER_CLASS_CONFIG, ExecutionErrorHandler.class);
         result.put(StreamsConfig.DESERIALIZATION_EXCEPTION_HANDLER_CLASS_CONFIG, ExecutionErrorHandler.class);
 
+        // Apply the RocksDB options of store definitions, unless the user configured a setter of their own
+        result.putIfAbsent(StreamsConfig.ROCKSDB_CONFIG_SETTER_CLASS_CONFIG, KsmlRocksDBConfigSetter.class);
+
         // Make sure that all consumers have an interceptor configuration
         addCleanupInterceptor(StreamsConfig.CONSUMER_PREFIX, result, true);
         addCleanupInterceptor(StreamsConfig.MAIN_CONSUMER_PREFIX, result, false);
@@ -320,6 +349,7 @@ public class KafkaStreamsRunner implements Runner {
      *
      * <p>The method:</p>
      * <ul>
+     *     <li>Warms up the Python functions, if configured</li>
      *     <li>Starts the Kafka Streams application</li>
      *     <li>Waits for a short period to allow asynchronous startup</li>
      *     <li>Continuously monitors the application state</li>
@@ -331,6 +361,7 @@ public class KafkaStreamsRunner implements Runner {
     public void run() {
         log.info("Starting Kafka Streams backend");
         try {
+            warmUpPython();
             kafkaStreams.start();
             // Allow Kafka Streams to start up asynchronously
             Utils.sleep(startupSleepMs);
@@ -346,12 +377,25 @@ public class KafkaStreamsRunner implements Runner {
             } else {
                 log.info("Kafka Streams has stopped");
             }
+            if (topologyGenerator != null) topologyGenerator.close();
         }
         if (getState() == State.FAILED) {
             throw new RunnerException("Kafka Streams is in a failed state");
         }
     }
 
+    /**
+     * Calls all Python functions with sample arguments before Kafka Streams starts, so they are compiled before the
+     * first records arrive. The time spent is reported in the {@code python-warmup-time} metric.
+     */
+    private void warmUpPython() {
+        if (pythonWarmup == null) return;
+        final var warmupTime = pythonWarmup.run(pythonContextConfig.warmupIterations(), Duration.ofMillis(pythonContextConfig.warmupTimeoutMs()));
+        final var metricName = new MetricName("python-warmup-time", new MetricTags());
+        Metrics.registry().remove(metricName);
+        Metrics.registry().registerGauge(metricName, warmupTime::toMillis);
+    }
+
     /**
      * Sets the sleep durations used in the run method.
      * This method is package-private and intended for testing to reduce wait times.
@@ -95,6 +95,14 @@ public class KSMLConfig {
     @JsonPropertyDescription("Toggle to enable or disable the creation of pipelines in the KSML definitions. Default value is true")
     private boolean enablePipelines = true;
 
+    @JsonProperty(value = "unionTypeTagHeader", required = false)
+    @JsonPropertyDescription("Name of the Kafka header in which union serdes record the member type of each message. Default is empty, meaning messages are not tagged")
+    private String unionTypeTagHeader;
+
+    @JsonProperty(value = "unionLearnReadOrder", required = false, defaultValue = "false")
+    @JsonPropertyDescription("Toggle to read untagged union messages with the member type that read the previous message first, instead of in declared order. Default value is false")
+    private boolean unionLearnReadOrder = false;
+
     @JsonProperty(value = "errorHandling", required = false)
     @JsonPropertyDescription("Configures how different types of errors are handled")
     private ErrorHandlingConfig errorHandlingConfig = new ErrorHandlingConfig();
@@ -30,9 +30,9 @@ import io.axual.ksml.exception.TopologyException;
 import io.axual.ksml.execution.ExecutionContext;
 import io.axual.ksml.metric.MetricTags;
 import io.axual.ksml.python.PythonContext;
-import io.axual.ksml.python.PythonFunction;
 import io.axual.ksml.type.UserType;
 import io.axual.ksml.user.UserFunction;
+import io.axual.ksml.user.UserFunctionFactory;
 import io.axual.ksml.user.UserGenerator;
 import io.axual.ksml.user.UserStreamPartitioner;
 import io.axual.ksml.util.Pair;
@@ -130,10 +130,10 @@ public class ExecutableProducer {
             throw new TopologyException("Missing generator function for producer \"" + name + "\"");
         }
         final var generator = gen.name() != null
-                ? PythonFunction.forGenerator(context, namespace, gen.name(), gen)
-                : PythonFunction.forGenerator(context, namespace, name, gen);
+                ? UserFunctionFactory.forGenerator(context, namespace, gen.name(), gen)
+                : UserFunctionFactory.forGenerator(context, namespace, name, gen);
         final var partitioner = target.partitioner() != null
-                ? PythonFunction.forFunction(context, namespace, target.partitioner().name(), target.partitioner())
+                ? UserFunctionFactory.forFunction(context, namespace, target.partitioner().name(), target.partitioner())
                 : null;
 
         // Initialize the producer strategy
@@ -25,7 +25,7 @@ import io.axual.ksml.definition.FunctionDefinition;
 import io.axual.ksml.definition.ProducerDefinition;
 import io.axual.ksml.metric.MetricTags;
 import io.axual.ksml.python.PythonContext;
-import io.axual.ksml.python.PythonFunction;
+import io.axual.ksml.user.UserFunctionFactory;
 import io.axual.ksml.user.UserPredicate;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -87,7 +87,7 @@ public class ProducerStrategy {
     private UserPredicate userPredicateFrom(FunctionDefinition function, PythonContext context, String namespace, String name, MetricTags tags) {
         if (function == null) return null;
         return new UserPredicate(
-                PythonFunction.forPredicate(context, namespace, function.name() != null ? function.name() : name, function),
+                UserFunctionFactory.forPredicate(context, namespace, function.name() != null ? function.name() : name, function),
                 tags);
     }
 
@@ -25,6 +25,7 @@ import io.axual.ksml.execution.ExecutionErrorHandler;
 import io.axual.ksml.metric.KsmlTagEnricher;
 import io.axual.ksml.runner.config.ApplicationServerConfig;
 import io.axual.ksml.runner.exception.RunnerException;
+import io.axual.ksml.store.KsmlRocksDBConfigSetter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.streams.KafkaStreams;
@@ -234,6 +235,7 @@ class KafkaStreamsRunnerTest {
                                                 StreamsConfig.STATE_DIR_CONFIG, "test-dir",
                                                 StreamsConfig.PRODUCTION_EXCEPTION_HANDLER_CLASS_CONFIG, ExecutionErrorHandler.class,
                                                 StreamsConfig.DESERIALIZATION_EXCEPTION_HANDLER_CLASS_CONFIG, ExecutionErrorHandler.class,
+                                                StreamsConfig.ROCKSDB_CONFIG_SETTER_CLASS_CONFIG, KsmlRocksDBConfigSetter.class,
                                                 StreamsConfig.TOPOLOGY_OPTIMIZATION_CONFIG, StreamsConfig.OPTIMIZE
                                         ),
                                         Set.of(
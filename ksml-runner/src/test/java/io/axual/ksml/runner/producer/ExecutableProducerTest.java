@@ -22,14 +22,19 @@ package io.axual.ksml.runner.producer;
 
 import io.axual.ksml.data.notation.binary.BinaryNotation;
 import io.axual.ksml.data.notation.json.JsonNotation;
+import io.axual.ksml.data.object.DataBoolean;
 import io.axual.ksml.data.object.DataInteger;
 import io.axual.ksml.data.object.DataObject;
 import io.axual.ksml.data.object.DataList;
 import io.axual.ksml.data.object.DataString;
 import io.axual.ksml.data.object.DataTuple;
+import io.axual.ksml.definition.FunctionDefinition;
 import io.axual.ksml.definition.ParameterDefinition;
 import io.axual.ksml.definition.ProducerDefinition;
+import io.axual.ksml.definition.TopicDefinition;
+import io.axual.ksml.dsl.KSMLDSL;
 import io.axual.ksml.execution.ExecutionContext;
+import io.axual.ksml.java.KSMLFunction;
 import io.axual.ksml.metric.MetricTags;
 import io.axual.ksml.store.StateStores;
 import io.axual.ksml.type.UserType;
@@ -47,6 +52,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -353,4 +359,62 @@ class ExecutableProducerTest {
 
         assertThat(mockProducer.history()).isEmpty();
     }
+
+    // ---- functions written in Java (created through forProducer, no Python/GraalVM) ----------
+
+    public static class JavaGenerator implements KSMLFunction {
+        @Override
+        public DataObject call(StateStores stores, DataObject... parameters) {
+            return new DataTuple(new DataString("java-key"), new DataString("java-value"));
+        }
+    }
+
+    public static class RejectingCondition implements KSMLFunction {
+        @Override
+        public DataObject call(StateStores stores, DataObject... parameters) {
+            return new DataBoolean(false);
+        }
+    }
+
+    private static FunctionDefinition javaFunction(String type, ParameterDefinition[] parameters, UserType resultType, Class<? extends KSMLFunction> clazz) {
+        return FunctionDefinition.as(type, null, parameters, (String) null, null, null, resultType, null)
+                .withLanguage(KSMLDSL.Functions.LANGUAGE_JAVA, clazz.getName());
+    }
+
+    private static ProducerDefinition javaProducerDefinition(FunctionDefinition condition) {
+        final var generator = javaFunction(KSMLDSL.Functions.TYPE_GENERATOR, new ParameterDefinition[0], new UserType(UserGenerator.EXPECTED_RESULT_TYPE), JavaGenerator.class);
+        final var target = new TopicDefinition(TOPIC, STRING_TYPE, STRING_TYPE, null, null, null);
+        // A message count is set, since "produce once" producers do not apply their condition
+        return new ProducerDefinition(generator, condition, null, target, 1L, null, null);
+    }
+
+    @Test
+    @DisplayName("forProducer creates a generator written in Java without a Python context")
+    void forProducerUsesJavaGenerator() {
+        // The Python context is null, so this fails if the generator is created as a Python function
+        final var producer = ExecutableProducer.forProducer(null, "ns", "java_producer", javaProducerDefinition(null), Map.of());
+        final var mockProducer = new MockProducer<>(true, null, new ByteArraySerializer(), new ByteArraySerializer());
+
+        producer.produceMessages(mockProducer);
+
+        assertThat(mockProducer.history()).hasSize(1);
+        assertThat(mockProducer.history().get(0).topic()).isEqualTo(TOPIC);
+        assertThat(producer.name()).isEqualTo("java_producer");
+    }
+
+    @Test
+    @DisplayName("forProducer creates a condition written in Java without a Python context")
+    void forProducerUsesJavaCondition() {
+        final var parameters = new ParameterDefinition[]{
+                new ParameterDefinition("key", DataString.DATATYPE),
+                new ParameterDefinition("value", DataString.DATATYPE)};
+        final var condition = javaFunction(KSMLDSL.Functions.TYPE_PREDICATE, parameters, new UserType(DataBoolean.DATATYPE), RejectingCondition.class);
+        final var producer = ExecutableProducer.forProducer(null, "ns", "java_producer", javaProducerDefinition(condition), Map.of());
+        final var mockProducer = new MockProducer<>(true, null, new ByteArraySerializer(), new ByteArraySerializer());
+
+        producer.produceMessages(mockProducer);
+
+        // The condition rejects every generated message
+        assertThat(mockProducer.history()).isEmpty();
+    }
 }
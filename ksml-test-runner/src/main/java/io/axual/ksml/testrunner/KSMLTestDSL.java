@@ -87,6 +87,8 @@ public final class KSMLTestDSL {
             public static final String GLOBAL_CODE = "globalCode";
             public static final String CODE = "code";
             public static final String EXPRESSION = "expression";
+            public static final String LANGUAGE = "language";
+            public static final String CLASS = "class";
         }
     }
 
@@ -171,25 +171,25 @@ public class KSMLTestRunner {
             var topologyDefinition = new TopologyDefinitionParser(topologyName)
                     .parse(ParseNode.fromRoot(definitionJson, topologyName));
 
-            var topologyGenerator = new TopologyGenerator(
+            try (var topologyGenerator = new TopologyGenerator(
                     topologyName + ".test",
                     null,
                     PythonContextConfig.builder()
                             .modulePath(modulesDirectory)
                             .build()
-            );
-
-            var streamsBuilder = new StreamsBuilder();
-            var topology = topologyGenerator.create(streamsBuilder,
-                    ImmutableMap.of("definition", topologyDefinition));
-            log.debug("Topology:\n{}", topology.describe());
-
-            try (var driver = new TopologyTestDriver(topology)) {
-                var producer = new TestDataProducer(driver, suite.streams());
-                producer.produce(testCase.produce());
-
-                var assertionRunner = new AssertionRunner(driver, suite.streams());
-                return assertionRunner.runAssertions(testCase.assertions(), suiteName, displayLabel);
+            )) {
+                var streamsBuilder = new StreamsBuilder();
+                var topology = topologyGenerator.create(streamsBuilder,
+                        ImmutableMap.of("definition", topologyDefinition));
+                log.debug("Topology:\n{}", topology.describe());
+
+                try (var driver = new TopologyTestDriver(topology)) {
+                    var producer = new TestDataProducer(driver, suite.streams());
+                    producer.produce(testCase.produce());
+
+                    var assertionRunner = new AssertionRunner(driver, suite.streams());
+                    return assertionRunner.runAssertions(testCase.assertions(), suiteName, displayLabel);
+                }
             }
 
         } catch (TestDefinitionException e) {
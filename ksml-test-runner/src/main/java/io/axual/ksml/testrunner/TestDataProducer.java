@@ -30,9 +30,9 @@ import io.axual.ksml.generator.StreamDataType;
 import io.axual.ksml.parser.UserTypeParser;
 import io.axual.ksml.python.PythonContext;
 import io.axual.ksml.python.PythonContextConfig;
-import io.axual.ksml.python.PythonFunction;
 import io.axual.ksml.type.UserTupleType;
 import io.axual.ksml.type.UserType;
+import io.axual.ksml.user.UserFunctionFactory;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.common.serialization.Serde;
 import org.apache.kafka.common.serialization.StringSerializer;
@@ -114,6 +114,8 @@ public class TestDataProducer {
         var globalCode = getStringOrDefault(generatorMap, KSMLTestDSL.Produce.Generator.GLOBAL_CODE, "");
         var code = getStringOrDefault(generatorMap, KSMLTestDSL.Produce.Generator.CODE, "");
         var expression = getStringOrDefault(generatorMap, KSMLTestDSL.Produce.Generator.EXPRESSION, "result");
+        var language = getStringOrDefault(generatorMap, KSMLTestDSL.Produce.Generator.LANGUAGE, null);
+        var className = getStringOrDefault(generatorMap, KSMLTestDSL.Produce.Generator.CLASS, null);
 
         // Use a concrete ListType result type rather than GeneratorDefinition's UnionType default.
         // PythonDataObjectMapper cannot convert a polyglot Value when the expected type is a UnionType,
@@ -123,11 +125,11 @@ public class TestDataProducer {
         var resultType = new UserType(new ListType(new UserTupleType(UserType.UNKNOWN, UserType.UNKNOWN)));
         var functionDef = FunctionDefinition.as(
                 "generator", generatorName, List.of(),
-                globalCode, code, expression, resultType, null);
+                globalCode, code, expression, resultType, null).withLanguage(language, className);
 
-        // Create a PythonContext and register the generator function
+        // Create a PythonContext and register the generator function, unless it is implemented in Java
         try (var pythonContext = new PythonContext(PythonContextConfig.builder().build())) {
-            var pythonFunction = PythonFunction.forGenerator(
+            var generatorFunction = UserFunctionFactory.forGenerator(
                 pythonContext, GENERATOR_NAMESPACE, generatorName, functionDef);
 
             // Set up the input topic with proper serdes
@@ -139,7 +141,7 @@ public class TestDataProducer {
             // Invoke the generator 'count' times and pipe results
             int totalMessages = 0;
             for (long i = 0; i < count; i++) {
-                var generated = pythonFunction.call();
+                var generated = generatorFunction.call();
                 var messages = extractKeyValuePairs(generated);
                 for (var pair : messages) {
                     inputTopic.pipeInput(pair[0], pair[1]);
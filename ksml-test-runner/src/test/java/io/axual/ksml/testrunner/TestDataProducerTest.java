@@ -20,6 +20,12 @@ package io.axual.ksml.testrunner;
  * =========================LICENSE_END==================================
  */
 
+import io.axual.ksml.data.object.DataList;
+import io.axual.ksml.data.object.DataObject;
+import io.axual.ksml.data.object.DataString;
+import io.axual.ksml.data.object.DataTuple;
+import io.axual.ksml.java.KSMLFunction;
+import io.axual.ksml.store.StateStores;
 import org.apache.kafka.common.serialization.Serdes;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.streams.StreamsBuilder;
@@ -198,4 +204,27 @@ class TestDataProducerTest {
         assertThrows(TestDefinitionException.class,
                 () -> producer.produce(blockList));
     }
+
+    public static class JavaGenerator implements KSMLFunction {
+        @Override
+        public DataObject call(StateStores stores, DataObject... parameters) {
+            var result = new DataList();
+            result.add(new DataTuple(new DataString("java-key"), new DataString("java-value")));
+            return result;
+        }
+    }
+
+    @Test
+    void producesMessagesFromJavaGenerator() {
+        var producer = new TestDataProducer(driver, streams);
+        var generator = Map.<String, Object>of("language", "java", "class", JavaGenerator.class.getName());
+        var block = new ProduceBlock(INPUT_STREAM, null, generator, 2L);
+
+        producer.produce(List.of(block));
+
+        var records = outputTopic().readRecordsToList();
+        assertEquals(2, records.size());
+        assertEquals("java-key", records.getFirst().key());
+        assertEquals("java-value", records.getFirst().value());
+    }
 }
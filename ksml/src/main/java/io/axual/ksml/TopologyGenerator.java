@@ -22,6 +22,7 @@ package io.axual.ksml;
 
 
 import io.axual.ksml.definition.GlobalTableDefinition;
+import io.axual.ksml.definition.RocksDBOptionsDefinition;
 import io.axual.ksml.definition.StateStoreDefinition;
 import io.axual.ksml.definition.TableDefinition;
 import io.axual.ksml.exception.TopologyException;
@@ -32,24 +33,38 @@ import io.axual.ksml.operation.DualStoreOperation;
 import io.axual.ksml.operation.StoreOperation;
 import io.axual.ksml.operation.StreamOperation;
 import io.axual.ksml.python.PythonContextConfig;
+import io.axual.ksml.python.PythonContextPool;
 import io.axual.ksml.stream.StreamWrapper;
+import io.axual.ksml.user.UserFunction;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.streams.StreamsBuilder;
 import org.apache.kafka.streams.StreamsConfig;
 import org.apache.kafka.streams.Topology;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import java.util.TreeMap;
 
 @Slf4j
-public class TopologyGenerator {
+public class TopologyGenerator implements AutoCloseable {
     private static final String UNDEFINED = "undefined";
     private final String applicationId;
     private final Properties optimization;
     private final PythonContextConfig pythonContextConfig;
+    // The user functions of all created topologies
+    @Getter
+    private final List<UserFunction> userFunctions = new ArrayList<>();
+    // The RocksDB options of all persistent stores in the created topologies, by store name
+    @Getter
+    private final Map<String, RocksDBOptionsDefinition> rocksDBOptions = new HashMap<>();
+    // The Python contexts of all created topologies, which are closed together with the generator
+    private final List<PythonContextPool> pythonContextPools = new ArrayList<>();
 
     public TopologyGenerator(String applicationId) {
         this(applicationId, null, PythonContextConfig.builder().build());
@@ -81,6 +96,9 @@ public class TopologyGenerator {
 
             final var context = new TopologyBuildContext(streamsBuilder, definition, pythonContextConfig);
             generate(definition, context);
+            pythonContextPools.add(context.pythonContexts());
+            userFunctions.addAll(context.userFunctions());
+            rocksDBOptions.putAll(context.rocksDBOptions());
             stores.putAll(definition.stateStores());
         });
 
@@ -138,6 +156,15 @@ public class TopologyGenerator {
         }
     }
 
+    /**
+     * Close the Python contexts of all created topologies. Call this after the topologies have stopped processing.
+     */
+    @Override
+    public void close() {
+        pythonContextPools.forEach(PythonContextPool::close);
+        pythonContextPools.clear();
+    }
+
     private void generate(TopologyDefinition definition, TopologyBuildContext context) {
         // Preload the function into the Python context
         definition.functions().forEach((name, func) -> context.createUserFunction(func));
@@ -46,6 +46,9 @@ public class FunctionDefinition extends AbstractDefinition {
     private final String[] expression;
     private final UserType resultType;
     private final List<String> storeNames;
+    // The language the function is written in, and the class implementing it for languages other than Python
+    private final String language;
+    private final String className;
 
     public static FunctionDefinition as(String type, String name, List<ParameterDefinition> parameters, String globalCode, String code, String expression, UserType resultType, List<String> storeNames) {
         return as(type, name, parameters, multiline(globalCode), multiline(code), multiline(expression), resultType, storeNames);
@@ -56,23 +59,27 @@ public class FunctionDefinition extends AbstractDefinition {
     }
 
     public static FunctionDefinition as(String type, String name, ParameterDefinition[] parameters, String globalCode, String code, String expression, UserType resultType, List<String> storeNames) {
-        return new FunctionDefinition(type, name, parameters, multiline(globalCode), multiline(code), multiline(expression), resultType, storeNames);
+        return new FunctionDefinition(type, name, parameters, multiline(globalCode), multiline(code), multiline(expression), resultType, storeNames, null, null);
     }
 
     public static FunctionDefinition as(String type, String name, ParameterDefinition[] parameters, String[] globalCode, String[] code, String[] expression, UserType resultType, List<String> storeNames) {
-        return new FunctionDefinition(type, name, parameters, globalCode, code, expression, resultType, storeNames);
+        return new FunctionDefinition(type, name, parameters, globalCode, code, expression, resultType, storeNames, null, null);
+    }
+
+    public FunctionDefinition withLanguage(String language, String className) {
+        return new FunctionDefinition(type, name, parameters, globalCode, code, expression, resultType, storeNames, language, className);
     }
 
     public FunctionDefinition withType(String type) {
-        return new FunctionDefinition(type, name, parameters, globalCode, code, expression, resultType, storeNames);
+        return new FunctionDefinition(type, name, parameters, globalCode, code, expression, resultType, storeNames, language, className);
     }
 
     public FunctionDefinition withName(String name) {
-        return new FunctionDefinition(type, name, parameters, globalCode, code, expression, resultType, storeNames);
+        return new FunctionDefinition(type, name, parameters, globalCode, code, expression, resultType, storeNames, language, className);
     }
 
     public FunctionDefinition withParameters(ParameterDefinition[] parameters) {
-        return new FunctionDefinition(type, name, parameters, globalCode, code, expression, resultType, storeNames);
+        return new FunctionDefinition(type, name, parameters, globalCode, code, expression, resultType, storeNames, language, className);
     }
 
     public FunctionDefinition withDefaultResultType(DataType defaultResultType) {
@@ -80,11 +87,11 @@ public class FunctionDefinition extends AbstractDefinition {
     }
 
     public FunctionDefinition withDefaultResultType(UserType defaultResultType) {
-        return new FunctionDefinition(type, name, parameters, globalCode, code, expression, resultType != null ? resultType : defaultResultType, storeNames);
+        return new FunctionDefinition(type, name, parameters, globalCode, code, expression, resultType != null ? resultType : defaultResultType, storeNames, language, className);
     }
 
     public FunctionDefinition withResultType(UserType resultType) {
-        return new FunctionDefinition(type, name, parameters, globalCode, code, expression, resultType, storeNames);
+        return new FunctionDefinition(type, name, parameters, globalCode, code, expression, resultType, storeNames, language, className);
     }
 
     public FunctionDefinition withDefaultExpression(String expression) {
@@ -92,7 +99,7 @@ public class FunctionDefinition extends AbstractDefinition {
     }
 
     public FunctionDefinition withDefaultExpression(String[] defaultExpression) {
-        return new FunctionDefinition(type, name, parameters, globalCode, code, expression != null && !Arrays.equals(EMPTY_STRING_ARRAY, expression) ? expression : defaultExpression, resultType, storeNames);
+        return new FunctionDefinition(type, name, parameters, globalCode, code, expression != null && !Arrays.equals(EMPTY_STRING_ARRAY, expression) ? expression : defaultExpression, resultType, storeNames, language, className);
     }
 
     public FunctionDefinition validateNoResultTypeDefined() {
@@ -111,7 +118,7 @@ public class FunctionDefinition extends AbstractDefinition {
         throw new TopologyException(message + ": function=" + name() + ", type=" + type() + ", resultType=" + resultType());
     }
 
-    private FunctionDefinition(String type, String name, ParameterDefinition[] parameters, String[] globalCode, String[] code, String[] expression, UserType resultType, List<String> storeNames) {
+    private FunctionDefinition(String type, String name, ParameterDefinition[] parameters, String[] globalCode, String[] code, String[] expression, UserType resultType, List<String> storeNames, String language, String className) {
         this.type = type;
         this.name = name;
         this.parameters = parameters;
@@ -120,6 +127,8 @@ public class FunctionDefinition extends AbstractDefinition {
         this.code = code != null ? code : EMPTY_STRING_ARRAY;
         this.globalCode = globalCode != null ? globalCode : EMPTY_STRING_ARRAY;
         this.storeNames = storeNames != null ? storeNames : EMPTY_STRING_LIST;
+        this.language = language;
+        this.className = className;
     }
 
     protected FunctionDefinition(FunctionDefinition definition) {
@@ -131,6 +140,8 @@ public class FunctionDefinition extends AbstractDefinition {
         this.code = definition.code != null ? definition.code : new String[]{};
         this.globalCode = definition.globalCode != null ? definition.globalCode : EMPTY_STRING_ARRAY;
         this.storeNames = definition.storeNames != null ? definition.storeNames : EMPTY_STRING_LIST;
+        this.language = definition.language;
+        this.className = definition.className;
     }
 
     // Add explicitly named parameters to the default set of parameters. The default parameters take precedence in the
@@ -33,23 +33,39 @@ public class KeyValueStateStoreDefinition extends StateStoreDefinition {
     private final boolean versioned;
     private final Duration historyRetention;
     private final Duration segmentInterval;
+    private final boolean offHeap;
+    // The maximum number of deserialized values kept in front of the store, 0 if no values are kept
+    private final int objectCacheSize;
+    // The time after which values kept in front of the store expire, zero if they do not expire
+    private final Duration objectCacheTtl;
 
     public KeyValueStateStoreDefinition(String name, UserType keyType, UserType valueType) {
         this(name, false, false, false, null, null, keyType, valueType, false, false);
     }
 
     public KeyValueStateStoreDefinition(String name, Boolean persistent, Boolean timestamped, Boolean versioned, Duration historyRetention, Duration segmentInterval, UserType keyType, UserType valueType, Boolean caching, Boolean logging) {
-        super(StoreType.KEYVALUE_STORE, name, persistent, timestamped, keyType, valueType, caching, logging);
+        this(name, persistent, timestamped, versioned, historyRetention, segmentInterval, keyType, valueType, caching, logging, null, null, null);
+    }
+
+    public KeyValueStateStoreDefinition(String name, Boolean persistent, Boolean timestamped, Boolean versioned, Duration historyRetention, Duration segmentInterval, UserType keyType, UserType valueType, Boolean caching, Boolean logging, Boolean offHeap, Integer objectCacheSize, Duration objectCacheTtl) {
+        this(name, persistent, timestamped, versioned, historyRetention, segmentInterval, keyType, valueType, caching, logging, offHeap, objectCacheSize, objectCacheTtl, null);
+    }
+
+    public KeyValueStateStoreDefinition(String name, Boolean persistent, Boolean timestamped, Boolean versioned, Duration historyRetention, Duration segmentInterval, UserType keyType, UserType valueType, Boolean caching, Boolean logging, Boolean offHeap, Integer objectCacheSize, Duration objectCacheTtl, RocksDBOptionsDefinition rocksDB) {
+        super(StoreType.KEYVALUE_STORE, name, persistent, timestamped, keyType, valueType, caching, logging, rocksDB);
         this.versioned = versioned != null && versioned;
         this.historyRetention = historyRetention != null ? historyRetention : Duration.ZERO;
         this.segmentInterval = segmentInterval != null ? segmentInterval : Duration.ZERO;
+        this.offHeap = offHeap != null && offHeap;
+        this.objectCacheSize = objectCacheSize != null ? objectCacheSize : 0;
+        this.objectCacheTtl = objectCacheTtl != null ? objectCacheTtl : Duration.ZERO;
     }
 
     public KeyValueStateStoreDefinition with(String name) {
-        return new KeyValueStateStoreDefinition(name, persistent(), timestamped(), versioned(), historyRetention(), segmentInterval(), keyType(), valueType(), caching(), logging());
+        return new KeyValueStateStoreDefinition(name, persistent(), timestamped(), versioned(), historyRetention(), segmentInterval(), keyType(), valueType(), caching(), logging(), offHeap(), objectCacheSize(), objectCacheTtl(), rocksDB());
     }
 
     public KeyValueStateStoreDefinition with(UserType keyType, UserType valueType) {
-        return new KeyValueStateStoreDefinition(name(), persistent(), timestamped(), versioned(), historyRetention(), segmentInterval(), keyType, valueType, caching(), logging());
+        return new KeyValueStateStoreDefinition(name(), persistent(), timestamped(), versioned(), historyRetention(), segmentInterval(), keyType, valueType, caching(), logging(), offHeap(), objectCacheSize(), objectCacheTtl(), rocksDB());
     }
 }
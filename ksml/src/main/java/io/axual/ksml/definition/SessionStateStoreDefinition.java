@@ -33,7 +33,11 @@ public class SessionStateStoreDefinition extends StateStoreDefinition {
     private final Duration retention;
 
     public SessionStateStoreDefinition(String name, Boolean persistent, Boolean timestamped, Duration retention, UserType keyType, UserType valueType, Boolean caching, Boolean logging) {
-        super(StoreType.SESSION_STORE, name, persistent, timestamped, keyType, valueType, caching, logging);
+        this(name, persistent, timestamped, retention, keyType, valueType, caching, logging, null);
+    }
+
+    public SessionStateStoreDefinition(String name, Boolean persistent, Boolean timestamped, Duration retention, UserType keyType, UserType valueType, Boolean caching, Boolean logging, RocksDBOptionsDefinition rocksDB) {
+        super(StoreType.SESSION_STORE, name, persistent, timestamped, keyType, valueType, caching, logging, rocksDB);
         this.retention = retention != null ? retention : Duration.ZERO;
     }
 }
@@ -38,8 +38,10 @@ public abstract class StateStoreDefinition extends AbstractDefinition {
     private final UserType valueType;
     private final boolean caching;
     private final boolean logging;
+    // The RocksDB tuning options of this store, null to use the Kafka Streams defaults
+    private final RocksDBOptionsDefinition rocksDB;
 
-    protected StateStoreDefinition(StoreType type, String name, Boolean persistent, Boolean timestamped, UserType keyType, UserType valueType, Boolean caching, Boolean logging) {
+    protected StateStoreDefinition(StoreType type, String name, Boolean persistent, Boolean timestamped, UserType keyType, UserType valueType, Boolean caching, Boolean logging, RocksDBOptionsDefinition rocksDB) {
         Objects.requireNonNull(type, "State stores must have a defined type");
         Objects.requireNonNull(name, "State stores must have a defined name");
         this.type = type;
@@ -50,6 +52,7 @@ public abstract class StateStoreDefinition extends AbstractDefinition {
         this.valueType = valueType;
         this.caching = caching != null && caching;
         this.logging = logging != null && logging;
+        this.rocksDB = rocksDB;
     }
 
     @Override
@@ -35,7 +35,11 @@ public final class WindowStateStoreDefinition extends StateStoreDefinition {
     private final boolean retainDuplicates;
 
     public WindowStateStoreDefinition(String name, Boolean persistent, Boolean timestamped, Duration retention, Duration windowSize, Boolean retainDuplicates, UserType keyType, UserType valueType, Boolean caching, Boolean logging) {
-        super(StoreType.WINDOW_STORE, name, persistent, timestamped, keyType, valueType, caching, logging);
+        this(name, persistent, timestamped, retention, windowSize, retainDuplicates, keyType, valueType, caching, logging, null);
+    }
+
+    public WindowStateStoreDefinition(String name, Boolean persistent, Boolean timestamped, Duration retention, Duration windowSize, Boolean retainDuplicates, UserType keyType, UserType valueType, Boolean caching, Boolean logging, RocksDBOptionsDefinition rocksDB) {
+        super(StoreType.WINDOW_STORE, name, persistent, timestamped, keyType, valueType, caching, logging, rocksDB);
         this.retention = retention != null ? retention : Duration.ZERO;
         this.windowSize = windowSize != null ? windowSize : Duration.ZERO;
         this.retainDuplicates = retainDuplicates != null && retainDuplicates;
@@ -44,14 +44,14 @@ public abstract class FunctionDefinitionParser<T extends FunctionDefinition> ext
     }
 
     protected StructsParser<T> parserWithStores(Class<T> resultClass, String type, String description, Constructor1<T, FunctionDefinition> constructor) {
-        return parser(resultClass, description, true, (name, params, globalCode, code, expression, resultType, stores, tags) -> FunctionDefinition.as(type, name, params, globalCode, code, expression, resultType, stores), constructor);
+        return parser(resultClass, description, true, (name, params, globalCode, code, expression, resultType, stores, language, className, tags) -> FunctionDefinition.as(type, name, params, globalCode, code, expression, resultType, stores).withLanguage(language, className), constructor);
     }
 
     protected StructsParser<T> parserWithoutStores(Class<T> resultClass, String type, String description, Constructor1<T, FunctionDefinition> constructor) {
-        return parser(resultClass, description, false, (name, params, globalCode, code, expression, resultType, stores, tags) -> FunctionDefinition.as(type, name, params, globalCode, code, expression, resultType, null), constructor);
+        return parser(resultClass, description, false, (name, params, globalCode, code, expression, resultType, stores, language, className, tags) -> FunctionDefinition.as(type, name, params, globalCode, code, expression, resultType, null).withLanguage(language, className), constructor);
     }
 
-    private StructsParser<T> parser(Class<T> resultClass, String description, boolean includeStores, Constructor7<FunctionDefinition, String, List<ParameterDefinition>, String, String, String, UserType, List<String>> innerConstructor, Constructor1<T, FunctionDefinition> outerConstructor) {
+    private StructsParser<T> parser(Class<T> resultClass, String description, boolean includeStores, Constructor9<FunctionDefinition, String, List<ParameterDefinition>, String, String, String, UserType, List<String>, String, String> innerConstructor, Constructor1<T, FunctionDefinition> outerConstructor) {
         final var parseType = resultClass == FunctionDefinition.class;
         final var doc = "Defines a " + description + " function, that gets injected into the Kafka Streams topology";
         final var name = optional(stringField(Functions.NAME, "The name of the " + description + ". If this field is not defined, then the name is derived from the context."));
@@ -63,15 +63,17 @@ public abstract class FunctionDefinitionParser<T extends FunctionDefinition> ext
         final var stores = includeStores
                 ? optional(listField(Functions.STORES, "store-name", "store", "A list of store names that the " + description + " uses. Only required if the function wants to use a state store.", new StringValueParser()))
                 : new IgnoreParser<List<String>>();
+        final var language = optional(stringField(Functions.LANGUAGE, "The language in which the " + description + " is written, either \"" + Functions.LANGUAGE_PYTHON + "\" (default) or \"" + Functions.LANGUAGE_JAVA + "\"."));
+        final var className = optional(stringField(Functions.CLASS, "The fully qualified name of the Java class that implements the " + description + ". Only used when the language is \"" + Functions.LANGUAGE_JAVA + "\"."));
         // We assume that the resultClass is always either using stores or not using stores, but not a combination of both. Hence, we do not provide a definitionVariant extension to distinguish between the two.
-        final var parser = structsParser(resultClass, parseType || requireType ? "" : KSMLDSL.Types.WITH_IMPLICIT_STORE_TYPE_POSTFIX, doc, name, params, globalCode, code, expression, resultType, stores, innerConstructor);
+        final var parser = structsParser(resultClass, parseType || requireType ? "" : KSMLDSL.Types.WITH_IMPLICIT_STORE_TYPE_POSTFIX, doc, name, params, globalCode, code, expression, resultType, stores, language, className, innerConstructor);
         return new StructsParser<>() {
             @Override
             public T parse(ParseNode node) {
                 var rawFunction = parser.parse(node);
                 if (rawFunction != null) {
                     if (rawFunction.name() == null) rawFunction = rawFunction.withName(node.longName());
-                    if (rawFunction.globalCode().length > 0 || rawFunction.code().length > 0 || rawFunction.expression() != null) {
+                    if (rawFunction.globalCode().length > 0 || rawFunction.code().length > 0 || rawFunction.expression() != null || rawFunction.className() != null) {
                         return outerConstructor.construct(rawFunction, node.tags());
                     }
                     return null;
@@ -48,6 +48,10 @@ public class KeyValueStateStoreDefinitionParser extends DefinitionParser<KeyValu
         final var valueTypeField = optional(userTypeField(KSMLDSL.Stores.VALUE_TYPE, "The value type of the keyValue store", false));
         final var cachingField = optional(booleanField(KSMLDSL.Stores.CACHING, "\"true\" if changed to the keyValue store need to be buffered and periodically released, \"false\" to emit all changes directly"));
         final var loggingField = optional(booleanField(KSMLDSL.Stores.LOGGING, "\"true\" if a changelog topic should be set up on Kafka for this keyValue store, \"false\" otherwise"));
+        final var offHeapField = optional(booleanField(KSMLDSL.Stores.OFF_HEAP, "\"true\" if this non-persistent keyValue store needs to keep its keys and values in memory outside of the Java heap, \"false\" to keep them on the heap"));
+        final var objectCacheSizeField = optional(integerField(KSMLDSL.Stores.OBJECT_CACHE_SIZE, "The maximum number of deserialized values to keep in memory in front of this keyValue store, to speed up repeated lookups of the same keys. Not supported for versioned stores. Default is 0, which disables the object cache"));
+        final var objectCacheTtlField = optional(durationField(KSMLDSL.Stores.OBJECT_CACHE_TTL, "The time after which values in the object cache expire. Values are also removed from the cache when their key is written. Default is to never expire"));
+        final var rocksDBField = optional(customField(KSMLDSL.Stores.ROCKSDB, "RocksDB tuning options for this keyValue store. Only used when the store is persistent", new RocksDBOptionsDefinitionParser()));
 
         // Determine this parser's name by the two input booleans
         final var parserPostfix =
@@ -69,9 +73,13 @@ public class KeyValueStateStoreDefinitionParser extends DefinitionParser<KeyValu
                 valueTypeField,
                 cachingField,
                 loggingField,
-                (name, persistent, timestamped, versioned, history, segment, keyType, valueType, caching, logging, tags) -> {
+                offHeapField,
+                objectCacheSizeField,
+                objectCacheTtlField,
+                rocksDBField,
+                (name, persistent, timestamped, versioned, history, segment, keyType, valueType, caching, logging, offHeap, objectCacheSize, objectCacheTtl, rocksDB, tags) -> {
                     name = validateName("KeyValue state store", name, defaultShortName);
-                    return new KeyValueStateStoreDefinition(name, persistent, timestamped, versioned, history, segment, keyType, valueType, caching, logging);
+                    return new KeyValueStateStoreDefinition(name, persistent, timestamped, versioned, history, segment, keyType, valueType, caching, logging, offHeap, objectCacheSize, objectCacheTtl, rocksDB);
                 });
 
         // Parse the state store without a name, keyType and valueType
@@ -87,9 +95,13 @@ public class KeyValueStateStoreDefinitionParser extends DefinitionParser<KeyValu
                 segmentIntervalField,
                 cachingField,
                 loggingField,
-                (name, persistent, timestamped, versioned, history, segment, caching, logging, tags) -> {
+                offHeapField,
+                objectCacheSizeField,
+                objectCacheTtlField,
+                rocksDBField,
+                (name, persistent, timestamped, versioned, history, segment, caching, logging, offHeap, objectCacheSize, objectCacheTtl, rocksDB, tags) -> {
                     name = validateName("KeyValue state store", name, defaultShortName);
-                    return new KeyValueStateStoreDefinition(name, persistent, timestamped, versioned, history, segment, null, null, caching, logging);
+                    return new KeyValueStateStoreDefinition(name, persistent, timestamped, versioned, history, segment, null, null, caching, logging, offHeap, objectCacheSize, objectCacheTtl, rocksDB);
                 });
     }
 
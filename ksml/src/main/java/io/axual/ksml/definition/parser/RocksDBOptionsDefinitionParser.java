@@ -0,0 +1,70 @@
+package io.axual.ksml.definition.parser;
+
+
+/*-
+ * ========================LICENSE_START=================================
+ * KSML
+ * %%
+ * Copyright (C) 2021 - 2023 Axual B.V.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import io.axual.ksml.data.schema.EnumSchema;
+import io.axual.ksml.definition.RocksDBOptionsDefinition;
+import io.axual.ksml.dsl.KSMLDSL;
+import io.axual.ksml.parser.DefinitionParser;
+import io.axual.ksml.parser.StructsParser;
+
+import java.util.List;
+
+import static io.axual.ksml.dsl.KSMLDSL.Stores.RocksDB;
+
+public class RocksDBOptionsDefinitionParser extends DefinitionParser<RocksDBOptionsDefinition> {
+    @Override
+    protected StructsParser<RocksDBOptionsDefinition> parser() {
+        final var compactionStyleSchema = new EnumSchema(
+                SCHEMA_NAMESPACE,
+                "RocksDBCompactionStyle",
+                "The compaction style of the RocksDB store. Note that \"" + RocksDB.COMPACTION_STYLE_FIFO + "\" drops the oldest data once the store grows beyond its size limit",
+                List.of(new EnumSchema.Symbol(RocksDB.COMPACTION_STYLE_LEVEL), new EnumSchema.Symbol(RocksDB.COMPACTION_STYLE_UNIVERSAL), new EnumSchema.Symbol(RocksDB.COMPACTION_STYLE_FIFO)));
+        final var compressionSchema = new EnumSchema(
+                SCHEMA_NAMESPACE,
+                "RocksDBCompression",
+                "The compression used for data written to disk by the RocksDB store",
+                List.of(new EnumSchema.Symbol(RocksDB.COMPRESSION_NONE), new EnumSchema.Symbol(RocksDB.COMPRESSION_SNAPPY), new EnumSchema.Symbol(RocksDB.COMPRESSION_ZLIB), new EnumSchema.Symbol(RocksDB.COMPRESSION_LZ4), new EnumSchema.Symbol(RocksDB.COMPRESSION_LZ4HC), new EnumSchema.Symbol(RocksDB.COMPRESSION_ZSTD)));
+
+        return structsParser(
+                RocksDBOptionsDefinition.class,
+                "",
+                "RocksDB tuning options for a persistent state store",
+                optional(longField(RocksDB.BLOCK_CACHE_SIZE, "The size in bytes of the block cache of this store. Ignored when a shared memory limit is configured for all RocksDB stores")),
+                optional(integerField(RocksDB.BLOOM_FILTER_BITS_PER_KEY, "The number of bits per key used by the bloom filter of this store, or 0 to disable the bloom filter")),
+                optional(enumField(RocksDB.COMPACTION_STYLE, compactionStyleSchema)),
+                optional(enumField(RocksDB.COMPRESSION, compressionSchema)),
+                optional(integerField(RocksDB.WRITE_BUFFER_COUNT, "The maximum number of write buffers (memtables) this store keeps in memory")),
+                optional(longField(RocksDB.WRITE_BUFFER_SIZE, "The size in bytes of a single write buffer (memtable) of this store")),
+                (blockCacheSize, bloomFilterBitsPerKey, compactionStyle, compression, writeBufferCount, writeBufferSize, tags) -> {
+                    if (blockCacheSize != null && blockCacheSize < 0)
+                        return parseError(KSMLDSL.Stores.ROCKSDB + "." + RocksDB.BLOCK_CACHE_SIZE + " can not be negative");
+                    if (bloomFilterBitsPerKey != null && bloomFilterBitsPerKey < 0)
+                        return parseError(KSMLDSL.Stores.ROCKSDB + "." + RocksDB.BLOOM_FILTER_BITS_PER_KEY + " can not be negative");
+                    if (writeBufferCount != null && writeBufferCount <= 0)
+                        return parseError(KSMLDSL.Stores.ROCKSDB + "." + RocksDB.WRITE_BUFFER_COUNT + " must be positive");
+                    if (writeBufferSize != null && writeBufferSize <= 0)
+                        return parseError(KSMLDSL.Stores.ROCKSDB + "." + RocksDB.WRITE_BUFFER_SIZE + " must be positive");
+                    return new RocksDBOptionsDefinition(blockCacheSize, bloomFilterBitsPerKey, compactionStyle, compression, writeBufferCount, writeBufferSize);
+                });
+    }
+}
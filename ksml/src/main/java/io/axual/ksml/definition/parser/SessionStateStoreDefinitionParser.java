@@ -46,6 +46,7 @@ public class SessionStateStoreDefinitionParser extends DefinitionParser<SessionS
         final var valueTypeField = userTypeField(KSMLDSL.Stores.VALUE_TYPE, "The value type of the session store", false);
         final var cachingField = optional(booleanField(KSMLDSL.Stores.CACHING, "\"true\" if changed to the session store need to be buffered and periodically released, \"false\" to emit all changes directly"));
         final var loggingField = optional(booleanField(KSMLDSL.Stores.LOGGING, "\"true\" if a changelog topic should be set up on Kafka for this session store, \"false\" otherwise"));
+        final var rocksDBField = optional(customField(KSMLDSL.Stores.ROCKSDB, "RocksDB tuning options for this session store. Only used when the store is persistent", new RocksDBOptionsDefinitionParser()));
 
         // Determine this parser's name by the two input booleans
         final var parserPostfix = (requireStoreType ? "" : KSMLDSL.Types.WITH_IMPLICIT_STORE_TYPE_POSTFIX)
@@ -63,9 +64,10 @@ public class SessionStateStoreDefinitionParser extends DefinitionParser<SessionS
                 valueTypeField,
                 cachingField,
                 loggingField,
-                (name, persistent, timestamped, retention, keyType, valueType, caching, logging, tags) -> {
+                rocksDBField,
+                (name, persistent, timestamped, retention, keyType, valueType, caching, logging, rocksDB, tags) -> {
                     name = validateName("Session state store", name, defaultShortName);
-                    return new SessionStateStoreDefinition(name, persistent, timestamped, retention, keyType, valueType, caching, logging);
+                    return new SessionStateStoreDefinition(name, persistent, timestamped, retention, keyType, valueType, caching, logging, rocksDB);
                 });
 
         return structsParser(
@@ -78,9 +80,10 @@ public class SessionStateStoreDefinitionParser extends DefinitionParser<SessionS
                 retentionField,
                 cachingField,
                 loggingField,
-                (name, persistent, timestamped, retention, caching, logging, tags) -> {
+                rocksDBField,
+                (name, persistent, timestamped, retention, caching, logging, rocksDB, tags) -> {
                     name = validateName("Session state store", name, defaultShortName);
-                    return new SessionStateStoreDefinition(name, persistent, timestamped, retention, null, null, caching, logging);
+                    return new SessionStateStoreDefinition(name, persistent, timestamped, retention, null, null, caching, logging, rocksDB);
                 });
     }
 
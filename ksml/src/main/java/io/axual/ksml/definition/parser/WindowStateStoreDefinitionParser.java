@@ -48,6 +48,7 @@ public class WindowStateStoreDefinitionParser extends DefinitionParser<WindowSta
         final var valueTypeField = userTypeField(KSMLDSL.Stores.VALUE_TYPE, "The value type of the window store", false);
         final var cachingField = optional(booleanField(KSMLDSL.Stores.CACHING, "\"true\" if changed to the window store need to be buffered and periodically released, \"false\" to emit all changes directly"));
         final var loggingField = optional(booleanField(KSMLDSL.Stores.LOGGING, "\"true\" if a changelog topic should be set up on Kafka for this window store, \"false\" otherwise"));
+        final var rocksDBField = optional(customField(KSMLDSL.Stores.ROCKSDB, "RocksDB tuning options for this window store. Only used when the store is persistent", new RocksDBOptionsDefinitionParser()));
 
         // Determine this parser's name by the two input booleans
         final var parserPostfix = (requireStoreType ? "" : KSMLDSL.Types.WITH_IMPLICIT_STORE_TYPE_POSTFIX)
@@ -67,9 +68,10 @@ public class WindowStateStoreDefinitionParser extends DefinitionParser<WindowSta
                 valueTypeField,
                 cachingField,
                 loggingField,
-                (name, persistent, timestamped, retention, windowSize, retainDuplicates, keyType, valueType, caching, logging, tags) -> {
+                rocksDBField,
+                (name, persistent, timestamped, retention, windowSize, retainDuplicates, keyType, valueType, caching, logging, rocksDB, tags) -> {
                     name = validateName("Window state store", name, defaultShortName);
-                    return new WindowStateStoreDefinition(name, persistent, timestamped, retention, windowSize, retainDuplicates, keyType, valueType, caching, logging);
+                    return new WindowStateStoreDefinition(name, persistent, timestamped, retention, windowSize, retainDuplicates, keyType, valueType, caching, logging, rocksDB);
                 });
 
         return structsParser(
@@ -84,9 +86,10 @@ public class WindowStateStoreDefinitionParser extends DefinitionParser<WindowSta
                 retainDuplicatesField,
                 cachingField,
                 loggingField,
-                (name, persistent, timestamped, retention, windowSize, retainDuplicates, caching, logging, tags) -> {
+                rocksDBField,
+                (name, persistent, timestamped, retention, windowSize, retainDuplicates, caching, logging, rocksDB, tags) -> {
                     name = validateName("Window state store", name, defaultShortName);
-                    return new WindowStateStoreDefinition(name, persistent, timestamped, retention, windowSize, retainDuplicates, null, null, caching, logging);
+                    return new WindowStateStoreDefinition(name, persistent, timestamped, retention, windowSize, retainDuplicates, null, null, caching, logging, rocksDB);
                 });
     }
 
@@ -41,6 +41,10 @@ public class KSMLDSL {
         public static final String STORES = "stores";
         public static final String RESULT_TYPE = "resultType";
         public static final String EXPRESSION = "expression";
+        public static final String LANGUAGE = "language";
+        public static final String LANGUAGE_PYTHON = "python";
+        public static final String LANGUAGE_JAVA = "java";
+        public static final String CLASS = "class";
 
         public static final String TYPE = "type";
         public static final String TYPE_AGGREGATOR = "aggregator";
@@ -93,6 +97,8 @@ public class KSMLDSL {
         public static final String STORE_ATTRIBUTE = "store";
         public static final String SOURCE_STORE_ATTRIBUTE = "thisStore";
         public static final String OTHER_STORE_ATTRIBUTE = "otherStore";
+        public static final String BATCH_SIZE_ATTRIBUTE = "batchSize";
+        public static final String BATCH_INTERVAL_ATTRIBUTE = "batchInterval";
 
         public static final String AGGREGATE = "aggregate";
         public static final String COGROUP = "cogroup";
@@ -307,11 +313,34 @@ public class KSMLDSL {
         public static final String RETENTION = "retention";
         public static final String CACHING = "caching";
         public static final String LOGGING = "logging";
+        public static final String OFF_HEAP = "offHeap";
+        public static final String OBJECT_CACHE_SIZE = "objectCacheSize";
+        public static final String OBJECT_CACHE_TTL = "objectCacheTtl";
         public static final String TYPE_KEY_VALUE = "keyValue";
         public static final String TYPE_SESSION = "session";
         public static final String TYPE_WINDOW = "window";
         public static final String WINDOW_SIZE = "windowSize";
         public static final String RETAIN_DUPLICATES = "retainDuplicates";
+        public static final String ROCKSDB = "rocksdb";
+
+        @NoArgsConstructor(access = AccessLevel.PRIVATE)
+        public static class RocksDB {
+            public static final String BLOCK_CACHE_SIZE = "blockCacheSize";
+            public static final String BLOOM_FILTER_BITS_PER_KEY = "bloomFilterBitsPerKey";
+            public static final String COMPACTION_STYLE = "compactionStyle";
+            public static final String COMPACTION_STYLE_LEVEL = "level";
+            public static final String COMPACTION_STYLE_UNIVERSAL = "universal";
+            public static final String COMPACTION_STYLE_FIFO = "fifo";
+            public static final String COMPRESSION = "compression";
+            public static final String COMPRESSION_NONE = "none";
+            public static final String COMPRESSION_SNAPPY = "snappy";
+            public static final String COMPRESSION_ZLIB = "zlib";
+            public static final String COMPRESSION_LZ4 = "lz4";
+            public static final String COMPRESSION_LZ4HC = "lz4hc";
+            public static final String COMPRESSION_ZSTD = "zstd";
+            public static final String WRITE_BUFFER_COUNT = "writeBufferCount";
+            public static final String WRITE_BUFFER_SIZE = "writeBufferSize";
+        }
     }
 
     public static final String STREAMS = "streams";
@@ -40,6 +40,16 @@ public class ExecutionContext {
     @Setter
     private SerdeWrapper<Object> serdeWrapper = null;
 
+    // Header in which union serdes tag messages with their member type, null when tagging is disabled
+    @Getter
+    @Setter
+    private String unionTypeTagHeader = null;
+
+    // Whether union serdes read untagged messages with the member that read the previous message first
+    @Getter
+    @Setter
+    private boolean unionLearnReadOrder = false;
+
     public Serde<Object> wrapSerde(Serde<Object> serde) {
         return serdeWrapper != null ? serdeWrapper.wrap(serde) : serde;
     }
@@ -0,0 +1,468 @@
+package io.axual.ksml.expression;
+
+/*-
+ * ========================LICENSE_START=================================
+ * KSML
+ * %%
+ * Copyright (C) 2021 - 2026 Axual B.V.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Compiles single-line Python expressions into Java lambdas. Only a small subset of Python is supported: parameter
+ * names, int, float, str, bool and None literals, subscripts, the {@code get}, {@code upper}, {@code lower},
+ * {@code startswith} and {@code endswith} methods, {@code len()}, arithmetic, comparisons, {@code in},
+ * {@code is None} and the boolean operators. Expressions outside this subset are not compiled, so that they keep
+ * running in Python.
+ */
+public final class ExpressionCompiler {
+    private static final Set<String> KEYWORDS = Set.of("and", "or", "not", "in", "is", "None", "True", "False");
+    private final List<Token> tokens;
+    private final List<String> parameterNames;
+    private int position = 0;
+
+    /**
+     * A compiled expression.
+     */
+    @FunctionalInterface
+    public interface Expression {
+        /**
+         * Evaluate the expression.
+         *
+         * @param arguments the values of the parameters, as Python sees them.
+         * @return the result of the expression.
+         */
+        Object evaluate(Object[] arguments);
+    }
+
+    private enum TokenType {NAME, INT, FLOAT, STRING, OPERATOR, END}
+
+    private record Token(TokenType type, String text, Object value) {
+        boolean is(TokenType type, String text) {
+            return this.type == type && this.text.equals(text);
+        }
+    }
+
+    private ExpressionCompiler(List<Token> tokens, List<String> parameterNames) {
+        this.tokens = tokens;
+        this.parameterNames = parameterNames;
+    }
+
+    /**
+     * Compile an expression.
+     *
+     * @param expression     the Python expression.
+     * @param parameterNames the names of the function parameters, in the order of the arguments.
+     * @return the compiled expression, or null if the expression is not in the supported subset.
+     */
+    @Nullable
+    public static Expression compile(String expression, List<String> parameterNames) {
+        final var tokens = tokenize(expression);
+        if (tokens == null) return null;
+        final var compiler = new ExpressionCompiler(tokens, parameterNames);
+        final var result = compiler.orTest();
+        return result != null && compiler.peek().type() == TokenType.END ? result : null;
+    }
+
+    @Nullable
+    private static List<Token> tokenize(String expression) {
+        final var result = new ArrayList<Token>();
+        var index = 0;
+        while (index < expression.length()) {
+            final var c = expression.charAt(index);
+            if (c == ' ' || c == '\t') {
+                index++;
+            } else if (Character.isLetter(c) || c == '_') {
+                var end = index + 1;
+                while (end < expression.length() && (Character.isLetterOrDigit(expression.charAt(end)) || expression.charAt(end) == '_'))
+                    end++;
+                final var name = expression.substring(index, end);
+                result.add(new Token(TokenType.NAME, name, name));
+                index = end;
+            } else if (Character.isDigit(c) || (c == '.' && index + 1 < expression.length() && Character.isDigit(expression.charAt(index + 1)))) {
+                final var end = scanNumber(expression, index);
+                if (end < 0) return null;
+                final var text = expression.substring(index, end);
+                try {
+                    if (text.chars().allMatch(Character::isDigit)) {
+                        // Python does not allow leading zeros in decimal ints
+                        if (text.length() > 1 && text.charAt(0) == '0') return null;
+                        result.add(new Token(TokenType.INT, text, Long.parseLong(text)));
+                    } else {
+                        result.add(new Token(TokenType.FLOAT, text, Double.parseDouble(text)));
+                    }
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+                index = end;
+            } else if (c == '"' || c == '\'') {
+                final var value = new StringBuilder();
+                var end = index + 1;
+                while (end < expression.length() && expression.charAt(end) != c) {
+                    var ch = expression.charAt(end);
+                    if (ch == '\\') {
+                        if (end + 1 >= expression.length()) return null;
+                        ch = switch (expression.charAt(end + 1)) {
+                            case '\\' -> '\\';
+                            case '\'' -> '\'';
+                            case '"' -> '"';
+                            case 'n' -> '\n';
+                            case 't' -> '\t';
+                            case 'r' -> '\r';
+                            default -> 0;
+                        };
+                        if (ch == 0) return null;
+                        end++;
+                    }
+                    value.append(ch);
+                    end++;
+                }
+                if (end >= expression.length()) return null;
+                result.add(new Token(TokenType.STRING, expression.substring(index, end + 1), value.toString()));
+                index = end + 1;
+            } else {
+                final var operator = scanOperator(expression, index);
+                if (operator == null) return null;
+                result.add(new Token(TokenType.OPERATOR, operator, null));
+                index += operator.length();
+            }
+        }
+        result.add(new Token(TokenType.END, "", null));
+        return result;
+    }
+
+    // Returns the end of the number that starts at the given index, or -1 if it is not a plain decimal number
+    private static int scanNumber(String expression, int index) {
+        var end = index;
+        while (end < expression.length() && Character.isDigit(expression.charAt(end))) end++;
+        if (end < expression.length() && expression.charAt(end) == '.') {
+            end++;
+            while (end < expression.length() && Character.isDigit(expression.charAt(end))) end++;
+        }
+        if (end < expression.length() && (expression.charAt(end) == 'e' || expression.charAt(end) == 'E')) {
+            end++;
+            if (end < expression.length() && (expression.charAt(end) == '+' || expression.charAt(end) == '-')) end++;
+            final var digits = end;
+            while (end < expression.length() && Character.isDigit(expression.charAt(end))) end++;
+            if (end == digits) return -1;
+        }
+        // Reject hex, octal and binary literals, underscores, complex numbers and the like
+        if (end < expression.length() && (Character.isLetterOrDigit(expression.charAt(end)) || expression.charAt(end) == '_' || expression.charAt(end) == '.'))
+            return -1;
+        return end;
+    }
+
+    @Nullable
+    private static String scanOperator(String expression, int index) {
+        for (final var operator : new String[]{"==", "!=", "<=", ">=", "//"}) {
+            if (expression.startsWith(operator, index)) return operator;
+        }
+        // A double asterisk is the power operator, which is not supported
+        if (expression.startsWith("**", index)) return null;
+        final var c = expression.charAt(index);
+        return "<>+-*/%()[].,".indexOf(c) >= 0 ? String.valueOf(c) : null;
+    }
+
+    private Token peek() {
+        return tokens.get(position);
+    }
+
+    private Token next() {
+        return tokens.get(position++);
+    }
+
+    private boolean accept(TokenType type, String text) {
+        if (!peek().is(type, text)) return false;
+        position++;
+        return true;
+    }
+
+    private boolean acceptKeyword(String keyword) {
+        return accept(TokenType.NAME, keyword);
+    }
+
+    private boolean acceptOperator(String operator) {
+        return accept(TokenType.OPERATOR, operator);
+    }
+
+    // or_test: and_test ('or' and_test)*
+    @Nullable
+    private Expression orTest() {
+        var result = andTest();
+        while (result != null && acceptKeyword("or")) {
+            final var left = result;
+            final var right = andTest();
+            if (right == null) return null;
+            result = args -> {
+                final var value = left.evaluate(args);
+                return ExpressionValues.truthy(value) ? value : right.evaluate(args);
+            };
+        }
+        return result;
+    }
+
+    // and_test: not_test ('and' not_test)*
+    @Nullable
+    private Expression andTest() {
+        var result = notTest();
+        while (result != null && acceptKeyword("and")) {
+            final var left = result;
+            final var right = notTest();
+            if (right == null) return null;
+            result = args -> {
+                final var value = left.evaluate(args);
+                return ExpressionValues.truthy(value) ? right.evaluate(args) : value;
+            };
+        }
+        return result;
+    }
+
+    // not_test: 'not' not_test | comparison
+    @Nullable
+    private Expression notTest() {
+        if (acceptKeyword("not")) {
+            final var operand = notTest();
+            if (operand == null) return null;
+            return args -> !ExpressionValues.truthy(operand.evaluate(args));
+        }
+        return comparison();
+    }
+
+    // comparison: arith (comp_op arith)?, chained comparisons are not supported
+    @Nullable
+    private Expression comparison() {
+        final var left = arith();
+        if (left == null) return null;
+        final Expression result;
+        if (acceptOperator("==")) {
+            result = binary(left, ExpressionValues::equal);
+        } else if (acceptOperator("!=")) {
+            result = binary(left, (l, r) -> !ExpressionValues.equal(l, r));
+        } else if (acceptOperator("<")) {
+            result = binary(left, (l, r) -> ordered(l, r) && ExpressionValues.compare(l, r) < 0);
+        } else if (acceptOperator("<=")) {
+            result = binary(left, (l, r) -> ordered(l, r) && ExpressionValues.compare(l, r) <= 0);
+        } else if (acceptOperator(">")) {
+            result = binary(left, (l, r) -> ordered(l, r) && ExpressionValues.compare(l, r) > 0);
+        } else if (acceptOperator(">=")) {
+            result = binary(left, (l, r) -> ordered(l, r) && ExpressionValues.compare(l, r) >= 0);
+        } else if (acceptKeyword("in")) {
+            result = binary(left, (l, r) -> ExpressionValues.contains(r, l));
+        } else if (peek().is(TokenType.NAME, "not") && tokens.get(position + 1).is(TokenType.NAME, "in")) {
+            position += 2;
+            result = binary(left, (l, r) -> !ExpressionValues.contains(r, l));
+        } else if (acceptKeyword("is")) {
+            // Identity is only supported for comparisons with None
+            final var negate = acceptKeyword("not");
+            if (!acceptKeyword("None")) return null;
+            return negate ? args -> left.evaluate(args) != null : args -> left.evaluate(args) == null;
+        } else {
+            return left;
+        }
+        if (result == null || isComparisonOperator(peek())) return null;
+        return result;
+    }
+
+    private static boolean ordered(Object left, Object right) {
+        // Ordering comparisons with NaN are always false
+        return !ExpressionValues.isNaN(left) && !ExpressionValues.isNaN(right);
+    }
+
+    private static boolean isComparisonOperator(Token token) {
+        return token.type() == TokenType.OPERATOR && Set.of("==", "!=", "<", "<=", ">", ">=").contains(token.text())
+                || token.is(TokenType.NAME, "in") || token.is(TokenType.NAME, "not") || token.is(TokenType.NAME, "is");
+    }
+
+    @FunctionalInterface
+    private interface BinaryOperation {
+        Object apply(Object left, Object right);
+    }
+
+    @Nullable
+    private Expression binary(Expression left, BinaryOperation operation) {
+        final var right = arith();
+        if (right == null) return null;
+        return args -> operation.apply(left.evaluate(args), right.evaluate(args));
+    }
+
+    // arith: term (('+' | '-') term)*
+    @Nullable
+    private Expression arith() {
+        var result = term();
+        while (result != null) {
+            final BinaryOperation operation;
+            if (acceptOperator("+")) operation = ExpressionValues::add;
+            else if (acceptOperator("-")) operation = ExpressionValues::subtract;
+            else break;
+            final var left = result;
+            final var right = term();
+            if (right == null) return null;
+            result = args -> operation.apply(left.evaluate(args), right.evaluate(args));
+        }
+        return result;
+    }
+
+    // term: factor (('*' | '/' | '//' | '%') factor)*
+    @Nullable
+    private Expression term() {
+        var result = factor();
+        while (result != null) {
+            final BinaryOperation operation;
+            if (acceptOperator("*")) operation = ExpressionValues::multiply;
+            else if (acceptOperator("/")) operation = ExpressionValues::divide;
+            else if (acceptOperator("//")) operation = ExpressionValues::floorDivide;
+            else if (acceptOperator("%")) operation = ExpressionValues::modulo;
+            else break;
+            final var left = result;
+            final var right = factor();
+            if (right == null) return null;
+            result = args -> operation.apply(left.evaluate(args), right.evaluate(args));
+        }
+        return result;
+    }
+
+    // factor: '-' factor | primary
+    @Nullable
+    private Expression factor() {
+        if (acceptOperator("-")) {
+            final var operand = factor();
+            if (operand == null) return null;
+            return args -> ExpressionValues.negate(operand.evaluate(args));
+        }
+        return primary();
+    }
+
+    // primary: atom ('[' or_test ']' | '.' NAME '(' arguments ')')*
+    @Nullable
+    private Expression primary() {
+        var result = atom();
+        while (result != null) {
+            final var target = result;
+            if (acceptOperator("[")) {
+                final var key = orTest();
+                if (key == null || !acceptOperator("]")) return null;
+                result = args -> ExpressionValues.subscript(target.evaluate(args), key.evaluate(args));
+            } else if (acceptOperator(".")) {
+                if (peek().type() != TokenType.NAME) return null;
+                final var method = next().text();
+                final var arguments = arguments();
+                if (arguments == null) return null;
+                result = method(target, method, arguments);
+            } else {
+                break;
+            }
+        }
+        return result;
+    }
+
+    @Nullable
+    private Expression method(Expression target, String method, List<Expression> arguments) {
+        return switch (method) {
+            case "get" -> {
+                if (arguments.isEmpty() || arguments.size() > 2) yield null;
+                final var key = arguments.get(0);
+                final Expression defaultValue = arguments.size() > 1 ? arguments.get(1) : args -> null;
+                yield args -> {
+                    // Python evaluates all arguments before calling the method
+                    final var container = target.evaluate(args);
+                    final var keyValue = key.evaluate(args);
+                    return ExpressionValues.get(container, keyValue, defaultValue.evaluate(args));
+                };
+            }
+            case "upper" -> arguments.isEmpty() ? args -> ExpressionValues.upper(target.evaluate(args)) : null;
+            case "lower" -> arguments.isEmpty() ? args -> ExpressionValues.lower(target.evaluate(args)) : null;
+            case "startswith" -> arguments.size() == 1
+                    ? args -> ExpressionValues.startsWith(target.evaluate(args), arguments.get(0).evaluate(args))
+                    : null;
+            case "endswith" -> arguments.size() == 1
+                    ? args -> ExpressionValues.endsWith(target.evaluate(args), arguments.get(0).evaluate(args))
+                    : null;
+            default -> null;
+        };
+    }
+
+    // arguments: '(' [or_test (',' or_test)*] ')'
+    @Nullable
+    private List<Expression> arguments() {
+        if (!acceptOperator("(")) return null;
+        final var result = new ArrayList<Expression>();
+        if (acceptOperator(")")) return result;
+        do {
+            final var argument = orTest();
+            if (argument == null) return null;
+            result.add(argument);
+        } while (acceptOperator(","));
+        return acceptOperator(")") ? result : null;
+    }
+
+    // atom: NAME | 'len' arguments | INT | FLOAT | STRING | 'None' | 'True' | 'False' | '(' or_test ')'
+    @Nullable
+    private Expression atom() {
+        final var token = next();
+        switch (token.type()) {
+            case INT, FLOAT, STRING -> {
+                final var value = token.value();
+                return args -> value;
+            }
+            case OPERATOR -> {
+                if (!token.text().equals("(")) return null;
+                final var result = orTest();
+                return result != null && acceptOperator(")") ? result : null;
+            }
+            case NAME -> {
+                return name(token.text());
+            }
+            default -> {
+                return null;
+            }
+        }
+    }
+
+    @Nullable
+    private Expression name(String name) {
+        switch (name) {
+            case "None" -> {
+                return args -> null;
+            }
+            case "True" -> {
+                return args -> Boolean.TRUE;
+            }
+            case "False" -> {
+                return args -> Boolean.FALSE;
+            }
+            default -> {
+                if (KEYWORDS.contains(name)) return null;
+            }
+        }
+        final var index = parameterNames.indexOf(name);
+        if (index >= 0) {
+            // Parameters that were not passed to the function are None
+            return args -> index < args.length ? args[index] : null;
+        }
+        if (name.equals("len") && peek().is(TokenType.OPERATOR, "(")) {
+            final var arguments = arguments();
+            if (arguments == null || arguments.size() != 1) return null;
+            final var argument = arguments.get(0);
+            return args -> ExpressionValues.length(argument.evaluate(args));
+        }
+        // All other names refer to globals, builtins or modules, which are only available in Python
+        return null;
+    }
+}
@@ -0,0 +1,172 @@
+package io.axual.ksml.expression;
+
+/*-
+ * ========================LICENSE_START=================================
+ * KSML
+ * %%
+ * Copyright (C) 2021 - 2026 Axual B.V.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import io.axual.ksml.data.mapper.DataObjectConverter;
+import io.axual.ksml.data.mapper.NativeDataObjectMapper;
+import io.axual.ksml.data.object.DataBoolean;
+import io.axual.ksml.data.object.DataByte;
+import io.axual.ksml.data.object.DataDouble;
+import io.axual.ksml.data.object.DataFloat;
+import io.axual.ksml.data.object.DataInteger;
+import io.axual.ksml.data.object.DataLong;
+import io.axual.ksml.data.object.DataNull;
+import io.axual.ksml.data.object.DataObject;
+import io.axual.ksml.data.object.DataShort;
+import io.axual.ksml.data.object.DataString;
+import io.axual.ksml.data.object.DataStruct;
+import io.axual.ksml.data.type.DataType;
+import io.axual.ksml.data.type.StructType;
+import io.axual.ksml.definition.FunctionDefinition;
+import io.axual.ksml.definition.ParameterDefinition;
+import io.axual.ksml.store.StateStores;
+import io.axual.ksml.user.UserFunction;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import static io.axual.ksml.expression.ExpressionValues.unsupported;
+import static io.axual.ksml.type.UserType.DEFAULT_NOTATION;
+
+/**
+ * A {@link UserFunction} for Python functions that consist of only a simple expression. The expression is compiled
+ * into Java by the {@link ExpressionCompiler} and evaluated without calling into Python. Calls that the compiled
+ * expression can not evaluate exactly like Python, such as type errors or missing keys, are passed on to the regular
+ * Python function. That function is created along with the expression function, so errors in its code are reported
+ * while the topology is built, just like for functions that are not compiled.
+ */
+@Slf4j
+public class ExpressionFunction extends UserFunction {
+    private static final NativeDataObjectMapper NATIVE_MAPPER = new NativeDataObjectMapper();
+    private static final DataObjectConverter CONVERTER = new DataObjectConverter();
+    private static final long MAX_EXACT_DOUBLE = 1L << 53;
+    private final ExpressionCompiler.Expression expression;
+    private final UserFunction pythonFunction;
+
+    /**
+     * Compile a function definition into an expression function, if the function consists of only an expression in
+     * the supported subset of Python.
+     *
+     * @param namespace             the namespace of the function.
+     * @param name                  the name of the function.
+     * @param definition            the function definition.
+     * @param pythonFunctionFactory creates the Python function that handles calls the compiled expression can not.
+     * @return the expression function, or null if the definition can not be compiled.
+     */
+    @Nullable
+    public static ExpressionFunction compile(String namespace, String name, FunctionDefinition definition, Supplier<UserFunction> pythonFunctionFactory) {
+        // Functions without a result do not evaluate their expression
+        final var resultType = definition.resultType();
+        if (resultType == null || resultType.dataType() == null || resultType.dataType() == DataNull.DATATYPE) return null;
+        if (!isBlank(definition.globalCode()) || !isBlank(definition.code()) || definition.expression() == null)
+            return null;
+        final var lines = Arrays.stream(definition.expression()).filter(line -> !line.isBlank()).toList();
+        if (lines.size() != 1) return null;
+        // Default values of optional parameters are assigned in the generated Python code
+        for (final var parameter : definition.parameters()) {
+            if (parameter.isOptional() && parameter.defaultValue() != null) return null;
+        }
+        final var parameterNames = Arrays.stream(definition.parameters()).map(ParameterDefinition::name).toList();
+        final var expression = ExpressionCompiler.compile(lines.getFirst().trim(), parameterNames);
+        if (expression == null) return null;
+        log.info("Function {}.{} is evaluated as compiled expression: {}", namespace, name, lines.getFirst().trim());
+        return new ExpressionFunction(namespace, name, definition, expression, pythonFunctionFactory.get());
+    }
+
+    private static boolean isBlank(String[] code) {
+        // Code that only contains comments does nothing
+        return code == null || Arrays.stream(code).allMatch(line -> line.isBlank() || line.trim().startsWith("#"));
+    }
+
+    private ExpressionFunction(String namespace, String name, FunctionDefinition definition, ExpressionCompiler.Expression expression, UserFunction pythonFunction) {
+        super(namespace, name, definition.parameters(), definition.resultType(), definition.storeNames());
+        this.expression = expression;
+        this.pythonFunction = pythonFunction;
+    }
+
+    @Override
+    public DataObject call(StateStores stores, DataObject... parameters) {
+        checkParameters(parameters);
+        try {
+            final var arguments = new Object[parameters.length];
+            for (int index = 0; index < parameters.length; index++) {
+                arguments[index] = ExpressionValues.fromDataObject(parameters[index]);
+            }
+            var result = toDataObject(resultType.dataType(), expression.evaluate(arguments));
+            logCall(parameters, result);
+            result = CONVERTER.convert(DEFAULT_NOTATION, result, resultType);
+            checkType(resultType.dataType(), result);
+            return result;
+        } catch (RuntimeException e) {
+            // Let Python evaluate the expression, which either gives the result or raises the appropriate error
+            return pythonFunction.call(stores, parameters);
+        }
+    }
+
+    // Converts the result in the same way as Python results are converted, see PythonResultMapper
+    private static DataObject toDataObject(DataType expected, Object value) {
+        if (value == null) return NATIVE_MAPPER.toDataObject(expected, null);
+        if (value instanceof DataStruct struct) {
+            // Structs are passed through as is, as long as Python would have converted them to the same schema
+            if (expected instanceof StructType structType && structType.schema() != null && Objects.equals(structType.schema(), struct.type().schema()))
+                return struct;
+            throw unsupported();
+        }
+        if (expected == DataBoolean.DATATYPE && value instanceof Boolean b) return DataBoolean.of(b);
+        if (expected == DataString.DATATYPE && value instanceof String s) return DataString.of(s);
+        if (expected == DataByte.DATATYPE && integral(value) >= Byte.MIN_VALUE && integral(value) <= Byte.MAX_VALUE)
+            return DataByte.of((byte) integral(value));
+        if (expected == DataShort.DATATYPE && integral(value) >= Short.MIN_VALUE && integral(value) <= Short.MAX_VALUE)
+            return DataShort.of((short) integral(value));
+        if (expected == DataInteger.DATATYPE && integral(value) >= Integer.MIN_VALUE && integral(value) <= Integer.MAX_VALUE)
+            return DataInteger.of((int) integral(value));
+        if (expected == DataLong.DATATYPE) return DataLong.of(integral(value));
+        if (expected == DataFloat.DATATYPE) {
+            final var d = exactDouble(value);
+            if ((double) (float) d == d || Double.isNaN(d)) return new DataFloat((float) d);
+            throw unsupported();
+        }
+        if (expected == DataDouble.DATATYPE) return new DataDouble(exactDouble(value));
+        if (expected == DataType.UNKNOWN) {
+            if (value instanceof Boolean b) return DataBoolean.of(b);
+            if (value instanceof String s) return DataString.of(s);
+            if (value instanceof Long l) return DataLong.of(l);
+        }
+        throw unsupported();
+    }
+
+    // Returns the value as a long, if it is an int or a float without fraction, like Python's conversion to a Java long
+    private static long integral(Object value) {
+        if (value instanceof Long l) return l;
+        if (value instanceof Double d && d == Math.rint(d) && Math.abs(d) < 0x1p63) return d.longValue();
+        throw unsupported();
+    }
+
+    // Returns the value as a double, if it is a float or an int that converts to double without loss
+    private static double exactDouble(Object value) {
+        if (value instanceof Double d) return d;
+        if (value instanceof Long l && Math.abs(l) <= MAX_EXACT_DOUBLE) return l;
+        throw unsupported();
+    }
+}
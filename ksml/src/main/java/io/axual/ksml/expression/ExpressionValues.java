@@ -0,0 +1,327 @@
+package io.axual.ksml.expression;
+
+/*-
+ * ========================LICENSE_START=================================
+ * KSML
+ * %%
+ * Copyright (C) 2021 - 2026 Axual B.V.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import io.axual.ksml.data.object.DataBoolean;
+import io.axual.ksml.data.object.DataByte;
+import io.axual.ksml.data.object.DataDouble;
+import io.axual.ksml.data.object.DataEnum;
+import io.axual.ksml.data.object.DataFloat;
+import io.axual.ksml.data.object.DataInteger;
+import io.axual.ksml.data.object.DataList;
+import io.axual.ksml.data.object.DataLong;
+import io.axual.ksml.data.object.DataMap;
+import io.axual.ksml.data.object.DataNull;
+import io.axual.ksml.data.object.DataObject;
+import io.axual.ksml.data.object.DataShort;
+import io.axual.ksml.data.object.DataString;
+import io.axual.ksml.data.object.DataStruct;
+import io.axual.ksml.data.value.Struct;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+
+/**
+ * The runtime semantics of compiled expressions. Values are represented as they appear in Python: {@code null} for
+ * None, {@link Boolean}, {@link Long} for int, {@link Double} for float, {@link String} for str, and the KSML
+ * {@link DataStruct}, {@link DataMap} and {@link DataList} containers for dicts and lists. Every operation either gives
+ * the same result as Python, or throws {@link UnsupportedExpressionException} so that Python evaluates it instead.
+ */
+final class ExpressionValues {
+    // Integers up to this magnitude convert to double without loss of precision
+    private static final long MAX_EXACT_DOUBLE = 1L << 53;
+
+    private ExpressionValues() {
+    }
+
+    static UnsupportedExpressionException unsupported() {
+        return UnsupportedExpressionException.INSTANCE;
+    }
+
+    // Convert a KSML data object to the value that Python code would see
+    static Object fromDataObject(DataObject object) {
+        return switch (object) {
+            case null -> null;
+            case DataNull ignored -> null;
+            case DataBoolean val -> val.value();
+            case DataByte val -> val.value() != null ? Long.valueOf(val.value()) : null;
+            case DataShort val -> val.value() != null ? Long.valueOf(val.value()) : null;
+            case DataInteger val -> val.value() != null ? Long.valueOf(val.value()) : null;
+            case DataLong val -> val.value();
+            case DataFloat val -> val.value() != null ? Double.valueOf(val.value()) : null;
+            case DataDouble val -> val.value();
+            case DataString val -> val.value();
+            case DataEnum val -> val.value();
+            case DataStruct val -> val.isNull() ? null : val;
+            case DataMap val -> val.isNull() ? null : val;
+            case DataList val -> val.isNull() ? null : val;
+            default -> throw unsupported();
+        };
+    }
+
+    static boolean truthy(Object value) {
+        return switch (value) {
+            case null -> false;
+            case Boolean val -> val;
+            case Long val -> val != 0;
+            case Double val -> val != 0.0;
+            case String val -> !val.isEmpty();
+            case DataList val -> val.size() > 0;
+            case DataMap val -> val.size() > 0;
+            // Structs with a schema may show fields to Python that are not in the struct
+            case DataStruct val when val.type().schema() == null -> val.size() > 0;
+            default -> throw unsupported();
+        };
+    }
+
+    // Subscript with [], which raises an error in Python for missing keys and indices
+    static Object subscript(Object container, Object key) {
+        if (container instanceof DataList list && key instanceof Long index) {
+            final var size = list.size();
+            final var position = index < 0 ? index + size : index;
+            if (position < 0 || position >= size) throw unsupported();
+            return fromDataObject(list.get((int) position));
+        }
+        if (container instanceof DataStruct struct && key instanceof String field && isVisible(struct, field))
+            return fromDataObject(struct.get(field));
+        if (container instanceof DataMap map && key instanceof String field && map.containsKey(field))
+            return fromDataObject(map.get(field));
+        throw unsupported();
+    }
+
+    // The dict.get() method, which returns the default value for missing keys
+    static Object get(Object container, Object key, Object defaultValue) {
+        if (container instanceof DataStruct struct && key instanceof String field)
+            return isVisible(struct, field) ? fromDataObject(struct.get(field)) : defaultValue;
+        if (container instanceof DataMap map && key instanceof String field)
+            return map.containsKey(field) ? fromDataObject(map.get(field)) : defaultValue;
+        throw unsupported();
+    }
+
+    static boolean contains(Object container, Object element) {
+        if (container instanceof String string && element instanceof String substring)
+            return string.contains(substring);
+        if (container instanceof DataStruct struct) {
+            if (!(element instanceof String field)) throw unsupported();
+            return isVisible(struct, field);
+        }
+        if (container instanceof DataMap map) {
+            if (!(element instanceof String field)) throw unsupported();
+            return map.containsKey(field);
+        }
+        if (container instanceof DataList list) {
+            for (final var listElement : list) {
+                if (equal(fromDataObject(listElement), element)) return true;
+            }
+            return false;
+        }
+        throw unsupported();
+    }
+
+    static long length(Object value) {
+        if (value instanceof String string) return string.codePointCount(0, string.length());
+        if (value instanceof DataList list) return list.size();
+        if (value instanceof DataMap map) return map.size();
+        throw unsupported();
+    }
+
+    // Field visibility follows the rules of the Python view on structs, see PythonStructView
+    private static boolean isVisible(DataStruct struct, String field) {
+        if (isMetaField(field)) throw unsupported();
+        final var schema = struct.type().schema();
+        if (schema == null) return struct.containsKey(field);
+        final var schemaField = schema.field(field);
+        return schemaField != null && (schemaField.required() || struct.containsKey(field));
+    }
+
+    private static boolean isMetaField(String field) {
+        return field.startsWith(Struct.META_ATTRIBUTE_CHAR);
+    }
+
+    static boolean equal(Object left, Object right) {
+        if (left == null || right == null) return left == right;
+        if (left instanceof String l && right instanceof String r) return l.equals(r);
+        if (isNumeric(left) && isNumeric(right))
+            return !isNaN(left) && !isNaN(right) && compareNumbers(left, right) == 0;
+        // Containers are not compared, values of different types are never equal
+        if (left instanceof DataObject && right instanceof DataObject) throw unsupported();
+        return false;
+    }
+
+    static int compare(Object left, Object right) {
+        if (left instanceof String l && right instanceof String r) return compareStrings(l, r);
+        if (isNumeric(left) && isNumeric(right)) return compareNumbers(left, right);
+        throw unsupported();
+    }
+
+    // Comparisons with NaN are always false in Python, which callers of compare() check with this method
+    static boolean isNaN(Object value) {
+        return value instanceof Double d && d.isNaN();
+    }
+
+    private static int compareStrings(String left, String right) {
+        // Python compares strings by code point, while String.compareTo compares UTF-16 chars
+        var leftIndex = 0;
+        var rightIndex = 0;
+        while (leftIndex < left.length() && rightIndex < right.length()) {
+            final var leftCodePoint = left.codePointAt(leftIndex);
+            final var rightCodePoint = right.codePointAt(rightIndex);
+            if (leftCodePoint != rightCodePoint) return Integer.compare(leftCodePoint, rightCodePoint);
+            leftIndex += Character.charCount(leftCodePoint);
+            rightIndex += Character.charCount(rightCodePoint);
+        }
+        return Integer.compare(left.length() - leftIndex, right.length() - rightIndex);
+    }
+
+    private static boolean isNumeric(Object value) {
+        return value instanceof Long || value instanceof Double || value instanceof Boolean;
+    }
+
+    private static Object numeric(Object value) {
+        // Python booleans are integers in arithmetic and comparisons
+        return value instanceof Boolean b ? (b ? 1L : 0L) : value;
+    }
+
+    private static int compareNumbers(Object left, Object right) {
+        left = numeric(left);
+        right = numeric(right);
+        if (left instanceof Long l && right instanceof Long r) return Long.compare(l, r);
+        if (left instanceof Double l && right instanceof Double r) return compareDoubles(l, r);
+        if (left instanceof Long l) return -compareDoubleWithLong((Double) right, l);
+        return compareDoubleWithLong((Double) left, (Long) right);
+    }
+
+    private static int compareDoubleWithLong(double d, long l) {
+        // Python compares ints and floats exactly, without rounding the int to a float first
+        if (Double.isInfinite(d) || Math.abs(l) <= MAX_EXACT_DOUBLE) return compareDoubles(d, l);
+        return new BigDecimal(d).compareTo(BigDecimal.valueOf(l));
+    }
+
+    private static int compareDoubles(double left, double right) {
+        // Unlike Double.compare, this treats 0.0 and -0.0 as equal
+        return left < right ? -1 : left > right ? 1 : 0;
+    }
+
+    static Object add(Object left, Object right) {
+        if (left instanceof String l && right instanceof String r) return l + r;
+        left = numericOperand(left);
+        right = numericOperand(right);
+        if (left instanceof Long l && right instanceof Long r) {
+            try {
+                return Math.addExact(l, r);
+            } catch (ArithmeticException e) {
+                throw unsupported();
+            }
+        }
+        return toDouble(left) + toDouble(right);
+    }
+
+    static Object subtract(Object left, Object right) {
+        left = numericOperand(left);
+        right = numericOperand(right);
+        if (left instanceof Long l && right instanceof Long r) {
+            try {
+                return Math.subtractExact(l, r);
+            } catch (ArithmeticException e) {
+                throw unsupported();
+            }
+        }
+        return toDouble(left) - toDouble(right);
+    }
+
+    static Object multiply(Object left, Object right) {
+        left = numericOperand(left);
+        right = numericOperand(right);
+        if (left instanceof Long l && right instanceof Long r) {
+            try {
+                return Math.multiplyExact(l, r);
+            } catch (ArithmeticException e) {
+                throw unsupported();
+            }
+        }
+        return toDouble(left) * toDouble(right);
+    }
+
+    static Object divide(Object left, Object right) {
+        left = numericOperand(left);
+        right = numericOperand(right);
+        // Python rounds the exact quotient of two ints, which equals dividing their doubles only for small ints
+        if (left instanceof Long l && Math.abs(l) > MAX_EXACT_DOUBLE) throw unsupported();
+        if (right instanceof Long r && Math.abs(r) > MAX_EXACT_DOUBLE) throw unsupported();
+        final var divisor = toDouble(right);
+        if (divisor == 0.0) throw unsupported();
+        return toDouble(left) / divisor;
+    }
+
+    static Object floorDivide(Object left, Object right) {
+        left = numericOperand(left);
+        right = numericOperand(right);
+        if (left instanceof Long l && right instanceof Long r && r != 0 && !(l == Long.MIN_VALUE && r == -1))
+            return Math.floorDiv(l, r);
+        throw unsupported();
+    }
+
+    static Object modulo(Object left, Object right) {
+        left = numericOperand(left);
+        right = numericOperand(right);
+        if (left instanceof Long l && right instanceof Long r && r != 0) return Math.floorMod(l, r);
+        throw unsupported();
+    }
+
+    static Object negate(Object value) {
+        value = numericOperand(value);
+        if (value instanceof Long l) {
+            if (l == Long.MIN_VALUE) throw unsupported();
+            return -l;
+        }
+        return -(Double) value;
+    }
+
+    private static Object numericOperand(Object value) {
+        if (!isNumeric(value)) throw unsupported();
+        return numeric(value);
+    }
+
+    private static double toDouble(Object value) {
+        // Conversion of a long rounds to the nearest double, like Python's int to float conversion
+        return value instanceof Long l ? (double) l : (Double) value;
+    }
+
+    static String upper(Object value) {
+        if (value instanceof String string) return string.toUpperCase(Locale.ROOT);
+        throw unsupported();
+    }
+
+    static String lower(Object value) {
+        if (value instanceof String string) return string.toLowerCase(Locale.ROOT);
+        throw unsupported();
+    }
+
+    static boolean startsWith(Object value, Object prefix) {
+        if (value instanceof String string && prefix instanceof String p) return string.startsWith(p);
+        throw unsupported();
+    }
+
+    static boolean endsWith(Object value, Object suffix) {
+        if (value instanceof String string && suffix instanceof String s) return string.endsWith(s);
+        throw unsupported();
+    }
+}
@@ -0,0 +1,34 @@
+package io.axual.ksml.expression;
+
+/*-
+ * ========================LICENSE_START=================================
+ * KSML
+ * %%
+ * Copyright (C) 2021 - 2026 Axual B.V.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+/**
+ * Signals that a compiled expression ran into a situation that it does not handle exactly like Python would, for
+ * example a missing key, a type error or an integer overflow. The caller then evaluates the expression in Python. The
+ * exception is thrown often enough to be preallocated and carries no stack trace.
+ */
+class UnsupportedExpressionException extends RuntimeException {
+    static final UnsupportedExpressionException INSTANCE = new UnsupportedExpressionException();
+
+    private UnsupportedExpressionException() {
+        super("Expression can not be evaluated in Java", null, false, false);
+    }
+}
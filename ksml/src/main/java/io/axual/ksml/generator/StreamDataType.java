@@ -46,7 +46,7 @@ public record StreamDataType(UserType userType, boolean isKey) {
     public Serde<Object> serde() {
         final var notation = ExecutionContext.INSTANCE.notationLibrary().get(userType.notation());
         if (userType.dataType() instanceof UnionType unionType)
-            return new UnionSerde(FLATTENER.flatten(unionType), isKey, notation::serde);
+            return new UnionSerde(FLATTENER.flatten(unionType), isKey, notation::serde, ExecutionContext.INSTANCE.unionTypeTagHeader(), ExecutionContext.INSTANCE.unionLearnReadOrder());
         var serde = notation.serde(FLATTENER.flatten(userType.dataType()), isKey);
         return ExecutionContext.INSTANCE.wrapSerde(serde);
     }
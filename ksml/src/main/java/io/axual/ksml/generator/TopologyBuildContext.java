@@ -24,6 +24,7 @@ import io.axual.ksml.data.mapper.DataObjectConverter;
 import io.axual.ksml.definition.FunctionDefinition;
 import io.axual.ksml.definition.GlobalTableDefinition;
 import io.axual.ksml.definition.KeyValueStateStoreDefinition;
+import io.axual.ksml.definition.RocksDBOptionsDefinition;
 import io.axual.ksml.definition.SessionStateStoreDefinition;
 import io.axual.ksml.definition.StateStoreDefinition;
 import io.axual.ksml.definition.StreamDefinition;
@@ -32,9 +33,10 @@ import io.axual.ksml.definition.TopicDefinition;
 import io.axual.ksml.definition.TopologyResource;
 import io.axual.ksml.definition.WindowStateStoreDefinition;
 import io.axual.ksml.exception.TopologyException;
+import io.axual.ksml.expression.ExpressionFunction;
 import io.axual.ksml.metric.MetricTags;
-import io.axual.ksml.python.PythonContext;
 import io.axual.ksml.python.PythonContextConfig;
+import io.axual.ksml.python.PythonContextPool;
 import io.axual.ksml.python.PythonFunction;
 import io.axual.ksml.store.StoreUtil;
 import io.axual.ksml.stream.BaseStreamWrapper;
@@ -43,6 +45,7 @@ import io.axual.ksml.stream.KStreamWrapper;
 import io.axual.ksml.stream.KTableWrapper;
 import io.axual.ksml.stream.StreamWrapper;
 import io.axual.ksml.user.UserFunction;
+import io.axual.ksml.user.UserFunctionFactory;
 import io.axual.ksml.user.UserTimestampExtractor;
 import lombok.Getter;
 import org.apache.kafka.common.serialization.Serde;
@@ -56,19 +59,32 @@ import org.apache.kafka.streams.state.SessionStore;
 import org.apache.kafka.streams.state.WindowStore;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 // This is a supporting class during topology building/generation. It contains the main reference to Kafka Streams'
-// StreamsBuilder and serves as the lookup point for topology resources. It also contains the Python context in which
-// all topology definitions will get loaded. By convention, every KSML definition file is built separately and its
-// all its functions are loaded into a private Python context.
+// StreamsBuilder and serves as the lookup point for topology resources. It also contains the Python context pool in
+// which all topology definitions will get loaded. By convention, every KSML definition file is built separately and
+// all its functions are loaded into a private Python context, or one private context per stream thread when the
+// pool is configured to do so.
 public class TopologyBuildContext {
     private final StreamsBuilder builder;
     private final TopologyResources resources;
-    private final PythonContext pythonContext;
+    // The Python contexts of the topology, closed by the TopologyGenerator when the topology is stopped
+    @Getter
+    private final PythonContextPool pythonContexts;
+    private final boolean compileExpressions;
+    // All user functions created for the topology, which are warmed up before the topology starts
+    @Getter
+    private final List<UserFunction> userFunctions = new ArrayList<>();
     @Getter
     private final DataObjectConverter converter = new DataObjectConverter();
+    // The RocksDB options of all persistent stores in the topology, which are applied by KsmlRocksDBConfigSetter
+    @Getter
+    private final Map<String, RocksDBOptionsDefinition> rocksDBOptions = new HashMap<>();
 
     // All wrapped KStreams, KTables and KGlobalTables
     private final Map<String, StreamWrapper> streamWrappersByName = new HashMap<>();
@@ -83,7 +99,8 @@ public class TopologyBuildContext {
                                 PythonContextConfig pcConfig) {
         this.builder = builder;
         this.resources = resources;
-        this.pythonContext = new PythonContext(pcConfig);
+        this.pythonContexts = new PythonContextPool(pcConfig, defaultMetricTags());
+        this.compileExpressions = pcConfig == null || pcConfig.compileExpressions();
     }
 
     public String namespace() {
@@ -92,22 +109,32 @@ public class TopologyBuildContext {
 
     public <V> Materialized<Object, V, KeyValueStore<Bytes, byte[]>> materialize(KeyValueStateStoreDefinition store) {
         resources.register(store.name(), store);
+        registerRocksDBOptions(store);
         return StoreUtil.<V>materialize(store).materialized();
     }
 
     public <V> Materialized<Object, V, SessionStore<Bytes, byte[]>> materialize(SessionStateStoreDefinition store) {
         resources.register(store.name(), store);
+        registerRocksDBOptions(store);
         return StoreUtil.<V>materialize(store).materialized();
     }
 
     public <V> Materialized<Object, V, WindowStore<Bytes, byte[]>> materialize(WindowStateStoreDefinition store) {
         resources.register(store.name(), store);
+        registerRocksDBOptions(store);
         return StoreUtil.<V>materialize(store).materialized();
     }
 
     public void createUserStateStore(StateStoreDefinition store) {
         final var storeBuilder = StoreUtil.getStoreBuilder(store);
         builder.addStateStore(storeBuilder);
+        registerRocksDBOptions(store);
+    }
+
+    public void registerRocksDBOptions(StateStoreDefinition store) {
+        if (store != null && store.persistent() && store.name() != null && store.rocksDB() != null) {
+            rocksDBOptions.put(store.name(), store.rocksDB());
+        }
     }
 
     public StreamWrapper getStreamWrapper(TopologyResource<TopicDefinition> resource) {
@@ -219,6 +246,7 @@ public class TopologyBuildContext {
                     ? tableDefinition.store().with(tableDefinition.keyType(), tableDefinition.valueType())
                     // Set up a store for tables, mapping to the topic itself, so we don't require an extra state store topic
                     : new KeyValueStateStoreDefinition(tableDefinition.topic(), false, false, false, Duration.ofSeconds(900), Duration.ofSeconds(60), streamKey.userType(), streamValue.userType(), false, false);
+            registerRocksDBOptions(store);
             final var mat = StoreUtil.materialize(store);
             final var consumed = consumedOf(name, mat.keySerde(), mat.valueSerde(), def.tsExtractor(), def.resetPolicy());
             return new KTableWrapper(builder.table(tableDefinition.topic(), consumed, mat.materialized()), streamKey, streamValue);
@@ -231,6 +259,7 @@ public class TopologyBuildContext {
                     ? globalTableDefinition.store().with(globalTableDefinition.keyType(), globalTableDefinition.valueType())
                     // Set up a store for globalTables, mapping to the topic itself, so we don't require an extra state store topic
                     : new KeyValueStateStoreDefinition(globalTableDefinition.topic(), false, false, false, Duration.ofSeconds(900), Duration.ofSeconds(60), streamKey.userType(), streamValue.userType(), false, false);
+            registerRocksDBOptions(store);
             final var mat = StoreUtil.materialize(store);
             final var consumed = consumedOf(name, mat.keySerde(), mat.valueSerde(), def.tsExtractor(), def.resetPolicy());
             return new GlobalKTableWrapper(builder.globalTable(globalTableDefinition.topic(), consumed, mat.materialized()), streamKey, streamValue);
@@ -277,8 +306,20 @@ public class TopologyBuildContext {
         return new MetricTags().append("namespace", namespace());
     }
 
-    // Create a new function in the Python context, using the definition in the parameter
+    // Create a new function in the Python context, or from a Java class, using the definition in the parameter
     public UserFunction createUserFunction(FunctionDefinition definition) {
-        return PythonFunction.forFunction(pythonContext, resources.namespace(), definition.name(), definition);
+        final var result = UserFunctionFactory.create(resources.namespace(), definition.name(), definition, () -> createPythonFunction(definition));
+        userFunctions.add(result);
+        return result;
+    }
+
+    // Simple expressions are evaluated in Java, with the Python function handling the calls the expression can not
+    private UserFunction createPythonFunction(FunctionDefinition definition) {
+        final Supplier<UserFunction> pythonFunction = () -> PythonFunction.forFunction(pythonContexts, resources.namespace(), definition.name(), definition);
+        if (compileExpressions) {
+            final var result = ExpressionFunction.compile(resources.namespace(), definition.name(), definition, pythonFunction);
+            if (result != null) return result;
+        }
+        return pythonFunction.get();
     }
 }
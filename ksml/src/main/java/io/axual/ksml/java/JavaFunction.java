@@ -0,0 +1,94 @@
+package io.axual.ksml.java;
+
+/*-
+ * ========================LICENSE_START=================================
+ * KSML
+ * %%
+ * Copyright (C) 2021 - 2026 Axual B.V.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import io.axual.ksml.data.mapper.DataObjectConverter;
+import io.axual.ksml.data.object.DataNull;
+import io.axual.ksml.data.object.DataObject;
+import io.axual.ksml.data.util.ConvertUtil;
+import io.axual.ksml.definition.FunctionDefinition;
+import io.axual.ksml.exception.TopologyException;
+import io.axual.ksml.execution.FatalError;
+import io.axual.ksml.store.StateStores;
+import io.axual.ksml.user.UserFunction;
+
+import static io.axual.ksml.type.UserType.DEFAULT_NOTATION;
+
+/**
+ * A {@link UserFunction} that is implemented by a Java class, see {@link KSMLFunction}. Parameters and results are
+ * checked against the function definition just like for Python functions, so Java functions can be used wherever the
+ * definition expects a function.
+ */
+public class JavaFunction extends UserFunction {
+    private static final DataObjectConverter CONVERTER = new DataObjectConverter();
+    private final KSMLFunction function;
+
+    public static JavaFunction forFunction(String namespace, String name, FunctionDefinition definition) {
+        return new JavaFunction(namespace, name, definition, instantiate(namespace, name, definition.className()));
+    }
+
+    public JavaFunction(String namespace, String name, FunctionDefinition definition, KSMLFunction function) {
+        super(namespace, name, definition.parameters(), definition.resultType(), definition.storeNames());
+        this.function = function;
+    }
+
+    private static KSMLFunction instantiate(String namespace, String name, String className) {
+        if (className == null) {
+            throw new TopologyException("Java function %s.%s does not specify a class".formatted(namespace, name));
+        }
+        try {
+            final var loader = Thread.currentThread().getContextClassLoader();
+            final var clazz = Class.forName(className, true, loader != null ? loader : JavaFunction.class.getClassLoader());
+            if (!KSMLFunction.class.isAssignableFrom(clazz)) {
+                throw new TopologyException("Class %s of Java function %s.%s does not implement %s".formatted(className, namespace, name, KSMLFunction.class.getName()));
+            }
+            return (KSMLFunction) clazz.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new TopologyException("Could not instantiate class %s of Java function %s.%s: %s".formatted(className, namespace, name, e.getMessage()), e);
+        }
+    }
+
+    @Override
+    public DataObject call(StateStores stores, DataObject... parameters) {
+        checkParameters(parameters);
+        try {
+            final var result = function.call(stores, parameters);
+            return convertResult(parameters, result);
+        } catch (Exception e) {
+            logCall(parameters, null);
+            throw FatalError.report(new TopologyException("Error while executing function %s.%s : %s".formatted(namespace, name, e.getMessage()), e));
+        }
+    }
+
+    private DataObject convertResult(DataObject[] parameters, DataObject result) {
+        // Check if the function is supposed to return a result value
+        if (resultType == null) {
+            logCall(parameters, null);
+            return DataNull.INSTANCE;
+        }
+        if (result == null) result = ConvertUtil.convertNullToDataObject(resultType.dataType());
+        logCall(parameters, result);
+        if (resultType.dataType().isAssignableFrom(result).isNotAssignable())
+            result = CONVERTER.convert(DEFAULT_NOTATION, result, resultType);
+        checkType(resultType.dataType(), result);
+        return result;
+    }
+}
@@ -0,0 +1,42 @@
+package io.axual.ksml.java;
+
+/*-
+ * ========================LICENSE_START=================================
+ * KSML
+ * %%
+ * Copyright (C) 2021 - 2026 Axual B.V.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import io.axual.ksml.data.object.DataObject;
+import io.axual.ksml.store.StateStores;
+
+/**
+ * Interface for KSML functions written in Java. Classes implementing this interface are referenced from a KSML
+ * definition by setting the function's language to {@code java} and its class to the fully qualified class name. They
+ * are instantiated once per function through their public no-argument constructor, and called directly on the stream
+ * threads without passing through the Python interpreter. Implementations should therefore be thread-safe.
+ */
+@FunctionalInterface
+public interface KSMLFunction {
+    /**
+     * Call the function.
+     *
+     * @param stores     the state stores the function has access to, or null if the function does not use stores.
+     * @param parameters the parameters of the function, in the order they are declared for the function type.
+     * @return the result of the function, or null if it does not return anything.
+     */
+    DataObject call(StateStores stores, DataObject... parameters);
+}
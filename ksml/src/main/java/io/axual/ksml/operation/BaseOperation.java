@@ -43,6 +43,7 @@ import io.axual.ksml.user.UserFunction;
 import io.axual.ksml.user.UserValueJoiner;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.common.utils.Bytes;
+import org.apache.kafka.streams.KeyValue;
 import org.apache.kafka.streams.kstream.Grouped;
 import org.apache.kafka.streams.kstream.JoinWindows;
 import org.apache.kafka.streams.kstream.Joined;
@@ -57,13 +58,16 @@ import org.apache.kafka.streams.kstream.TableJoined;
 import org.apache.kafka.streams.kstream.ValueJoiner;
 import org.apache.kafka.streams.kstream.ValueJoinerWithKey;
 import org.apache.kafka.streams.processor.StreamPartitioner;
+import org.apache.kafka.streams.processor.api.FixedKeyRecord;
 import org.apache.kafka.streams.state.KeyValueStore;
 import org.apache.kafka.streams.state.SessionStore;
 import org.apache.kafka.streams.state.WindowStore;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -116,6 +120,14 @@ public abstract class BaseOperation implements StreamOperation {
         return DATA_OBJECT_FLATTENER.toDataObject(value);
     }
 
+    protected List<KeyValue<Object, Object>> flattenKeyValues(List<FixedKeyRecord<Object, Object>> records) {
+        final var result = new ArrayList<KeyValue<Object, Object>>(records.size());
+        for (final var rec : records) {
+            result.add(new KeyValue<>(flattenValue(rec.key()), flattenValue(rec.value())));
+        }
+        return result;
+    }
+
     protected void checkNotNull(Object object, String description) {
         if (object == null) {
             throw new TopologyException(ERROR_IN_TOPOLOGY + ": " + description + " not defined");
@@ -478,7 +490,11 @@ public abstract class BaseOperation implements StreamOperation {
                     storeKeyType,
                     storeValueType,
                     keyValueStore.caching(),
-                    keyValueStore.logging());
+                    keyValueStore.logging(),
+                    keyValueStore.offHeap(),
+                    keyValueStore.objectCacheSize(),
+                    keyValueStore.objectCacheTtl(),
+                    keyValueStore.rocksDB());
         }
         throw new ExecutionException(this + " requires a  state store of type 'keyValue'");
     }
@@ -501,7 +517,8 @@ public abstract class BaseOperation implements StreamOperation {
                     storeKeyType,
                     storeValueType,
                     sessionStore.caching(),
-                    sessionStore.logging());
+                    sessionStore.logging(),
+                    sessionStore.rocksDB());
         }
         throw new ExecutionException(this + " requires a  state store of type 'session'");
     }
@@ -526,7 +543,8 @@ public abstract class BaseOperation implements StreamOperation {
                     storeKeyType,
                     storeValueType,
                     windowStore.caching(),
-                    windowStore.logging());
+                    windowStore.logging(),
+                    windowStore.rocksDB());
         }
         throw new ExecutionException(this + " requires a  state store of type 'window'");
     }
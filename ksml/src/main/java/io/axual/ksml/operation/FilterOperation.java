@@ -24,22 +24,33 @@ package io.axual.ksml.operation;
 import io.axual.ksml.data.object.DataBoolean;
 import io.axual.ksml.definition.FunctionDefinition;
 import io.axual.ksml.generator.TopologyBuildContext;
+import io.axual.ksml.operation.processor.BatchConfig;
 import io.axual.ksml.operation.processor.FilterProcessor;
 import io.axual.ksml.operation.processor.FixedKeyOperationProcessorSupplier;
+import io.axual.ksml.store.StateStores;
 import io.axual.ksml.stream.KStreamWrapper;
 import io.axual.ksml.stream.KTableWrapper;
 import io.axual.ksml.stream.StreamWrapper;
 import io.axual.ksml.user.UserPredicate;
 import org.apache.kafka.streams.kstream.KTable;
 import org.apache.kafka.streams.kstream.Named;
+import org.apache.kafka.streams.processor.api.FixedKeyRecord;
+
+import java.util.List;
 
 public class FilterOperation extends StoreOperation {
     private static final String PREDICATE_NAME = "Predicate";
     private final FunctionDefinition predicate;
+    private final BatchConfig batch;
 
     public FilterOperation(StoreOperationConfig config, FunctionDefinition predicate) {
+        this(config, predicate, BatchConfig.NONE);
+    }
+
+    public FilterOperation(StoreOperationConfig config, FunctionDefinition predicate, BatchConfig batch) {
         super(config);
         this.predicate = predicate;
+        this.batch = batch;
     }
 
     @Override
@@ -55,10 +66,21 @@ public class FilterOperation extends StoreOperation {
         final var pred = userFunctionOf(context, PREDICATE_NAME, predicate, DataBoolean.DATATYPE, superOf(k.flatten()), superOf(v.flatten()));
         final var userPred = new UserPredicate(pred, tags);
         final var storeNames = predicate.storeNames().toArray(String[]::new);
+        final var action = new FilterProcessor.Predicate() {
+            @Override
+            public boolean test(StateStores stores, FixedKeyRecord<Object, Object> rec) {
+                return userPred.test(stores, flattenValue(rec.key()), flattenValue(rec.value()));
+            }
+
+            @Override
+            public List<Boolean> test(StateStores stores, List<FixedKeyRecord<Object, Object>> records) {
+                return userPred.test(stores, flattenKeyValues(records));
+            }
+        };
         final var supplier = new FixedKeyOperationProcessorSupplier<>(
                 name,
-                FilterProcessor::new,
-                (stores, rec) -> userPred.test(stores, flattenValue(rec.key()), flattenValue(rec.value())),
+                (n, a, s) -> new FilterProcessor(n, a, s, batch),
+                action,
                 storeNames);
         final var output = name != null
                 ? input.stream.processValues(supplier, Named.as(name), storeNames)
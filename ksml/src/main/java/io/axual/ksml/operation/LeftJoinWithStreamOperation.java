@@ -65,6 +65,8 @@ public class LeftJoinWithStreamOperation extends DualStoreOperation {
         final var joiner = userFunctionOf(context, VALUEJOINER_NAME, valueJoiner, vr, superOf(k), superOf(v), superOf(vo));
         final var thisStore = validateWindowStore(thisStore(), k, vr);
         final var otherStore = validateWindowStore(otherStore(), k, vr);
+        context.registerRocksDBOptions(thisStore);
+        context.registerRocksDBOptions(otherStore);
         final var streamJoined = streamJoinedOf(thisStore, otherStore, k, v, vo, joinWindows);
         final var userJoiner = valueJoinerWithKey(joiner, tags);
         final KStream<Object, Object> output = streamJoined != null
@@ -23,8 +23,10 @@ package io.axual.ksml.operation;
 import io.axual.ksml.data.object.DataObject;
 import io.axual.ksml.definition.FunctionDefinition;
 import io.axual.ksml.generator.TopologyBuildContext;
+import io.axual.ksml.operation.processor.BatchConfig;
 import io.axual.ksml.operation.processor.FixedKeyOperationProcessorSupplier;
 import io.axual.ksml.operation.processor.TransformValueProcessor;
+import io.axual.ksml.store.StateStores;
 import io.axual.ksml.stream.KStreamWrapper;
 import io.axual.ksml.stream.KTableWrapper;
 import io.axual.ksml.stream.StreamWrapper;
@@ -33,14 +35,24 @@ import io.axual.ksml.user.UserValueTransformerWithKey;
 import org.apache.kafka.streams.kstream.KStream;
 import org.apache.kafka.streams.kstream.KTable;
 import org.apache.kafka.streams.kstream.ValueTransformerWithKeySupplier;
+import org.apache.kafka.streams.processor.api.FixedKeyRecord;
+
+import java.util.ArrayList;
+import java.util.List;
 
 public class TransformValueOperation extends StoreOperation {
     private static final String MAPPER_NAME = "Mapper";
     private final FunctionDefinition mapper;
+    private final BatchConfig batch;
 
     public TransformValueOperation(StoreOperationConfig config, FunctionDefinition mapper) {
+        this(config, mapper, BatchConfig.NONE);
+    }
+
+    public TransformValueOperation(StoreOperationConfig config, FunctionDefinition mapper, BatchConfig batch) {
         super(config);
         this.mapper = mapper;
+        this.batch = batch;
     }
 
     @Override
@@ -59,10 +71,21 @@ public class TransformValueOperation extends StoreOperation {
         final var map = userFunctionOf(context, MAPPER_NAME, mapper, vr, superOf(k.flatten()), superOf(v));
         final var userMap = new UserValueTransformer(map, tags);
         final var storeNames = mapper.storeNames().toArray(String[]::new);
+        final var action = new TransformValueProcessor.TransformValueAction() {
+            @Override
+            public Object apply(StateStores stores, FixedKeyRecord<Object, Object> rec) {
+                return userMap.apply(stores, flattenValue(rec.key()), flattenValue(rec.value()));
+            }
+
+            @Override
+            public List<Object> apply(StateStores stores, List<FixedKeyRecord<Object, Object>> records) {
+                return new ArrayList<>(userMap.apply(stores, flattenKeyValues(records)));
+            }
+        };
         final var supplier = new FixedKeyOperationProcessorSupplier<>(
                 name,
-                TransformValueProcessor::new,
-                (stores, rec) -> userMap.apply(stores, flattenValue(rec.key()), flattenValue(rec.value())),
+                (n, a, s) -> new TransformValueProcessor(n, a, s, batch),
+                action,
                 storeNames);
         final var named = namedOf();
         final KStream<Object, Object> output = named != null
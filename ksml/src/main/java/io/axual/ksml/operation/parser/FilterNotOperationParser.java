@@ -42,9 +42,11 @@ public class FilterNotOperationParser extends OperationParser<FilterNotOperation
                 operationNameField(),
                 functionField(KSMLDSL.Operations.Filter.PREDICATE, "A function that returns \"false\" when records are accepted, \"true\" otherwise", new PredicateDefinitionParser(false)),
                 storeField(false, "Materialized view of the filtered table (only applies to tables, ignored for streams)", StoreType.KEYVALUE_STORE),
-                (name, pred, store, tags) -> {
+                batchSizeField(),
+                batchIntervalField(),
+                (name, pred, store, batchSize, batchInterval, tags) -> {
                     if (pred != null)
-                        return new FilterNotOperation(storeOperationConfig(name, tags, store), pred);
+                        return new FilterNotOperation(storeOperationConfig(name, tags, store), pred, batchConfig(batchSize, batchInterval));
                     throw new ExecutionException("Predicate not defined for " + type + " operation");
                 });
     }
@@ -42,9 +42,11 @@ public class FilterOperationParser extends OperationParser<FilterOperation> {
                 operationNameField(),
                 functionField(KSMLDSL.Operations.Filter.PREDICATE, "A function that returns \"true\" when records are accepted, \"false\" otherwise", new PredicateDefinitionParser(false)),
                 storeField(false, "Materialized view of the filtered table (only applies to tables, ignored for streams)", StoreType.KEYVALUE_STORE),
-                (name, pred, store, tags) -> {
+                batchSizeField(),
+                batchIntervalField(),
+                (name, pred, store, batchSize, batchInterval, tags) -> {
                     if (pred != null)
-                        return new FilterOperation(storeOperationConfig(name, tags, store), pred);
+                        return new FilterOperation(storeOperationConfig(name, tags, store), pred, batchConfig(batchSize, batchInterval));
                     throw new ExecutionException("Predicate not defined for " + type + " operation");
                 });
     }
@@ -31,6 +31,7 @@ import io.axual.ksml.operation.BaseOperation;
 import io.axual.ksml.operation.DualStoreOperationConfig;
 import io.axual.ksml.operation.OperationConfig;
 import io.axual.ksml.operation.StoreOperationConfig;
+import io.axual.ksml.operation.processor.BatchConfig;
 import io.axual.ksml.parser.NamedObjectParser;
 import io.axual.ksml.parser.ParseNode;
 import io.axual.ksml.parser.StructsParser;
@@ -39,6 +40,7 @@ import io.axual.ksml.parser.TopologyResourceParser;
 import io.axual.ksml.store.StoreType;
 import lombok.Getter;
 
+import java.time.Duration;
 import java.util.List;
 
 @Getter
@@ -67,6 +69,18 @@ public abstract class OperationParser<T extends BaseOperation> extends TopologyR
         };
     }
 
+    protected StructsParser<Integer> batchSizeField() {
+        return optional(integerField(KSMLDSL.Operations.BATCH_SIZE_ATTRIBUTE, "The maximum number of records passed to the function in a single call (only applies to streams). Defaults to 1, which disables batching"));
+    }
+
+    protected StructsParser<Duration> batchIntervalField() {
+        return optional(durationField(KSMLDSL.Operations.BATCH_INTERVAL_ATTRIBUTE, "The maximum time records are buffered before a partially filled batch is passed to the function (only applies when batchSize is larger than 1). Defaults to 100ms"));
+    }
+
+    protected BatchConfig batchConfig(Integer size, Duration interval) {
+        return BatchConfig.of(size, interval);
+    }
+
     protected OperationConfig operationConfig(String name, MetricTags tags) {
         name = validateName("Operation", name, defaultLongName != null ? defaultLongName + "_" + type : type);
         return new OperationConfig(
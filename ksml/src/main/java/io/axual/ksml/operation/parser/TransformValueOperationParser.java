@@ -42,6 +42,8 @@ public class TransformValueOperationParser extends OperationParser<TransformValu
                 operationNameField(),
                 functionField(KSMLDSL.Operations.Transform.MAPPER, "A function that converts the value of every record into another value", new ValueTransformerDefinitionParser(false)),
                 storeField(false, "Materialized view of the transformed table (only applies to tables, ignored for streams)", StoreType.KEYVALUE_STORE),
-                (name, mapper, store, tags) -> new TransformValueOperation(storeOperationConfig(name, tags, store), mapper));
+                batchSizeField(),
+                batchIntervalField(),
+                (name, mapper, store, batchSize, batchInterval, tags) -> new TransformValueOperation(storeOperationConfig(name, tags, store), mapper, batchConfig(batchSize, batchInterval)));
     }
 }
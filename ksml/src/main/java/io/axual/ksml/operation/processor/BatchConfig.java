@@ -0,0 +1,60 @@
+package io.axual.ksml.operation.processor;
+
+/*-
+ * ========================LICENSE_START=================================
+ * KSML
+ * %%
+ * Copyright (C) 2021 - 2025 Axual B.V.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+
+import io.axual.ksml.exception.TopologyException;
+
+import java.time.Duration;
+
+/**
+ * Settings for processors that pass records to their user function in batches. A batch is flushed when it reaches
+ * {@code size} records, or when the wall-clock {@code interval} passes, whichever comes first. A size of 1 disables
+ * batching.
+ *
+ * @param size     the maximum number of records in a batch.
+ * @param interval the maximum time a record is buffered before its batch is flushed.
+ */
+public record BatchConfig(int size, Duration interval) {
+    public static final Duration DEFAULT_INTERVAL = Duration.ofMillis(100);
+    public static final BatchConfig NONE = new BatchConfig(1, DEFAULT_INTERVAL);
+
+    public BatchConfig {
+        if (size < 1) {
+            throw new TopologyException("Batch size should be at least 1, but is " + size);
+        }
+        if (interval == null) {
+            interval = DEFAULT_INTERVAL;
+        }
+        if (interval.isNegative() || interval.isZero()) {
+            throw new TopologyException("Batch interval should be positive, but is " + interval);
+        }
+    }
+
+    public static BatchConfig of(Integer size, Duration interval) {
+        if (size == null && interval == null) return NONE;
+        return new BatchConfig(size != null ? size : 1, interval);
+    }
+
+    public boolean enabled() {
+        return size > 1;
+    }
+}
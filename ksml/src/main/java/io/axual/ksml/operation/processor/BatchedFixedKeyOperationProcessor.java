@@ -0,0 +1,112 @@
+package io.axual.ksml.operation.processor;
+
+/*-
+ * ========================LICENSE_START=================================
+ * KSML
+ * %%
+ * Copyright (C) 2021 - 2025 Axual B.V.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+
+import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.processor.PunctuationType;
+import org.apache.kafka.streams.processor.api.FixedKeyProcessorContext;
+import org.apache.kafka.streams.processor.api.FixedKeyRecord;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Base class for processors that can hand records to their user function in batches, so the function is invoked once
+ * per batch instead of once per record. Records are buffered until the batch is full, or until a wall-clock
+ * punctuation flushes the partially filled batch. Results are forwarded in the order the records came in, from within
+ * normal processing or punctuation, so the forwarded records keep the headers and timestamps of their input records.
+ * <p>
+ * The punctuation interval is capped at the commit interval, but Kafka Streams may still commit the offsets of
+ * buffered records before their batch is flushed. Records still in the buffer when an instance fails are therefore
+ * not reprocessed, which makes batched processing at-most-once for those records. Batching is only enabled on
+ * request, so pipelines that require at-least-once processing keep it disabled.
+ */
+public abstract class BatchedFixedKeyOperationProcessor extends FixedKeyOperationProcessor {
+    private final BatchConfig batch;
+    private final List<FixedKeyRecord<Object, Object>> buffer;
+
+    protected BatchedFixedKeyOperationProcessor(String name, String[] storeNames, BatchConfig batch) {
+        super(name, storeNames);
+        this.batch = batch != null ? batch : BatchConfig.NONE;
+        this.buffer = new ArrayList<>(this.batch.size());
+    }
+
+    @Override
+    public void init(FixedKeyProcessorContext<Object, Object> context) {
+        super.init(context);
+        buffer.clear();
+        if (batch.enabled()) {
+            context.schedule(flushInterval(context), PunctuationType.WALL_CLOCK_TIME, timestamp -> flush());
+        }
+    }
+
+    // Flush at least once per commit interval, so buffered records do not wait for more than one commit
+    private Duration flushInterval(FixedKeyProcessorContext<Object, Object> context) {
+        final var commitInterval = context.appConfigs().get(StreamsConfig.COMMIT_INTERVAL_MS_CONFIG);
+        if (commitInterval == null) return batch.interval();
+        try {
+            final var commitMs = commitInterval instanceof Number number ? number.longValue() : Long.parseLong(commitInterval.toString().trim());
+            return commitMs > 0 && commitMs < batch.interval().toMillis() ? Duration.ofMillis(commitMs) : batch.interval();
+        } catch (NumberFormatException e) {
+            return batch.interval();
+        }
+    }
+
+    @Override
+    public void process(FixedKeyRecord<Object, Object> rec) {
+        if (!batch.enabled()) {
+            processRecord(rec);
+            return;
+        }
+        buffer.add(rec);
+        if (buffer.size() >= batch.size()) {
+            flush();
+        }
+    }
+
+    private void flush() {
+        if (buffer.isEmpty()) return;
+        try {
+            for (final var result : processBatch(buffer)) {
+                if (result != null) context.forward(result);
+            }
+        } finally {
+            buffer.clear();
+        }
+    }
+
+    /**
+     * Process a single record, used when batching is disabled.
+     *
+     * @param rec the record to process.
+     */
+    protected abstract void processRecord(FixedKeyRecord<Object, Object> rec);
+
+    /**
+     * Process a batch of records. The caller forwards the results in order.
+     *
+     * @param records the buffered records, in the order they were received.
+     * @return for every record the record to forward, or null if nothing is forwarded for it.
+     */
+    protected abstract List<FixedKeyRecord<Object, Object>> processBatch(List<FixedKeyRecord<Object, Object>> records);
+}
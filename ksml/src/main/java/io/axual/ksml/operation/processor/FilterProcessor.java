@@ -23,22 +23,47 @@ package io.axual.ksml.operation.processor;
 import io.axual.ksml.store.StateStores;
 import org.apache.kafka.streams.processor.api.FixedKeyRecord;
 
-public class FilterProcessor extends FixedKeyOperationProcessor {
+import java.util.ArrayList;
+import java.util.List;
+
+public class FilterProcessor extends BatchedFixedKeyOperationProcessor {
     public interface Predicate {
         boolean test(StateStores stores, FixedKeyRecord<Object, Object> rec);
+
+        default List<Boolean> test(StateStores stores, List<FixedKeyRecord<Object, Object>> records) {
+            final var result = new ArrayList<Boolean>(records.size());
+            for (final var rec : records) {
+                result.add(test(stores, rec));
+            }
+            return result;
+        }
     }
 
     private final Predicate action;
 
     public FilterProcessor(String name, Predicate action, String[] storeNames) {
-        super(name, storeNames);
+        this(name, action, storeNames, BatchConfig.NONE);
+    }
+
+    public FilterProcessor(String name, Predicate action, String[] storeNames, BatchConfig batch) {
+        super(name, storeNames, batch);
         this.action = action;
     }
 
     @Override
-    public void process(FixedKeyRecord<Object, Object> rec) {
+    protected void processRecord(FixedKeyRecord<Object, Object> rec) {
         if (action.test(stores, rec)) {
             context.forward(rec);
         }
     }
+
+    @Override
+    protected List<FixedKeyRecord<Object, Object>> processBatch(List<FixedKeyRecord<Object, Object>> records) {
+        final var results = action.test(stores, records);
+        final var forwards = new ArrayList<FixedKeyRecord<Object, Object>>(records.size());
+        for (int index = 0; index < records.size(); index++) {
+            forwards.add(results.get(index) ? records.get(index) : null);
+        }
+        return forwards;
+    }
 }
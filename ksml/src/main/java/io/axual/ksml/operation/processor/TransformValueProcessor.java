@@ -23,21 +23,46 @@ package io.axual.ksml.operation.processor;
 import io.axual.ksml.store.StateStores;
 import org.apache.kafka.streams.processor.api.FixedKeyRecord;
 
-public class TransformValueProcessor extends FixedKeyOperationProcessor {
+import java.util.ArrayList;
+import java.util.List;
+
+public class TransformValueProcessor extends BatchedFixedKeyOperationProcessor {
     public interface TransformValueAction {
         Object apply(StateStores stores, FixedKeyRecord<Object, Object> rec);
+
+        default List<Object> apply(StateStores stores, List<FixedKeyRecord<Object, Object>> records) {
+            final var result = new ArrayList<>(records.size());
+            for (final var rec : records) {
+                result.add(apply(stores, rec));
+            }
+            return result;
+        }
     }
 
     private final TransformValueAction action;
 
     public TransformValueProcessor(String name, TransformValueAction action, String[] storeNames) {
-        super(name, storeNames);
+        this(name, action, storeNames, BatchConfig.NONE);
+    }
+
+    public TransformValueProcessor(String name, TransformValueAction action, String[] storeNames, BatchConfig batch) {
+        super(name, storeNames, batch);
         this.action = action;
     }
 
     @Override
-    public void process(FixedKeyRecord<Object, Object> rec) {
+    protected void processRecord(FixedKeyRecord<Object, Object> rec) {
         var v = action.apply(stores, rec);
         context.forward(rec.withValue(v));
     }
+
+    @Override
+    protected List<FixedKeyRecord<Object, Object>> processBatch(List<FixedKeyRecord<Object, Object>> records) {
+        final var values = action.apply(stores, records);
+        final var forwards = new ArrayList<FixedKeyRecord<Object, Object>>(records.size());
+        for (int index = 0; index < records.size(); index++) {
+            forwards.add(records.get(index).withValue(values.get(index)));
+        }
+        return forwards;
+    }
 }
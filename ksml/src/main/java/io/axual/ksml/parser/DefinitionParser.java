@@ -330,6 +330,22 @@ public abstract class DefinitionParser<T> extends BaseParser<T> implements Struc
         R construct(A a, B b, C c, D d, E e, F f, G g, H h, I i, J j, MetricTags tags);
     }
 
+    public interface Constructor11<R, A, B, C, D, E, F, G, H, I, J, K> {
+        R construct(A a, B b, C c, D d, E e, F f, G g, H h, I i, J j, K k, MetricTags tags);
+    }
+
+    public interface Constructor12<R, A, B, C, D, E, F, G, H, I, J, K, L> {
+        R construct(A a, B b, C c, D d, E e, F f, G g, H h, I i, J j, K k, L l, MetricTags tags);
+    }
+
+    public interface Constructor13<R, A, B, C, D, E, F, G, H, I, J, K, L, M> {
+        R construct(A a, B b, C c, D d, E e, F f, G g, H h, I i, J j, K k, L l, M m, MetricTags tags);
+    }
+
+    public interface Constructor14<R, A, B, C, D, E, F, G, H, I, J, K, L, M, N> {
+        R construct(A a, B b, C c, D d, E e, F f, G g, H h, I i, J j, K k, L l, M m, N n, MetricTags tags);
+    }
+
     protected <S> StructsParser<S> structsParser(Class<S> resultClass, String definitionVariant, String doc, Constructor0<S> constructor) {
         return new ValueStructParser<>(resultClass.getSimpleName() + definitionVariant, doc, List.of(), node -> constructor.construct(node.tags()));
     }
@@ -373,4 +389,20 @@ public abstract class DefinitionParser<T> extends BaseParser<T> implements Struc
     protected <S, A, B, C, D, E, F, G, H, I, J> StructsParser<S> structsParser(Class<? extends S> resultClass, String definitionVariant, String doc, StructsParser<A> a, StructsParser<B> b, StructsParser<C> c, StructsParser<D> d, StructsParser<E> e, StructsParser<F> f, StructsParser<G> g, StructsParser<H> h, StructsParser<I> i, StructsParser<J> j, Constructor10<S, A, B, C, D, E, F, G, H, I, J> constructor) {
         return new ValueStructParser<>(resultClass.getSimpleName() + definitionVariant, doc, List.of(a, b, c, d, e, f, g, h, i, j), node -> constructor.construct(a.parse(node), b.parse(node), c.parse(node), d.parse(node), e.parse(node), f.parse(node), g.parse(node), h.parse(node), i.parse(node), j.parse(node), node.tags()));
     }
+
+    protected <S, A, B, C, D, E, F, G, H, I, J, K> StructsParser<S> structsParser(Class<? extends S> resultClass, String definitionVariant, String doc, StructsParser<A> a, StructsParser<B> b, StructsParser<C> c, StructsParser<D> d, StructsParser<E> e, StructsParser<F> f, StructsParser<G> g, StructsParser<H> h, StructsParser<I> i, StructsParser<J> j, StructsParser<K> k, Constructor11<S, A, B, C, D, E, F, G, H, I, J, K> constructor) {
+        return new ValueStructParser<>(resultClass.getSimpleName() + definitionVariant, doc, List.of(a, b, c, d, e, f, g, h, i, j, k), node -> constructor.construct(a.parse(node), b.parse(node), c.parse(node), d.parse(node), e.parse(node), f.parse(node), g.parse(node), h.parse(node), i.parse(node), j.parse(node), k.parse(node), node.tags()));
+    }
+
+    protected <S, A, B, C, D, E, F, G, H, I, J, K, L> StructsParser<S> structsParser(Class<? extends S> resultClass, String definitionVariant, String doc, StructsParser<A> a, StructsParser<B> b, StructsParser<C> c, StructsParser<D> d, StructsParser<E> e, StructsParser<F> f, StructsParser<G> g, StructsParser<H> h, StructsParser<I> i, StructsParser<J> j, StructsParser<K> k, StructsParser<L> l, Constructor12<S, A, B, C, D, E, F, G, H, I, J, K, L> constructor) {
+        return new ValueStructParser<>(resultClass.getSimpleName() + definitionVariant, doc, List.of(a, b, c, d, e, f, g, h, i, j, k, l), node -> constructor.construct(a.parse(node), b.parse(node), c.parse(node), d.parse(node), e.parse(node), f.parse(node), g.parse(node), h.parse(node), i.parse(node), j.parse(node), k.parse(node), l.parse(node), node.tags()));
+    }
+
+    protected <S, A, B, C, D, E, F, G, H, I, J, K, L, M> StructsParser<S> structsParser(Class<? extends S> resultClass, String definitionVariant, String doc, StructsParser<A> a, StructsParser<B> b, StructsParser<C> c, StructsParser<D> d, StructsParser<E> e, StructsParser<F> f, StructsParser<G> g, StructsParser<H> h, StructsParser<I> i, StructsParser<J> j, StructsParser<K> k, StructsParser<L> l, StructsParser<M> m, Constructor13<S, A, B, C, D, E, F, G, H, I, J, K, L, M> constructor) {
+        return new ValueStructParser<>(resultClass.getSimpleName() + definitionVariant, doc, List.of(a, b, c, d, e, f, g, h, i, j, k, l, m), node -> constructor.construct(a.parse(node), b.parse(node), c.parse(node), d.parse(node), e.parse(node), f.parse(node), g.parse(node), h.parse(node), i.parse(node), j.parse(node), k.parse(node), l.parse(node), m.parse(node), node.tags()));
+    }
+
+    protected <S, A, B, C, D, E, F, G, H, I, J, K, L, M, N> StructsParser<S> structsParser(Class<? extends S> resultClass, String definitionVariant, String doc, StructsParser<A> a, StructsParser<B> b, StructsParser<C> c, StructsParser<D> d, StructsParser<E> e, StructsParser<F> f, StructsParser<G> g, StructsParser<H> h, StructsParser<I> i, StructsParser<J> j, StructsParser<K> k, StructsParser<L> l, StructsParser<M> m, StructsParser<N> n, Constructor14<S, A, B, C, D, E, F, G, H, I, J, K, L, M, N> constructor) {
+        return new ValueStructParser<>(resultClass.getSimpleName() + definitionVariant, doc, List.of(a, b, c, d, e, f, g, h, i, j, k, l, m, n), node -> constructor.construct(a.parse(node), b.parse(node), c.parse(node), d.parse(node), e.parse(node), f.parse(node), g.parse(node), h.parse(node), i.parse(node), j.parse(node), k.parse(node), l.parse(node), m.parse(node), n.parse(node), node.tags()));
+    }
 }
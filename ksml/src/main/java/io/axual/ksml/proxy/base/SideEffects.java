@@ -0,0 +1,56 @@
+package io.axual.ksml.proxy.base;
+
+/*-
+ * ========================LICENSE_START=================================
+ * KSML
+ * %%
+ * Copyright (C) 2021 - 2026 Axual B.V.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+/**
+ * Lets code run Python functions without the side effects that go through the proxies, such as log lines and metric
+ * updates. The Python warm-up uses this, so calls with sample arguments do not show up in logs and metrics.
+ */
+public final class SideEffects {
+    private static final ThreadLocal<Boolean> SUPPRESSED = ThreadLocal.withInitial(() -> false);
+
+    private SideEffects() {
+    }
+
+    /**
+     * Returns whether side effects are suppressed on the current thread.
+     *
+     * @return true when proxies should not log or update metrics.
+     */
+    public static boolean suppressed() {
+        return SUPPRESSED.get();
+    }
+
+    /**
+     * Run an action with side effects suppressed on the current thread.
+     *
+     * @param action the action to run.
+     */
+    public static void suppress(Runnable action) {
+        final var previous = SUPPRESSED.get();
+        SUPPRESSED.set(true);
+        try {
+            action.run();
+        } finally {
+            SUPPRESSED.set(previous);
+        }
+    }
+}
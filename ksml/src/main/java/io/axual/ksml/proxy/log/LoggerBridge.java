@@ -21,9 +21,11 @@ package io.axual.ksml.proxy.log;
  */
 
 import io.axual.ksml.proxy.base.AbstractProxy;
+import io.axual.ksml.proxy.base.SideEffects;
 import org.graalvm.polyglot.HostAccess;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.helpers.NOPLogger;
 
 public class LoggerBridge implements AbstractProxy {
     // The below method is called from the Python context, so appears unused in the IDE
@@ -50,6 +52,11 @@ public class LoggerBridge implements AbstractProxy {
             this.delegate = delegate;
         }
 
+        // Log lines are dropped while side effects are suppressed, for instance during the warm-up
+        private Logger delegate() {
+            return SideEffects.suppressed() ? NOPLogger.NOP_LOGGER : delegate;
+        }
+
         @HostAccess.Export
         public String getName() {
             return delegate.getName();
@@ -57,102 +64,102 @@ public class LoggerBridge implements AbstractProxy {
 
         @HostAccess.Export
         public boolean isTraceEnabled() {
-            return delegate.isTraceEnabled();
+            return delegate().isTraceEnabled();
         }
 
         @HostAccess.Export
         public void trace(String s) {
-            delegate.trace(s);
+            delegate().trace(s);
         }
 
         @HostAccess.Export
         public void trace(String s, Object o) {
-            delegate.trace(s, o);
+            delegate().trace(s, o);
         }
 
         @HostAccess.Export
         public void trace(String s, Object... objects) {
-            delegate.trace(s, objects);
+            delegate().trace(s, objects);
         }
 
         @HostAccess.Export
         public boolean isDebugEnabled() {
-            return delegate.isDebugEnabled();
+            return delegate().isDebugEnabled();
         }
 
         @HostAccess.Export
         public void debug(String s) {
-            delegate.debug(s);
+            delegate().debug(s);
         }
 
         @HostAccess.Export
         public void debug(String s, Object o) {
-            delegate.debug(s, o);
+            delegate().debug(s, o);
         }
 
         @HostAccess.Export
         public void debug(String s, Object... objects) {
-            delegate.debug(s, objects);
+            delegate().debug(s, objects);
         }
 
         @HostAccess.Export
         public boolean isInfoEnabled() {
-            return delegate.isInfoEnabled();
+            return delegate().isInfoEnabled();
         }
 
         @HostAccess.Export
         public void info(String s) {
-            delegate.info(s);
+            delegate().info(s);
         }
 
         @HostAccess.Export
         public void info(String s, Object o) {
-            delegate.info(s, o);
+            delegate().info(s, o);
         }
 
         @HostAccess.Export
         public void info(String s, Object... objects) {
-            delegate.info(s, objects);
+            delegate().info(s, objects);
         }
 
         @HostAccess.Export
         public boolean isWarnEnabled() {
-            return delegate.isWarnEnabled();
+            return delegate().isWarnEnabled();
         }
 
         @HostAccess.Export
         public void warn(String s) {
-            delegate.warn(s);
+            delegate().warn(s);
         }
 
         @HostAccess.Export
         public void warn(String s, Object o) {
-            delegate.warn(s, o);
+            delegate().warn(s, o);
         }
 
         @HostAccess.Export
         public void warn(String s, Object... objects) {
-            delegate.warn(s, objects);
+            delegate().warn(s, objects);
         }
 
         @HostAccess.Export
         public boolean isErrorEnabled() {
-            return delegate.isErrorEnabled();
+            return delegate().isErrorEnabled();
         }
 
         @HostAccess.Export
         public void error(String s) {
-            delegate.error(s);
+            delegate().error(s);
         }
 
         @HostAccess.Export
         public void error(String s, Object o) {
-            delegate.error(s, o);
+            delegate().error(s, o);
         }
 
         @HostAccess.Export
         public void error(String s, Object... objects) {
-            delegate.error(s, objects);
+            delegate().error(s, objects);
         }
     }
 }
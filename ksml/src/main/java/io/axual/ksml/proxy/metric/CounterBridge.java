@@ -22,6 +22,7 @@ package io.axual.ksml.proxy.metric;
 
 import com.codahale.metrics.Counter;
 import io.axual.ksml.metric.MetricName;
+import io.axual.ksml.proxy.base.SideEffects;
 import org.graalvm.polyglot.HostAccess;
 
 import java.util.function.Consumer;
@@ -49,6 +50,6 @@ public class CounterBridge extends MetricBridge<Counter> {
      */
     @HostAccess.Export
     public void increment(long delta) {
-        metric.inc(delta);
+        if (!SideEffects.suppressed()) metric.inc(delta);
     }
 }
@@ -22,6 +22,7 @@ package io.axual.ksml.proxy.metric;
 
 import com.codahale.metrics.Meter;
 import io.axual.ksml.metric.MetricName;
+import io.axual.ksml.proxy.base.SideEffects;
 import org.graalvm.polyglot.HostAccess;
 
 import java.util.function.Consumer;
@@ -49,6 +50,6 @@ public class MeterBridge extends MetricBridge<Meter> {
      */
     @HostAccess.Export
     public void mark(long nrOfEvents) {
-        metric.mark(nrOfEvents);
+        if (!SideEffects.suppressed()) metric.mark(nrOfEvents);
     }
 }
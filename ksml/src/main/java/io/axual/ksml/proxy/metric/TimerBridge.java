@@ -22,6 +22,7 @@ package io.axual.ksml.proxy.metric;
 
 import com.codahale.metrics.Timer;
 import io.axual.ksml.metric.MetricName;
+import io.axual.ksml.proxy.base.SideEffects;
 import org.graalvm.polyglot.HostAccess;
 
 import java.time.Duration;
@@ -66,6 +67,6 @@ public class TimerBridge extends MetricBridge<Timer> {
     }
 
     private void update(Duration duration) {
-        metric.update(duration);
+        if (!SideEffects.suppressed()) metric.update(duration);
     }
 }
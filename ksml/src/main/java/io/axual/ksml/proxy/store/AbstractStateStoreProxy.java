@@ -20,12 +20,19 @@ package io.axual.ksml.proxy.store;
  * =========================LICENSE_END==================================
  */
 
+import io.axual.ksml.data.exception.DataException;
+import io.axual.ksml.data.object.DataLong;
 import io.axual.ksml.proxy.base.AbstractProxy;
 import io.axual.ksml.python.PythonDataObjectMapper;
 import io.axual.ksml.python.PythonNativeMapper;
+import org.apache.kafka.common.serialization.StringSerializer;
 import org.apache.kafka.streams.processor.StateStore;
 import org.apache.kafka.streams.processor.StateStoreContext;
 import org.graalvm.polyglot.HostAccess;
+import org.graalvm.polyglot.Value;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Base class for state store proxy implementations.
@@ -35,12 +42,66 @@ import org.graalvm.polyglot.HostAccess;
 public abstract class AbstractStateStoreProxy<T extends StateStore> implements StateStore, AbstractProxy {
     protected static final PythonNativeMapper NATIVE_MAPPER = new PythonNativeMapper();
     protected static final PythonDataObjectMapper DATA_OBJECT_MAPPER = new PythonDataObjectMapper(true);
+    // Prefixes for prefix scans are matched against the serialized keys, which are UTF-8 encoded for string keys
+    protected static final StringSerializer PREFIX_SERIALIZER = new StringSerializer();
     protected final T delegate;
 
     protected AbstractStateStoreProxy(T delegate) {
         this.delegate = delegate;
     }
 
+    /**
+     * Returns the elements of a list passed in from Python, without converting the elements themselves.
+     *
+     * @param object the Python list (or tuple)
+     * @return the elements of the list
+     */
+    protected static List<Object> listFromPython(Object object) {
+        if (object instanceof Value value && value.hasArrayElements()) {
+            final var result = new ArrayList<>((int) value.getArraySize());
+            for (var index = 0; index < value.getArraySize(); index++) result.add(value.getArrayElement(index));
+            return result;
+        }
+        if (object instanceof List<?> list) return new ArrayList<>(list);
+        throw new DataException("Expected a list, but got: " + object);
+    }
+
+    /**
+     * Returns the fields of a batch entry passed in from Python, such as a (key, value) tuple.
+     *
+     * @param object     the Python entry
+     * @param fieldCount the number of fields expected in the entry
+     * @return the fields of the entry
+     */
+    protected static List<Object> entryFromPython(Object object, int fieldCount) {
+        final var result = listFromPython(object);
+        if (result.size() != fieldCount)
+            throw new DataException("Expected an entry with " + fieldCount + " elements, but got: " + object);
+        return result;
+    }
+
+    /**
+     * Returns a timestamp passed in from Python as part of a batch entry.
+     *
+     * @param object the Python timestamp
+     * @return the timestamp
+     */
+    protected static long timestampFromPython(Object object) {
+        if (NATIVE_MAPPER.fromPython(DataLong.DATATYPE, object) instanceof Number timestamp) return timestamp.longValue();
+        throw new DataException("Expected a timestamp, but got: " + object);
+    }
+
+    /**
+     * Returns the prefix for a prefix scan passed in from Python.
+     *
+     * @param object the Python prefix
+     * @return the prefix as string
+     */
+    protected static String prefixFromPython(Object object) {
+        if (NATIVE_MAPPER.fromPython(object) instanceof String prefix) return prefix;
+        throw new DataException("Prefix scans require a string prefix, but got: " + object);
+    }
+
     @HostAccess.Export
     @Override
     public String name() {
@@ -22,9 +22,34 @@ package io.axual.ksml.proxy.store;
 
 import io.axual.ksml.proxy.base.AbstractProxy;
 import org.apache.kafka.streams.state.KeyValueIterator;
-import org.graalvm.polyglot.HostAccess;
+import org.graalvm.polyglot.Value;
+import org.graalvm.polyglot.proxy.ProxyArray;
+import org.graalvm.polyglot.proxy.ProxyExecutable;
+import org.graalvm.polyglot.proxy.ProxyIterable;
+import org.graalvm.polyglot.proxy.ProxyIterator;
+import org.graalvm.polyglot.proxy.ProxyObject;
 
-public class KeyValueIteratorProxy implements AbstractProxy {
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * A proxy for iterating over the entries of a Kafka Streams KeyValueIterator in Python code. Besides the classic
+ * hasNext()/next() calls, Python code can read entries in pages using nextBatch(n), or loop over the proxy directly
+ * (for entry in store.all()), which also reads the entries page by page. The underlying iterator is closed as soon as
+ * it is exhausted, so iterators are not leaked when Python code forgets to call close().
+ * <p>
+ * The proxy is a {@link ProxyObject} and {@link ProxyIterable}, so Python can loop over it without allowing iteration
+ * over every host object.
+ */
+public class KeyValueIteratorProxy implements AbstractProxy, ProxyObject, ProxyIterable {
+    // The number of entries read and converted at once when Python code loops over this proxy
+    static final int PAGE_SIZE = 256;
+    private static final String CLOSE = "close";
+    private static final String HAS_NEXT = "hasNext";
+    private static final String NEXT = "next";
+    private static final String NEXT_BATCH = "nextBatch";
+    private static final List<String> MEMBERS = List.of(CLOSE, HAS_NEXT, NEXT, NEXT_BATCH);
     private final KeyValueIterator<?, ?> iterator;
     private boolean closed = false;
 
@@ -32,20 +57,103 @@ public class KeyValueIteratorProxy implements AbstractProxy {
         this.iterator = iterator;
     }
 
-    @HostAccess.Export
     public void close() {
         if (!closed) iterator.close();
         closed = true;
     }
 
-    @HostAccess.Export
     public boolean hasNext() {
-        return iterator.hasNext();
+        if (closed) return false;
+        if (iterator.hasNext()) return true;
+        close();
+        return false;
     }
 
-    @HostAccess.Export
     public Object next() {
-        if (!iterator.hasNext()) return null;
+        if (!hasNext()) return null;
         return ProxyUtil.toPython(iterator.next());
     }
+
+    /**
+     * Reads the next entries from the iterator in one call.
+     *
+     * @param size the maximum number of entries to read
+     * @return a Python list with a dict for every entry read, which is empty when the iterator is exhausted
+     */
+    public Object nextBatch(int size) {
+        return ProxyUtil.toPythonList(nextEntries(size));
+    }
+
+    @Override
+    public Object getMember(String key) {
+        return switch (key) {
+            case CLOSE -> (ProxyExecutable) arguments -> {
+                close();
+                return null;
+            };
+            case HAS_NEXT -> (ProxyExecutable) arguments -> hasNext();
+            case NEXT -> (ProxyExecutable) arguments -> next();
+            case NEXT_BATCH -> (ProxyExecutable) arguments -> {
+                if (arguments.length != 1 || !arguments[0].fitsInInt())
+                    throw new IllegalArgumentException(NEXT_BATCH + "() expects the number of entries to read");
+                return nextBatch(arguments[0].asInt());
+            };
+            default -> null;
+        };
+    }
+
+    @Override
+    public Object getMemberKeys() {
+        return ProxyArray.fromList(new ArrayList<>(MEMBERS));
+    }
+
+    @Override
+    public boolean hasMember(String key) {
+        return MEMBERS.contains(key);
+    }
+
+    @Override
+    public void putMember(String key, Value value) {
+        throw new UnsupportedOperationException("Can not set member '" + key + "' of a store iterator");
+    }
+
+    /**
+     * Returns an iterator that reads the entries in pages of {@link #PAGE_SIZE}, allowing Python code to loop over
+     * this proxy.
+     *
+     * @return an iterator over the converted entries
+     */
+    @Override
+    public ProxyIterator getIterator() {
+        return new ProxyIterator() {
+            private List<Object> page = List.of();
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                if (index < page.size()) return true;
+                page = nextConvertedEntries(PAGE_SIZE);
+                index = 0;
+                return !page.isEmpty();
+            }
+
+            @Override
+            public Object getNext() {
+                if (!hasNext()) throw new NoSuchElementException();
+                return page.get(index++);
+            }
+        };
+    }
+
+    private List<Object> nextEntries(int size) {
+        final var result = new ArrayList<>(Math.max(0, Math.min(size, PAGE_SIZE)));
+        while (result.size() < size && hasNext()) result.add(iterator.next());
+        return result;
+    }
+
+    private List<Object> nextConvertedEntries(int size) {
+        final var result = nextEntries(size);
+        result.replaceAll(ProxyUtil::toPython);
+        return result;
+    }
 }
@@ -20,9 +20,12 @@ package io.axual.ksml.proxy.store;
  * =========================LICENSE_END==================================
  */
 
+import org.apache.kafka.streams.KeyValue;
 import org.apache.kafka.streams.state.KeyValueStore;
 import org.graalvm.polyglot.HostAccess;
 
+import java.util.ArrayList;
+
 /**
  * A proxy for accessing Kafka Streams KeyValueStore in Python code. This proxy mediates between Python and Java data
  * types and delegates all operations to the underlying store.
@@ -50,6 +53,34 @@ public class KeyValueStoreProxy extends AbstractStateStoreProxy<KeyValueStore<Ob
         return ProxyUtil.toPython(delegate.get(NATIVE_MAPPER.fromPython(key)));
     }
 
+    /**
+     * Looks up multiple keys at once.
+     *
+     * @param keys the list of keys to look up
+     * @return a list with the value for every key, in the same order as the keys, or None for keys not found
+     */
+    @HostAccess.Export
+    public Object getAll(Object keys) {
+        final var result = new ArrayList<>();
+        for (final var key : listFromPython(keys)) result.add(delegate.get(NATIVE_MAPPER.fromPython(key)));
+        return ProxyUtil.toPythonList(result);
+    }
+
+    @HostAccess.Export
+    public Object range(Object from, Object to) {
+        return ProxyUtil.toPythonList(delegate.range(NATIVE_MAPPER.fromPython(from), NATIVE_MAPPER.fromPython(to)));
+    }
+
+    @HostAccess.Export
+    public Object reverseRange(Object from, Object to) {
+        return ProxyUtil.toPythonList(delegate.reverseRange(NATIVE_MAPPER.fromPython(from), NATIVE_MAPPER.fromPython(to)));
+    }
+
+    @HostAccess.Export
+    public Object prefixScan(Object prefix) {
+        return ProxyUtil.toPythonList(delegate.prefixScan(prefixFromPython(prefix), PREFIX_SERIALIZER));
+    }
+
     // ==================== KeyValueStore methods ====================
 
     @HostAccess.Export
@@ -62,6 +93,21 @@ public class KeyValueStoreProxy extends AbstractStateStoreProxy<KeyValueStore<Ob
         delegate.put(NATIVE_MAPPER.fromPython(key), NATIVE_MAPPER.fromPython(value));
     }
 
+    /**
+     * Stores multiple entries at once.
+     *
+     * @param entries a list of (key, value) tuples
+     */
+    @HostAccess.Export
+    public void putAll(Object entries) {
+        final var batch = new ArrayList<KeyValue<Object, Object>>();
+        for (final var entry : listFromPython(entries)) {
+            final var fields = entryFromPython(entry, 2);
+            batch.add(KeyValue.pair(NATIVE_MAPPER.fromPython(fields.get(0)), NATIVE_MAPPER.fromPython(fields.get(1))));
+        }
+        delegate.putAll(batch);
+    }
+
     @HostAccess.Export
     public Object putIfAbsent(Object key, Object value) {
         return ProxyUtil.toPython(delegate.putIfAbsent(NATIVE_MAPPER.fromPython(key), NATIVE_MAPPER.fromPython(value)));
@@ -39,6 +39,10 @@ import org.apache.kafka.streams.state.VersionedKeyValueStore;
 import org.apache.kafka.streams.state.VersionedRecord;
 import org.apache.kafka.streams.state.WindowStore;
 import org.apache.kafka.streams.state.WindowStoreIterator;
+import org.graalvm.polyglot.Value;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Utility class for creating proxy objects and converted values returned to Python
@@ -77,6 +81,33 @@ public class ProxyUtil {
         return NATIVE_MAPPER.toPython(object);
     }
 
+    /**
+     * Static method for reading all entries of an iterator into a single Python list. The iterator is closed
+     * afterwards, so Python code receives the whole batch in one call instead of one call per entry.
+     *
+     * @param iterator the iterator to read
+     * @return a Python list with a dict for every key/value entry
+     */
+    public static Object toPythonList(KeyValueIterator<?, ?> iterator) {
+        try (iterator) {
+            final var result = new ArrayList<>();
+            while (iterator.hasNext()) result.add(Value.asValue(toPython(iterator.next())));
+            return NATIVE_MAPPER.toPython(result);
+        }
+    }
+
+    /**
+     * Static method for converting a list of values into a single Python list.
+     *
+     * @param values the values to convert
+     * @return a Python list with the converted values
+     */
+    public static Object toPythonList(List<?> values) {
+        final var result = new ArrayList<>(values.size());
+        for (final var value : values) result.add(Value.asValue(toPython(value)));
+        return NATIVE_MAPPER.toPython(result);
+    }
+
     /**
      * Static method for creating a PythonDict for the Kafka Streams ValueAndTimestamp type
      *
@@ -20,10 +20,13 @@ package io.axual.ksml.proxy.store;
  * =========================LICENSE_END==================================
  */
 
+import org.apache.kafka.streams.KeyValue;
 import org.apache.kafka.streams.state.TimestampedKeyValueStore;
 import org.apache.kafka.streams.state.ValueAndTimestamp;
 import org.graalvm.polyglot.HostAccess;
 
+import java.util.ArrayList;
+
 /**
  * A proxy for accessing Kafka Streams TimestampedKeyValueStore in Python code. This proxy mediates between Python and
  * Java data types and delegates all operations to the underlying store.
@@ -45,11 +48,55 @@ public class TimestampedKeyValueStoreProxy extends AbstractStateStoreProxy<Times
         return ProxyUtil.toPython(delegate.get(NATIVE_MAPPER.fromPython(key)));
     }
 
+    /**
+     * Looks up multiple keys at once.
+     *
+     * @param keys the list of keys to look up
+     * @return a list with the value and timestamp for every key, in the same order as the keys, or None for keys not
+     * found
+     */
+    @HostAccess.Export
+    public Object getAll(Object keys) {
+        final var result = new ArrayList<>();
+        for (final var key : listFromPython(keys)) result.add(delegate.get(NATIVE_MAPPER.fromPython(key)));
+        return ProxyUtil.toPythonList(result);
+    }
+
+    @HostAccess.Export
+    public Object range(Object from, Object to) {
+        return ProxyUtil.toPythonList(delegate.range(NATIVE_MAPPER.fromPython(from), NATIVE_MAPPER.fromPython(to)));
+    }
+
+    @HostAccess.Export
+    public Object reverseRange(Object from, Object to) {
+        return ProxyUtil.toPythonList(delegate.reverseRange(NATIVE_MAPPER.fromPython(from), NATIVE_MAPPER.fromPython(to)));
+    }
+
+    @HostAccess.Export
+    public Object prefixScan(Object prefix) {
+        return ProxyUtil.toPythonList(delegate.prefixScan(prefixFromPython(prefix), PREFIX_SERIALIZER));
+    }
+
     @HostAccess.Export
     public void put(Object key, Object value, long timestamp) {
         delegate.put(DATA_OBJECT_MAPPER.toDataObject(key), ValueAndTimestamp.make(DATA_OBJECT_MAPPER.toDataObject(value), timestamp));
     }
 
+    /**
+     * Stores multiple entries at once.
+     *
+     * @param entries a list of (key, value, timestamp) tuples
+     */
+    @HostAccess.Export
+    public void putAll(Object entries) {
+        final var batch = new ArrayList<KeyValue<Object, ValueAndTimestamp<Object>>>();
+        for (final var entry : listFromPython(entries)) {
+            final var fields = entryFromPython(entry, 3);
+            batch.add(KeyValue.pair(DATA_OBJECT_MAPPER.toDataObject(fields.get(0)), ValueAndTimestamp.make(DATA_OBJECT_MAPPER.toDataObject(fields.get(1)), timestampFromPython(fields.get(2)))));
+        }
+        delegate.putAll(batch);
+    }
+
     @HostAccess.Export
     public Object putIfAbsent(Object key, Object value, long timestamp) {
         return ProxyUtil.toPython(delegate.putIfAbsent(DATA_OBJECT_MAPPER.toDataObject(key), ValueAndTimestamp.make(DATA_OBJECT_MAPPER.toDataObject(value), timestamp)));
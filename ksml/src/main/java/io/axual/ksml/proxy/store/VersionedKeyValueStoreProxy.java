@@ -23,6 +23,8 @@ package io.axual.ksml.proxy.store;
 import org.apache.kafka.streams.state.VersionedKeyValueStore;
 import org.graalvm.polyglot.HostAccess;
 
+import java.util.ArrayList;
+
 /**
  * A proxy wrapper around a Kafka Streams VersionedKeyValueStore that delegates all operations
  * to the underlying store. This proxy exposes store methods to Python code via @HostAccess.Export.
@@ -50,8 +52,48 @@ public class VersionedKeyValueStoreProxy extends AbstractStateStoreProxy<Version
         return ProxyUtil.toPython(delegate.get(NATIVE_MAPPER.fromPython(key), asOfTimestamp));
     }
 
+    /**
+     * Looks up the latest version of multiple keys at once.
+     *
+     * @param keys the list of keys to look up
+     * @return a list with the latest record for every key, in the same order as the keys, or None for keys not found
+     */
+    @HostAccess.Export
+    public Object getAll(Object keys) {
+        final var result = new ArrayList<>();
+        for (final var key : listFromPython(keys)) result.add(delegate.get(NATIVE_MAPPER.fromPython(key)));
+        return ProxyUtil.toPythonList(result);
+    }
+
+    /**
+     * Looks up multiple keys at once, as of the given timestamp.
+     *
+     * @param keys          the list of keys to look up
+     * @param asOfTimestamp the timestamp to look up the records for
+     * @return a list with the record for every key, in the same order as the keys, or None for keys not found
+     */
+    @HostAccess.Export
+    public Object getAll(Object keys, long asOfTimestamp) {
+        final var result = new ArrayList<>();
+        for (final var key : listFromPython(keys)) result.add(delegate.get(NATIVE_MAPPER.fromPython(key), asOfTimestamp));
+        return ProxyUtil.toPythonList(result);
+    }
+
     @HostAccess.Export
     public Object put(Object key, Object value, long timestamp) {
         return ProxyUtil.toPython(delegate.put(NATIVE_MAPPER.fromPython(key), NATIVE_MAPPER.fromPython(value), timestamp));
     }
+
+    /**
+     * Stores multiple records at once. Versioned stores have no batch operation, so the records are put one by one.
+     *
+     * @param entries a list of (key, value, timestamp) tuples
+     */
+    @HostAccess.Export
+    public void putAll(Object entries) {
+        for (final var entry : listFromPython(entries)) {
+            final var fields = entryFromPython(entry, 3);
+            delegate.put(NATIVE_MAPPER.fromPython(fields.get(0)), NATIVE_MAPPER.fromPython(fields.get(1)), timestampFromPython(fields.get(2)));
+        }
+    }
 }
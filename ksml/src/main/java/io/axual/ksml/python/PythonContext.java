@@ -20,8 +20,11 @@ package io.axual.ksml.python;
  * =========================LICENSE_END==================================
  */
 
+import com.codahale.metrics.Timer;
 import io.axual.ksml.data.mapper.DataObjectConverter;
 import io.axual.ksml.exception.ExecutionException;
+import io.axual.ksml.metric.MetricName;
+import io.axual.ksml.metric.MetricTags;
 import io.axual.ksml.metric.Metrics;
 import io.axual.ksml.proxy.log.LoggerBridge;
 import io.axual.ksml.proxy.metric.MetricsBridge;
@@ -30,7 +33,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.graalvm.polyglot.Context;
 import org.graalvm.polyglot.EnvironmentAccess;
-import org.graalvm.polyglot.HostAccess;
 import org.graalvm.polyglot.PolyglotAccess;
 import org.graalvm.polyglot.Source;
 import org.graalvm.polyglot.Value;
@@ -39,13 +41,16 @@ import org.graalvm.polyglot.io.IOAccess;
 
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 @Slf4j
 public class PythonContext implements AutoCloseable {
 
     private static final LoggerBridge LOGGER_BRIDGE = new LoggerBridge();
     private static final MetricsBridge METRICS_BRIDGE = new MetricsBridge(Metrics.registry());
-    private static final String PYTHON = "python";
+    private static final String PYTHON = PythonEngine.PYTHON;
 
     // With HostAccess.EXPLICIT, only classes with @HostAccess.Export annotations are accessible
     // Java collections (ArrayList, HashMap, TreeMap) are no longer needed since PythonTypeConverter
@@ -66,13 +71,25 @@ public class PythonContext implements AutoCloseable {
     private final Context context;
     @Getter
     private final DataObjectConverter converter;
+    // Measures the time spent executing Python code in this context, only registered for pooled contexts
+    private final MetricName executionTimerName;
+    private final Timer executionTimer;
+    // The callers of the functions registered in this context, released together with the context
+    private final Map<PythonFunction, Object> functionCallers = new ConcurrentHashMap<>();
 
     public PythonContext(PythonContextConfig config) {
+        this(config, null);
+    }
+
+    public PythonContext(PythonContextConfig config, MetricTags tags) {
         this.converter = new DataObjectConverter();
+        this.executionTimerName = tags != null ? new MetricName("python-context-execution-time", tags) : null;
+        this.executionTimer = executionTimerName != null ? executionTimer(executionTimerName) : null;
 
         log.debug("Setting up new Python context: {}", config);
         try {
             var contextBuilder = Context.newBuilder(PYTHON)
+                    .engine(PythonEngine.engine())
                     .allowIO(IOAccess.newBuilder()
                             .allowHostFileAccess(config.allowHostFileAccess())
                             .allowHostSocketAccess(config.allowHostSocketAccess())
@@ -88,7 +105,7 @@ public class PythonContext implements AutoCloseable {
                             PolyglotAccess.newBuilder()
                                     .allowBindingsAccess(PYTHON)
                                     .build())
-                    .allowHostAccess(HostAccess.EXPLICIT)
+                    .allowHostAccess(PythonEngine.HOST_ACCESS)
                     .allowHostClassLookup(ALLOWED_JAVA_CLASSES::contains);
 
             // Canonicalize the configured modulePath once, up front. toRealPath() resolves
@@ -127,7 +144,7 @@ public class PythonContext implements AutoCloseable {
      * @return a GraalVM {@link Value} object that can be used to call the registered function.
      */
     public Value registerFunction(String pyCode, String callerName) {
-        Source script = Source.create(PYTHON, pyCode);
+        Source script = PythonEngine.source(pyCode);
         try {
             context.eval(script);
         } catch (Exception e) {
@@ -136,6 +153,52 @@ public class PythonContext implements AutoCloseable {
         return context.getPolyglotBindings().getMember(callerName);
     }
 
+    /**
+     * Look up a value that was exported by previously registered code.
+     *
+     * @param name the name of the exported value.
+     * @return a GraalVM {@link Value} object for the exported value, or null if it was not exported.
+     */
+    public Value exportedValue(String name) {
+        return context.getPolyglotBindings().getMember(name);
+    }
+
+    /**
+     * Return the callers that a function registered in this context.
+     *
+     * @param function the function.
+     * @return the callers of the function in this context, or null if the function was not registered in it yet.
+     */
+    Object functionCallers(PythonFunction function) {
+        return functionCallers.get(function);
+    }
+
+    /**
+     * Remember the callers that a function registered in this context.
+     *
+     * @param function the function.
+     * @param callers  the callers of the function in this context.
+     */
+    void functionCallers(PythonFunction function, Object callers) {
+        functionCallers.put(function, callers);
+    }
+
+    private static Timer executionTimer(MetricName metricName) {
+        final var timer = Metrics.registry().getTimer(metricName);
+        return timer != null ? timer : Metrics.registry().registerTimer(metricName);
+    }
+
+    /**
+     * Execute a callback that runs Python code in this context, recording the execution time in the context's
+     * utilisation metric if one was registered.
+     *
+     * @param callback the callback that executes Python code in this context.
+     * @return the result of the callback.
+     */
+    public <V> V timeExecutionOf(Supplier<V> callback) {
+        return executionTimer != null ? executionTimer.timeSupplier(callback) : callback.get();
+    }
+
     /**
      * Register global code that is used to initialize the loggerBridge and metricsBridge variables.
      */
@@ -220,7 +283,7 @@ public class PythonContext implements AutoCloseable {
         // Pre-normalize the allowed prefixes once - the per-call selector then only has to
         // normalize the candidate path and run two startsWith checks.
         final Path modulePathNormalized = Path.of(modulePath).toAbsolutePath().normalize();
-        final Path sysPrefixNormalized = Path.of(getPythonSysPrefix()).toAbsolutePath().normalize();
+        final Path sysPrefixNormalized = Path.of(PythonEngine.sysPrefix()).toAbsolutePath().normalize();
         FileSystem restricted = FileSystem.newCompositeFileSystem(
                 // the default/fallback file system is: deny access
                 denyAllAccess,
@@ -242,20 +305,6 @@ public class PythonContext implements AutoCloseable {
         return FileSystem.newReadOnlyFileSystem(restricted);
     }
 
-    /**
-     * Get sys.prefix from GraalVM Python.
-     *
-     * @return the value of sys.prefix.
-     */
-    private String getPythonSysPrefix() {
-        log.debug("getPythonSysPrefix()");
-        var tempContext = Context.newBuilder(PYTHON).build();
-        var result = tempContext.eval(PYTHON, "import sys; sys.prefix").asString();
-        log.debug("getPythonSysPrefix() ---> {}", result);
-        tempContext.close();
-        return result;
-    }
-
     /**
      * Add a directory to Python's sys.path for module imports
      */
@@ -295,6 +344,8 @@ public class PythonContext implements AutoCloseable {
 
     @Override
     public void close() {
+        functionCallers.clear();
+        if (executionTimerName != null) Metrics.registry().remove(executionTimerName);
         context.close();
     }
 }
@@ -21,14 +21,20 @@ package io.axual.ksml.python;
  */
 
 import com.fasterxml.jackson.annotation.JsonClassDescription;
+import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.fasterxml.jackson.annotation.JsonValue;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import lombok.extern.jackson.Jacksonized;
 
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
 @Getter
 @Builder
 @Jacksonized
@@ -70,4 +76,50 @@ public class PythonContextConfig {
     @JsonPropertyDescription("Path to additional Python modules to be loaded. Default is empty, meaning 'no user modules'.")
     @Builder.Default
     private String modulePath = null;
+
+    @JsonProperty(value = "contextMode", required = false, defaultValue = "shared")
+    @JsonPropertyDescription("Controls how Python contexts are allocated: 'shared' uses one context per KSML definition, 'perThread' gives every stream thread its own context. Default is shared.")
+    @Builder.Default
+    private ContextMode contextMode = ContextMode.SHARED;
+
+    @JsonProperty(value = "compileExpressions", required = false, defaultValue = "true")
+    @JsonPropertyDescription("Evaluate functions that consist of only a simple expression in Java, without calling into Python. Default is true.")
+    @Builder.Default
+    private boolean compileExpressions = true;
+
+    @JsonProperty(value = "warmupIterations", required = false, defaultValue = "0")
+    @JsonPropertyDescription("Number of times every Python function is called with sample arguments before Kafka Streams starts, so it is compiled before records arrive. Functions that use state stores or have global code are skipped, and log lines and metric updates of other functions are suppressed during the warm-up. Default is 0, meaning no warm-up.")
+    @Builder.Default
+    private int warmupIterations = 0;
+
+    @JsonProperty(value = "warmupTimeoutMs", required = false, defaultValue = "60000")
+    @JsonPropertyDescription("Maximum duration of the Python warm-up in milliseconds. Default is 60000.")
+    @Builder.Default
+    private long warmupTimeoutMs = 60000;
+
+    @JsonClassDescription("Allocation strategy for Python contexts.")
+    @Getter(onMethod_ = @JsonValue)
+    @RequiredArgsConstructor
+    public enum ContextMode {
+        SHARED("shared"),
+        PER_THREAD("perThread");
+
+        private final String jsonValue;
+
+        @JsonCreator
+        public static ContextMode forValue(String value) {
+            if (value == null) {
+                return null;
+            }
+            for (final var mode : values()) {
+                if (mode.jsonValue.equals(value)) {
+                    return mode;
+                }
+            }
+            throw new IllegalArgumentException("Unknown Python context mode: " + value +
+                    ". Valid values: " + Arrays.stream(values())
+                    .map(ContextMode::jsonValue)
+                    .collect(Collectors.joining(", ")));
+        }
+    }
 }
@@ -0,0 +1,135 @@
+package io.axual.ksml.python;
+
+/*-
+ * ========================LICENSE_START=================================
+ * KSML
+ * %%
+ * Copyright (C) 2021 - 2025 Axual B.V.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import io.axual.ksml.metric.MetricName;
+import io.axual.ksml.metric.MetricTags;
+import io.axual.ksml.metric.Metrics;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hands out {@link PythonContext} instances to the threads that execute Python functions. In
+ * {@link PythonContextConfig.ContextMode#SHARED} mode all threads use the same context. In
+ * {@link PythonContextConfig.ContextMode#PER_THREAD} mode every thread lazily gets its own context, so stream threads
+ * do not serialize on a single interpreter. Functions are loaded into a thread's context on first use, see
+ * {@link PythonFunction}. Contexts of threads that have terminated, for instance stream threads that were replaced
+ * after an error, are closed when the next context is created. All remaining contexts are closed with the pool.
+ */
+@Slf4j
+public class PythonContextPool implements AutoCloseable {
+    private final PythonContextConfig config;
+    private final MetricTags tags;
+    private final PythonContext sharedContext;
+    private final ThreadLocal<PythonContext> threadContexts;
+    // The per-thread contexts by the thread they were created for, so contexts of terminated threads can be closed
+    private final Map<Thread, PythonContext> contexts = new ConcurrentHashMap<>();
+
+    public PythonContextPool(PythonContextConfig config) {
+        this(config, null);
+    }
+
+    public PythonContextPool(PythonContextConfig config, MetricTags tags) {
+        this.config = config != null ? config : PythonContextConfig.builder().build();
+        this.tags = tags;
+        if (this.config.contextMode() == PythonContextConfig.ContextMode.PER_THREAD) {
+            sharedContext = null;
+            threadContexts = ThreadLocal.withInitial(this::createContext);
+        } else {
+            sharedContext = new PythonContext(this.config, contextTags());
+            threadContexts = null;
+        }
+        if (tags != null) {
+            // Replace any gauge left behind by an earlier pool for the same namespace
+            final var metricName = new MetricName("python-context-count", tags);
+            Metrics.registry().remove(metricName);
+            Metrics.registry().registerGauge(metricName, this::size);
+        }
+    }
+
+    // Private constructor to wrap an existing context
+    private PythonContextPool(PythonContext context) {
+        config = null;
+        tags = null;
+        sharedContext = context;
+        threadContexts = null;
+    }
+
+    /**
+     * Wrap a single, existing Python context in a pool that shares it between all threads.
+     *
+     * @param context the context to wrap.
+     * @return a pool that always returns the given context.
+     */
+    public static PythonContextPool of(PythonContext context) {
+        return new PythonContextPool(context);
+    }
+
+    /**
+     * Return the Python context assigned to the current thread.
+     *
+     * @return the context in which the current thread should execute Python code.
+     */
+    public PythonContext context() {
+        return sharedContext != null ? sharedContext : threadContexts.get();
+    }
+
+    /**
+     * Return the number of Python contexts created by this pool.
+     *
+     * @return the number of contexts.
+     */
+    public int size() {
+        closeContextsOfTerminatedThreads();
+        return sharedContext != null ? 1 : contexts.size();
+    }
+
+    private MetricTags contextTags() {
+        return tags != null ? tags.append("python-context", Thread.currentThread().getName()) : null;
+    }
+
+    private PythonContext createContext() {
+        closeContextsOfTerminatedThreads();
+        final var thread = Thread.currentThread();
+        log.debug("Creating Python context {} for thread {}", contexts.size(), thread.getName());
+        final var result = new PythonContext(config, contextTags());
+        contexts.put(thread, result);
+        return result;
+    }
+
+    private void closeContextsOfTerminatedThreads() {
+        contexts.entrySet().removeIf(entry -> {
+            if (entry.getKey().isAlive()) return false;
+            log.debug("Closing Python context of terminated thread {}", entry.getKey().getName());
+            entry.getValue().close();
+            return true;
+        });
+    }
+
+    @Override
+    public void close() {
+        if (sharedContext != null) sharedContext.close();
+        contexts.values().forEach(PythonContext::close);
+        contexts.clear();
+    }
+}
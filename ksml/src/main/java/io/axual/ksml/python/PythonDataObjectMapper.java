@@ -21,8 +21,10 @@ package io.axual.ksml.python;
  */
 
 import io.axual.ksml.data.exception.DataException;
+import io.axual.ksml.data.object.DataList;
 import io.axual.ksml.data.object.DataNull;
 import io.axual.ksml.data.object.DataObject;
+import io.axual.ksml.data.object.DataStruct;
 import io.axual.ksml.data.type.DataType;
 import io.axual.ksml.data.type.UnionType;
 import io.axual.ksml.util.ExecutionUtil;
@@ -33,9 +35,18 @@ import java.util.Arrays;
 
 public class PythonDataObjectMapper extends NativeDataObjectMapperWithSchema {
     private static final PythonNativeMapper NATIVE_MAPPER = new PythonNativeMapper();
+    private final boolean includeSchemaInfo;
+    private final PythonDataObjectMapper fieldMapper;
 
     public PythonDataObjectMapper(boolean includeSchemaInfo) {
-        super(includeSchemaInfo, includeSchemaInfo ? new PythonDataObjectMapper(false) : null);
+        this(includeSchemaInfo, includeSchemaInfo ? new PythonDataObjectMapper(false) : null);
+    }
+
+    private PythonDataObjectMapper(boolean includeSchemaInfo, PythonDataObjectMapper recursiveDataObjectMapper) {
+        super(includeSchemaInfo, recursiveDataObjectMapper);
+        this.includeSchemaInfo = includeSchemaInfo;
+        // Fields of structs are converted without schema info, to prevent recursive inclusion of schema info
+        this.fieldMapper = recursiveDataObjectMapper != null ? recursiveDataObjectMapper : this;
     }
 
     @Override
@@ -74,6 +85,11 @@ public class PythonDataObjectMapper extends NativeDataObjectMapperWithSchema {
 
     @Override
     public Value fromDataObject(DataObject object) {
+        // Pass structs and lists as lazy views, which only convert the fields and elements that Python accesses
+        if (object instanceof DataStruct struct && !struct.isNull())
+            return Value.asValue(new PythonStructView(struct, fieldMapper, includeSchemaInfo));
+        if (object instanceof DataList list && !list.isNull())
+            return Value.asValue(new PythonListView(list, this));
         final var result = NATIVE_MAPPER.toPython(super.fromDataObject(object));
         return result instanceof Value value ? value : null;
     }
@@ -0,0 +1,87 @@
+package io.axual.ksml.python;
+
+/*-
+ * ========================LICENSE_START=================================
+ * KSML
+ * %%
+ * Copyright (C) 2021 - 2025 Axual B.V.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import lombok.extern.slf4j.Slf4j;
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Engine;
+import org.graalvm.polyglot.HostAccess;
+import org.graalvm.polyglot.Source;
+
+/**
+ * Process-wide holder of the GraalVM {@link Engine} that all {@link PythonContext} instances are attached to. Sharing
+ * the engine lets GraalVM share parsed and compiled code between contexts, so every additional definition, test run
+ * or per-thread context does not start warming up Python from scratch. Sources with the same code are equal, so
+ * the engine's own source cache lets every context that registers the same function reuse the parsed result,
+ * without a separate process-wide cache that would grow with every distinct piece of code.
+ */
+@Slf4j
+public class PythonEngine {
+    static final String PYTHON = "python";
+    // GraalVM requires all contexts on a shared engine to use the same host access configuration
+    static final HostAccess HOST_ACCESS = HostAccess.EXPLICIT;
+    private static Engine engine;
+    private static String sysPrefix;
+
+    private PythonEngine() {
+    }
+
+    /**
+     * Return the shared engine, creating it on first use.
+     *
+     * @return the process-wide GraalVM engine.
+     */
+    public static synchronized Engine engine() {
+        if (engine == null) {
+            log.debug("Creating shared GraalVM engine");
+            engine = Engine.newBuilder(PYTHON).build();
+        }
+        return engine;
+    }
+
+    /**
+     * Return a {@link Source} object for the given Python code. The name is derived from the code, so the same code
+     * always results in an equal Source, which the engine parses only once.
+     *
+     * @param pyCode the Python code.
+     * @return a Source object for the code.
+     */
+    public static Source source(String pyCode) {
+        return Source.newBuilder(PYTHON, pyCode, "ksml-" + Integer.toHexString(pyCode.hashCode()) + ".py")
+                .cached(true)
+                .buildLiteral();
+    }
+
+    /**
+     * Get sys.prefix from GraalVM Python. The value is determined once, using a temporary context on the shared engine.
+     *
+     * @return the value of sys.prefix.
+     */
+    public static synchronized String sysPrefix() {
+        if (sysPrefix == null) {
+            try (var tempContext = Context.newBuilder(PYTHON).engine(engine()).allowHostAccess(HOST_ACCESS).build()) {
+                sysPrefix = tempContext.eval(PYTHON, "import sys; sys.prefix").asString();
+            }
+            log.debug("Python sys.prefix: {}", sysPrefix);
+        }
+        return sysPrefix;
+    }
+}
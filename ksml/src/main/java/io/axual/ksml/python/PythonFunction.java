@@ -21,7 +21,6 @@ package io.axual.ksml.python;
  */
 
 
-import io.axual.ksml.data.mapper.DataObjectConverter;
 import io.axual.ksml.data.object.DataNull;
 import io.axual.ksml.data.object.DataObject;
 import io.axual.ksml.data.object.DataString;
@@ -35,42 +34,90 @@ import io.axual.ksml.user.UserFunction;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.streams.processor.StateStore;
 import org.graalvm.polyglot.Value;
+import org.graalvm.polyglot.proxy.ProxyArray;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static io.axual.ksml.type.UserType.DEFAULT_NOTATION;
 
 @Slf4j
 public class PythonFunction extends UserFunction {
-    private static final Map<String, StateStore> EMPTY_STORES = new HashMap<>();
     private static final PythonNativeMapper NATIVE_MAPPER = new PythonNativeMapper();
+    private static final Object EMPTY_GLOBAL_VARIABLES = globalVariablesFor(new HashMap<>());
     private static final PythonDataObjectMapper DATA_OBJECT_MAPPER = new PythonDataObjectMapper(true);
     private static final String QUOTE = "\"";
-    private final DataObjectConverter converter;
-    private final Value function;
+    private static final String BIND_PREFIX = "_ksml_bind_";
+    private static final String LOG_PREFIX = "_ksml_log_";
+    private final PythonContextPool contexts;
+    private final String pyCode;
+    private final String callerName;
+    private final String batchCallerName;
+    // Converts results to the declared result type, compiled once from that type
+    private final PythonResultMapper resultMapper;
+    // Whether the function has global code, which sets up state that calls may change, such as counters
+    private final boolean hasGlobalCode;
+    // Argument arrays per thread, indexed by the number of passed parameters. Python functions are not re-entered on
+    // the same thread, so an array is never used by two calls at the same time.
+    private final ThreadLocal<Object[][]> argumentBuffers;
 
     public static PythonFunction forFunction(PythonContext context, String namespace, String name, FunctionDefinition definition) {
-        return new PythonFunction(context, namespace, "function", name, definition);
+        return forFunction(PythonContextPool.of(context), namespace, name, definition);
+    }
+
+    public static PythonFunction forFunction(PythonContextPool contexts, String namespace, String name, FunctionDefinition definition) {
+        return new PythonFunction(contexts, namespace, "function", name, definition);
     }
 
     public static PythonFunction forGenerator(PythonContext context, String namespace, String name, FunctionDefinition definition) {
-        return new PythonFunction(context, namespace, "generator", name, definition);
+        return forGenerator(PythonContextPool.of(context), namespace, name, definition);
+    }
+
+    public static PythonFunction forGenerator(PythonContextPool contexts, String namespace, String name, FunctionDefinition definition) {
+        return new PythonFunction(contexts, namespace, "generator", name, definition);
     }
 
     public static PythonFunction forPredicate(PythonContext context, String namespace, String name, FunctionDefinition definition) {
-        return new PythonFunction(context, namespace, "condition", name, definition);
+        return forPredicate(PythonContextPool.of(context), namespace, name, definition);
+    }
+
+    public static PythonFunction forPredicate(PythonContextPool contexts, String namespace, String name, FunctionDefinition definition) {
+        return new PythonFunction(contexts, namespace, "condition", name, definition);
     }
 
-    private PythonFunction(PythonContext context, String namespace, String type, String name, FunctionDefinition definition) {
+    private PythonFunction(PythonContextPool contexts, String namespace, String type, String name, FunctionDefinition definition) {
         super(namespace, name, definition.parameters(), definition.resultType(), definition.storeNames());
-        converter = context.converter();
-        final var pyCode = generatePythonCode(namespace, type, name, definition);
-        function = context.registerFunction(pyCode, name + "_caller");
-        if (function == null) {
+        this.contexts = contexts;
+        this.pyCode = generatePythonCode(namespace, type, name, definition);
+        this.callerName = name + "_caller";
+        this.batchCallerName = name + "_batch_caller";
+        this.resultMapper = resultType != null ? new PythonResultMapper(resultType.dataType(), DATA_OBJECT_MAPPER) : null;
+        this.hasGlobalCode = definition.globalCode() != null && Arrays.stream(definition.globalCode()).anyMatch(line -> !line.isBlank() && !line.trim().startsWith("#"));
+        this.argumentBuffers = ThreadLocal.withInitial(() -> new Object[this.parameters.length + 1][]);
+        // Register the function in the current thread's context up front, so errors in the code surface immediately
+        functionIn(contexts.context());
+    }
+
+    boolean hasGlobalCode() {
+        return hasGlobalCode;
+    }
+
+    private record Callers(Value single, Value batch) {
+    }
+
+    // The registered functions are kept by the Python context, so every thread can call them in its own context and
+    // they are released together with the context
+    private Callers functionIn(PythonContext context) {
+        if (context.functionCallers(this) instanceof Callers result) return result;
+        final var function = context.registerFunction(pyCode, callerName);
+        final var batchFunction = function != null ? context.exportedValue(batchCallerName) : null;
+        if (function == null || batchFunction == null) {
             final var pyCodeLines = pyCode.split("\n");
             final var builder = new StringBuilder();
             for (int index = 1; index <= pyCodeLines.length; index++) {
@@ -84,75 +131,116 @@ public class PythonFunction extends UserFunction {
                     """, namespace, name, builder);
             throw new ExecutionException("Error in function: %s.%s".formatted(namespace, name));
         }
+        final var callers = new Callers(function, batchFunction);
+        context.functionCallers(this, callers);
+        return callers;
     }
 
     @Override
     public DataObject call(StateStores stores, DataObject... parameters) {
-        // Validate that the defined parameter list matches the amount of passed in parameters
-        if (this.fixedParameterCount > parameters.length) {
-            throw new TopologyException("Function %s.%s - parameter list does not match function spec: minimally expected %d, got %d".formatted(namespace, name, this.parameters.length, parameters.length));
-        }
-        if (this.parameters.length < parameters.length) {
-            throw new TopologyException("Function %s.%s - parameter list does not match function spec: maximally expected %d, got %d".formatted(namespace, name, this.parameters.length, parameters.length));
-        }
-        // Validate the parameter types
-        for (int index = 0; index < parameters.length; index++) {
-            final var declaredParameter = this.parameters[index];
-            final var actualParameter = parameters[index];
-            final var assignable = declaredParameter.type().isAssignableFrom(actualParameter);
-            if (assignable.isNotAssignable()) {
-                throw new TopologyException("Function %s.%s expects parameter #%d (\"%s\") to be %s but %s was passed in: %s".formatted(namespace, name, index + 1, declaredParameter.name(), declaredParameter.type(), actualParameter.type(), assignable));
-            }
-        }
+        checkParameters(parameters);
 
-        // Check all parameters and copy them into the interpreter as prefixed globals
-        var globalVars = new HashMap<String, Object>();
-        globalVars.put("stores", stores != null ? stores : EMPTY_STORES);
-        var arguments = convertParameters(globalVars, parameters);
+        // Copy the stores and all parameters into the interpreter
+        final var arguments = convertParameters(stores, parameters);
 
         try {
+            // Look up the function in the Python context of the current thread
+            final var context = contexts.context();
+            final var function = functionIn(context).single();
+
             // Call the prepared function
             log.debug("Calling Python function: namespace={}, name={}, arguments={}", namespace, name, arguments);
-            Value pyResult = function.execute(arguments);
+            Value pyResult = context.timeExecutionOf(() -> function.execute(arguments));
+            return convertResult(context, parameters, pyResult);
+        } catch (Exception e) {
+            logCall(parameters, null);
+            throw FatalError.report(new TopologyException("Error while executing function %s.%s : %s".formatted(namespace, name, e.getMessage()), e));
+        } finally {
+            // Release the references to the converted parameters, so the reused array does not keep them alive
+            Arrays.fill(arguments, null);
+        }
+    }
+
+    @Override
+    public List<DataObject> callBatch(StateStores stores, List<DataObject[]> batch) {
+        if (batch.size() == 1) return List.of(call(stores, batch.get(0)));
 
-            if (pyResult.canExecute()) {
-                throw new ExecutionException("Python function %s.%s - Code results in a function instead of a value".formatted(namespace, name));
+        // Validate and convert all parameters into a single list of argument lists
+        final var pyBatch = new Object[batch.size()];
+        for (int index = 0; index < batch.size(); index++) {
+            final var parameters = batch.get(index);
+            checkParameters(parameters);
+            final var arguments = new Object[parameters.length];
+            for (int param = 0; param < parameters.length; param++) {
+                arguments[param] = DATA_OBJECT_MAPPER.fromDataObject(parameters[param]);
             }
+            pyBatch[index] = ProxyArray.fromArray(arguments);
+        }
+        final var globalVariables = stores != null ? stores.bindings(PythonFunction::globalVariablesFor) : EMPTY_GLOBAL_VARIABLES;
+
+        try {
+            // Call the function for all elements of the batch with a single transition into the interpreter
+            final var context = contexts.context();
+            final var function = functionIn(context).batch();
+            log.debug("Calling Python function in batch: namespace={}, name={}, size={}", namespace, name, batch.size());
+            final var pyResults = context.timeExecutionOf(() -> function.execute(globalVariables, ProxyArray.fromArray(pyBatch)));
 
-            // Check if the function is supposed to return a result value
-            if (resultType != null) {
-                DataObject result = DATA_OBJECT_MAPPER.toDataObject(resultType.dataType(), pyResult);
-                logCall(parameters, result);
-                if (converter != null)
-                    result = converter.convert(DEFAULT_NOTATION, result, resultType);
-                checkType(resultType.dataType(), result);
-                return result;
-            } else {
-                logCall(parameters, null);
-                return DataNull.INSTANCE;
+            // Convert the results back, in the same order as the batch
+            final var result = new ArrayList<DataObject>(batch.size());
+            for (int index = 0; index < batch.size(); index++) {
+                result.add(convertResult(context, batch.get(index), pyResults.getArrayElement(index)));
             }
+            return result;
         } catch (Exception e) {
+            throw FatalError.report(new TopologyException("Error while executing function %s.%s in batch of %d : %s".formatted(namespace, name, batch.size(), e.getMessage()), e));
+        }
+    }
+
+    private DataObject convertResult(PythonContext context, DataObject[] parameters, Value pyResult) {
+        if (pyResult.canExecute()) {
+            throw new ExecutionException("Python function %s.%s - Code results in a function instead of a value".formatted(namespace, name));
+        }
+
+        // Check if the function is supposed to return a result value
+        if (resultType != null) {
+            DataObject result = resultMapper.toDataObject(pyResult);
+            logCall(parameters, result);
+            if (context.converter() != null)
+                result = context.converter().convert(DEFAULT_NOTATION, result, resultType);
+            checkType(resultType.dataType(), result);
+            return result;
+        } else {
             logCall(parameters, null);
-            throw FatalError.report(new TopologyException("Error while executing function %s.%s : %s".formatted(namespace, name, e.getMessage()), e));
+            return DataNull.INSTANCE;
         }
     }
 
-    private Object[] convertParameters(Map<String, Object> globalVariables, DataObject... parameters) {
-        Object[] result = new Object[parameters.length + 1];
-        // Convert globalVariables (which contains stores map) to Python-compatible ProxyHashMap
-        result[0] = NATIVE_MAPPER.toPython(globalVariables);
+    private Object[] convertParameters(StateStores stores, DataObject... parameters) {
+        // Reuse the argument array of this thread for the given number of parameters
+        final var buffers = argumentBuffers.get();
+        var result = buffers[parameters.length];
+        if (result == null) {
+            result = new Object[parameters.length + 1];
+            buffers[parameters.length] = result;
+        }
+        // The global variables (which contain the stores map) are converted once per set of stores
+        result[0] = stores != null ? stores.bindings(PythonFunction::globalVariablesFor) : EMPTY_GLOBAL_VARIABLES;
         for (var index = 0; index < parameters.length; index++) {
-            checkType(this.parameters[index], parameters[index]);
             // Convert DataObject to Python value
             result[index + 1] = DATA_OBJECT_MAPPER.fromDataObject(parameters[index]);
         }
         return result;
     }
 
+    private static Object globalVariablesFor(Map<String, StateStore> stores) {
+        // Convert the global variables to a Python-compatible ProxyHashMap
+        return NATIVE_MAPPER.toPython(Map.of("stores", stores));
+    }
+
     private String generatePythonCode(String namespace, String type, String name, FunctionDefinition definition) {
-        // Prepend two spaces of indentation before the function code
-        String[] functionCode = getFunctionCode(definition.code(), "  ");
-        String[] expressionCode = Arrays.stream(definition.expression()).map(line -> "    " + line).toArray(String[]::new);
+        // Prepend four spaces of indentation before the function code, which is nested in its binding function
+        String[] functionCode = getFunctionCode(definition.code(), "    ");
+        String[] expressionCode = Arrays.stream(definition.expression()).map(line -> "      " + line).toArray(String[]::new);
 
         // Prepare a list of parameters for the function definition
         String[] defParams = Arrays.stream(definition.parameters()).map(p -> p.name() + (p.isOptional() ? "=None" : "")).toArray(String[]::new);
@@ -165,7 +253,7 @@ public class PythonFunction extends UserFunction {
 
         // Code to include all global variables
         final var assignStores = definition.storeNames().stream()
-                .map(storeName -> "  " + storeName + " = stores[\"" + storeName + "\"]\n")
+                .map(storeName -> "    " + storeName + " = stores[\"" + storeName + "\"]\n")
                 .collect(Collectors.joining());
         // Code to copy / initialize all global variables
         final var includeGlobals = """
@@ -179,7 +267,7 @@ public class PythonFunction extends UserFunction {
         final var initializeOptionalParams = Arrays.stream(definition.parameters())
                 .filter(ParameterDefinition::isOptional)
                 .filter(p -> p.defaultValue() != null)
-                .map(p -> "  if " + p.name() + " is None:\n    " + p.name() + " = " + (p.type() == DataString.DATATYPE ? QUOTE : "") + p.defaultValue() + (p.type() == DataString.DATATYPE ? QUOTE : "") + "\n")
+                .map(p -> "    if " + p.name() + " is None:\n      " + p.name() + " = " + (p.type() == DataString.DATATYPE ? QUOTE : "") + p.defaultValue() + (p.type() == DataString.DATATYPE ? QUOTE : "") + "\n")
                 .collect(Collectors.joining());
 
         // Prepare the return statement
@@ -189,14 +277,17 @@ public class PythonFunction extends UserFunction {
                         : "")
                 + "\n";
 
-        // Compose the function (if any) and the return statement together
-        final var functionAndExpression = "def " + name + "(" + String.join(",", defParams) + "):\n" +
-                includeGlobals +
-                initFunctionLocalVariables(2, loggerName(namespace, type, name)) +
+        // Compose the function (if any) and the return statement together. The function is nested in a binding
+        // function that is called once, so its logger is looked up at registration instead of on every call.
+        final var functionAndExpression = "def " + BIND_PREFIX + name + "(log):\n" +
+                "  def " + name + "(" + String.join(",", defParams) + "):\n" +
+                "  " + includeGlobals +
                 assignStores +
                 initializeOptionalParams +
                 String.join("\n", functionCode) + "\n" +
-                "  " + returnStatement + "\n";
+                "    " + returnStatement +
+                "  return " + name + "\n" +
+                name + " = " + BIND_PREFIX + name + "(" + lookupLogger(loggerName(namespace, type, name)) + ")\n";
 
         // Prepare the actual caller for the code
         // Parameters are now pre-converted to Python types by PythonTypeConverter in Java
@@ -206,6 +297,12 @@ public class PythonFunction extends UserFunction {
                 initializeGlobals +
                 "  return " + name + "(" + String.join(",", callParams) + ")\n";
 
+        // Prepare the batch caller, which calls the function for every argument list in the batch
+        final var pyBatchCallerCode = "def " + name + "_batch_caller(globalVars, batch):\n" +
+                includeGlobals +
+                initializeGlobals +
+                "  return [" + name + "(*args) for args in batch]\n";
+
         // Python code template - no longer needs convert_to_python/convert_from_python
         // as Java-side PythonTypeConverter handles all collection conversion
         final var pythonCodeTemplate =
@@ -223,9 +320,12 @@ public class PythonFunction extends UserFunction {
                         # caller definition goes here (third argument)
                         @polyglot.export_value
                         %3$s
+                        # batch caller definition goes here (fourth argument)
+                        @polyglot.export_value
+                        %4$s
                         """;
 
-        return pythonCodeTemplate.formatted(globalCode, functionAndExpression, pyCallerCode);
+        return pythonCodeTemplate.formatted(globalCode, functionAndExpression, pyCallerCode, pyBatchCallerCode);
     }
 
     private static String[] getFunctionCode(String[] code, String spaces) {
@@ -237,7 +337,9 @@ public class PythonFunction extends UserFunction {
     }
 
     private String[] injectFunctionLocalVariables(String namespace, String type, String[] code) {
-        // Look for "def func():" statements and inject log variable code after all occurrences
+        // Look for "def func():" statements and inject log variable code after all occurrences. The loggers are
+        // looked up once in module-level variables, which the functions copy into their local "log" variable.
+        final var loggers = new LinkedHashMap<String, String>();
         final var result = new ArrayList<String>();
         var injectCode = false;
         var defIndent = 0;
@@ -246,7 +348,8 @@ public class PythonFunction extends UserFunction {
             if (line.trim().isEmpty()) continue;
             int lineIndent = line.length() - line.stripIndent().length();
             if (injectCode && lineIndent > defIndent) {
-                result.add(initFunctionLocalVariables(lineIndent, loggerName(namespace, type, functionName)));
+                loggers.put(LOG_PREFIX + functionName, loggerName(namespace, type, functionName));
+                result.add(" ".repeat(lineIndent) + "log = " + LOG_PREFIX + functionName);
             }
             result.add(line);
             injectCode = false;
@@ -259,15 +362,12 @@ public class PythonFunction extends UserFunction {
                 }
             }
         }
-        return result.toArray(String[]::new);
+        final var lookups = loggers.entrySet().stream()
+                .map(logger -> logger.getKey() + " = " + lookupLogger(logger.getValue()));
+        return Stream.concat(lookups, result.stream()).toArray(String[]::new);
     }
 
-    private String initFunctionLocalVariables(int indentCount, String loggerName) {
-        final var indent = " ".repeat(indentCount);
-        return indent + "global loggerBridge\n" +
-                indent + "log = None\n" +
-                indent + "if loggerBridge is not None:\n" +
-                indent + "  log = loggerBridge.getLogger(\"" + loggerName + "\")\n" +
-                indent + "global metrics\n";
+    private static String lookupLogger(String loggerName) {
+        return "(loggerBridge.getLogger(\"" + loggerName + "\") if loggerBridge is not None else None)";
     }
 }
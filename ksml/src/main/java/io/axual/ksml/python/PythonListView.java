@@ -0,0 +1,126 @@
+package io.axual.ksml.python;
+
+/*-
+ * ========================LICENSE_START=================================
+ * KSML
+ * %%
+ * Copyright (C) 2021 - 2026 Axual B.V.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import io.axual.ksml.data.exception.DataException;
+import io.axual.ksml.data.mapper.NativeDataObjectMapper;
+import io.axual.ksml.data.object.DataList;
+import io.axual.ksml.data.type.DataType;
+import io.axual.ksml.data.util.ValuePrinter;
+import org.graalvm.polyglot.Value;
+import org.graalvm.polyglot.proxy.ProxyArray;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * A {@link ProxyArray} that gives Python a lazy view on a {@link DataList}. Elements are converted to Python values
+ * when they are first accessed. Assignments from Python are recorded in the view and leave the underlying list
+ * untouched. The view is rendered and converted back exactly like an eagerly converted {@link PythonList}.
+ */
+public class PythonListView implements ProxyArray {
+    private static final PythonNativeMapper PYTHON_MAPPER = new PythonNativeMapper();
+    private static final NativeDataObjectMapper NATIVE_MAPPER = new NativeDataObjectMapper();
+    private static final ValuePrinter VALUE_PRINTER = new PythonValuePrinter();
+    private static final Object NOT_CONVERTED = new Object();
+    private final DataList list;
+    private final PythonDataObjectMapper elementMapper;
+    // Python values of all elements, NOT_CONVERTED for elements that were not accessed yet
+    private final List<Object> values;
+
+    public PythonListView(DataList list, PythonDataObjectMapper elementMapper) {
+        this.list = list;
+        this.elementMapper = elementMapper;
+        this.values = new ArrayList<>(list.size());
+        for (int index = 0; index < list.size(); index++) values.add(NOT_CONVERTED);
+    }
+
+    @Override
+    public Object get(long index) {
+        final var position = toIntIndex(index);
+        final var result = values.get(position);
+        if (result != NOT_CONVERTED) return result;
+        // Elements can only be unconverted at their original position, since removals convert all elements first
+        final var element = list.get(position);
+        final var converted = PYTHON_MAPPER.toPython(element != null ? elementMapper.fromDataObject(element) : null);
+        values.set(position, converted);
+        return converted;
+    }
+
+    @Override
+    public void set(long index, Value value) {
+        values.set(toIntIndex(index), value);
+    }
+
+    @Override
+    public long getSize() {
+        return values.size();
+    }
+
+    @Override
+    public boolean remove(long index) {
+        // Shifting elements breaks the relation between positions in the view and the list, so convert all first
+        for (int position = 0; position < values.size(); position++) get(position);
+        values.remove(toIntIndex(index));
+        return true;
+    }
+
+    /**
+     * Convert the view to a native list, including all modifications made from Python. Elements that were never
+     * accessed are converted directly from the underlying list.
+     *
+     * @param valueType the expected type of the elements.
+     * @return a native representation of the list, as seen from Python.
+     */
+    public List<Object> toNative(DataType valueType) {
+        final var result = new ArrayList<>(values.size());
+        for (int index = 0; index < values.size(); index++) {
+            final var value = values.get(index);
+            if (value != NOT_CONVERTED) {
+                result.add(PYTHON_MAPPER.fromPython(valueType, value));
+            } else {
+                final var element = list.get(index);
+                result.add(element != null ? NATIVE_MAPPER.fromDataObject(element) : null);
+            }
+        }
+        return result;
+    }
+
+    private static int toIntIndex(long index) {
+        if (index < 0 || index > Integer.MAX_VALUE) {
+            throw new DataException("Python list index " + index + " is out of range for a Java List");
+        }
+        return (int) index;
+    }
+
+    /**
+     * Return a String representation of this view, in Python format.
+     *
+     * @return String representation of this view, in Python format
+     */
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        for (int index = 0; index < values.size(); index++) joiner.add(VALUE_PRINTER.print(get(index), true));
+        return joiner.toString();
+    }
+}
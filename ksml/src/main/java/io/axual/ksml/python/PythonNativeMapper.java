@@ -60,6 +60,13 @@ public class PythonNativeMapper {
 
     private Object polyglotValueToNative(DataType expected, Value object) {
         if (object.isNull()) return null;
+        // Lazy views on KSML data are converted from their underlying data, including modifications made in Python
+        if (object.isProxyObject()) {
+            final var proxy = object.asProxyObject();
+            if (proxy instanceof PythonStructView view) return view.toNative();
+            if (proxy instanceof PythonListView view && (expected == null || expected == DataType.UNKNOWN || expected instanceof ListType))
+                return view.toNative(expected instanceof ListType listType ? listType.valueType() : DataType.UNKNOWN);
+        }
         if (object.isBoolean() && (expected == null || expected == DataBoolean.DATATYPE))
             return object.asBoolean();
 
@@ -0,0 +1,198 @@
+package io.axual.ksml.python;
+
+/*-
+ * ========================LICENSE_START=================================
+ * KSML
+ * %%
+ * Copyright (C) 2021 - 2026 Axual B.V.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import io.axual.ksml.data.mapper.DataTypeDataSchemaMapper;
+import io.axual.ksml.data.object.DataBoolean;
+import io.axual.ksml.data.object.DataByte;
+import io.axual.ksml.data.object.DataDouble;
+import io.axual.ksml.data.object.DataFloat;
+import io.axual.ksml.data.object.DataInteger;
+import io.axual.ksml.data.object.DataList;
+import io.axual.ksml.data.object.DataLong;
+import io.axual.ksml.data.object.DataMap;
+import io.axual.ksml.data.object.DataNull;
+import io.axual.ksml.data.object.DataObject;
+import io.axual.ksml.data.object.DataShort;
+import io.axual.ksml.data.object.DataString;
+import io.axual.ksml.data.object.DataStruct;
+import io.axual.ksml.data.schema.StructSchema;
+import io.axual.ksml.data.type.DataType;
+import io.axual.ksml.data.type.ListType;
+import io.axual.ksml.data.type.MapType;
+import io.axual.ksml.data.type.StructType;
+import io.axual.ksml.data.type.UnionType;
+import org.graalvm.polyglot.Value;
+
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import static io.axual.ksml.python.NativeDataObjectMapperWithSchema.STRUCT_SCHEMA_FIELD;
+import static io.axual.ksml.python.NativeDataObjectMapperWithSchema.STRUCT_TYPE_FIELD;
+
+/**
+ * Converts the results of a Python function to the function's declared result type. The conversion is compiled once
+ * from the declared type into a tree of converters, which read Python values directly into their target
+ * {@link DataStruct}, {@link DataList}, {@link DataMap} or primitive, without inferring types or building intermediate
+ * Java collections. Values that do not have the shape of their declared type, and types without a fast path, are
+ * converted by the {@link PythonDataObjectMapper} as before.
+ */
+public class PythonResultMapper {
+    private static final DataTypeDataSchemaMapper DATA_TYPE_DATA_SCHEMA_MAPPER = new DataTypeDataSchemaMapper();
+    private static final PythonNativeMapper NATIVE_MAPPER = new PythonNativeMapper();
+    private final DataType type;
+    private final PythonDataObjectMapper fallbackMapper;
+    @Nullable
+    private final Converter converter;
+
+    // Converts a Python value of the expected shape, or returns null to let the caller fall back to regular conversion
+    @FunctionalInterface
+    private interface Converter {
+        @Nullable
+        DataObject convert(Value value);
+    }
+
+    public PythonResultMapper(DataType type, PythonDataObjectMapper fallbackMapper) {
+        this.type = type;
+        this.fallbackMapper = fallbackMapper;
+        this.converter = compile(type, new IdentityHashMap<>());
+    }
+
+    /**
+     * Convert a Python value to the type this mapper was compiled for.
+     *
+     * @param value the Python value.
+     * @return the converted DataObject.
+     */
+    public DataObject toDataObject(Value value) {
+        final var result = converter != null ? converter.convert(value) : null;
+        return result != null ? result : fallbackMapper.toDataObject(type, value);
+    }
+
+    private Converter compile(DataType type, Map<StructSchema, Converter> structs) {
+        if (type == DataBoolean.DATATYPE) return value -> value.isBoolean() ? DataBoolean.of(value.asBoolean()) : null;
+        if (type == DataByte.DATATYPE) return value -> isNumber(value) && value.fitsInByte() ? DataByte.of(value.asByte()) : null;
+        if (type == DataShort.DATATYPE) return value -> isNumber(value) && value.fitsInShort() ? DataShort.of(value.asShort()) : null;
+        if (type == DataInteger.DATATYPE) return value -> isNumber(value) && value.fitsInInt() ? DataInteger.of(value.asInt()) : null;
+        if (type == DataLong.DATATYPE) return value -> isNumber(value) && value.fitsInLong() ? DataLong.of(value.asLong()) : null;
+        if (type == DataFloat.DATATYPE) return value -> isNumber(value) && value.fitsInFloat() ? new DataFloat(value.asFloat()) : null;
+        if (type == DataDouble.DATATYPE) return value -> isNumber(value) && value.fitsInDouble() ? new DataDouble(value.asDouble()) : null;
+        if (type == DataString.DATATYPE) return value -> value.isString() ? DataString.of(value.asString()) : null;
+        if (type instanceof StructType structType && structType.schema() != null)
+            return compileStruct(structType.schema(), structs);
+        if (type instanceof ListType listType) return compileList(listType.valueType(), structs);
+        if (type instanceof MapType mapType) return compileMap(mapType.valueType(), structs);
+        if (type instanceof UnionType unionType) return compileUnion(unionType, structs);
+        // All other types are converted by the fallback mapper
+        return null;
+    }
+
+    private Converter compileStruct(StructSchema schema, Map<StructSchema, Converter> structs) {
+        // Reuse the converter of a struct that is already being compiled, which allows for recursive schemas
+        final var existing = structs.get(schema);
+        if (existing != null) return existing;
+
+        final var fields = new HashMap<String, FieldPlan>();
+        final Converter result = value -> {
+            if (!value.hasHashEntries() || value.isProxyObject()) return null;
+            final var struct = new DataStruct(schema);
+            final var entries = value.getHashEntriesIterator();
+            while (entries.hasIteratorNextElement()) {
+                final var entry = entries.getIteratorNextElement();
+                final var key = entry.getArrayElement(0);
+                if (!key.isString()) return null;
+                final var name = key.asString();
+                if (STRUCT_TYPE_FIELD.equals(name) || STRUCT_SCHEMA_FIELD.equals(name)) continue;
+                final var field = fields.get(name);
+                final var fieldValue = entry.getArrayElement(1);
+                struct.put(name, field != null
+                        ? convertHostValue(field.type(), field.converter(), fieldValue)
+                        : convertHostValue(DataType.UNKNOWN, null, fieldValue));
+            }
+            return struct;
+        };
+        structs.put(schema, result);
+        for (final var field : schema.fields()) {
+            final var fieldType = DATA_TYPE_DATA_SCHEMA_MAPPER.fromDataSchema(field.schema());
+            fields.put(field.name(), new FieldPlan(fieldType, compile(fieldType, structs)));
+        }
+        return result;
+    }
+
+    private record FieldPlan(DataType type, @Nullable Converter converter) {
+    }
+
+    private Converter compileList(DataType valueType, Map<StructSchema, Converter> structs) {
+        final var elementConverter = compile(valueType, structs);
+        return value -> {
+            if (!value.hasArrayElements() || value.isString() || value.isProxyObject()) return null;
+            final var result = new DataList(valueType);
+            final var size = value.getArraySize();
+            for (long index = 0; index < size; index++) {
+                final var element = value.getArrayElement(index);
+                final var converted = elementConverter != null ? elementConverter.convert(element) : null;
+                // Elements are converted as they would have been as part of a native list
+                result.add(converted != null ? converted : fallbackMapper.toDataObject(valueType, NATIVE_MAPPER.fromPython(valueType, element)));
+            }
+            return result;
+        };
+    }
+
+    private Converter compileMap(DataType valueType, Map<StructSchema, Converter> structs) {
+        final var valueConverter = compile(valueType, structs);
+        return value -> {
+            if (!value.hasHashEntries() || value.isProxyObject()) return null;
+            final var result = new DataMap(valueType);
+            final var entries = value.getHashEntriesIterator();
+            while (entries.hasIteratorNextElement()) {
+                final var entry = entries.getIteratorNextElement();
+                final var key = entry.getArrayElement(0);
+                if (!key.isString()) return null;
+                result.put(key.asString(), convertHostValue(valueType, valueConverter, entry.getArrayElement(1)));
+            }
+            return result;
+        };
+    }
+
+    private Converter compileUnion(UnionType unionType, Map<StructSchema, Converter> structs) {
+        // Values matching the shape of the first non-null member are converted directly, since that member would be
+        // tried first anyway. Everything else, including None, goes through the regular trial of all members.
+        for (final var member : unionType.members()) {
+            if (member.type() != DataNull.DATATYPE) {
+                return compile(member.type(), structs);
+            }
+        }
+        return null;
+    }
+
+    private DataObject convertHostValue(DataType type, @Nullable Converter converter, Value value) {
+        final var result = converter != null ? converter.convert(value) : null;
+        // Fields and map values are converted as they would have been as part of a native map
+        return result != null ? result : fallbackMapper.toDataObject(type, value.as(Object.class));
+    }
+
+    private static boolean isNumber(Value value) {
+        // Python booleans are numbers too, but are not converted to numeric types
+        return value.isNumber() && !value.isBoolean();
+    }
+}
@@ -0,0 +1,232 @@
+package io.axual.ksml.python;
+
+/*-
+ * ========================LICENSE_START=================================
+ * KSML
+ * %%
+ * Copyright (C) 2021 - 2026 Axual B.V.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import io.axual.ksml.data.mapper.DataSchemaMapper;
+import io.axual.ksml.data.mapper.NativeDataObjectMapper;
+import io.axual.ksml.data.object.DataStruct;
+import io.axual.ksml.data.schema.StructSchema;
+import io.axual.ksml.data.type.DataType;
+import io.axual.ksml.data.util.ValuePrinter;
+import io.axual.ksml.data.value.Struct;
+import io.axual.ksml.schema.NativeDataSchemaMapper;
+import org.graalvm.polyglot.Value;
+import org.graalvm.polyglot.proxy.ProxyArray;
+import org.graalvm.polyglot.proxy.ProxyHashMap;
+import org.graalvm.polyglot.proxy.ProxyIterator;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+
+import static io.axual.ksml.python.NativeDataObjectMapperWithSchema.STRUCT_SCHEMA_FIELD;
+import static io.axual.ksml.python.NativeDataObjectMapperWithSchema.STRUCT_TYPE_FIELD;
+
+/**
+ * A {@link ProxyHashMap} that gives Python a lazy view on a {@link DataStruct}. Fields are converted to Python values
+ * when they are first accessed, so a function that reads a few fields of a large record does not pay for converting
+ * the whole record. Assignments and deletions from Python are recorded in the view and leave the underlying struct
+ * untouched. The view is rendered and converted back exactly like an eagerly converted {@link PythonDict}.
+ */
+public class PythonStructView implements ProxyHashMap {
+    private static final PythonNativeMapper PYTHON_MAPPER = new PythonNativeMapper();
+    private static final NativeDataObjectMapper NATIVE_MAPPER = new NativeDataObjectMapper();
+    private static final DataSchemaMapper<Object> NATIVE_DATA_SCHEMA_MAPPER = new NativeDataSchemaMapper();
+    private static final ValuePrinter VALUE_PRINTER = new PythonValuePrinter();
+    private final DataStruct struct;
+    private final StructSchema schema;
+    private final PythonDataObjectMapper fieldMapper;
+    private final boolean includeSchemaInfo;
+    // Python values of all fields that were accessed or assigned
+    private final Map<String, Object> values = new HashMap<>();
+    // Fields that were deleted from Python
+    private final Set<String> removed = new HashSet<>();
+
+    public PythonStructView(DataStruct struct, PythonDataObjectMapper fieldMapper, boolean includeSchemaInfo) {
+        this.struct = struct;
+        this.schema = struct.type().schema() instanceof StructSchema structSchema ? structSchema : null;
+        this.fieldMapper = fieldMapper;
+        this.includeSchemaInfo = includeSchemaInfo && struct.type().schema() != null;
+    }
+
+    @Override
+    public long getHashSize() {
+        return keys().size();
+    }
+
+    @Override
+    public boolean hasHashEntry(Value key) {
+        return contains(keyFrom(key));
+    }
+
+    @Override
+    public Object getHashValue(Value key) {
+        return get(keyFrom(key));
+    }
+
+    @Override
+    public void putHashEntry(Value key, Value value) {
+        final var name = keyFrom(key);
+        values.put(name, value);
+        removed.remove(name);
+    }
+
+    @Override
+    public boolean removeHashEntry(Value key) {
+        final var name = keyFrom(key);
+        if (!contains(name)) return false;
+        values.remove(name);
+        removed.add(name);
+        return true;
+    }
+
+    @Override
+    public Object getHashEntriesIterator() {
+        final var it = keys().iterator();
+        return new ProxyIterator() {
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public Object getNext() {
+                final var key = it.next();
+                return ProxyArray.fromArray(key, get(key));
+            }
+        };
+    }
+
+    /**
+     * Convert the view to a native map, including all modifications made from Python. Fields that were never
+     * accessed are converted directly from the underlying struct.
+     *
+     * @return a native representation of the struct, as seen from Python.
+     */
+    public Map<String, Object> toNative() {
+        final var result = new Struct<>();
+        for (final var key : keys()) {
+            final var value = values.get(key);
+            if (value != null || values.containsKey(key)) {
+                result.put(key, nativeValueOf(value));
+            } else {
+                result.put(key, nativeValueOf(key));
+            }
+        }
+        return result;
+    }
+
+    private boolean contains(String key) {
+        if (removed.contains(key)) return false;
+        return values.containsKey(key) || inStruct(key);
+    }
+
+    private Object get(String key) {
+        final var result = values.get(key);
+        if (result != null || values.containsKey(key) || !contains(key)) return result;
+        // Convert the field on first access and keep the result, so modifications of nested values are retained
+        final var converted = PYTHON_MAPPER.toPython(pythonValueOf(key));
+        values.put(key, converted);
+        return converted;
+    }
+
+    // Returns whether the key is visible in the original struct, using the same rules as the eager conversion
+    private boolean inStruct(String key) {
+        if (includeSchemaInfo && (STRUCT_TYPE_FIELD.equals(key) || STRUCT_SCHEMA_FIELD.equals(key))) return true;
+        if (schema == null) return struct.containsKey(key);
+        final var field = schema.field(key);
+        return field != null && (field.required() || struct.containsKey(key));
+    }
+
+    private Object pythonValueOf(String key) {
+        if (includeSchemaInfo && (STRUCT_TYPE_FIELD.equals(key) || STRUCT_SCHEMA_FIELD.equals(key)))
+            return nativeValueOf(key);
+        final var value = struct.get(key);
+        return value != null ? fieldMapper.fromDataObject(value) : null;
+    }
+
+    private Object nativeValueOf(String key) {
+        if (includeSchemaInfo && STRUCT_TYPE_FIELD.equals(key)) return struct.type().schema().name();
+        if (includeSchemaInfo && STRUCT_SCHEMA_FIELD.equals(key))
+            return NATIVE_DATA_SCHEMA_MAPPER.fromDataSchema(struct.type().schema());
+        final var value = struct.get(key);
+        return value != null ? NATIVE_MAPPER.fromDataObject(value) : null;
+    }
+
+    private static Object nativeValueOf(Object value) {
+        // Convert values set from Python the same way as an eagerly converted dict would be read back
+        if (!(value instanceof Value val)) return value;
+        if (val.isNull()) return null;
+        if (val.isBoolean()) return val.asBoolean();
+        if (val.isString()) return val.asString();
+        if (val.isNumber()) {
+            if (val.fitsInInt()) return val.asInt();
+            if (val.fitsInLong()) return val.asLong();
+            return val.asDouble();
+        }
+        if (val.isProxyObject()) {
+            final var proxy = val.asProxyObject();
+            if (proxy instanceof PythonStructView view) return view.toNative();
+            if (proxy instanceof PythonListView view) return view.toNative(DataType.UNKNOWN);
+            return PYTHON_MAPPER.fromPython(val);
+        }
+        return val.as(Object.class);
+    }
+
+    private Set<String> keys() {
+        // Collect the keys in the same order as an eagerly converted struct
+        final var result = new Struct<Boolean>();
+        if (schema != null) {
+            for (final var field : schema.fields()) {
+                if (field.required() || struct.containsKey(field.name())) result.put(field.name(), true);
+            }
+        } else {
+            struct.forEach((key, value) -> result.put(key, true));
+        }
+        if (includeSchemaInfo) {
+            result.put(STRUCT_TYPE_FIELD, true);
+            result.put(STRUCT_SCHEMA_FIELD, true);
+        }
+        values.keySet().forEach(key -> result.put(key, true));
+        removed.forEach(result::remove);
+        return result.keySet();
+    }
+
+    /**
+     * Return a String representation of this view, in Python format.
+     *
+     * @return String representation of this view, in Python format
+     */
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "{", "}");
+        keys().forEach(key -> joiner.add(VALUE_PRINTER.print(key, true) + ": " + VALUE_PRINTER.print(get(key), true)));
+        return joiner.toString();
+    }
+
+    private String keyFrom(Object key) {
+        if (key == null) return null;
+        if (key instanceof Value value && value.isString()) return value.asString();
+        return key.toString();
+    }
+}
@@ -0,0 +1,169 @@
+package io.axual.ksml.python;
+
+/*-
+ * ========================LICENSE_START=================================
+ * KSML
+ * %%
+ * Copyright (C) 2021 - 2026 Axual B.V.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import io.axual.ksml.data.object.DataBoolean;
+import io.axual.ksml.data.object.DataByte;
+import io.axual.ksml.data.object.DataBytes;
+import io.axual.ksml.data.object.DataDouble;
+import io.axual.ksml.data.object.DataEnum;
+import io.axual.ksml.data.object.DataFloat;
+import io.axual.ksml.data.object.DataInteger;
+import io.axual.ksml.data.object.DataList;
+import io.axual.ksml.data.object.DataLong;
+import io.axual.ksml.data.object.DataMap;
+import io.axual.ksml.data.object.DataNull;
+import io.axual.ksml.data.object.DataObject;
+import io.axual.ksml.data.object.DataShort;
+import io.axual.ksml.data.object.DataString;
+import io.axual.ksml.data.object.DataStruct;
+import io.axual.ksml.data.object.DataTuple;
+import io.axual.ksml.data.type.DataType;
+import io.axual.ksml.data.type.EnumType;
+import io.axual.ksml.data.type.ListType;
+import io.axual.ksml.data.type.MapType;
+import io.axual.ksml.data.type.StructType;
+import io.axual.ksml.data.type.TupleType;
+import io.axual.ksml.data.type.UnionType;
+import io.axual.ksml.proxy.base.SideEffects;
+import io.axual.ksml.user.UserFunction;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Calls Python functions with synthetic arguments before any records are processed, so GraalVM compiles the functions
+ * before they have to keep up with real traffic. The arguments are sample values built from the declared parameter
+ * types. Functions that use state stores or have global code are skipped, since the warm-up calls would change their
+ * state before the first record arrives. Log lines and metric updates of the functions are suppressed during the
+ * warm-up. Functions that fail on the sample values are dropped from the warm-up after their first error.
+ */
+@Slf4j
+public class PythonWarmup {
+    private static final String SAMPLE_STRING = "warmup";
+    private static final int MAX_SAMPLE_DEPTH = 4;
+    private final List<UserFunction> functions;
+
+    public PythonWarmup(List<UserFunction> functions) {
+        this.functions = functions.stream()
+                .filter(PythonFunction.class::isInstance)
+                .filter(function -> function.storeNames.length == 0)
+                .filter(function -> !((PythonFunction) function).hasGlobalCode())
+                .toList();
+    }
+
+    /**
+     * Call all functions with sample arguments for the given number of iterations, or until the time limit passes.
+     *
+     * @param iterations the number of times every function is called.
+     * @param timeLimit  the maximum duration of the warm-up.
+     * @return the time spent warming up.
+     */
+    public Duration run(int iterations, Duration timeLimit) {
+        final var start = System.nanoTime();
+        final var deadline = start + timeLimit.toNanos();
+        final var calls = new ArrayList<Call>();
+        for (final var function : functions) {
+            calls.add(new Call(function, Arrays.stream(function.parameters).map(p -> sampleOf(p.type())).toArray(DataObject[]::new)));
+        }
+        log.info("Warming up {} Python functions for {} iterations", calls.size(), iterations);
+        SideEffects.suppress(() -> {
+            for (int iteration = 0; iteration < iterations && !calls.isEmpty() && System.nanoTime() < deadline; iteration++) {
+                calls.removeIf(call -> !call.execute());
+            }
+        });
+        final var result = Duration.ofNanos(System.nanoTime() - start);
+        log.info("Warm-up of Python functions took {} ms", result.toMillis());
+        return result;
+    }
+
+    private record Call(UserFunction function, DataObject[] arguments) {
+        boolean execute() {
+            try {
+                function.call(arguments);
+                return true;
+            } catch (RuntimeException e) {
+                log.info("Function {} is not warmed up, since it fails on sample arguments: {}", function, e.getMessage());
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Return a sample value of the given type.
+     *
+     * @param type the data type.
+     * @return a sample value, which is a null value if no sample can be made for the type.
+     */
+    static DataObject sampleOf(DataType type) {
+        return sampleOf(type, 0);
+    }
+
+    private static DataObject sampleOf(DataType type, int depth) {
+        if (depth > MAX_SAMPLE_DEPTH) return DataNull.INSTANCE;
+        if (type == DataBoolean.DATATYPE) return DataBoolean.of(true);
+        if (type == DataByte.DATATYPE) return DataByte.of((byte) 1);
+        if (type == DataShort.DATATYPE) return DataShort.of((short) 1);
+        if (type == DataInteger.DATATYPE) return DataInteger.of(1);
+        if (type == DataLong.DATATYPE) return DataLong.of(1L);
+        if (type == DataFloat.DATATYPE) return new DataFloat(1.0f);
+        if (type == DataDouble.DATATYPE) return new DataDouble(1.0);
+        if (type == DataString.DATATYPE) return DataString.of(SAMPLE_STRING);
+        if (type == DataBytes.DATATYPE) return new DataBytes(SAMPLE_STRING.getBytes(StandardCharsets.UTF_8));
+        if (type instanceof EnumType enumType && !enumType.schema().symbols().isEmpty())
+            return new DataEnum(enumType, enumType.schema().symbols().getFirst().name());
+        if (type instanceof StructType structType) {
+            final var schema = structType.schema();
+            final var result = new DataStruct(schema);
+            // Only required fields are filled, optional fields are left out like they often are in real records
+            if (schema != null) {
+                for (final var field : schema.fields()) {
+                    if (field.required())
+                        result.put(field.name(), sampleOf(structType.fieldType(field.name(), DataType.UNKNOWN, DataType.UNKNOWN), depth + 1));
+                }
+            }
+            return result;
+        }
+        if (type instanceof ListType listType) {
+            final var result = new DataList(listType.valueType());
+            result.add(sampleOf(listType.valueType(), depth + 1));
+            return result;
+        }
+        if (type instanceof MapType mapType) {
+            final var result = new DataMap(mapType.valueType());
+            result.put(SAMPLE_STRING, sampleOf(mapType.valueType(), depth + 1));
+            return result;
+        }
+        if (type instanceof TupleType tupleType) {
+            return new DataTuple(Arrays.stream(tupleType.subTypes()).map(subType -> sampleOf(subType, depth + 1)).toArray(DataObject[]::new));
+        }
+        if (type instanceof UnionType unionType) {
+            for (final var member : unionType.members()) {
+                if (member.type() != DataNull.DATATYPE) return sampleOf(member.type(), depth + 1);
+            }
+        }
+        return DataNull.INSTANCE;
+    }
+}
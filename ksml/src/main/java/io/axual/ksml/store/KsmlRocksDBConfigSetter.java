@@ -0,0 +1,209 @@
+package io.axual.ksml.store;
+
+
+/*-
+ * ========================LICENSE_START=================================
+ * KSML
+ * %%
+ * Copyright (C) 2021 - 2023 Axual B.V.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import io.axual.ksml.definition.RocksDBOptionsDefinition;
+import io.axual.ksml.dsl.KSMLDSL;
+import io.axual.ksml.exception.TopologyException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.streams.state.RocksDBConfigSetter;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.BloomFilter;
+import org.rocksdb.Cache;
+import org.rocksdb.CompactionStyle;
+import org.rocksdb.CompressionType;
+import org.rocksdb.LRUCache;
+import org.rocksdb.Options;
+import org.rocksdb.WriteBufferManager;
+
+import java.util.Map;
+
+/**
+ * RocksDB config setter that applies the RocksDB options of KSML store definitions. Kafka Streams creates an
+ * instance of this class for every RocksDB instance it opens, and passes the store name along. The options per
+ * store are looked up in the map passed under {@link #STORE_OPTIONS_CONFIG} in the streams configuration.
+ * <p>
+ * When {@link #TOTAL_MEMORY_CONFIG} is set, all RocksDB stores in the JVM share one block cache of that size. The
+ * memtables of all stores are charged against the same cache through a shared {@link WriteBufferManager}, limited
+ * to {@link #WRITE_BUFFER_MEMORY_CONFIG} bytes, which caps the total off-heap memory used by RocksDB. The shared
+ * cache is sized by the first store that opens, and released when the last store that uses it closes, so a restarted
+ * topology with other memory settings gets a cache of its own size.
+ */
+@Slf4j
+public class KsmlRocksDBConfigSetter implements RocksDBConfigSetter {
+    // Map of store name to RocksDBOptionsDefinition, passed as an object in the streams configuration
+    public static final String STORE_OPTIONS_CONFIG = "ksml.rocksdb.store.options";
+    // The total number of bytes all RocksDB stores may use for block cache and memtables together
+    public static final String TOTAL_MEMORY_CONFIG = "ksml.rocksdb.total.memory.bytes";
+    // The part of the total memory that may be used for memtables, defaults to half of the total memory
+    public static final String WRITE_BUFFER_MEMORY_CONFIG = "ksml.rocksdb.write.buffer.memory.bytes";
+    // The part of the shared block cache that is reserved for index and filter blocks
+    private static final double INDEX_FILTER_BLOCK_RATIO = 0.1;
+
+    // The shared cache and write buffer manager, their sizes, and the number of open stores that use them
+    private static Cache sharedCache;
+    private static WriteBufferManager sharedWriteBufferManager;
+    private static long sharedTotalMemory;
+    private static long sharedWriteBufferLimit;
+    private static int sharedUsers;
+
+    // Objects created for a single store, which are closed together with the store
+    private Cache storeCache;
+    private BloomFilter storeFilter;
+    private boolean usesSharedMemory = false;
+
+    @Override
+    public void setConfig(String storeName, Options options, Map<String, Object> configs) {
+        final var tableConfig = options.tableFormatConfig() instanceof BlockBasedTableConfig config ? config : new BlockBasedTableConfig();
+        final var bounded = applySharedMemory(options, tableConfig, configs);
+        usesSharedMemory = bounded;
+
+        final var definition = findStoreOptions(storeName, configs);
+        if (definition != null) {
+            log.debug("Applying RocksDB options to store {}: {}", storeName, definition);
+            if (definition.blockCacheSize() != null) {
+                if (bounded) {
+                    log.warn("Ignoring {} of store {}, since all RocksDB stores share a block cache of {} bytes", KSMLDSL.Stores.RocksDB.BLOCK_CACHE_SIZE, storeName, configs.get(TOTAL_MEMORY_CONFIG));
+                } else {
+                    storeCache = new LRUCache(definition.blockCacheSize());
+                    tableConfig.setBlockCache(storeCache);
+                }
+            }
+            if (definition.bloomFilterBitsPerKey() != null) {
+                if (definition.bloomFilterBitsPerKey() > 0) {
+                    storeFilter = new BloomFilter(definition.bloomFilterBitsPerKey());
+                    tableConfig.setFilterPolicy(storeFilter);
+                } else {
+                    tableConfig.setFilterPolicy(null);
+                }
+            }
+            if (definition.compactionStyle() != null)
+                options.setCompactionStyle(compactionStyleOf(definition.compactionStyle()));
+            if (definition.compression() != null)
+                options.setCompressionType(compressionTypeOf(definition.compression()));
+            if (definition.writeBufferCount() != null)
+                options.setMaxWriteBufferNumber(definition.writeBufferCount());
+            if (definition.writeBufferSize() != null)
+                options.setWriteBufferSize(definition.writeBufferSize());
+        }
+
+        options.setTableFormatConfig(tableConfig);
+    }
+
+    @Override
+    public void close(String storeName, Options options) {
+        // The shared cache and write buffer manager outlive single stores, so they are only closed with the last store
+        if (storeCache != null) storeCache.close();
+        if (storeFilter != null) storeFilter.close();
+        if (usesSharedMemory) releaseSharedMemory();
+        storeCache = null;
+        storeFilter = null;
+        usesSharedMemory = false;
+    }
+
+    private static boolean applySharedMemory(Options options, BlockBasedTableConfig tableConfig, Map<String, Object> configs) {
+        final var totalMemory = longConfig(configs, TOTAL_MEMORY_CONFIG);
+        if (totalMemory == null || totalMemory <= 0) return false;
+
+        final var writeBufferMemory = longConfig(configs, WRITE_BUFFER_MEMORY_CONFIG);
+        final var writeBufferLimit = writeBufferMemory != null ? writeBufferMemory : totalMemory / 2;
+        if (writeBufferLimit <= 0 || writeBufferLimit > totalMemory)
+            throw new TopologyException(WRITE_BUFFER_MEMORY_CONFIG + " must be positive and not larger than " + TOTAL_MEMORY_CONFIG);
+
+        synchronized (KsmlRocksDBConfigSetter.class) {
+            if (sharedCache == null) {
+                log.info("Limiting memory of all RocksDB stores to {} bytes, of which {} bytes for write buffers", totalMemory, writeBufferLimit);
+                sharedCache = new LRUCache(totalMemory, -1, false, INDEX_FILTER_BLOCK_RATIO);
+                sharedWriteBufferManager = new WriteBufferManager(writeBufferLimit, sharedCache);
+                sharedTotalMemory = totalMemory;
+                sharedWriteBufferLimit = writeBufferLimit;
+            } else if (totalMemory != sharedTotalMemory || writeBufferLimit != sharedWriteBufferLimit) {
+                log.warn("Ignoring RocksDB memory limit of {} bytes with {} bytes for write buffers, since open stores already share a limit of {} bytes with {} bytes for write buffers",
+                        totalMemory, writeBufferLimit, sharedTotalMemory, sharedWriteBufferLimit);
+            }
+            sharedUsers++;
+        }
+
+        // Keep index and filter blocks in the shared cache, so they are counted against the memory limit too
+        tableConfig.setBlockCache(sharedCache);
+        tableConfig.setCacheIndexAndFilterBlocks(true);
+        tableConfig.setCacheIndexAndFilterBlocksWithHighPriority(true);
+        tableConfig.setPinTopLevelIndexAndFilter(true);
+        options.setWriteBufferManager(sharedWriteBufferManager);
+        return true;
+    }
+
+    private static synchronized void releaseSharedMemory() {
+        if (--sharedUsers > 0) return;
+        // Kafka Streams calls this before it closes the RocksDB instance, but RocksDB holds its own reference to the
+        // cache and write buffer manager, so they are only freed once the last instance is closed as well
+        log.info("Releasing the memory shared by RocksDB stores");
+        sharedWriteBufferManager.close();
+        sharedCache.close();
+        sharedWriteBufferManager = null;
+        sharedCache = null;
+    }
+
+    private static RocksDBOptionsDefinition findStoreOptions(String storeName, Map<String, Object> configs) {
+        if (!(configs.get(STORE_OPTIONS_CONFIG) instanceof Map<?, ?> storeOptions)) return null;
+        // Window and session stores open one RocksDB instance per segment, named "<store>.<segmentId>"
+        var name = storeName;
+        while (true) {
+            if (storeOptions.get(name) instanceof RocksDBOptionsDefinition definition) return definition;
+            final var dot = name.lastIndexOf('.');
+            if (dot <= 0) return null;
+            name = name.substring(0, dot);
+        }
+    }
+
+    private static Long longConfig(Map<String, Object> configs, String key) {
+        final var value = configs.get(key);
+        if (value == null) return null;
+        if (value instanceof Number number) return number.longValue();
+        try {
+            return Long.parseLong(value.toString().trim());
+        } catch (NumberFormatException e) {
+            throw new TopologyException("Configuration " + key + " is not a valid number of bytes: " + value);
+        }
+    }
+
+    private static CompactionStyle compactionStyleOf(String style) {
+        return switch (style) {
+            case KSMLDSL.Stores.RocksDB.COMPACTION_STYLE_LEVEL -> CompactionStyle.LEVEL;
+            case KSMLDSL.Stores.RocksDB.COMPACTION_STYLE_UNIVERSAL -> CompactionStyle.UNIVERSAL;
+            case KSMLDSL.Stores.RocksDB.COMPACTION_STYLE_FIFO -> CompactionStyle.FIFO;
+            default -> throw new TopologyException("Unknown RocksDB compaction style: " + style);
+        };
+    }
+
+    private static CompressionType compressionTypeOf(String compression) {
+        return switch (compression) {
+            case KSMLDSL.Stores.RocksDB.COMPRESSION_NONE -> CompressionType.NO_COMPRESSION;
+            case KSMLDSL.Stores.RocksDB.COMPRESSION_SNAPPY -> CompressionType.SNAPPY_COMPRESSION;
+            case KSMLDSL.Stores.RocksDB.COMPRESSION_ZLIB -> CompressionType.ZLIB_COMPRESSION;
+            case KSMLDSL.Stores.RocksDB.COMPRESSION_LZ4 -> CompressionType.LZ4_COMPRESSION;
+            case KSMLDSL.Stores.RocksDB.COMPRESSION_LZ4HC -> CompressionType.LZ4HC_COMPRESSION;
+            case KSMLDSL.Stores.RocksDB.COMPRESSION_ZSTD -> CompressionType.ZSTD_COMPRESSION;
+            default -> throw new TopologyException("Unknown RocksDB compression: " + compression);
+        };
+    }
+}
@@ -0,0 +1,186 @@
+package io.axual.ksml.store;
+
+/*-
+ * ========================LICENSE_START=================================
+ * KSML
+ * %%
+ * Copyright (C) 2021 - 2023 Axual B.V.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import io.axual.ksml.data.mapper.NativeDataObjectMapper;
+import io.axual.ksml.data.object.DataBytes;
+import io.axual.ksml.data.object.DataList;
+import io.axual.ksml.data.object.DataMap;
+import io.axual.ksml.data.object.DataObject;
+import io.axual.ksml.data.object.DataStruct;
+import io.axual.ksml.data.object.DataTuple;
+import org.apache.kafka.streams.state.ValueAndTimestamp;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * A least-recently-used cache for deserialized store values. Entries optionally expire after a fixed time to live.
+ * Keys are normalized to their native representation, so a key looked up as a DataObject matches the same key
+ * written as a native value. The cache is accessed by the stream thread, as well as by interactive queries, so all
+ * operations are synchronized.
+ * <p>
+ * A value read from the underlying store may be outdated by the time it is cached, when another thread wrote the key
+ * in between. To prevent caching such values, every invalidation raises a generation counter for the key. Readers take
+ * the {@link #generation(Object)} before they read the store, and {@link #put(Object, Object, long)} drops the value
+ * when the generation changed in the meantime. Keys share their counter with other keys of the same hash, which
+ * keeps the counters bounded at the cost of occasionally dropping a value that was still valid.
+ * <p>
+ * DataObjects can be changed in place, so the cache never hands out the instance it holds. It stores a copy of every
+ * value put into it and returns a new copy from every {@link #get(Object)}, so changes that one reader makes to its
+ * value are not seen by other readers. Copying a value is much cheaper than reading and deserializing it again.
+ */
+public class ObjectCache {
+    private static final NativeDataObjectMapper NATIVE_MAPPER = new NativeDataObjectMapper();
+    private static final int GENERATION_STRIPES = 256;
+
+    private record Entry(Object value, long expiresAt) {
+    }
+
+    private final Map<Object, Entry> entries;
+    private final long[] generations = new long[GENERATION_STRIPES];
+    private final long ttlMs;
+    private final LongSupplier clock;
+
+    public ObjectCache(int maxSize, Duration ttl) {
+        this(maxSize, ttl, System::currentTimeMillis);
+    }
+
+    ObjectCache(int maxSize, Duration ttl, LongSupplier clock) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+        this.ttlMs = ttl != null ? ttl.toMillis() : 0;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the cached value for a key.
+     *
+     * @param key the key to look up
+     * @return a copy of the cached value, or null if the key is not cached or its entry expired
+     */
+    public synchronized Object get(Object key) {
+        final var normalizedKey = normalize(key);
+        final var entry = entries.get(normalizedKey);
+        if (entry == null) return null;
+        if (ttlMs > 0 && clock.getAsLong() >= entry.expiresAt()) {
+            entries.remove(normalizedKey);
+            return null;
+        }
+        return copyOf(entry.value());
+    }
+
+    public synchronized void put(Object key, Object value) {
+        if (value == null) return;
+        entries.put(normalize(key), new Entry(copyOf(value), ttlMs > 0 ? clock.getAsLong() + ttlMs : Long.MAX_VALUE));
+    }
+
+    /**
+     * Returns the current generation of a key, which changes every time the key is invalidated.
+     *
+     * @param key the key to look up
+     * @return the generation of the key
+     */
+    public synchronized long generation(Object key) {
+        return generations[stripe(normalize(key))];
+    }
+
+    /**
+     * Caches a value that was read from the store, unless the key was invalidated since the read started.
+     *
+     * @param key        the key of the value
+     * @param value      the value read from the store
+     * @param generation the generation of the key, taken before the store was read
+     */
+    public synchronized void put(Object key, Object value, long generation) {
+        if (value == null) return;
+        final var normalizedKey = normalize(key);
+        if (generations[stripe(normalizedKey)] != generation) return;
+        entries.put(normalizedKey, new Entry(copyOf(value), ttlMs > 0 ? clock.getAsLong() + ttlMs : Long.MAX_VALUE));
+    }
+
+    public synchronized void invalidate(Object key) {
+        final var normalizedKey = normalize(key);
+        entries.remove(normalizedKey);
+        generations[stripe(normalizedKey)]++;
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        for (int index = 0; index < generations.length; index++) generations[index]++;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private static int stripe(Object normalizedKey) {
+        return Math.floorMod(normalizedKey != null ? normalizedKey.hashCode() : 0, GENERATION_STRIPES);
+    }
+
+    private static Object copyOf(Object value) {
+        return switch (value) {
+            case ValueAndTimestamp<?> valueAndTimestamp ->
+                    ValueAndTimestamp.make(copyOf(valueAndTimestamp.value()), valueAndTimestamp.timestamp());
+            case DataObject dataObject -> copyOfDataObject(dataObject);
+            case byte[] bytes -> bytes.clone();
+            // Other values, such as native primitives and strings, can not be changed
+            case null, default -> value;
+        };
+    }
+
+    private static DataObject copyOfDataObject(DataObject value) {
+        return switch (value) {
+            case DataStruct struct -> {
+                final var result = new DataStruct(struct.type().schema(), struct.isNull());
+                struct.forEach((key, field) -> result.put(key, copyOfDataObject(field)));
+                yield result;
+            }
+            case DataMap map -> {
+                final var result = new DataMap(map.valueType(), map.isNull());
+                map.forEach((key, element) -> result.put(key, copyOfDataObject(element)));
+                yield result;
+            }
+            case DataList list -> {
+                final var result = new DataList(list.valueType(), list.isNull());
+                for (final var element : list) result.add(copyOfDataObject(element));
+                yield result;
+            }
+            case DataTuple tuple -> new DataTuple(tuple.elements().stream().map(ObjectCache::copyOfDataObject).toArray(DataObject[]::new));
+            case DataBytes bytes -> bytes.value() != null ? new DataBytes(bytes.value().clone()) : bytes;
+            // Other DataObjects, like DataNull and the remaining primitives, can not be changed
+            case null, default -> value;
+        };
+    }
+
+    private static Object normalize(Object key) {
+        final var result = key instanceof DataObject dataObject ? NATIVE_MAPPER.fromDataObject(dataObject) : key;
+        // Byte arrays do not compare by content, so wrap them in a buffer that does
+        return result instanceof byte[] bytes ? ByteBuffer.wrap(bytes) : result;
+    }
+}
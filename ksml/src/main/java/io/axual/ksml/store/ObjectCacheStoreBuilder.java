@@ -0,0 +1,95 @@
+package io.axual.ksml.store;
+
+/*-
+ * ========================LICENSE_START=================================
+ * KSML
+ * %%
+ * Copyright (C) 2021 - 2023 Axual B.V.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import org.apache.kafka.streams.processor.StateStore;
+import org.apache.kafka.streams.state.KeyValueStore;
+import org.apache.kafka.streams.state.StoreBuilder;
+import org.apache.kafka.streams.state.TimestampedKeyValueStore;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * A StoreBuilder that puts an {@link ObjectCache} in front of every key/value store built by another builder. Every
+ * built store gets its own cache, so the caches of different tasks are independent.
+ */
+public class ObjectCacheStoreBuilder implements StoreBuilder<StateStore> {
+    private final StoreBuilder<?> delegate;
+    private final int cacheSize;
+    private final Duration cacheTtl;
+
+    public ObjectCacheStoreBuilder(StoreBuilder<?> delegate, int cacheSize, Duration cacheTtl) {
+        this.delegate = delegate;
+        this.cacheSize = cacheSize;
+        this.cacheTtl = cacheTtl;
+    }
+
+    @Override
+    public StoreBuilder<StateStore> withCachingEnabled() {
+        delegate.withCachingEnabled();
+        return this;
+    }
+
+    @Override
+    public StoreBuilder<StateStore> withCachingDisabled() {
+        delegate.withCachingDisabled();
+        return this;
+    }
+
+    @Override
+    public StoreBuilder<StateStore> withLoggingEnabled(Map<String, String> config) {
+        delegate.withLoggingEnabled(config);
+        return this;
+    }
+
+    @Override
+    public StoreBuilder<StateStore> withLoggingDisabled() {
+        delegate.withLoggingDisabled();
+        return this;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public StateStore build() {
+        final var store = delegate.build();
+        if (store instanceof TimestampedKeyValueStore<?, ?> timestampedStore)
+            return new ObjectCachingTimestampedKeyValueStore((TimestampedKeyValueStore<Object, Object>) timestampedStore, new ObjectCache(cacheSize, cacheTtl));
+        if (store instanceof KeyValueStore<?, ?> keyValueStore)
+            return new ObjectCachingKeyValueStore<>((KeyValueStore<Object, Object>) keyValueStore, new ObjectCache(cacheSize, cacheTtl));
+        return store;
+    }
+
+    @Override
+    public Map<String, String> logConfig() {
+        return delegate.logConfig();
+    }
+
+    @Override
+    public boolean loggingEnabled() {
+        return delegate.loggingEnabled();
+    }
+
+    @Override
+    public String name() {
+        return delegate.name();
+    }
+}
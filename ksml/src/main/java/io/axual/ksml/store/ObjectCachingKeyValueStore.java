@@ -0,0 +1,132 @@
+package io.axual.ksml.store;
+
+/*-
+ * ========================LICENSE_START=================================
+ * KSML
+ * %%
+ * Copyright (C) 2021 - 2023 Axual B.V.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.state.KeyValueIterator;
+import org.apache.kafka.streams.state.KeyValueStore;
+import org.apache.kafka.streams.state.internals.WrappedStateStore;
+
+import java.util.List;
+
+/**
+ * A KeyValueStore that keeps recently read values in an {@link ObjectCache}, in front of the serializing store layers
+ * of Kafka Streams. Cache hits return a copy of the deserialized value without reading or deserializing it again, so
+ * callers may change the value they get without affecting other readers. Every write to this store invalidates the
+ * cached value for the written key once the write is done. Values read by interactive queries while the stream thread
+ * writes the same key are not cached, since they may be outdated. Range queries are not cached.
+ *
+ * @param <V> the value type of the store
+ */
+public class ObjectCachingKeyValueStore<V> extends WrappedStateStore<KeyValueStore<Object, V>, Object, V> implements KeyValueStore<Object, V> {
+    private final ObjectCache cache;
+
+    public ObjectCachingKeyValueStore(KeyValueStore<Object, V> wrapped, ObjectCache cache) {
+        super(wrapped);
+        this.cache = cache;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        final var cached = cache.get(key);
+        if (cached != null) return (V) cached;
+        // Take the generation before reading, so a value that a concurrent write replaces is not cached
+        final var generation = cache.generation(key);
+        final var result = wrapped().get(key);
+        cache.put(key, result, generation);
+        return result;
+    }
+
+    // Writes invalidate after the write, so readers that started before it can not cache the old value afterwards
+    @Override
+    public void put(Object key, V value) {
+        try {
+            wrapped().put(key, value);
+        } finally {
+            cache.invalidate(key);
+        }
+    }
+
+    @Override
+    public V putIfAbsent(Object key, V value) {
+        try {
+            return wrapped().putIfAbsent(key, value);
+        } finally {
+            cache.invalidate(key);
+        }
+    }
+
+    @Override
+    public void putAll(List<KeyValue<Object, V>> entries) {
+        try {
+            wrapped().putAll(entries);
+        } finally {
+            entries.forEach(entry -> cache.invalidate(entry.key));
+        }
+    }
+
+    @Override
+    public V delete(Object key) {
+        try {
+            return wrapped().delete(key);
+        } finally {
+            cache.invalidate(key);
+        }
+    }
+
+    @Override
+    public KeyValueIterator<Object, V> range(Object from, Object to) {
+        return wrapped().range(from, to);
+    }
+
+    @Override
+    public KeyValueIterator<Object, V> reverseRange(Object from, Object to) {
+        return wrapped().reverseRange(from, to);
+    }
+
+    @Override
+    public KeyValueIterator<Object, V> all() {
+        return wrapped().all();
+    }
+
+    @Override
+    public KeyValueIterator<Object, V> reverseAll() {
+        return wrapped().reverseAll();
+    }
+
+    @Override
+    public <S extends Serializer<P>, P> KeyValueIterator<Object, V> prefixScan(P prefix, S prefixKeySerializer) {
+        return wrapped().prefixScan(prefix, prefixKeySerializer);
+    }
+
+    @Override
+    public long approximateNumEntries() {
+        return wrapped().approximateNumEntries();
+    }
+
+    @Override
+    public void close() {
+        cache.clear();
+        super.close();
+    }
+}
@@ -0,0 +1,34 @@
+package io.axual.ksml.store;
+
+/*-
+ * ========================LICENSE_START=================================
+ * KSML
+ * %%
+ * Copyright (C) 2021 - 2023 Axual B.V.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import org.apache.kafka.streams.state.TimestampedKeyValueStore;
+import org.apache.kafka.streams.state.ValueAndTimestamp;
+
+/**
+ * The timestamped variant of {@link ObjectCachingKeyValueStore}, which caches values together with their timestamps.
+ * It implements TimestampedKeyValueStore, so Kafka Streams and the KSML store proxies treat it as timestamped store.
+ */
+public class ObjectCachingTimestampedKeyValueStore extends ObjectCachingKeyValueStore<ValueAndTimestamp<Object>> implements TimestampedKeyValueStore<Object, Object> {
+    public ObjectCachingTimestampedKeyValueStore(TimestampedKeyValueStore<Object, Object> wrapped, ObjectCache cache) {
+        super(wrapped, cache);
+    }
+}
@@ -0,0 +1,522 @@
+package io.axual.ksml.store;
+
+/*-
+ * ========================LICENSE_START=================================
+ * KSML
+ * %%
+ * Copyright (C) 2021 - 2023 Axual B.V.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.common.utils.Bytes;
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.processor.BatchingStateRestoreCallback;
+import org.apache.kafka.streams.processor.StateStore;
+import org.apache.kafka.streams.processor.StateStoreContext;
+import org.apache.kafka.streams.query.Position;
+import org.apache.kafka.streams.state.KeyValueIterator;
+import org.apache.kafka.streams.state.KeyValueStore;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import static java.lang.foreign.ValueLayout.JAVA_BYTE;
+import static java.lang.foreign.ValueLayout.JAVA_INT_UNALIGNED;
+import static java.lang.foreign.ValueLayout.JAVA_LONG;
+
+/**
+ * A non-persistent key/value bytes store that keeps its keys and values outside the Java heap, so large tables do not
+ * add to garbage collection work. Records are appended to off-heap chunks and looked up through an off-heap
+ * open addressing hash table, which makes point lookups fast. Overwritten and deleted records are reclaimed by
+ * compacting the chunks once they hold more garbage than live data.
+ * <p>
+ * Like the Kafka Streams in-memory store, the contents are rebuilt from the changelog topic when the store is
+ * initialized, provided logging is enabled. Range queries and full scans are supported, but need to sort the keys of
+ * the matching records first, so this store is best suited for tables that are mostly accessed by key.
+ */
+public class OffHeapKeyValueStore implements KeyValueStore<Bytes, byte[]> {
+    // Records are appended to chunks that start small and double in size up to the maximum, so small stores stay small.
+    // Records larger than the chunk size get a chunk of their own.
+    static final int DEFAULT_INITIAL_CHUNK_SIZE = 64 * 1024;
+    static final int DEFAULT_MAX_CHUNK_SIZE = 64 * 1024 * 1024;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final double MAX_LOAD_FACTOR = 0.75;
+    // Hash table slots hold either of these markers or the reference of a record plus one
+    private static final long EMPTY = 0;
+    private static final long DELETED = -1;
+    // Every record starts with the key hash, key length and value length, followed by the key and value bytes
+    private static final int HASH_OFFSET = 0;
+    private static final int KEY_LENGTH_OFFSET = Integer.BYTES;
+    private static final int VALUE_LENGTH_OFFSET = 2 * Integer.BYTES;
+    private static final int HEADER_SIZE = 3 * Integer.BYTES;
+
+    private final String name;
+    private final int initialChunkSize;
+    private final int maxChunkSize;
+    private final Position position = Position.emptyPosition();
+    private StateStoreContext context;
+    private volatile boolean open = false;
+
+    // Every chunk has its own arena, so chunks can be freed individually after compaction
+    private List<Arena> chunkArenas = new ArrayList<>();
+    private List<MemorySegment> chunks = new ArrayList<>();
+    private long chunkOffset;
+    private long nextChunkSize;
+    private long liveBytes;
+    private long garbageBytes;
+
+    private Arena tableArena;
+    private MemorySegment table;
+    private int capacity;
+    private int size;
+    private int deleted;
+
+    public OffHeapKeyValueStore(String name) {
+        this(name, DEFAULT_INITIAL_CHUNK_SIZE, DEFAULT_MAX_CHUNK_SIZE);
+    }
+
+    OffHeapKeyValueStore(String name, int initialChunkSize, int maxChunkSize) {
+        this.name = name;
+        this.initialChunkSize = initialChunkSize;
+        this.maxChunkSize = Math.max(initialChunkSize, maxChunkSize);
+        this.nextChunkSize = initialChunkSize;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public synchronized void init(StateStoreContext stateStoreContext, StateStore root) {
+        context = stateStoreContext;
+        allocateTable(INITIAL_CAPACITY);
+        if (root != null) {
+            stateStoreContext.register(root, new BatchingStateRestoreCallback() {
+                @Override
+                public void restoreAll(Collection<KeyValue<byte[], byte[]>> records) {
+                    restoreRecords(records);
+                }
+
+                @Override
+                public void restore(byte[] key, byte[] value) {
+                    restoreRecords(List.of(KeyValue.pair(key, value)));
+                }
+            });
+        }
+        open = true;
+    }
+
+    private synchronized void restoreRecords(Collection<KeyValue<byte[], byte[]>> records) {
+        for (final var rec : records) putRecord(rec.key, rec.value);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (!open) return;
+        open = false;
+        chunkArenas.forEach(Arena::close);
+        chunkArenas = new ArrayList<>();
+        chunks = new ArrayList<>();
+        nextChunkSize = initialChunkSize;
+        tableArena.close();
+        table = null;
+        size = 0;
+        deleted = 0;
+        liveBytes = 0;
+        garbageBytes = 0;
+    }
+
+    @Override
+    public boolean persistent() {
+        return false;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return open;
+    }
+
+    @Override
+    public Position getPosition() {
+        return position;
+    }
+
+    // ==================== Reads ====================
+
+    @Override
+    public synchronized byte[] get(Bytes key) {
+        Objects.requireNonNull(key, "key cannot be null");
+        final var slot = findSlot(key.get(), hash(key.get()));
+        return slot >= 0 ? valueOf(table.getAtIndex(JAVA_LONG, slot) - 1) : null;
+    }
+
+    @Override
+    public synchronized long approximateNumEntries() {
+        return size;
+    }
+
+    @Override
+    public KeyValueIterator<Bytes, byte[]> range(Bytes from, Bytes to) {
+        return range(from, to, false);
+    }
+
+    @Override
+    public KeyValueIterator<Bytes, byte[]> reverseRange(Bytes from, Bytes to) {
+        return range(from, to, true);
+    }
+
+    @Override
+    public KeyValueIterator<Bytes, byte[]> all() {
+        return new KeyIterator(sortedKeys(null, null, null, false));
+    }
+
+    @Override
+    public KeyValueIterator<Bytes, byte[]> reverseAll() {
+        return new KeyIterator(sortedKeys(null, null, null, true));
+    }
+
+    @Override
+    public <S extends Serializer<P>, P> KeyValueIterator<Bytes, byte[]> prefixScan(P prefix, S prefixKeySerializer) {
+        Objects.requireNonNull(prefix, "prefix cannot be null");
+        Objects.requireNonNull(prefixKeySerializer, "prefixKeySerializer cannot be null");
+        return new KeyIterator(sortedKeys(null, null, prefixKeySerializer.serialize(null, prefix), false));
+    }
+
+    private KeyValueIterator<Bytes, byte[]> range(Bytes from, Bytes to, boolean reverse) {
+        // Follow the Kafka Streams stores, which return an empty iterator for inverted ranges
+        if (from != null && to != null && from.compareTo(to) > 0) return new KeyIterator(List.of());
+        return new KeyIterator(sortedKeys(from, to, null, reverse));
+    }
+
+    private synchronized List<Bytes> sortedKeys(Bytes from, Bytes to, byte[] prefix, boolean reverse) {
+        final var result = new ArrayList<Bytes>();
+        for (var index = 0; index < capacity; index++) {
+            final var slot = table.getAtIndex(JAVA_LONG, index);
+            if (slot == EMPTY || slot == DELETED) continue;
+            final var key = Bytes.wrap(keyOf(slot - 1));
+            if (from != null && key.compareTo(from) < 0) continue;
+            if (to != null && key.compareTo(to) > 0) continue;
+            if (prefix != null && !startsWith(key.get(), prefix)) continue;
+            result.add(key);
+        }
+        if (reverse) {
+            result.sort(Collections.reverseOrder());
+        } else {
+            Collections.sort(result);
+        }
+        return result;
+    }
+
+    private static boolean startsWith(byte[] key, byte[] prefix) {
+        return key.length >= prefix.length && Arrays.equals(key, 0, prefix.length, prefix, 0, prefix.length);
+    }
+
+    // ==================== Writes ====================
+
+    @Override
+    public synchronized void put(Bytes key, byte[] value) {
+        Objects.requireNonNull(key, "key cannot be null");
+        putRecord(key.get(), value);
+        updatePosition();
+    }
+
+    @Override
+    public synchronized byte[] putIfAbsent(Bytes key, byte[] value) {
+        final var result = get(key);
+        if (result == null) put(key, value);
+        return result;
+    }
+
+    @Override
+    public synchronized void putAll(List<KeyValue<Bytes, byte[]>> entries) {
+        for (final var entry : entries) {
+            Objects.requireNonNull(entry.key, "key cannot be null");
+            putRecord(entry.key.get(), entry.value);
+        }
+        updatePosition();
+    }
+
+    @Override
+    public synchronized byte[] delete(Bytes key) {
+        Objects.requireNonNull(key, "key cannot be null");
+        final var result = deleteRecord(key.get());
+        updatePosition();
+        return result;
+    }
+
+    private void updatePosition() {
+        if (context != null) {
+            context.recordMetadata().ifPresent(metadata -> position.withComponent(metadata.topic(), metadata.partition(), metadata.offset()));
+        }
+    }
+
+    private void putRecord(byte[] key, byte[] value) {
+        if (value == null) {
+            deleteRecord(key);
+            return;
+        }
+        if (size + deleted + 1 > capacity * MAX_LOAD_FACTOR) {
+            // Grow the table when live records take up half of it, otherwise only clean up the deleted markers
+            rehash(size + 1 > capacity * MAX_LOAD_FACTOR / 2 ? capacity * 2 : capacity);
+        }
+        final var hash = hash(key);
+        final var slot = findSlot(key, hash);
+        final var reference = append(hash, key, value);
+        if (slot >= 0) {
+            discard(table.getAtIndex(JAVA_LONG, slot) - 1);
+            table.setAtIndex(JAVA_LONG, slot, reference + 1);
+        } else {
+            final var index = -(slot + 1);
+            if (table.getAtIndex(JAVA_LONG, index) == DELETED) deleted--;
+            table.setAtIndex(JAVA_LONG, index, reference + 1);
+            size++;
+        }
+        compactIfNeeded();
+    }
+
+    private byte[] deleteRecord(byte[] key) {
+        final var slot = findSlot(key, hash(key));
+        if (slot < 0) return null;
+        final var reference = table.getAtIndex(JAVA_LONG, slot) - 1;
+        final var result = valueOf(reference);
+        table.setAtIndex(JAVA_LONG, slot, DELETED);
+        size--;
+        deleted++;
+        discard(reference);
+        compactIfNeeded();
+        return result;
+    }
+
+    // ==================== Hash table ====================
+
+    private static int hash(byte[] key) {
+        final var hash = Arrays.hashCode(key) * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Looks up the slot of a key in the hash table.
+     *
+     * @return the slot index if the key was found, or -(index + 1) with the index of the slot to insert the key in
+     */
+    private long findSlot(byte[] key, int hash) {
+        final var mask = capacity - 1;
+        var firstDeleted = -1;
+        var index = hash & mask;
+        while (true) {
+            final var slot = table.getAtIndex(JAVA_LONG, index);
+            if (slot == EMPTY) return -((firstDeleted >= 0 ? firstDeleted : index) + 1L);
+            if (slot == DELETED) {
+                if (firstDeleted < 0) firstDeleted = index;
+            } else if (keyEquals(slot - 1, hash, key)) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    private void allocateTable(int newCapacity) {
+        tableArena = Arena.ofShared();
+        table = tableArena.allocate((long) newCapacity * Long.BYTES, Long.BYTES);
+        table.fill((byte) 0);
+        capacity = newCapacity;
+        deleted = 0;
+    }
+
+    private void rehash(int newCapacity) {
+        final var oldArena = tableArena;
+        final var oldTable = table;
+        final var oldCapacity = capacity;
+        allocateTable(newCapacity);
+        final var mask = capacity - 1;
+        for (var oldIndex = 0; oldIndex < oldCapacity; oldIndex++) {
+            final var slot = oldTable.getAtIndex(JAVA_LONG, oldIndex);
+            if (slot == EMPTY || slot == DELETED) continue;
+            var index = hashOf(slot - 1) & mask;
+            while (table.getAtIndex(JAVA_LONG, index) != EMPTY) index = (index + 1) & mask;
+            table.setAtIndex(JAVA_LONG, index, slot);
+        }
+        oldArena.close();
+    }
+
+    // ==================== Records ====================
+
+    synchronized long allocatedBytes() {
+        return chunks.stream().mapToLong(MemorySegment::byteSize).sum();
+    }
+
+    private MemorySegment chunkOf(long reference) {
+        return chunks.get((int) (reference >>> 32));
+    }
+
+    private static long offsetOf(long reference) {
+        return reference & 0xFFFFFFFFL;
+    }
+
+    private int hashOf(long reference) {
+        return chunkOf(reference).get(JAVA_INT_UNALIGNED, offsetOf(reference) + HASH_OFFSET);
+    }
+
+    private long recordSize(long reference) {
+        final var chunk = chunkOf(reference);
+        final var offset = offsetOf(reference);
+        return HEADER_SIZE + (long) chunk.get(JAVA_INT_UNALIGNED, offset + KEY_LENGTH_OFFSET) + chunk.get(JAVA_INT_UNALIGNED, offset + VALUE_LENGTH_OFFSET);
+    }
+
+    private boolean keyEquals(long reference, int hash, byte[] key) {
+        final var chunk = chunkOf(reference);
+        final var offset = offsetOf(reference);
+        if (chunk.get(JAVA_INT_UNALIGNED, offset + HASH_OFFSET) != hash) return false;
+        if (chunk.get(JAVA_INT_UNALIGNED, offset + KEY_LENGTH_OFFSET) != key.length) return false;
+        return MemorySegment.mismatch(chunk, offset + HEADER_SIZE, offset + HEADER_SIZE + key.length, MemorySegment.ofArray(key), 0, key.length) < 0;
+    }
+
+    private byte[] keyOf(long reference) {
+        final var chunk = chunkOf(reference);
+        final var offset = offsetOf(reference);
+        final var result = new byte[chunk.get(JAVA_INT_UNALIGNED, offset + KEY_LENGTH_OFFSET)];
+        MemorySegment.copy(chunk, JAVA_BYTE, offset + HEADER_SIZE, result, 0, result.length);
+        return result;
+    }
+
+    private byte[] valueOf(long reference) {
+        final var chunk = chunkOf(reference);
+        final var offset = offsetOf(reference);
+        final var keyLength = chunk.get(JAVA_INT_UNALIGNED, offset + KEY_LENGTH_OFFSET);
+        final var result = new byte[chunk.get(JAVA_INT_UNALIGNED, offset + VALUE_LENGTH_OFFSET)];
+        MemorySegment.copy(chunk, JAVA_BYTE, offset + HEADER_SIZE + keyLength, result, 0, result.length);
+        return result;
+    }
+
+    /**
+     * Reserves space for a record in the last chunk, or in a new chunk if the last one is full.
+     *
+     * @return the reference of the reserved space, holding the chunk index in the upper and the offset in the lower
+     * 32 bits
+     */
+    private long reserve(long recordSize) {
+        if (chunks.isEmpty() || chunkOffset + recordSize > chunks.getLast().byteSize()) {
+            if (recordSize > Integer.MAX_VALUE) throw new IllegalArgumentException("Record too large for off-heap store '" + name + "': " + recordSize + " bytes");
+            final var arena = Arena.ofShared();
+            chunkArenas.add(arena);
+            chunks.add(arena.allocate(Math.max(nextChunkSize, recordSize)));
+            nextChunkSize = Math.min(nextChunkSize * 2, maxChunkSize);
+            chunkOffset = 0;
+        }
+        final var reference = ((long) (chunks.size() - 1) << 32) | chunkOffset;
+        chunkOffset += recordSize;
+        liveBytes += recordSize;
+        return reference;
+    }
+
+    private long append(int hash, byte[] key, byte[] value) {
+        final var reference = reserve(HEADER_SIZE + (long) key.length + value.length);
+        final var chunk = chunkOf(reference);
+        final var offset = offsetOf(reference);
+        chunk.set(JAVA_INT_UNALIGNED, offset + HASH_OFFSET, hash);
+        chunk.set(JAVA_INT_UNALIGNED, offset + KEY_LENGTH_OFFSET, key.length);
+        chunk.set(JAVA_INT_UNALIGNED, offset + VALUE_LENGTH_OFFSET, value.length);
+        MemorySegment.copy(key, 0, chunk, JAVA_BYTE, offset + HEADER_SIZE, key.length);
+        MemorySegment.copy(value, 0, chunk, JAVA_BYTE, offset + HEADER_SIZE + key.length, value.length);
+        return reference;
+    }
+
+    private void discard(long reference) {
+        final var recordSize = recordSize(reference);
+        liveBytes -= recordSize;
+        garbageBytes += recordSize;
+    }
+
+    private void compactIfNeeded() {
+        if (garbageBytes > initialChunkSize && garbageBytes > liveBytes) compact();
+    }
+
+    /**
+     * Copies all live records into new chunks and frees the old chunks, reclaiming the space of overwritten and
+     * deleted records.
+     */
+    private void compact() {
+        final var oldArenas = chunkArenas;
+        final var oldChunks = chunks;
+        chunkArenas = new ArrayList<>();
+        chunks = new ArrayList<>();
+        nextChunkSize = initialChunkSize;
+        liveBytes = 0;
+        garbageBytes = 0;
+        for (var index = 0; index < capacity; index++) {
+            final var slot = table.getAtIndex(JAVA_LONG, index);
+            if (slot == EMPTY || slot == DELETED) continue;
+            final var oldChunk = oldChunks.get((int) ((slot - 1) >>> 32));
+            final var oldOffset = offsetOf(slot - 1);
+            final var recordSize = HEADER_SIZE + (long) oldChunk.get(JAVA_INT_UNALIGNED, oldOffset + KEY_LENGTH_OFFSET) + oldChunk.get(JAVA_INT_UNALIGNED, oldOffset + VALUE_LENGTH_OFFSET);
+            final var reference = reserve(recordSize);
+            MemorySegment.copy(oldChunk, oldOffset, chunkOf(reference), offsetOf(reference), recordSize);
+            table.setAtIndex(JAVA_LONG, index, reference + 1);
+        }
+        oldArenas.forEach(Arena::close);
+    }
+
+    /**
+     * Iterates over a snapshot of keys, looking up their current values while iterating. Keys that were deleted since
+     * the snapshot was taken are skipped.
+     */
+    private class KeyIterator implements KeyValueIterator<Bytes, byte[]> {
+        private final List<Bytes> keys;
+        private int index = 0;
+        private KeyValue<Bytes, byte[]> next;
+
+        private KeyIterator(List<Bytes> keys) {
+            this.keys = keys;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && index < keys.size()) {
+                final var key = keys.get(index++);
+                final var value = get(key);
+                if (value != null) next = KeyValue.pair(key, value);
+            }
+            return next != null;
+        }
+
+        @Override
+        public KeyValue<Bytes, byte[]> next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            final var result = next;
+            next = null;
+            return result;
+        }
+
+        @Override
+        public Bytes peekNextKey() {
+            if (!hasNext()) throw new NoSuchElementException();
+            return next.key;
+        }
+
+        @Override
+        public void close() {
+            // The iterator holds no off-heap resources
+        }
+    }
+}
@@ -23,6 +23,47 @@ package io.axual.ksml.store;
 import org.apache.kafka.streams.processor.StateStore;
 
 import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
 
 public class StateStores extends HashMap<String, StateStore> {
+    // Representation of these stores as prepared for a user function runtime. It is built once after the stores are
+    // set up by a processor and reused for every call, until the set of stores changes.
+    private transient Object bindings;
+
+    /**
+     * Return the bindings for these stores, creating them through the given factory if they were not prepared yet.
+     *
+     * @param factory the factory that creates the bindings from the stores.
+     * @return the prepared bindings.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T bindings(Function<StateStores, T> factory) {
+        if (bindings == null) bindings = factory.apply(this);
+        return (T) bindings;
+    }
+
+    @Override
+    public StateStore put(String key, StateStore value) {
+        bindings = null;
+        return super.put(key, value);
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ? extends StateStore> map) {
+        bindings = null;
+        super.putAll(map);
+    }
+
+    @Override
+    public StateStore remove(Object key) {
+        bindings = null;
+        return super.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        bindings = null;
+        super.clear();
+    }
 }
@@ -71,6 +71,12 @@ public class StoreUtil {
     }
 
     private static KeyValueBytesStoreSupplier getKeyValueStoreSupplier(KeyValueStateStoreDefinition store) {
+        if (store.offHeap()) {
+            if (store.persistent()) {
+                throw new TopologyException("The store '" + store.name() + "' can not be both persistent and off-heap.");
+            }
+            return new OffHeapKeyValueBytesStoreSupplier(store.name());
+        }
         if (!store.persistent()) {
             return Stores.inMemoryKeyValueStore(store.name());
         }
@@ -99,7 +105,7 @@ public class StoreUtil {
         final var keyType = new StreamDataType(store.keyType(), true);
         final var valueType = new StreamDataType(store.valueType(), false);
         StoreBuilder<?> storeBuilder;
-        if (store.persistent()) {
+        if (store.persistent() && !store.offHeap()) {
             if (store.versioned()) {
                 final var supplier = Stores.persistentVersionedKeyValueStore(store.name(), store.historyRetention(), store.segmentInterval());
                 storeBuilder = Stores.versionedKeyValueStoreBuilder(supplier, keyType.serde(), valueType.serde());
@@ -112,13 +118,19 @@ public class StoreUtil {
                         : Stores.keyValueStoreBuilder(supplier, keyType.serde(), valueType.serde());
             }
         } else {
-            final var supplier = Stores.inMemoryKeyValueStore(store.name());
+            final var supplier = getKeyValueStoreSupplier(store);
             storeBuilder = store.timestamped()
                     ? Stores.timestampedKeyValueStoreBuilder(supplier, keyType.serde(), valueType.serde())
                     : Stores.keyValueStoreBuilder(supplier, keyType.serde(), valueType.serde());
         }
         storeBuilder = store.caching() ? storeBuilder.withCachingEnabled() : storeBuilder.withCachingDisabled();
         storeBuilder = store.logging() ? storeBuilder.withLoggingEnabled(new HashMap<>()) : storeBuilder.withLoggingDisabled();
+        if (store.objectCacheSize() > 0) {
+            if (store.versioned()) {
+                throw new TopologyException("The versioned store '" + store.name() + "' can not have an object cache.");
+            }
+            storeBuilder = new ObjectCacheStoreBuilder(storeBuilder, store.objectCacheSize(), store.objectCacheTtl());
+        }
         return storeBuilder;
     }
 
@@ -26,6 +26,7 @@ import io.axual.ksml.data.object.DataNull;
 import io.axual.ksml.data.object.DataObject;
 import io.axual.ksml.data.object.DataTuple;
 import io.axual.ksml.data.type.DataType;
+import io.axual.ksml.data.type.EnumType;
 import io.axual.ksml.definition.ParameterDefinition;
 import io.axual.ksml.exception.ExecutionException;
 import io.axual.ksml.exception.TopologyException;
@@ -35,6 +36,7 @@ import org.apache.kafka.streams.KeyValue;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -47,6 +49,8 @@ public class UserFunction {
     public final int fixedParameterCount;
     public final UserType resultType;
     public final String[] storeNames;
+    // Per parameter, the last value type that passed the type check
+    private final DataType[] verifiedTypes;
 
     public UserFunction(String namespace, String name, ParameterDefinition[] parameters, UserType resultType, List<String> storeNames) {
         this(namespace, name, parameters, resultType, storeNames != null ? storeNames.toArray(TEMPLATE) : TEMPLATE);
@@ -65,6 +69,7 @@ public class UserFunction {
         this.fixedParameterCount = getFixedParameterCount(parameters);
         this.resultType = resultType;
         this.storeNames = storeNames != null ? storeNames : TEMPLATE;
+        this.verifiedTypes = new DataType[parameters.length];
         LOG.info("Registered function '{}'", this);
     }
 
@@ -99,10 +104,42 @@ public class UserFunction {
         return fixedParamCount;
     }
 
+    protected void checkParameters(DataObject[] parameters) {
+        // Validate that the defined parameter list matches the amount of passed in parameters
+        if (this.fixedParameterCount > parameters.length) {
+            throw new TopologyException("Function %s.%s - parameter list does not match function spec: minimally expected %d, got %d".formatted(namespace, name, this.parameters.length, parameters.length));
+        }
+        if (this.parameters.length < parameters.length) {
+            throw new TopologyException("Function %s.%s - parameter list does not match function spec: maximally expected %d, got %d".formatted(namespace, name, this.parameters.length, parameters.length));
+        }
+        // Validate the parameter types
+        for (int index = 0; index < parameters.length; index++) {
+            checkParameter(index, parameters[index]);
+        }
+    }
+
+    private void checkParameter(int index, DataObject value) {
+        final var declaredType = this.parameters[index].type();
+        final var valueType = value.type();
+        // Skip the check if a value of the exact same type was verified before. This is the common case, since the
+        // upstream stream data type typically produces the same type instance for every record.
+        if (valueType == verifiedTypes[index]) return;
+        final var assignable = declaredType.isAssignableFrom(value);
+        if (assignable.isNotAssignable()) {
+            throw new TopologyException("Function %s.%s expects parameter #%d (\"%s\") to be %s but %s was passed in: %s".formatted(namespace, name, index + 1, this.parameters[index].name(), declaredType, valueType, assignable));
+        }
+        // Enum assignability depends on the value itself, so those verifications can not be reused
+        if (!(declaredType instanceof EnumType)) verifiedTypes[index] = valueType;
+    }
+
     protected void checkType(DataType expected, DataObject value) {
         if (value instanceof DataNull) return;
         if (expected != null && value != null) {
-            final var assignable = expected.isAssignableFrom(value.type());
+            // Checking by value lets complex types reuse earlier results. Enums stay on the type-level check, since
+            // their value check also validates the symbol.
+            final var assignable = expected instanceof EnumType
+                    ? expected.isAssignableFrom(value.type())
+                    : expected.isAssignableFrom(value);
             if (assignable.isNotAssignable()) {
                 throw DataException.conversionFailed(expected, value.type(), assignable);
             }
@@ -140,6 +177,22 @@ public class UserFunction {
         throw new ExecutionException("Can not call the call() method of the UserFunction %s.%s directly. Override this class and the call() method.".formatted(namespace, name));
     }
 
+    /**
+     * Call the user-defined function once for every set of parameters in the batch. Implementations may override this
+     * method to pass the whole batch to the function in a single invocation.
+     *
+     * @param stores the state stores the function has access to.
+     * @param batch  the parameters of every call.
+     * @return the results of the calls, in the same order as the batch.
+     */
+    public List<DataObject> callBatch(StateStores stores, List<DataObject[]> batch) {
+        final var result = new ArrayList<DataObject>(batch.size());
+        for (final var parameters : batch) {
+            result.add(call(stores, parameters));
+        }
+        return result;
+    }
+
     public final DataObject call(DataObject... parameters) {
         return call(null, parameters);
     }
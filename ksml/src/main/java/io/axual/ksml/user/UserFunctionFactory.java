@@ -0,0 +1,72 @@
+package io.axual.ksml.user;
+
+/*-
+ * ========================LICENSE_START=================================
+ * KSML
+ * %%
+ * Copyright (C) 2021 - 2026 Axual B.V.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import io.axual.ksml.definition.FunctionDefinition;
+import io.axual.ksml.dsl.KSMLDSL;
+import io.axual.ksml.exception.TopologyException;
+import io.axual.ksml.java.JavaFunction;
+import io.axual.ksml.python.PythonContext;
+import io.axual.ksml.python.PythonFunction;
+
+import java.util.function.Supplier;
+
+/**
+ * Creates user functions in the language their definition is written in. Python functions are registered in the given
+ * Python context, while Java functions are instantiated from their class and do not use Python at all.
+ */
+public class UserFunctionFactory {
+    private UserFunctionFactory() {
+    }
+
+    public static UserFunction forFunction(PythonContext context, String namespace, String name, FunctionDefinition definition) {
+        return create(namespace, name, definition, () -> PythonFunction.forFunction(context, namespace, name, definition));
+    }
+
+    public static UserFunction forGenerator(PythonContext context, String namespace, String name, FunctionDefinition definition) {
+        return create(namespace, name, definition, () -> PythonFunction.forGenerator(context, namespace, name, definition));
+    }
+
+    public static UserFunction forPredicate(PythonContext context, String namespace, String name, FunctionDefinition definition) {
+        return create(namespace, name, definition, () -> PythonFunction.forPredicate(context, namespace, name, definition));
+    }
+
+    /**
+     * Creates a function in the language of its definition. A definition without a language is written in Java when it
+     * names a class, and in Python otherwise.
+     *
+     * @param namespace      the namespace of the function.
+     * @param name           the name of the function.
+     * @param definition     the function definition.
+     * @param pythonFunction creates the function when it is written in Python.
+     * @return the new function.
+     */
+    public static UserFunction create(String namespace, String name, FunctionDefinition definition, Supplier<UserFunction> pythonFunction) {
+        final var language = definition.language() != null
+                ? definition.language()
+                : definition.className() != null ? KSMLDSL.Functions.LANGUAGE_JAVA : KSMLDSL.Functions.LANGUAGE_PYTHON;
+        return switch (language) {
+            case KSMLDSL.Functions.LANGUAGE_PYTHON -> pythonFunction.get();
+            case KSMLDSL.Functions.LANGUAGE_JAVA -> JavaFunction.forFunction(namespace, name, definition);
+            default -> throw new TopologyException("Unknown language '" + language + "' for function " + name);
+        };
+    }
+}
@@ -23,14 +23,19 @@ package io.axual.ksml.user;
 import io.axual.ksml.data.mapper.DataObjectFlattener;
 import io.axual.ksml.data.mapper.NativeDataObjectMapper;
 import io.axual.ksml.data.object.DataBoolean;
+import io.axual.ksml.data.object.DataObject;
 import io.axual.ksml.data.type.DataType;
 import io.axual.ksml.dsl.KSMLDSL;
 import io.axual.ksml.exception.ExecutionException;
 import io.axual.ksml.metric.MetricTags;
 import io.axual.ksml.python.Invoker;
 import io.axual.ksml.store.StateStores;
+import org.apache.kafka.streams.KeyValue;
 import org.apache.kafka.streams.kstream.Predicate;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class UserPredicate extends Invoker implements Predicate<Object, Object> {
     public static final DataType EXPECTED_RESULT_TYPE = DataBoolean.DATATYPE;
     private static final NativeDataObjectMapper NATIVE_MAPPER = new DataObjectFlattener();
@@ -49,6 +54,23 @@ public class UserPredicate extends Invoker implements Predicate<Object, Object>
 
     public boolean test(StateStores stores, Object key, Object value) {
         final var result = timeExecutionOf(() -> function.call(stores, NATIVE_MAPPER.toDataObject(key), NATIVE_MAPPER.toDataObject(value)));
+        return toBoolean(result);
+    }
+
+    public List<Boolean> test(StateStores stores, List<KeyValue<Object, Object>> records) {
+        final var batch = new ArrayList<DataObject[]>(records.size());
+        for (final var rec : records) {
+            batch.add(new DataObject[]{NATIVE_MAPPER.toDataObject(rec.key), NATIVE_MAPPER.toDataObject(rec.value)});
+        }
+        final var results = timeExecutionOf(() -> function.callBatch(stores, batch));
+        final var result = new ArrayList<Boolean>(results.size());
+        for (final var element : results) {
+            result.add(toBoolean(element));
+        }
+        return result;
+    }
+
+    private boolean toBoolean(DataObject result) {
         if (result instanceof DataBoolean dataBoolean) {
             return dataBoolean.value();
         }
@@ -28,8 +28,12 @@ import io.axual.ksml.dsl.KSMLDSL;
 import io.axual.ksml.metric.MetricTags;
 import io.axual.ksml.python.Invoker;
 import io.axual.ksml.store.StateStores;
+import org.apache.kafka.streams.KeyValue;
 import org.apache.kafka.streams.kstream.ValueMapperWithKey;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class UserValueTransformer extends Invoker implements ValueMapperWithKey<Object, Object, DataObject> {
     private static final NativeDataObjectMapper NATIVE_MAPPER = new DataObjectFlattener();
 
@@ -47,4 +51,12 @@ public class UserValueTransformer extends Invoker implements ValueMapperWithKey<
     public DataObject apply(StateStores stores, Object key, Object value) {
         return timeExecutionOf(() -> function.call(stores, NATIVE_MAPPER.toDataObject(key), NATIVE_MAPPER.toDataObject(value)));
     }
+
+    public List<DataObject> apply(StateStores stores, List<KeyValue<Object, Object>> records) {
+        final var batch = new ArrayList<DataObject[]>(records.size());
+        for (final var rec : records) {
+            batch.add(new DataObject[]{NATIVE_MAPPER.toDataObject(rec.key), NATIVE_MAPPER.toDataObject(rec.value)});
+        }
+        return timeExecutionOf(() -> function.callBatch(stores, batch));
+    }
 }
@@ -27,7 +27,10 @@ import io.axual.ksml.data.notation.NotationContext;
 import io.axual.ksml.data.notation.binary.BinaryNotation;
 import io.axual.ksml.data.notation.json.JsonNotation;
 import io.axual.ksml.definition.GlobalTableDefinition;
+import io.axual.ksml.definition.KeyValueStateStoreDefinition;
+import io.axual.ksml.definition.RocksDBOptionsDefinition;
 import io.axual.ksml.definition.TableDefinition;
+import io.axual.ksml.definition.WindowStateStoreDefinition;
 import io.axual.ksml.exception.ParseException;
 import io.axual.ksml.execution.ExecutionContext;
 import io.axual.ksml.generator.TopologyResources;
@@ -161,4 +164,57 @@ class DefinitionParsersTest {
         assertThat(globalTable).isInstanceOf(GlobalTableDefinition.class);
         assertThat(((GlobalTableDefinition) globalTable).topic()).isEqualTo("my_global_table");
     }
+
+    // --- State store definition parsers ----------------------------------------------------------
+
+    @Test
+    @DisplayName("the RocksDB options of a state store are parsed from YAML")
+    void parsesStoreRocksDBOptions() throws Exception {
+        final var store = new StateStoreDefinitionParser(true)
+                .parse(nodeOf("""
+                        type: window
+                        name: my_store
+                        persistent: true
+                        keyType: string
+                        valueType: string
+                        rocksdb:
+                          blockCacheSize: 16777216
+                          bloomFilterBitsPerKey: 10
+                          compactionStyle: level
+                          compression: lz4
+                          writeBufferCount: 3
+                          writeBufferSize: 8388608
+                        """));
+        assertThat(store).isInstanceOf(WindowStateStoreDefinition.class);
+        assertThat(store.rocksDB()).isEqualTo(new RocksDBOptionsDefinition(16777216L, 10, "level", "lz4", 3, 8388608L));
+    }
+
+    @Test
+    @DisplayName("a state store without RocksDB options has no RocksDB options")
+    void parsesStoreWithoutRocksDBOptions() throws Exception {
+        final var store = new StateStoreDefinitionParser(true)
+                .parse(nodeOf("type: keyValue\nname: my_store\npersistent: true\nkeyType: string\nvalueType: string"));
+        assertThat(store).isInstanceOf(KeyValueStateStoreDefinition.class);
+        assertThat(store.rocksDB()).isNull();
+    }
+
+    @Test
+    @DisplayName("an unknown RocksDB compression is rejected")
+    void rejectsUnknownRocksDBCompression() {
+        assertThatThrownBy(() -> new StateStoreDefinitionParser(true)
+                .parse(nodeOf("type: session\nname: my_store\nkeyType: string\nvalueType: string\nrocksdb:\n  compression: gzip")))
+                .hasMessageContaining("gzip");
+    }
+
+    // --- Function definition parsers -------------------------------------------------------------
+
+    @Test
+    @DisplayName("a function with a Java class and no code is parsed with its language and class")
+    void parsesJavaFunction() throws Exception {
+        final var predicate = new PredicateDefinitionParser(false)
+                .parse(nodeOf("language: java\nclass: com.example.IsPositive"));
+        assertThat(predicate).isNotNull();
+        assertThat(predicate.language()).isEqualTo("java");
+        assertThat(predicate.className()).isEqualTo("com.example.IsPositive");
+    }
 }
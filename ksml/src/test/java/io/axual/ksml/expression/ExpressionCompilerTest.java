@@ -0,0 +1,118 @@
+package io.axual.ksml.expression;
+
+/*-
+ * ========================LICENSE_START=================================
+ * KSML
+ * %%
+ * Copyright (C) 2021 - 2026 Axual B.V.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import io.axual.ksml.data.object.DataList;
+import io.axual.ksml.data.object.DataLong;
+import io.axual.ksml.data.object.DataString;
+import io.axual.ksml.data.object.DataStruct;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExpressionCompilerTest {
+    private static final List<String> PARAMS = List.of("key", "value");
+
+    private static Object evaluate(String expression, Object key, Object value) {
+        final var compiled = ExpressionCompiler.compile(expression, PARAMS);
+        assertThat(compiled).as(expression).isNotNull();
+        return compiled.evaluate(new Object[]{key, value});
+    }
+
+    private static DataStruct struct() {
+        final var result = new DataStruct();
+        result.put("name", new DataString("Alice"));
+        result.put("age", new DataLong(42L));
+        final var tags = new DataList(DataString.DATATYPE);
+        tags.add(new DataString("a"));
+        tags.add(new DataString("b"));
+        result.put("tags", tags);
+        return result;
+    }
+
+    @Test
+    @DisplayName("Arithmetic follows Python semantics")
+    void arithmetic() {
+        assertThat(evaluate("value * 2 + 1", null, 20L)).isEqualTo(41L);
+        assertThat(evaluate("value / 2", null, 5L)).isEqualTo(2.5);
+        assertThat(evaluate("value // 2", null, -5L)).isEqualTo(-3L);
+        assertThat(evaluate("value % 3", null, -5L)).isEqualTo(1L);
+        assertThat(evaluate("-value + 1.5", null, 1L)).isEqualTo(0.5);
+        assertThat(evaluate("(value + 1) * 2", null, 1L)).isEqualTo(4L);
+        assertThat(evaluate("key + '-' + key", "a", null)).isEqualTo("a-a");
+    }
+
+    @Test
+    @DisplayName("Comparisons and boolean operators follow Python semantics")
+    void comparisons() {
+        assertThat(evaluate("value > 10 and value <= 20", null, 15L)).isEqualTo(true);
+        assertThat(evaluate("value == 1.0", null, 1L)).isEqualTo(true);
+        assertThat(evaluate("key != 'a'", "a", null)).isEqualTo(false);
+        assertThat(evaluate("value is None", null, null)).isEqualTo(true);
+        assertThat(evaluate("value is not None and value > 0", null, null)).isEqualTo(false);
+        assertThat(evaluate("not key", "", null)).isEqualTo(true);
+        // Python returns the deciding operand of 'and' and 'or'
+        assertThat(evaluate("key or 'default'", "", null)).isEqualTo("default");
+        assertThat(evaluate("key and value", "a", 3L)).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("Struct fields, list elements and string methods are supported")
+    void containers() {
+        final var struct = struct();
+        assertThat(evaluate("value['age'] >= 18", null, struct)).isEqualTo(true);
+        assertThat(evaluate("value.get('missing', 'x')", null, struct)).isEqualTo("x");
+        assertThat(evaluate("value.get('missing')", null, struct)).isNull();
+        assertThat(evaluate("'name' in value and 'b' in value['tags']", null, struct)).isEqualTo(true);
+        assertThat(evaluate("value['tags'][-1]", null, struct)).isEqualTo("b");
+        assertThat(evaluate("len(value['tags'])", null, struct)).isEqualTo(2L);
+        assertThat(evaluate("value['name'].upper().startswith('AL')", null, struct)).isEqualTo(true);
+        assertThat(evaluate("key.lower().endswith(\"\\n\")", "ABC\n", null)).isEqualTo(true);
+    }
+
+    @Test
+    @DisplayName("Python errors are reported as unsupported, so Python can raise them")
+    void errorsAreUnsupported() {
+        final var struct = struct();
+        assertThatThrownBy(() -> evaluate("value['missing']", null, struct)).isInstanceOf(UnsupportedExpressionException.class);
+        assertThatThrownBy(() -> evaluate("value['tags'][2]", null, struct)).isInstanceOf(UnsupportedExpressionException.class);
+        assertThatThrownBy(() -> evaluate("value / 0", null, 1L)).isInstanceOf(UnsupportedExpressionException.class);
+        assertThatThrownBy(() -> evaluate("key + value", "a", 1L)).isInstanceOf(UnsupportedExpressionException.class);
+        assertThatThrownBy(() -> evaluate("value < key", "a", 1L)).isInstanceOf(UnsupportedExpressionException.class);
+    }
+
+    @Test
+    @DisplayName("Expressions outside the supported subset are not compiled")
+    void unsupportedExpressionsAreNotCompiled() {
+        assertThat(ExpressionCompiler.compile("value ** 2", PARAMS)).isNull();
+        assertThat(ExpressionCompiler.compile("str(value)", PARAMS)).isNull();
+        assertThat(ExpressionCompiler.compile("other > 1", PARAMS)).isNull();
+        assertThat(ExpressionCompiler.compile("[value]", PARAMS)).isNull();
+        assertThat(ExpressionCompiler.compile("1 < value < 3", PARAMS)).isNull();
+        assertThat(ExpressionCompiler.compile("value if key else 0", PARAMS)).isNull();
+        assertThat(ExpressionCompiler.compile("value > 0x10", PARAMS)).isNull();
+        assertThat(ExpressionCompiler.compile("key, value", PARAMS)).isNull();
+    }
+}
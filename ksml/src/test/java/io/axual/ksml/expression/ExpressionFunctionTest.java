@@ -0,0 +1,140 @@
+package io.axual.ksml.expression;
+
+/*-
+ * ========================LICENSE_START=================================
+ * KSML
+ * %%
+ * Copyright (C) 2021 - 2026 Axual B.V.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import io.axual.ksml.data.object.DataBoolean;
+import io.axual.ksml.data.object.DataDouble;
+import io.axual.ksml.data.object.DataInteger;
+import io.axual.ksml.data.object.DataLong;
+import io.axual.ksml.data.object.DataObject;
+import io.axual.ksml.data.object.DataString;
+import io.axual.ksml.data.type.DataType;
+import io.axual.ksml.definition.FunctionDefinition;
+import io.axual.ksml.definition.ParameterDefinition;
+import io.axual.ksml.dsl.KSMLDSL;
+import io.axual.ksml.exception.TopologyException;
+import io.axual.ksml.python.PythonContextConfig;
+import io.axual.ksml.python.PythonContextPool;
+import io.axual.ksml.python.PythonFunction;
+import io.axual.ksml.store.StateStores;
+import io.axual.ksml.type.UserType;
+import io.axual.ksml.user.UserFunction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExpressionFunctionTest {
+    private static final ParameterDefinition[] PARAMS = new ParameterDefinition[]{
+            new ParameterDefinition("key", DataString.DATATYPE),
+            new ParameterDefinition("value", DataLong.DATATYPE)};
+    private final AtomicInteger pythonFunctionsCreated = new AtomicInteger();
+    private final AtomicInteger pythonCalls = new AtomicInteger();
+    private PythonContextPool pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = new PythonContextPool(PythonContextConfig.builder().build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.close();
+    }
+
+    private static FunctionDefinition definition(String code, String expression, DataType resultType) {
+        return FunctionDefinition.as(KSMLDSL.Functions.TYPE_GENERIC, "test", PARAMS, null, code, expression, resultType != null ? new UserType(resultType) : null, null);
+    }
+
+    private ExpressionFunction compile(FunctionDefinition definition) {
+        final Supplier<UserFunction> pythonFunction = () -> {
+            pythonFunctionsCreated.incrementAndGet();
+            final var delegate = PythonFunction.forFunction(pool, "ns", "test", definition);
+            return new UserFunction("ns", "test", definition.parameters(), definition.resultType(), definition.storeNames()) {
+                @Override
+                public DataObject call(StateStores stores, DataObject... parameters) {
+                    pythonCalls.incrementAndGet();
+                    return delegate.call(stores, parameters);
+                }
+            };
+        };
+        return ExpressionFunction.compile("ns", "test", definition, pythonFunction);
+    }
+
+    @Test
+    @DisplayName("Simple expressions are evaluated without calling the Python function")
+    void expressionIsEvaluatedInJava() {
+        final var function = compile(definition(null, "len(key) > 2 and value % 2 == 0", DataBoolean.DATATYPE));
+        assertThat(function).isNotNull();
+        assertThat(function.call(new DataString("abc"), new DataLong(4L))).isEqualTo(new DataBoolean(true));
+        assertThat(function.call(new DataString("ab"), new DataLong(4L))).isEqualTo(new DataBoolean(false));
+        assertThat(function.call(new DataString("abc"), new DataLong(3L))).isEqualTo(new DataBoolean(false));
+        assertThat(pythonCalls).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("Results are converted to the declared result type")
+    void resultIsConverted() {
+        final var function = compile(definition(null, "value * 2", DataInteger.DATATYPE));
+        assertThat(function.call(new DataString("key"), new DataLong(21L))).isEqualTo(new DataInteger(42));
+    }
+
+    @Test
+    @DisplayName("Calls the compiled expression can not handle are passed on to Python")
+    void unsupportedCallsFallBackToPython() {
+        final var function = compile(definition(null, "value / 3", DataDouble.DATATYPE));
+        assertThat(function.call(new DataString("key"), new DataLong(3L))).isEqualTo(new DataDouble(1.0));
+        assertThat(pythonCalls).hasValue(0);
+        // Python divides large ints exactly, which the compiled expression does not
+        final var large = (1L << 60) + 1;
+        assertThat(function.call(new DataString("key"), new DataLong(large))).isEqualTo(new DataDouble(large / 3.0));
+        assertThat(function.call(new DataString("key"), new DataLong(large))).isEqualTo(new DataDouble(large / 3.0));
+        assertThat(pythonCalls).hasValue(2);
+        assertThat(pythonFunctionsCreated).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("The Python function is created when the expression is compiled, so its errors surface at build time")
+    void pythonFunctionIsCreatedEagerly() {
+        final var definition = definition(null, "value > 1", DataBoolean.DATATYPE);
+        assertThat(compile(definition)).isNotNull();
+        assertThat(pythonFunctionsCreated).hasValue(1);
+        assertThatThrownBy(() -> ExpressionFunction.compile("ns", "test", definition, () -> {
+            throw new TopologyException("Broken Python function");
+        })).isInstanceOf(TopologyException.class).hasMessageContaining("Broken Python function");
+    }
+
+    @Test
+    @DisplayName("Functions with code or unsupported expressions are not compiled")
+    void onlySimpleExpressionsAreCompiled() {
+        assertThat(compile(definition("x = 1", "value > x", DataBoolean.DATATYPE))).isNull();
+        assertThat(compile(definition(null, "str(value)", DataString.DATATYPE))).isNull();
+        assertThat(compile(definition(null, "value > 1", null))).isNull();
+        assertThat(pythonFunctionsCreated).hasValue(0);
+        assertThat(compile(definition("# just a comment", "value > 1", DataBoolean.DATATYPE))).isNotNull();
+    }
+}
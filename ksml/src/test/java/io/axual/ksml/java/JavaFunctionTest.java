@@ -0,0 +1,105 @@
+package io.axual.ksml.java;
+
+/*-
+ * ========================LICENSE_START=================================
+ * KSML
+ * %%
+ * Copyright (C) 2021 - 2026 Axual B.V.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import io.axual.ksml.data.object.DataBoolean;
+import io.axual.ksml.data.object.DataInteger;
+import io.axual.ksml.data.object.DataLong;
+import io.axual.ksml.data.object.DataObject;
+import io.axual.ksml.data.object.DataString;
+import io.axual.ksml.definition.FunctionDefinition;
+import io.axual.ksml.definition.ParameterDefinition;
+import io.axual.ksml.dsl.KSMLDSL;
+import io.axual.ksml.exception.TopologyException;
+import io.axual.ksml.metric.MetricTags;
+import io.axual.ksml.store.StateStores;
+import io.axual.ksml.type.UserType;
+import io.axual.ksml.user.UserPredicate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JavaFunctionTest {
+    private static final ParameterDefinition[] PARAMS = new ParameterDefinition[]{
+            new ParameterDefinition("key", DataString.DATATYPE),
+            new ParameterDefinition("value", DataInteger.DATATYPE)};
+
+    public static class Positive implements KSMLFunction {
+        @Override
+        public DataObject call(StateStores stores, DataObject... parameters) {
+            return new DataBoolean(((DataInteger) parameters[1]).value() > 0);
+        }
+    }
+
+    public static class Doubler implements KSMLFunction {
+        @Override
+        public DataObject call(StateStores stores, DataObject... parameters) {
+            return new DataInteger(((DataInteger) parameters[1]).value() * 2);
+        }
+    }
+
+    private static FunctionDefinition definition(String type, Class<?> clazz, UserType resultType) {
+        return FunctionDefinition.as(type, "test", PARAMS, (String) null, null, null, resultType, null)
+                .withLanguage(KSMLDSL.Functions.LANGUAGE_JAVA, clazz.getName());
+    }
+
+    @Test
+    @DisplayName("Java functions plug into the predicate invoker")
+    void javaPredicate() {
+        final var definition = definition(KSMLDSL.Functions.TYPE_PREDICATE, Positive.class, new UserType(DataBoolean.DATATYPE));
+        final var predicate = new UserPredicate(JavaFunction.forFunction("ns", "test", definition), new MetricTags());
+        assertThat(predicate.test(null, "key", 5)).isTrue();
+        assertThat(predicate.test(null, "key", -5)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Results are converted to the declared result type")
+    void resultIsConverted() {
+        final var definition = definition(KSMLDSL.Functions.TYPE_GENERIC, Doubler.class, new UserType(DataLong.DATATYPE));
+        final var function = JavaFunction.forFunction("ns", "test", definition);
+        assertThat(function.call(new DataString("key"), new DataInteger(21))).isEqualTo(new DataLong(42L));
+    }
+
+    @Test
+    @DisplayName("Parameters are checked against the definition")
+    void parametersAreChecked() {
+        final var definition = definition(KSMLDSL.Functions.TYPE_GENERIC, Doubler.class, new UserType(DataInteger.DATATYPE));
+        final var function = JavaFunction.forFunction("ns", "test", definition);
+        assertThatThrownBy(() -> function.call(new DataString("key"), new DataString("value")))
+                .isInstanceOf(TopologyException.class)
+                .hasMessageContaining("expects parameter #2");
+    }
+
+    @Test
+    @DisplayName("Classes that do not implement the interface are rejected")
+    void invalidClassIsRejected() {
+        final var definition = definition(KSMLDSL.Functions.TYPE_GENERIC, String.class, null);
+        assertThatThrownBy(() -> JavaFunction.forFunction("ns", "test", definition))
+                .isInstanceOf(TopologyException.class)
+                .hasMessageContaining("does not implement");
+        final var missing = definition.withLanguage(KSMLDSL.Functions.LANGUAGE_JAVA, "io.axual.ksml.DoesNotExist");
+        assertThatThrownBy(() -> JavaFunction.forFunction("ns", "test", missing))
+                .isInstanceOf(TopologyException.class)
+                .hasMessageContaining("Could not instantiate");
+    }
+}
@@ -50,6 +50,18 @@ public class KSMLIteratorTest {
         // No exception is thrown and all messages could be processed
     }
 
+    /**
+     * Test reading a KeyValueIterator proxy with nextBatch() and by looping over it directly from Python.
+     */
+    @KSMLTest(topology = "pipelines/test-keyvalue-iterator-batch.yaml")
+    void testKeyValueStoreIteratorBatches() {
+        inputTopic.pipeInput("sensor1", "value1");
+        inputTopic.pipeInput("sensor2", "value2");
+        inputTopic.pipeInput("sensor3", "value3");
+
+        // No exception is thrown and all messages could be processed
+    }
+
     /**
      * Test WindowStoreIterator proxy with WindowStore.fetch() and
      * KeyValueIterator proxy with WindowStore.all().
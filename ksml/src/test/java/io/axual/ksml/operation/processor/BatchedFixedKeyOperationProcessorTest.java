@@ -0,0 +1,211 @@
+package io.axual.ksml.operation.processor;
+
+/*-
+ * ========================LICENSE_START=================================
+ * KSML
+ * %%
+ * Copyright (C) 2021 - 2025 Axual B.V.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+
+import io.axual.ksml.store.StateStores;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.TestInputTopic;
+import org.apache.kafka.streams.TestOutputTopic;
+import org.apache.kafka.streams.TopologyTestDriver;
+import org.apache.kafka.streams.kstream.Consumed;
+import org.apache.kafka.streams.kstream.Produced;
+import org.apache.kafka.streams.processor.PunctuationType;
+import org.apache.kafka.streams.processor.Punctuator;
+import org.apache.kafka.streams.processor.api.FixedKeyProcessorContext;
+import org.apache.kafka.streams.processor.api.FixedKeyProcessorSupplier;
+import org.apache.kafka.streams.processor.api.FixedKeyRecord;
+import org.apache.kafka.streams.processor.api.InternalFixedKeyRecordFactory;
+import org.apache.kafka.streams.processor.api.Record;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BatchedFixedKeyOperationProcessorTest {
+    private static final String[] NO_STORES = new String[0];
+    private final List<Integer> batchSizes = new ArrayList<>();
+    private TopologyTestDriver driver;
+    private TestInputTopic<String, String> input;
+    private TestOutputTopic<String, String> output;
+
+    @Mock
+    private FixedKeyProcessorContext<Object, Object> context;
+
+    private final FilterProcessor.Predicate startsWithA = new FilterProcessor.Predicate() {
+        @Override
+        public boolean test(StateStores stores, FixedKeyRecord<Object, Object> rec) {
+            batchSizes.add(1);
+            return rec.value().toString().startsWith("a");
+        }
+
+        @Override
+        public List<Boolean> test(StateStores stores, List<FixedKeyRecord<Object, Object>> records) {
+            batchSizes.add(records.size());
+            return records.stream().map(rec -> rec.value().toString().startsWith("a")).toList();
+        }
+    };
+
+    private final TransformValueProcessor.TransformValueAction upperCase = new TransformValueProcessor.TransformValueAction() {
+        @Override
+        public Object apply(StateStores stores, FixedKeyRecord<Object, Object> rec) {
+            batchSizes.add(1);
+            return rec.value().toString().toUpperCase();
+        }
+
+        @Override
+        public List<Object> apply(StateStores stores, List<FixedKeyRecord<Object, Object>> records) {
+            batchSizes.add(records.size());
+            return records.stream().map(rec -> (Object) rec.value().toString().toUpperCase()).toList();
+        }
+    };
+
+    @AfterEach
+    void tearDown() {
+        if (driver != null) driver.close();
+    }
+
+    private static FixedKeyRecord<Object, Object> fixedKeyRecord(Object key, Object value) {
+        return InternalFixedKeyRecordFactory.create(new Record<>(key, value, 0L));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void createTopology(FixedKeyProcessorSupplier<Object, Object, Object> supplier) {
+        final var builder = new StreamsBuilder();
+        builder.stream("input", (Consumed) Consumed.with(Serdes.String(), Serdes.String()))
+                .processValues(supplier)
+                .to("output", (Produced) Produced.with(Serdes.String(), Serdes.String()));
+        driver = new TopologyTestDriver(builder.build());
+        input = driver.createInputTopic("input", Serdes.String().serializer(), Serdes.String().serializer());
+        output = driver.createOutputTopic("output", Serdes.String().deserializer(), Serdes.String().deserializer());
+    }
+
+    @Test
+    @DisplayName("Without batching every record is processed on arrival")
+    void unbatchedProcessesEveryRecord() {
+        createTopology(new FixedKeyOperationProcessorSupplier<>("filter", FilterProcessor::new, startsWithA, NO_STORES));
+        input.pipeInput("k1", "apple");
+        input.pipeInput("k2", "banana");
+        assertThat(output.readValuesToList()).containsExactly("apple");
+        assertThat(batchSizes).containsExactly(1, 1);
+    }
+
+    @Test
+    @DisplayName("A full batch is processed in a single call and forwarded in order")
+    void fullBatchIsProcessedAtOnce() {
+        final var processor = new FilterProcessor("filter", startsWithA, NO_STORES, new BatchConfig(3, Duration.ofMinutes(1)));
+        processor.init(context);
+        final var apple = fixedKeyRecord("k1", "apple");
+        final var avocado = fixedKeyRecord("k3", "avocado");
+        processor.process(apple);
+        processor.process(fixedKeyRecord("k2", "banana"));
+        verify(context, never()).forward(any());
+        processor.process(avocado);
+        final var order = inOrder(context);
+        order.verify(context).forward(apple);
+        order.verify(context).forward(avocado);
+        order.verifyNoMoreInteractions();
+        assertThat(batchSizes).containsExactly(3);
+    }
+
+    @Test
+    @DisplayName("A partially filled batch is flushed when the batch interval passes")
+    void partialBatchIsFlushedByPunctuation() {
+        final var processor = new TransformValueProcessor("transform", upperCase, NO_STORES, new BatchConfig(10, Duration.ofMillis(100)));
+        processor.init(context);
+        final var punctuator = ArgumentCaptor.forClass(Punctuator.class);
+        verify(context).schedule(eq(Duration.ofMillis(100)), eq(PunctuationType.WALL_CLOCK_TIME), punctuator.capture());
+
+        final var one = fixedKeyRecord("k1", "one");
+        final var two = fixedKeyRecord("k2", "two");
+        processor.process(one);
+        processor.process(two);
+        verify(context, never()).forward(any());
+        punctuator.getValue().punctuate(0L);
+        final var order = inOrder(context);
+        order.verify(context).forward(one.withValue("ONE"));
+        order.verify(context).forward(two.withValue("TWO"));
+        assertThat(batchSizes).containsExactly(2);
+    }
+
+    @Test
+    @DisplayName("The batch interval is capped at the commit interval")
+    void flushIntervalIsCappedAtCommitInterval() {
+        when(context.appConfigs()).thenReturn(Map.of(StreamsConfig.COMMIT_INTERVAL_MS_CONFIG, 50L));
+        final var processor = new FilterProcessor("filter", startsWithA, NO_STORES, new BatchConfig(10, Duration.ofSeconds(1)));
+        processor.init(context);
+        verify(context).schedule(eq(Duration.ofMillis(50)), eq(PunctuationType.WALL_CLOCK_TIME), any());
+    }
+
+    @Test
+    @DisplayName("Records still buffered when the processor closes are not forwarded")
+    void closeDoesNotForward() {
+        final var processor = new TransformValueProcessor("transform", upperCase, NO_STORES, new BatchConfig(10, Duration.ofMinutes(1)));
+        processor.init(context);
+        processor.process(fixedKeyRecord("k1", "one"));
+        processor.close();
+        verify(context, never()).forward(any());
+        assertThat(batchSizes).isEmpty();
+    }
+
+    @Test
+    @DisplayName("FilterNot forwards the records for which the batched predicate fails")
+    void filterNotInvertsBatchResults() {
+        final var processor = new FilterNotProcessor("filterNot", (stores, rec) -> rec.value().toString().startsWith("a"), NO_STORES, new BatchConfig(2, null));
+        processor.init(context);
+        final var banana = fixedKeyRecord("k2", "banana");
+        processor.process(fixedKeyRecord("k1", "apple"));
+        processor.process(banana);
+        verify(context).forward(banana);
+        verify(context, never()).forward(fixedKeyRecord("k1", "apple"));
+    }
+
+    @Test
+    @DisplayName("Batch settings are validated")
+    void batchConfigIsValidated() {
+        assertThat(BatchConfig.of(null, null)).isSameAs(BatchConfig.NONE);
+        assertThat(BatchConfig.of(5, null).interval()).isEqualTo(BatchConfig.DEFAULT_INTERVAL);
+        assertThat(BatchConfig.of(5, null).enabled()).isTrue();
+        assertThat(BatchConfig.NONE.enabled()).isFalse();
+        assertThatThrownBy(() -> BatchConfig.of(0, null)).hasMessageContaining("at least 1");
+        assertThatThrownBy(() -> BatchConfig.of(5, Duration.ZERO)).hasMessageContaining("positive");
+    }
+}
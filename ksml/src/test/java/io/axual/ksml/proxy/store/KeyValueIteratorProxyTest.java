@@ -21,15 +21,21 @@ package io.axual.ksml.proxy.store;
  */
 
 import io.axual.ksml.python.PythonDict;
+import io.axual.ksml.python.PythonList;
 import org.apache.kafka.streams.KeyValue;
 import org.apache.kafka.streams.state.KeyValueIterator;
+import org.graalvm.polyglot.Value;
+import org.graalvm.polyglot.proxy.ProxyExecutable;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -44,6 +50,12 @@ class KeyValueIteratorProxyTest {
         return new KeyValueIteratorProxy(iterator);
     }
 
+    // Lists are returned to Python as values wrapping a PythonList, which only answer array messages inside a context
+    private static PythonList pythonList(Object result) {
+        assertThat(result).isInstanceOf(Value.class);
+        return ((Value) result).asProxyObject();
+    }
+
     @Test
     @DisplayName("hasNext delegates to the wrapped iterator")
     void hasNextDelegates() {
@@ -74,4 +86,65 @@ class KeyValueIteratorProxyTest {
         proxy.close();
         verify(iterator, times(1)).close();
     }
+
+    @Test
+    @DisplayName("next closes the wrapped iterator once it is exhausted")
+    void nextClosesWhenExhausted() {
+        when(iterator.hasNext()).thenReturn(false);
+        final var proxy = proxy();
+        proxy.next();
+        assertThat(proxy.hasNext()).isFalse();
+        verify(iterator, times(1)).close();
+    }
+
+    @Test
+    @DisplayName("nextBatch reads up to the requested number of entries into one list")
+    void nextBatchReadsRequestedEntries() {
+        when(iterator.hasNext()).thenReturn(true);
+        when(iterator.next()).thenReturn(new KeyValue<>("a", "1"), new KeyValue<>("b", "2"), new KeyValue<>("c", "3"));
+        assertThat(pythonList(proxy().nextBatch(2)).getSize()).isEqualTo(2);
+        verify(iterator, times(2)).next();
+        verify(iterator, never()).close();
+    }
+
+    @Test
+    @DisplayName("nextBatch returns an empty list and closes the wrapped iterator when exhausted")
+    void nextBatchReturnsEmptyListWhenExhausted() {
+        when(iterator.hasNext()).thenReturn(true, false);
+        when(iterator.next()).thenReturn(new KeyValue<>("a", "1"));
+        final var proxy = proxy();
+        assertThat(pythonList(proxy.nextBatch(10)).getSize()).isEqualTo(1);
+        assertThat(pythonList(proxy.nextBatch(10)).getSize()).isZero();
+        verify(iterator, times(1)).close();
+    }
+
+    @Test
+    @DisplayName("Python reaches the iterator methods as members of the proxy")
+    void membersCallIteratorMethods() {
+        when(iterator.hasNext()).thenReturn(true);
+        when(iterator.next()).thenReturn(new KeyValue<>("a", "1"), new KeyValue<>("b", "2"));
+        final var proxy = proxy();
+        assertThat(proxy.hasMember("nextBatch")).isTrue();
+        assertThat(proxy.hasMember("remove")).isFalse();
+        final var hasNext = (ProxyExecutable) proxy.getMember("hasNext");
+        assertThat(hasNext.execute()).isEqualTo(true);
+        final var nextBatch = (ProxyExecutable) proxy.getMember("nextBatch");
+        assertThat(pythonList(nextBatch.execute(Value.asValue(2))).getSize()).isEqualTo(2);
+        ((ProxyExecutable) proxy.getMember("close")).execute();
+        verify(iterator, times(1)).close();
+    }
+
+    @Test
+    @DisplayName("looping over the proxy returns all entries as Python dicts and closes the wrapped iterator")
+    void iterationReturnsAllEntriesAndCloses() {
+        final var count = KeyValueIteratorProxy.PAGE_SIZE + 1;
+        final var remaining = new int[]{count};
+        when(iterator.hasNext()).thenAnswer(invocation -> remaining[0] > 0);
+        when(iterator.next()).thenAnswer(invocation -> new KeyValue<>("key" + remaining[0]--, "value"));
+        final var entries = new ArrayList<>();
+        final var entryIterator = proxy().getIterator();
+        while (entryIterator.hasNext()) entries.add(entryIterator.getNext());
+        assertThat(entries).hasSize(count).allMatch(PythonDict.class::isInstance);
+        verify(iterator, times(1)).close();
+    }
 }
@@ -20,6 +20,9 @@ package io.axual.ksml.proxy.store;
  * =========================LICENSE_END==================================
  */
 
+import io.axual.ksml.python.PythonList;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.apache.kafka.streams.KeyValue;
 import org.apache.kafka.streams.processor.StateStore;
 import org.apache.kafka.streams.processor.StateStoreContext;
 import org.apache.kafka.streams.state.KeyValueIterator;
@@ -31,7 +34,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -49,6 +57,12 @@ class KeyValueStoreProxyTest {
         return new KeyValueStoreProxy(delegate);
     }
 
+    // Lists are returned to Python as values wrapping a PythonList, which only answer array messages inside a context
+    private static PythonList pythonList(Object result) {
+        assertThat(result).isInstanceOf(Value.class);
+        return ((Value) result).asProxyObject();
+    }
+
     @Test
     @DisplayName("get delegates to the store and returns the value as a Python value")
     void getConvertsKeyAndReturnsResult() {
@@ -97,6 +111,49 @@ class KeyValueStoreProxyTest {
         assertThat(proxy().all()).isInstanceOf(KeyValueIteratorProxy.class);
     }
 
+    @Test
+    @DisplayName("getAll looks up every key and returns the values in key order")
+    void getAllReturnsValuesInKeyOrder() {
+        when(delegate.get("a")).thenReturn("1");
+        when(delegate.get("b")).thenReturn(null);
+        final var result = pythonList(proxy().getAll(List.of("a", "b")));
+        assertThat(result.getSize()).isEqualTo(2);
+        assertThat(Value.asValue(result.get(0)).asString()).isEqualTo("1");
+        assertThat(Value.asValue(result.get(1)).isNull()).isTrue();
+    }
+
+    @Test
+    @DisplayName("range reads all entries into one list and closes the delegate iterator")
+    void rangeReadsAllEntriesAndClosesIterator() {
+        when(delegate.range("a", "z")).thenReturn(iterator);
+        when(iterator.hasNext()).thenReturn(true, true, false);
+        when(iterator.next()).thenReturn(KeyValue.pair("a", "1"), KeyValue.pair("b", "2"));
+        assertThat(pythonList(proxy().range("a", "z")).getSize()).isEqualTo(2);
+        verify(iterator).close();
+    }
+
+    @Test
+    @DisplayName("prefixScan passes the prefix with a string serializer to the delegate")
+    void prefixScanUsesStringSerializer() {
+        when(delegate.prefixScan(eq("pre"), any(StringSerializer.class))).thenReturn(iterator);
+        when(iterator.hasNext()).thenReturn(false);
+        assertThat(pythonList(proxy().prefixScan("pre")).getSize()).isZero();
+        verify(iterator).close();
+    }
+
+    @Test
+    @DisplayName("prefixScan rejects non-string prefixes")
+    void prefixScanRejectsNonStringPrefix() {
+        assertThatThrownBy(() -> proxy().prefixScan(42L)).hasMessageContaining("string prefix");
+    }
+
+    @Test
+    @DisplayName("putAll forwards all (key, value) entries to the delegate in one batch")
+    void putAllForwardsBatchToDelegate() {
+        proxy().putAll(List.of(List.of("a", "1"), List.of("b", "2")));
+        verify(delegate).putAll(List.of(KeyValue.pair("a", "1"), KeyValue.pair("b", "2")));
+    }
+
     @Test
     @DisplayName("name delegates to the wrapped store")
     void nameDelegates() {
@@ -20,8 +20,13 @@ package io.axual.ksml.python;
  * =========================LICENSE_END==================================
  */
 
+import com.codahale.metrics.Counter;
+import io.axual.ksml.metric.MetricName;
+import io.axual.ksml.metric.MetricTags;
 import io.axual.ksml.metric.Metrics;
 import io.axual.ksml.metric.MetricsRegistry;
+import io.axual.ksml.proxy.base.SideEffects;
+import io.axual.ksml.proxy.metric.CounterBridge;
 import io.axual.ksml.proxy.metric.MetricsBridge;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -30,6 +35,7 @@ import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
@@ -74,4 +80,14 @@ class MetricsBridgeTest {
         var meter = metricsBridge.meter("meter-test");
         assertNotNull(meter);
     }
+
+    @Test
+    void metricsAreNotUpdatedWhileSideEffectsAreSuppressed() {
+        var counter = new Counter();
+        var counterBridge = new CounterBridge(new MetricName("suppress-test", new MetricTags()), counter, null);
+        SideEffects.suppress(counterBridge::increment);
+        assertEquals(0, counter.getCount());
+        counterBridge.increment();
+        assertEquals(1, counter.getCount());
+    }
 }
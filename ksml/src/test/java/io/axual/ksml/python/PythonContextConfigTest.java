@@ -26,6 +26,8 @@ import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
 class PythonContextConfigTest {
 
     private final ObjectMapper mapper = new ObjectMapper(new YAMLFactory());
@@ -54,6 +56,9 @@ class PythonContextConfigTest {
             softly.assertThat(cfg.inheritEnvironmentVariables())
                     .as("inheritEnvironmentVariables should default to false")
                     .isFalse();
+            softly.assertThat(cfg.contextMode())
+                    .as("contextMode should default to shared")
+                    .isEqualTo(PythonContextConfig.ContextMode.SHARED);
         });
     }
 
@@ -67,6 +72,7 @@ class PythonContextConfigTest {
             allowCreateProcess: true
             allowCreateThread: true
             inheritEnvironmentVariables: true
+            contextMode: perThread
             """;
         var cfg = mapper.readValue(yaml, PythonContextConfig.class);
 
@@ -89,6 +95,19 @@ class PythonContextConfigTest {
             softly.assertThat(cfg.inheritEnvironmentVariables())
                     .as("inheritEnvironmentVariables should be true")
                     .isTrue();
+            softly.assertThat(cfg.contextMode())
+                    .as("contextMode should be perThread")
+                    .isEqualTo(PythonContextConfig.ContextMode.PER_THREAD);
         });
     }
+
+    @Test
+    @DisplayName("YAML mapping rejects unknown context modes")
+    void yamlMappingRejectsUnknownContextMode() {
+        var yaml = """
+            contextMode: perTask
+            """;
+        assertThatThrownBy(() -> mapper.readValue(yaml, PythonContextConfig.class))
+                .hasMessageContaining("Unknown Python context mode: perTask");
+    }
 }
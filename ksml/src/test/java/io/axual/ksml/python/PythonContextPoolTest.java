@@ -0,0 +1,119 @@
+package io.axual.ksml.python;
+
+/*-
+ * ========================LICENSE_START=================================
+ * KSML
+ * %%
+ * Copyright (C) 2021 - 2025 Axual B.V.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import io.axual.ksml.data.object.DataInteger;
+import io.axual.ksml.data.object.DataObject;
+import io.axual.ksml.definition.FunctionDefinition;
+import io.axual.ksml.definition.ParameterDefinition;
+import io.axual.ksml.dsl.KSMLDSL;
+import io.axual.ksml.type.UserType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PythonContextPoolTest {
+    private static final ParameterDefinition[] PARAMS = new ParameterDefinition[]{
+            new ParameterDefinition("one", DataInteger.DATATYPE),
+            new ParameterDefinition("two", DataInteger.DATATYPE)};
+    private static final UserType RESULT_TYPE = new UserType(UserType.DEFAULT_NOTATION, DataInteger.DATATYPE);
+
+    @Test
+    @DisplayName("Shared mode hands out the same context to every thread")
+    void sharedModeUsesOneContext() throws Exception {
+        final var config = PythonContextConfig.builder().build();
+        try (var pool = new PythonContextPool(config)) {
+            final var mainContext = pool.context();
+            final var otherContext = CompletableFuture.supplyAsync(pool::context).get();
+            assertThat(otherContext).isSameAs(mainContext);
+            assertThat(pool.size()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("Per-thread mode hands out a separate context to every thread")
+    void perThreadModeUsesContextPerThread() throws Exception {
+        final var config = PythonContextConfig.builder()
+                .contextMode(PythonContextConfig.ContextMode.PER_THREAD)
+                .build();
+        // A dedicated thread that stays alive, since the pool closes contexts of terminated threads
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (var pool = new PythonContextPool(config)) {
+            final var mainContext = pool.context();
+            assertThat(pool.context()).isSameAs(mainContext);
+            final var otherContext = executor.submit(pool::context).get();
+            assertThat(otherContext).isNotSameAs(mainContext);
+            assertThat(pool.size()).isEqualTo(2);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Per-thread mode closes the contexts of threads that have terminated")
+    void perThreadModeClosesContextsOfTerminatedThreads() throws Exception {
+        final var config = PythonContextConfig.builder()
+                .contextMode(PythonContextConfig.ContextMode.PER_THREAD)
+                .build();
+        try (var pool = new PythonContextPool(config)) {
+            final var mainContext = pool.context();
+            final var threadContext = new AtomicReference<PythonContext>();
+            final var thread = new Thread(() -> threadContext.set(pool.context()));
+            thread.start();
+            thread.join();
+            assertThat(pool.size()).isEqualTo(1);
+            assertThatThrownBy(() -> threadContext.get().exportedValue("any")).isInstanceOf(IllegalStateException.class);
+            assertThat(mainContext.exportedValue("any")).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("Functions and global code are loaded into every thread's context")
+    void perThreadModeLoadsFunctionsInEveryContext() throws Exception {
+        final var config = PythonContextConfig.builder()
+                .contextMode(PythonContextConfig.ContextMode.PER_THREAD)
+                .build();
+        final var adderDef = FunctionDefinition.as(KSMLDSL.Functions.TYPE_GENERIC, "adder", PARAMS, "offset = 10", null, "one + two + offset", RESULT_TYPE, null);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try (var pool = new PythonContextPool(config)) {
+            final var adder = PythonFunction.forFunction(pool, "test", "adder", adderDef);
+            final var first = executor.submit(() -> adder.call(new DataInteger(1), new DataInteger(2)));
+            final var second = executor.submit(() -> adder.call(new DataInteger(3), new DataInteger(4)));
+            assertThat(valueOf(first.get())).isEqualTo(13);
+            assertThat(valueOf(second.get())).isEqualTo(17);
+            assertThat(valueOf(adder.call(new DataInteger(5), new DataInteger(6)))).isEqualTo(21);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static Integer valueOf(DataObject result) {
+        assertThat(result).isInstanceOf(DataInteger.class);
+        return ((DataInteger) result).value();
+    }
+}
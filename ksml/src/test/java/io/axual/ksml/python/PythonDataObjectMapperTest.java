@@ -662,4 +662,90 @@ class PythonDataObjectMapperTest {
             assertThat(result.asString()).isEqualTo("new_value");
         }
     }
+
+    @Nested
+    @DisplayName("Lazy views on DataStruct and DataList")
+    class LazyViewTests {
+        private DataStruct sensor() {
+            final var location = new DataStruct();
+            location.put("city", new DataString("Utrecht"));
+            final var readings = new DataList(DataInteger.DATATYPE);
+            readings.add(new DataInteger(1));
+            readings.add(new DataInteger(2));
+            final var result = new DataStruct();
+            result.put("name", new DataString("sensor1"));
+            result.put("location", location);
+            result.put("readings", readings);
+            return result;
+        }
+
+        @Test
+        @DisplayName("Structs and lists are passed to Python as lazy views")
+        void structsAndListsArePassedAsViews() {
+            final var struct = sensor();
+            final Object structProxy = MAPPER.fromDataObject(struct).asProxyObject();
+            final Object listProxy = MAPPER.fromDataObject(struct.get("readings")).asProxyObject();
+            assertThat(structProxy).isInstanceOf(PythonStructView.class);
+            assertThat(listProxy).isInstanceOf(PythonListView.class);
+        }
+
+        @Test
+        @DisplayName("Fields are converted when Python accesses them")
+        void fieldsAreConvertedOnAccess() {
+            final var struct = sensor();
+            context.getBindings("python").putMember("data", MAPPER.fromDataObject(struct));
+            // The view reads the underlying struct until a field is accessed
+            struct.put("name", new DataString("sensor2"));
+            assertThat(context.eval("python", "data['name']").asString()).isEqualTo("sensor2");
+            assertThat(context.eval("python", "data['location']['city']").asString()).isEqualTo("Utrecht");
+            assertThat(context.eval("python", "sum(data['readings'])").asInt()).isEqualTo(3);
+            assertThat(context.eval("python", "sorted(data.keys())").getArraySize()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Modifications in Python are returned, but leave the original struct untouched")
+        void modificationsAreTracked() {
+            final var struct = sensor();
+            context.getBindings("python").putMember("data", MAPPER.fromDataObject(struct));
+            final var pyResult = context.eval("python", """
+                    data['location']['city'] = 'Amsterdam'
+                    data['readings'][0] = 10
+                    data['extra'] = True
+                    del data['name']
+                    data
+                    """);
+
+            final var result = MAPPER.toDataObject(pyResult);
+            assertThat(result).isInstanceOf(DataStruct.class);
+            final var resultStruct = (DataStruct) result;
+            assertThat(resultStruct.containsKey("name")).isFalse();
+            assertThat(resultStruct.get("extra")).isEqualTo(new DataBoolean(true));
+            assertThat(((DataStruct) resultStruct.get("location")).get("city")).isEqualTo(new DataString("Amsterdam"));
+            assertThat(((DataList) resultStruct.get("readings")).get(0)).isEqualTo(new DataLong(10L));
+
+            assertThat(struct.get("name")).isEqualTo(new DataString("sensor1"));
+            assertThat(((DataStruct) struct.get("location")).get("city")).isEqualTo(new DataString("Utrecht"));
+            assertThat(((DataList) struct.get("readings")).get(0)).isEqualTo(new DataInteger(1));
+        }
+
+        @Test
+        @DisplayName("An untouched view converts back to an equal struct")
+        void untouchedViewConvertsBack() {
+            final var struct = sensor();
+            final var result = MAPPER.toDataObject(MAPPER.fromDataObject(struct));
+            assertThat(result).isInstanceOf(DataStruct.class);
+            assertThat(((DataStruct) result).get("name")).isEqualTo(new DataString("sensor1"));
+            assertThat(((DataStruct) ((DataStruct) result).get("location")).get("city")).isEqualTo(new DataString("Utrecht"));
+            assertThat(((DataList) ((DataStruct) result).get("readings")).size()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Views render as Python dicts and lists")
+        void viewsRenderAsPython() {
+            final var struct = sensor();
+            final Object structProxy = MAPPER.fromDataObject(struct).asProxyObject();
+            assertThat(structProxy.toString())
+                    .isEqualTo("{'location': {'city': 'Utrecht'}, 'name': 'sensor1', 'readings': [1, 2]}");
+        }
+    }
 }
@@ -0,0 +1,70 @@
+package io.axual.ksml.python;
+
+/*-
+ * ========================LICENSE_START=================================
+ * KSML
+ * %%
+ * Copyright (C) 2021 - 2025 Axual B.V.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PythonEngineTest {
+    @Test
+    @DisplayName("The engine is created once and shared")
+    void engineIsShared() {
+        assertThat(PythonEngine.engine()).isSameAs(PythonEngine.engine());
+    }
+
+    @Test
+    @DisplayName("Sources for the same code are equal, so the engine's source cache parses them once")
+    void sourcesForSameCodeAreEqual() {
+        final var first = PythonEngine.source("x = 1\n");
+        assertThat(PythonEngine.source("x = 1\n")).isEqualTo(first);
+        assertThat(PythonEngine.source("x = 2\n")).isNotEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("Contexts on the shared engine evaluate the same source independently")
+    void contextsShareSources() {
+        final var pyCode = """
+                import polyglot
+                counter = 0
+                @polyglot.export_value
+                def increment():
+                  global counter
+                  counter += 1
+                  return counter
+                """;
+        try (var first = new PythonContext(PythonContextConfig.builder().build());
+             var second = new PythonContext(PythonContextConfig.builder().build())) {
+            final var firstIncrement = first.registerFunction(pyCode, "increment");
+            final var secondIncrement = second.registerFunction(pyCode, "increment");
+            firstIncrement.execute();
+            assertThat(firstIncrement.execute().asInt()).isEqualTo(2);
+            assertThat(secondIncrement.execute().asInt()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("sys.prefix is determined once")
+    void sysPrefixIsStable() {
+        assertThat(PythonEngine.sysPrefix()).isNotBlank().isSameAs(PythonEngine.sysPrefix());
+    }
+}
@@ -22,18 +22,23 @@ package io.axual.ksml.python;
 
 import io.axual.ksml.data.object.DataInteger;
 import io.axual.ksml.data.object.DataNull;
+import io.axual.ksml.data.object.DataObject;
 import io.axual.ksml.data.object.DataString;
 import io.axual.ksml.definition.FunctionDefinition;
 import io.axual.ksml.definition.ParameterDefinition;
 import io.axual.ksml.dsl.KSMLDSL;
+import io.axual.ksml.exception.TopologyException;
 import io.axual.ksml.type.UserType;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class PythonFunctionTest {
     @BeforeAll
@@ -140,4 +145,55 @@ class PythonFunctionTest {
         assertEquals(expectedResultNullKeyValue, ((DataString) resultNullKeyValue).value());
 
     }
+
+    @Test
+    /*
+      Test that parameter types are still checked after a call with verified parameter types
+     */
+    void testParameterTypeCheckAfterVerifiedCall() {
+        final var adderDef = FunctionDefinition.as(KSMLDSL.Functions.TYPE_GENERIC, "adder", params, null, null, "one + two", resultType, null);
+        final var adder = PythonFunction.forFunction(context, "test", "adder", adderDef);
+
+        assertEquals(3, ((DataInteger) adder.call(new DataInteger(1), new DataInteger(2))).value());
+        assertEquals(7, ((DataInteger) adder.call(new DataInteger(3), new DataInteger(4))).value());
+        final var wrongArg = new DataString("3");
+        final var rightArg = new DataInteger(4);
+        assertThrows(TopologyException.class, () -> adder.call(wrongArg, rightArg));
+    }
+
+    @Test
+    /*
+      Test that a batch call returns the results of all calls, in order
+     */
+    void testBatchCall() {
+        final var adderDef = FunctionDefinition.as(KSMLDSL.Functions.TYPE_GENERIC, "adder", params, "offset = 10", null, "one + two + offset", resultType, null);
+        final var adder = PythonFunction.forFunction(context, "test", "adder", adderDef);
+
+        final var results = adder.callBatch(null, List.of(
+                new DataObject[]{new DataInteger(1), new DataInteger(2)},
+                new DataObject[]{new DataInteger(3), new DataInteger(4)},
+                new DataObject[]{new DataInteger(5), new DataInteger(6)}));
+        assertEquals(3, results.size());
+        assertEquals(13, ((DataInteger) results.get(0)).value());
+        assertEquals(17, ((DataInteger) results.get(1)).value());
+        assertEquals(21, ((DataInteger) results.get(2)).value());
+    }
+
+    @Test
+    /*
+      Test that the function and functions in its global code get a logger named after themselves
+     */
+    void testLoggersAreBound() {
+        final var stringResultType = new UserType(UserType.DEFAULT_NOTATION, DataString.DATATYPE);
+        final var globalCode = """
+                def helper():
+                  return log.getName()
+                """;
+        final var loggersDef = FunctionDefinition.as(KSMLDSL.Functions.TYPE_GENERIC, "loggers", params, globalCode, "name = log.getName()", "name + ' ' + helper()", stringResultType, null);
+        final var loggers = PythonFunction.forFunction(context, "test", "loggers", loggersDef);
+
+        final var result = loggers.call(new DataInteger(1), new DataInteger(2));
+        assertEquals("test.function.loggers test.function.helper", ((DataString) result).value());
+        assertEquals(result, loggers.call(new DataInteger(3), new DataInteger(4)));
+    }
 }
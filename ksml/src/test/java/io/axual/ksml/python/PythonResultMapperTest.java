@@ -0,0 +1,152 @@
+package io.axual.ksml.python;
+
+/*-
+ * ========================LICENSE_START=================================
+ * KSML
+ * %%
+ * Copyright (C) 2021 - 2026 Axual B.V.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import io.axual.ksml.data.object.DataDouble;
+import io.axual.ksml.data.object.DataInteger;
+import io.axual.ksml.data.object.DataList;
+import io.axual.ksml.data.object.DataLong;
+import io.axual.ksml.data.object.DataMap;
+import io.axual.ksml.data.object.DataNull;
+import io.axual.ksml.data.object.DataString;
+import io.axual.ksml.data.object.DataStruct;
+import io.axual.ksml.data.schema.DataSchema;
+import io.axual.ksml.data.schema.ListSchema;
+import io.axual.ksml.data.schema.StructSchema;
+import io.axual.ksml.data.schema.UnionSchema;
+import io.axual.ksml.data.type.DataType;
+import io.axual.ksml.data.type.ListType;
+import io.axual.ksml.data.type.MapType;
+import io.axual.ksml.data.type.StructType;
+import io.axual.ksml.data.type.UnionType;
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Value;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PythonResultMapperTest {
+    private static final PythonDataObjectMapper DATA_OBJECT_MAPPER = new PythonDataObjectMapper(true);
+    private static final StructSchema SCHEMA = new StructSchema("io.axual.test", "Sensor", null, List.of(
+            new StructSchema.Field("name", DataSchema.STRING_SCHEMA),
+            new StructSchema.Field("value", DataSchema.DOUBLE_SCHEMA),
+            new StructSchema.Field("count", DataSchema.LONG_SCHEMA),
+            new StructSchema.Field("tags", new ListSchema(DataSchema.STRING_SCHEMA)),
+            new StructSchema.Field("owner", new UnionSchema(
+                    new UnionSchema.Member(DataSchema.NULL_SCHEMA),
+                    new UnionSchema.Member(DataSchema.STRING_SCHEMA)))));
+    private Context context;
+
+    @BeforeEach
+    void setUp() {
+        context = Context.newBuilder(PythonEngine.PYTHON).engine(PythonEngine.engine()).allowHostAccess(PythonEngine.HOST_ACCESS).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    private Value eval(String pyCode) {
+        return context.eval(PythonEngine.PYTHON, pyCode);
+    }
+
+    @Test
+    @DisplayName("Dicts are converted to structs of the declared schema")
+    void convertsStruct() {
+        final var mapper = new PythonResultMapper(new StructType(SCHEMA), DATA_OBJECT_MAPPER);
+        final var result = mapper.toDataObject(eval("{'@type': 'Sensor', 'name': 'temp', 'value': 21.5, 'count': 3, 'tags': ['a', 'b'], 'owner': 'me', 'extra': 1}"));
+
+        assertThat(result).isInstanceOf(DataStruct.class);
+        final var struct = (DataStruct) result;
+        assertThat(struct.type().schema()).isSameAs(SCHEMA);
+        assertThat(struct.containsKey("@type")).isFalse();
+        assertThat(struct.get("name")).isEqualTo(new DataString("temp"));
+        assertThat(struct.get("value")).isEqualTo(new DataDouble(21.5));
+        assertThat(struct.get("count")).isEqualTo(new DataLong(3L));
+        assertThat(struct.get("tags")).isInstanceOf(DataList.class);
+        assertThat(((DataList) struct.get("tags")).valueType()).isEqualTo(DataString.DATATYPE);
+        assertThat(struct.get("owner")).isEqualTo(new DataString("me"));
+        assertThat(struct.get("extra")).isEqualTo(new DataInteger(1));
+    }
+
+    @Test
+    @DisplayName("Structs are converted the same as by the regular mapper")
+    void structMatchesRegularConversion() {
+        final var type = new StructType(SCHEMA);
+        final var pyCode = "{'name': 'temp', 'value': 20, 'count': 3, 'tags': [], 'owner': None}";
+        final var result = new PythonResultMapper(type, DATA_OBJECT_MAPPER).toDataObject(eval(pyCode));
+        final var expected = DATA_OBJECT_MAPPER.toDataObject(type, eval(pyCode));
+        assertThat(result.toString()).isEqualTo(expected.toString());
+    }
+
+    @Test
+    @DisplayName("Lists and maps are converted element by element")
+    void convertsListsAndMaps() {
+        final var list = new PythonResultMapper(new ListType(DataLong.DATATYPE), DATA_OBJECT_MAPPER).toDataObject(eval("[1, 2, 3]"));
+        assertThat(list).isInstanceOf(DataList.class);
+        assertThat(((DataList) list).size()).isEqualTo(3);
+        assertThat(((DataList) list).get(2)).isEqualTo(new DataLong(3L));
+
+        final var map = new PythonResultMapper(new MapType(DataDouble.DATATYPE), DATA_OBJECT_MAPPER).toDataObject(eval("{'a': 1.5, 'b': 2}"));
+        assertThat(map).isInstanceOf(DataMap.class);
+        assertThat(((DataMap) map).get("a")).isEqualTo(new DataDouble(1.5));
+        assertThat(((DataMap) map).get("b")).isEqualTo(new DataDouble(2.0));
+    }
+
+    @Test
+    @DisplayName("Floating point results are converted directly to double")
+    void convertsDouble() {
+        final var mapper = new PythonResultMapper(DataDouble.DATATYPE, DATA_OBJECT_MAPPER);
+        assertThat(mapper.toDataObject(eval("3.14"))).isEqualTo(new DataDouble(3.14));
+    }
+
+    @Test
+    @DisplayName("Values that do not match the declared shape fall back to regular conversion")
+    void fallsBackOnShapeMismatch() {
+        final var mapper = new PythonResultMapper(DataString.DATATYPE, DATA_OBJECT_MAPPER);
+        assertThat(mapper.toDataObject(eval("5"))).isEqualTo(new DataString("5"));
+    }
+
+    @Test
+    @DisplayName("Unions convert values of the first member directly and fall back for others")
+    void convertsUnion() {
+        final var type = new UnionType(
+                new UnionType.Member(DataNull.DATATYPE),
+                new UnionType.Member(DataInteger.DATATYPE),
+                new UnionType.Member(DataString.DATATYPE));
+        final var mapper = new PythonResultMapper(type, DATA_OBJECT_MAPPER);
+        assertThat(mapper.toDataObject(eval("42"))).isEqualTo(new DataInteger(42));
+        assertThat(mapper.toDataObject(eval("'text'"))).isEqualTo(new DataString("text"));
+    }
+
+    @Test
+    @DisplayName("Types without a fast path are converted by the regular mapper")
+    void convertsUnknownType() {
+        final var mapper = new PythonResultMapper(DataType.UNKNOWN, DATA_OBJECT_MAPPER);
+        assertThat(mapper.toDataObject(eval("'text'"))).isEqualTo(new DataString("text"));
+    }
+}
@@ -0,0 +1,102 @@
+package io.axual.ksml.python;
+
+/*-
+ * ========================LICENSE_START=================================
+ * KSML
+ * %%
+ * Copyright (C) 2021 - 2026 Axual B.V.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import io.axual.ksml.data.object.DataInteger;
+import io.axual.ksml.data.object.DataList;
+import io.axual.ksml.data.object.DataNull;
+import io.axual.ksml.data.object.DataString;
+import io.axual.ksml.data.object.DataStruct;
+import io.axual.ksml.data.schema.DataSchema;
+import io.axual.ksml.data.schema.StructSchema;
+import io.axual.ksml.data.type.ListType;
+import io.axual.ksml.data.type.StructType;
+import io.axual.ksml.data.type.UnionType;
+import io.axual.ksml.definition.FunctionDefinition;
+import io.axual.ksml.definition.ParameterDefinition;
+import io.axual.ksml.dsl.KSMLDSL;
+import io.axual.ksml.type.UserType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PythonWarmupTest {
+    private static final ParameterDefinition[] PARAMS = new ParameterDefinition[]{
+            new ParameterDefinition("key", DataString.DATATYPE),
+            new ParameterDefinition("value", DataInteger.DATATYPE)};
+    private static final UserType RESULT_TYPE = new UserType(DataInteger.DATATYPE);
+
+    @Test
+    @DisplayName("Samples are built from the declared types")
+    void samplesFollowTypes() {
+        final var schema = StructSchema.builder()
+                .name("Sample")
+                .field(new StructSchema.Field("name", DataSchema.STRING_SCHEMA, null, 0, true))
+                .field(new StructSchema.Field("age", DataSchema.INTEGER_SCHEMA, null, 1, false))
+                .build();
+        final var sample = PythonWarmup.sampleOf(new StructType(schema));
+        assertThat(sample).isInstanceOf(DataStruct.class);
+        final var struct = (DataStruct) sample;
+        assertThat(struct.get("name")).isEqualTo(new DataString("warmup"));
+        assertThat(struct.containsKey("age")).isFalse();
+
+        final var list = PythonWarmup.sampleOf(new ListType(DataInteger.DATATYPE));
+        assertThat(list).isInstanceOf(DataList.class);
+        assertThat(((DataList) list).get(0)).isEqualTo(new DataInteger(1));
+
+        final var union = new UnionType(new UnionType.Member(DataNull.DATATYPE), new UnionType.Member(DataString.DATATYPE));
+        assertThat(PythonWarmup.sampleOf(union)).isEqualTo(new DataString("warmup"));
+    }
+
+    @Test
+    @DisplayName("Functions are called with samples, and dropped when they fail")
+    void functionsAreCalled() {
+        try (var context = new PythonContext(PythonContextConfig.builder().build())) {
+            final var counter = PythonFunction.forFunction(context, "test", "counter", FunctionDefinition.as(KSMLDSL.Functions.TYPE_GENERIC, "counter", PARAMS,
+                    null, "global calls\ncalls = globals().get('calls', 0) + 1", "calls + value", RESULT_TYPE, null));
+            final var failing = PythonFunction.forFunction(context, "test", "failing", FunctionDefinition.as(KSMLDSL.Functions.TYPE_GENERIC, "failing", PARAMS,
+                    null, "global calls\ncalls = globals().get('calls', 0) + 1\nraise ValueError('no warm-up')", "value", RESULT_TYPE, null));
+
+            final var warmup = new PythonWarmup(List.of(counter, failing));
+            assertThat(warmup.run(5, Duration.ofMinutes(1))).isPositive();
+
+            // Both functions share the counter, so it includes the single failed call
+            assertThat(counter.call(new DataString("key"), new DataInteger(0))).isEqualTo(new DataInteger(7));
+        }
+    }
+
+    @Test
+    @DisplayName("Functions with global code are not called")
+    void functionsWithGlobalCodeAreSkipped() {
+        try (var context = new PythonContext(PythonContextConfig.builder().build())) {
+            final var counter = PythonFunction.forFunction(context, "test", "counter", FunctionDefinition.as(KSMLDSL.Functions.TYPE_GENERIC, "counter", PARAMS,
+                    "skipped_calls = 0", "global skipped_calls\nskipped_calls += 1", "skipped_calls + value", RESULT_TYPE, null));
+
+            new PythonWarmup(List.of(counter)).run(5, Duration.ofMinutes(1));
+
+            assertThat(counter.call(new DataString("key"), new DataInteger(0))).isEqualTo(new DataInteger(1));
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package io.axual.ksml.store;
+
+
+/*-
+ * ========================LICENSE_START=================================
+ * KSML
+ * %%
+ * Copyright (C) 2021 - 2023 Axual B.V.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import io.axual.ksml.definition.RocksDBOptionsDefinition;
+import io.axual.ksml.exception.TopologyException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.BloomFilter;
+import org.rocksdb.CompactionStyle;
+import org.rocksdb.CompressionType;
+import org.rocksdb.Options;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KsmlRocksDBConfigSetterTest {
+
+    private static final RocksDBOptionsDefinition ALL_OPTIONS = new RocksDBOptionsDefinition(8L * 1024 * 1024, 12, "level", "zstd", 4, 32L * 1024 * 1024);
+
+    private static Map<String, Object> configsWith(String storeName, RocksDBOptionsDefinition definition) {
+        final var configs = new HashMap<String, Object>();
+        configs.put(KsmlRocksDBConfigSetter.STORE_OPTIONS_CONFIG, Map.of(storeName, definition));
+        return configs;
+    }
+
+    private static Options newOptions() {
+        final var options = new Options();
+        options.setTableFormatConfig(new BlockBasedTableConfig());
+        return options;
+    }
+
+    @Test
+    @DisplayName("the options of a store are applied to its RocksDB instance")
+    void appliesStoreOptions() {
+        final var setter = new KsmlRocksDBConfigSetter();
+        try (final var options = newOptions()) {
+            setter.setConfig("store", options, configsWith("store", ALL_OPTIONS));
+            assertThat(options.compactionStyle()).isEqualTo(CompactionStyle.LEVEL);
+            assertThat(options.compressionType()).isEqualTo(CompressionType.ZSTD_COMPRESSION);
+            assertThat(options.maxWriteBufferNumber()).isEqualTo(4);
+            assertThat(options.writeBufferSize()).isEqualTo(32L * 1024 * 1024);
+            assertThat(((BlockBasedTableConfig) options.tableFormatConfig()).filterPolicy()).isInstanceOf(BloomFilter.class);
+            setter.close("store", options);
+        }
+    }
+
+    @Test
+    @DisplayName("the options of a window or session store are applied to all its segments")
+    void appliesStoreOptionsToSegments() {
+        final var setter = new KsmlRocksDBConfigSetter();
+        try (final var options = newOptions()) {
+            setter.setConfig("store.1700000000000", options, configsWith("store", ALL_OPTIONS));
+            assertThat(options.compressionType()).isEqualTo(CompressionType.ZSTD_COMPRESSION);
+            setter.close("store.1700000000000", options);
+        }
+    }
+
+    @Test
+    @DisplayName("stores without options keep the defaults")
+    void keepsDefaultsForUnknownStore() {
+        final var setter = new KsmlRocksDBConfigSetter();
+        try (final var options = newOptions(); final var defaults = new Options()) {
+            setter.setConfig("other", options, configsWith("store", ALL_OPTIONS));
+            assertThat(options.compressionType()).isEqualTo(defaults.compressionType());
+            assertThat(options.maxWriteBufferNumber()).isEqualTo(defaults.maxWriteBufferNumber());
+            setter.close("other", options);
+        }
+    }
+
+    @Test
+    @DisplayName("zero bloom filter bits per key disables the bloom filter")
+    void disablesBloomFilter() {
+        final var setter = new KsmlRocksDBConfigSetter();
+        try (final var options = newOptions(); final var filter = new BloomFilter()) {
+            ((BlockBasedTableConfig) options.tableFormatConfig()).setFilterPolicy(filter);
+            setter.setConfig("store", options, configsWith("store", new RocksDBOptionsDefinition(null, 0, null, null, null, null)));
+            assertThat(((BlockBasedTableConfig) options.tableFormatConfig()).filterPolicy()).isNull();
+            setter.close("store", options);
+        }
+    }
+
+    @Test
+    @DisplayName("a total memory limit makes all stores share one block cache and write buffer manager")
+    void sharesMemoryBetweenStores() {
+        final var configs = configsWith("store", ALL_OPTIONS);
+        configs.put(KsmlRocksDBConfigSetter.TOTAL_MEMORY_CONFIG, "67108864");
+        final var setter1 = new KsmlRocksDBConfigSetter();
+        final var setter2 = new KsmlRocksDBConfigSetter();
+        try (final var options1 = newOptions(); final var options2 = newOptions()) {
+            setter1.setConfig("store", options1, configs);
+            setter2.setConfig("other", options2, configs);
+            assertThat(options1.writeBufferManager()).isNotNull().isSameAs(options2.writeBufferManager());
+            assertThat(((BlockBasedTableConfig) options1.tableFormatConfig()).cacheIndexAndFilterBlocks()).isTrue();
+            // Per-store options other than the block cache size still apply
+            assertThat(options1.compressionType()).isEqualTo(CompressionType.ZSTD_COMPRESSION);
+            setter1.close("store", options1);
+            setter2.close("other", options2);
+        }
+    }
+
+    @Test
+    @DisplayName("the shared memory keeps its size while stores use it, and is released with the last store")
+    void releasesSharedMemoryWithLastStore() {
+        final var configs = configsWith("store", ALL_OPTIONS);
+        configs.put(KsmlRocksDBConfigSetter.TOTAL_MEMORY_CONFIG, "67108864");
+        final var otherConfigs = configsWith("store", ALL_OPTIONS);
+        otherConfigs.put(KsmlRocksDBConfigSetter.TOTAL_MEMORY_CONFIG, "134217728");
+        final var setter1 = new KsmlRocksDBConfigSetter();
+        final var setter2 = new KsmlRocksDBConfigSetter();
+        final var setter3 = new KsmlRocksDBConfigSetter();
+        try (final var options1 = newOptions(); final var options2 = newOptions(); final var options3 = newOptions()) {
+            setter1.setConfig("store", options1, configs);
+            // Another size is ignored while a store still uses the shared memory
+            setter2.setConfig("other", options2, otherConfigs);
+            assertThat(options2.writeBufferManager()).isSameAs(options1.writeBufferManager());
+            setter1.close("store", options1);
+            setter2.close("other", options2);
+
+            // After the last store closed, the next store gets shared memory of its own size
+            setter3.setConfig("store", options3, otherConfigs);
+            assertThat(options3.writeBufferManager()).isNotNull().isNotSameAs(options1.writeBufferManager());
+            setter3.close("store", options3);
+        }
+    }
+
+    @Test
+    @DisplayName("an invalid total memory limit is rejected")
+    void rejectsInvalidTotalMemory() {
+        final var configs = configsWith("store", ALL_OPTIONS);
+        configs.put(KsmlRocksDBConfigSetter.TOTAL_MEMORY_CONFIG, "lots");
+        final var setter = new KsmlRocksDBConfigSetter();
+        try (final var options = newOptions()) {
+            assertThatThrownBy(() -> setter.setConfig("store", options, configs))
+                    .isInstanceOf(TopologyException.class)
+                    .hasMessageContaining(KsmlRocksDBConfigSetter.TOTAL_MEMORY_CONFIG);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package io.axual.ksml.store;
+
+/*-
+ * ========================LICENSE_START=================================
+ * KSML
+ * %%
+ * Copyright (C) 2021 - 2023 Axual B.V.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import io.axual.ksml.data.object.DataBytes;
+import io.axual.ksml.data.object.DataList;
+import io.axual.ksml.data.object.DataMap;
+import io.axual.ksml.data.object.DataString;
+import io.axual.ksml.data.object.DataStruct;
+import io.axual.ksml.data.object.DataTuple;
+import org.apache.kafka.streams.state.ValueAndTimestamp;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ObjectCacheTest {
+
+    @Test
+    @DisplayName("get returns the cached value and null for unknown keys")
+    void getReturnsCachedValue() {
+        final var cache = new ObjectCache(10, Duration.ZERO);
+        cache.put("key", "value");
+        assertThat(cache.get("key")).isEqualTo("value");
+        assertThat(cache.get("other")).isNull();
+    }
+
+    @Test
+    @DisplayName("the least recently used entry is evicted when the cache is full")
+    void evictsLeastRecentlyUsedEntry() {
+        final var cache = new ObjectCache(2, Duration.ZERO);
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.get("a");
+        cache.put("c", "3");
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("a")).isEqualTo("1");
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("c")).isEqualTo("3");
+    }
+
+    @Test
+    @DisplayName("entries expire after the time to live")
+    void entriesExpireAfterTtl() {
+        final var now = new long[]{1000};
+        final var cache = new ObjectCache(10, Duration.ofMillis(100), () -> now[0]);
+        cache.put("key", "value");
+        now[0] += 99;
+        assertThat(cache.get("key")).isEqualTo("value");
+        now[0] += 1;
+        assertThat(cache.get("key")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("keys given as DataObjects match the same native keys")
+    void dataObjectKeysMatchNativeKeys() {
+        final var cache = new ObjectCache(10, Duration.ZERO);
+        cache.put(new DataString("key"), "value");
+        assertThat(cache.get("key")).isEqualTo("value");
+        cache.invalidate("key");
+        assertThat(cache.get(new DataString("key"))).isNull();
+    }
+
+    @Test
+    @DisplayName("byte array keys match by content")
+    void byteArrayKeysMatchByContent() {
+        final var cache = new ObjectCache(10, Duration.ZERO);
+        cache.put(new byte[]{1, 2}, "value");
+        assertThat(cache.get(new byte[]{1, 2})).isEqualTo("value");
+    }
+
+    @Test
+    @DisplayName("null values are not cached")
+    void nullValuesAreNotCached() {
+        final var cache = new ObjectCache(10, Duration.ZERO);
+        cache.put("key", null);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("values read before an invalidation of their key are not cached")
+    void valuesReadBeforeInvalidationAreDropped() {
+        final var cache = new ObjectCache(10, Duration.ZERO);
+        final var generation = cache.generation("key");
+        cache.invalidate("key");
+        cache.put("key", "old", generation);
+        assertThat(cache.get("key")).isNull();
+        cache.put("key", "new", cache.generation("key"));
+        assertThat(cache.get("key")).isEqualTo("new");
+    }
+
+    @Test
+    @DisplayName("readers get their own copy, so changing a value does not change the cached value")
+    void readersGetTheirOwnCopy() {
+        final var cache = new ObjectCache(10, Duration.ZERO);
+        final var list = new DataList(DataString.DATATYPE);
+        list.add(new DataString("a"));
+        final var struct = new DataStruct();
+        struct.put("name", new DataString("x"));
+        struct.put("list", list);
+        cache.put("key", ValueAndTimestamp.make(struct, 42L), cache.generation("key"));
+
+        // Changing the value that was put does not change the cached value
+        list.add(new DataString("b"));
+
+        @SuppressWarnings("unchecked") final var first = (ValueAndTimestamp<DataStruct>) cache.get("key");
+        assertThat(first.timestamp()).isEqualTo(42L);
+        assertThat(((DataList) first.value().get("list")).size()).isEqualTo(1);
+
+        // Changing a value that was read is not seen by the next reader
+        first.value().put("name", new DataString("changed"));
+        ((DataList) first.value().get("list")).add(new DataString("c"));
+        final var second = (ValueAndTimestamp<?>) cache.get("key");
+        assertThat(second.value()).isNotSameAs(first.value());
+        assertThat(((DataStruct) second.value()).get("name")).isEqualTo(new DataString("x"));
+        assertThat(((DataList) ((DataStruct) second.value()).get("list")).size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("copies keep the type and contents of the cached value")
+    void copiesAreEqualToTheCachedValue() {
+        final var cache = new ObjectCache(10, Duration.ZERO);
+        final var map = new DataMap(DataString.DATATYPE);
+        map.put("k", new DataString("v"));
+        final var tuple = new DataTuple(new DataString("t"), new DataBytes(new byte[]{1, 2}));
+        final var list = DataList.of(map, tuple);
+        cache.put("key", list);
+        assertThat(cache.get("key")).isEqualTo(list).isNotSameAs(list);
+    }
+}
@@ -0,0 +1,125 @@
+package io.axual.ksml.store;
+
+/*-
+ * ========================LICENSE_START=================================
+ * KSML
+ * %%
+ * Copyright (C) 2021 - 2023 Axual B.V.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.state.KeyValueStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ObjectCachingKeyValueStoreTest {
+
+    @Mock
+    private KeyValueStore<Object, Object> delegate;
+
+    private ObjectCachingKeyValueStore<Object> store() {
+        return new ObjectCachingKeyValueStore<>(delegate, new ObjectCache(10, Duration.ZERO));
+    }
+
+    @Test
+    @DisplayName("repeated gets of the same key read the delegate store once")
+    void repeatedGetsReadDelegateOnce() {
+        when(delegate.get("key")).thenReturn("value");
+        final var store = store();
+        assertThat(store.get("key")).isEqualTo("value");
+        assertThat(store.get("key")).isEqualTo("value");
+        verify(delegate, times(1)).get("key");
+    }
+
+    @Test
+    @DisplayName("keys that are not found are looked up in the delegate store every time")
+    void missingKeysAreNotCached() {
+        final var store = store();
+        assertThat(store.get("key")).isNull();
+        assertThat(store.get("key")).isNull();
+        verify(delegate, times(2)).get("key");
+    }
+
+    @Test
+    @DisplayName("put, putIfAbsent, putAll and delete invalidate the cached value")
+    void writesInvalidateCachedValue() {
+        when(delegate.get("key")).thenReturn("value");
+        final var store = store();
+        store.get("key");
+        store.put("key", "new");
+        store.get("key");
+        store.putIfAbsent("key", "new");
+        store.get("key");
+        store.putAll(List.of(KeyValue.pair("key", "new")));
+        store.get("key");
+        store.delete("key");
+        store.get("key");
+        verify(delegate, times(5)).get("key");
+        verify(delegate).put("key", "new");
+        verify(delegate).putIfAbsent("key", "new");
+        verify(delegate).delete("key");
+    }
+
+    @Test
+    @DisplayName("a value read by a query while the key is written is not cached")
+    void concurrentReadDoesNotCacheOutdatedValue() throws Exception {
+        final var current = new AtomicReference<Object>("old");
+        final var readStarted = new CountDownLatch(1);
+        final var writeDone = new CountDownLatch(1);
+        when(delegate.get("key")).thenAnswer(invocation -> {
+            final var result = current.get();
+            if (Thread.currentThread().getName().equals("query")) {
+                // Hold the outdated value until the stream thread wrote the key
+                readStarted.countDown();
+                writeDone.await();
+            }
+            return result;
+        });
+        doAnswer(invocation -> {
+            current.set(invocation.getArgument(1));
+            return null;
+        }).when(delegate).put(eq("key"), any());
+
+        final var store = store();
+        final var queryResult = new AtomicReference<Object>();
+        final var query = new Thread(() -> queryResult.set(store.get("key")), "query");
+        query.start();
+        readStarted.await();
+        store.put("key", "new");
+        writeDone.countDown();
+        query.join();
+
+        assertThat(queryResult.get()).isEqualTo("old");
+        assertThat(store.get("key")).isEqualTo("new");
+    }
+}
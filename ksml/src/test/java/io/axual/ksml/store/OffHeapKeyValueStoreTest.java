@@ -0,0 +1,179 @@
+package io.axual.ksml.store;
+
+/*-
+ * ========================LICENSE_START=================================
+ * KSML
+ * %%
+ * Copyright (C) 2021 - 2023 Axual B.V.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.apache.kafka.common.utils.Bytes;
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.processor.BatchingStateRestoreCallback;
+import org.apache.kafka.streams.processor.StateRestoreCallback;
+import org.apache.kafka.streams.processor.StateStoreContext;
+import org.apache.kafka.streams.state.KeyValueIterator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OffHeapKeyValueStoreTest {
+    private final StateStoreContext context = mock(StateStoreContext.class);
+    private OffHeapKeyValueStore store;
+
+    private OffHeapKeyValueStore store() {
+        return store(OffHeapKeyValueStore.DEFAULT_INITIAL_CHUNK_SIZE, OffHeapKeyValueStore.DEFAULT_MAX_CHUNK_SIZE);
+    }
+
+    private OffHeapKeyValueStore store(int initialChunkSize, int maxChunkSize) {
+        when(context.recordMetadata()).thenReturn(Optional.empty());
+        store = new OffHeapKeyValueStore("store", initialChunkSize, maxChunkSize);
+        store.init(context, store);
+        return store;
+    }
+
+    @AfterEach
+    void closeStore() {
+        if (store != null) store.close();
+    }
+
+    private static Bytes key(String key) {
+        return Bytes.wrap(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static byte[] value(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static List<String> keysOf(KeyValueIterator<Bytes, byte[]> iterator) {
+        final var result = new ArrayList<String>();
+        iterator.forEachRemaining(entry -> result.add(new String(entry.key.get(), StandardCharsets.UTF_8)));
+        return result;
+    }
+
+    @Test
+    @DisplayName("put, get and delete store and remove values")
+    void putGetAndDelete() {
+        final var store = store();
+        store.put(key("a"), value("1"));
+        assertThat(store.get(key("a"))).isEqualTo(value("1"));
+        assertThat(store.get(key("b"))).isNull();
+        store.put(key("a"), value("2"));
+        assertThat(store.get(key("a"))).isEqualTo(value("2"));
+        assertThat(store.approximateNumEntries()).isEqualTo(1);
+        assertThat(store.delete(key("a"))).isEqualTo(value("2"));
+        assertThat(store.get(key("a"))).isNull();
+        assertThat(store.approximateNumEntries()).isZero();
+    }
+
+    @Test
+    @DisplayName("putting a null value deletes the key, and putIfAbsent keeps existing values")
+    void nullValuesAndPutIfAbsent() {
+        final var store = store();
+        assertThat(store.putIfAbsent(key("a"), value("1"))).isNull();
+        assertThat(store.putIfAbsent(key("a"), value("2"))).isEqualTo(value("1"));
+        store.put(key("a"), null);
+        assertThat(store.get(key("a"))).isNull();
+    }
+
+    @Test
+    @DisplayName("the store keeps all values while it grows and compacts")
+    void keepsValuesWhileGrowingAndCompacting() {
+        // Small chunks make the overwrites below trigger compaction several times
+        final var store = store(1024, 16 * 1024);
+        for (var round = 0; round < 5; round++) {
+            final var entries = new ArrayList<KeyValue<Bytes, byte[]>>();
+            for (var index = 0; index < 5000; index++) {
+                entries.add(KeyValue.pair(key("key" + index), value("value" + index + "-" + round)));
+            }
+            store.putAll(entries);
+        }
+        for (var index = 0; index < 5000; index += 2) store.delete(key("key" + index));
+        assertThat(store.approximateNumEntries()).isEqualTo(2500);
+        for (var index = 0; index < 5000; index++) {
+            assertThat(store.get(key("key" + index))).isEqualTo(index % 2 == 0 ? null : value("value" + index + "-4"));
+        }
+    }
+
+    @Test
+    @DisplayName("chunks start small and double in size up to the maximum")
+    void chunksGrowGeometrically() {
+        final var store = store(1024, 4096);
+        assertThat(store.allocatedBytes()).isZero();
+        store.put(key("a"), value("1"));
+        assertThat(store.allocatedBytes()).isEqualTo(1024);
+
+        // Filling up the chunks allocates chunks of 2048 and then 4096 bytes, after which the size stays at the maximum
+        final var record = new byte[500];
+        for (var index = 0; index < 25; index++) store.put(key("key" + index), record);
+        assertThat(store.allocatedBytes()).isEqualTo(1024 + 2048 + 3 * 4096);
+
+        // Records larger than the maximum get a chunk of their own
+        store.put(key("large"), new byte[10000]);
+        assertThat(store.get(key("large"))).hasSize(10000);
+        assertThat(store.get(key("key0"))).isEqualTo(record);
+    }
+
+    @Test
+    @DisplayName("range, reverseRange, all and prefixScan return keys in order")
+    void rangeQueriesReturnSortedKeys() {
+        final var store = store();
+        for (final var k : List.of("d", "b", "a", "c", "ab")) store.put(key(k), value(k));
+        assertThat(keysOf(store.range(key("ab"), key("c")))).containsExactly("ab", "b", "c");
+        assertThat(keysOf(store.reverseRange(key("ab"), key("c")))).containsExactly("c", "b", "ab");
+        assertThat(keysOf(store.range(key("c"), key("a")))).isEmpty();
+        assertThat(keysOf(store.all())).containsExactly("a", "ab", "b", "c", "d");
+        assertThat(keysOf(store.reverseAll())).containsExactly("d", "c", "b", "ab", "a");
+        assertThat(keysOf(store.prefixScan("a", new StringSerializer()))).containsExactly("a", "ab");
+    }
+
+    @Test
+    @DisplayName("records from the changelog topic are restored into the store")
+    void restoresFromChangelog() {
+        final var store = store();
+        final var callback = ArgumentCaptor.forClass(StateRestoreCallback.class);
+        verify(context).register(any(), callback.capture());
+        ((BatchingStateRestoreCallback) callback.getValue()).restoreAll(List.of(
+                KeyValue.pair(value("a"), value("1")),
+                KeyValue.pair(value("b"), value("2")),
+                KeyValue.pair(value("a"), null)));
+        assertThat(store.get(key("a"))).isNull();
+        assertThat(store.get(key("b"))).isEqualTo(value("2"));
+    }
+
+    @Test
+    @DisplayName("the store is not persistent and closes cleanly")
+    void notPersistentAndCloses() {
+        final var store = store();
+        assertThat(store.persistent()).isFalse();
+        assertThat(store.isOpen()).isTrue();
+        store.close();
+        assertThat(store.isOpen()).isFalse();
+    }
+}
@@ -96,6 +96,51 @@ class StoreUtilTest {
         assertThat(StoreUtil.getStoreBuilder(definition)).isNotNull();
     }
 
+    private static KeyValueStateStoreDefinition objectCachedStore(boolean persistent, boolean timestamped, boolean versioned) {
+        return new KeyValueStateStoreDefinition("store", persistent, timestamped, versioned,
+                Duration.ofSeconds(900), Duration.ofSeconds(60), UNKNOWN, UNKNOWN, false, false, false, 100, Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("builds plain and timestamped key/value stores with an object cache in front")
+    void buildsKeyValueStoreWithObjectCache() {
+        assertThat(StoreUtil.getStoreBuilder(objectCachedStore(false, false, false)).build())
+                .isInstanceOf(ObjectCachingKeyValueStore.class);
+        assertThat(StoreUtil.getStoreBuilder(objectCachedStore(true, true, false)).build())
+                .isInstanceOf(ObjectCachingTimestampedKeyValueStore.class);
+    }
+
+    private static KeyValueStateStoreDefinition offHeapStore(boolean persistent, boolean timestamped) {
+        return new KeyValueStateStoreDefinition("store", persistent, timestamped, false,
+                Duration.ofSeconds(900), Duration.ofSeconds(60), UNKNOWN, UNKNOWN, false, true, true, null, null);
+    }
+
+    @Test
+    @DisplayName("builds and materializes off-heap key/value stores")
+    void buildsOffHeapKeyValueStore() {
+        assertThat(StoreUtil.getStoreBuilder(offHeapStore(false, false))).isNotNull();
+        assertThat(StoreUtil.getStoreBuilder(offHeapStore(false, true))).isNotNull();
+        assertThat(StoreUtil.materialize(offHeapStore(false, false)).materialized()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("getStoreBuilder rejects a store that is both persistent and off-heap")
+    void rejectsPersistentOffHeapStore() {
+        final var store = offHeapStore(true, false);
+        assertThatThrownBy(() -> StoreUtil.getStoreBuilder(store))
+                .isInstanceOf(TopologyException.class)
+                .hasMessageContaining("off-heap");
+    }
+
+    @Test
+    @DisplayName("getStoreBuilder rejects an object cache on a versioned store")
+    void rejectsObjectCacheOnVersionedStore() {
+        final var store = objectCachedStore(true, false, true);
+        assertThatThrownBy(() -> StoreUtil.getStoreBuilder(store))
+                .isInstanceOf(TopologyException.class)
+                .hasMessageContaining("object cache");
+    }
+
     // --- getStoreBuilder: session & window -------------------------------------------------------
 
     @Test